@@ -18,9 +18,11 @@ package org.optaplanner.benchmark.config;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -32,9 +34,13 @@ import com.thoughtworks.xstream.annotations.XStreamImplicit;
 import org.optaplanner.benchmark.api.PlannerBenchmark;
 import org.optaplanner.benchmark.config.blueprint.SolverBenchmarkBluePrintConfig;
 import org.optaplanner.benchmark.config.report.BenchmarkReportConfig;
+import org.optaplanner.benchmark.config.statistic.ConfidenceIntervalConfig;
+import org.optaplanner.benchmark.config.warmup.WarmUpSteadyStateConfig;
 import org.optaplanner.benchmark.impl.DefaultPlannerBenchmark;
+import org.optaplanner.benchmark.impl.forked.ForkedSubSingleBenchmarkLauncher;
 import org.optaplanner.benchmark.impl.report.BenchmarkReport;
 import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
 import org.optaplanner.core.config.SolverConfigContext;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
@@ -61,6 +67,11 @@ public class PlannerBenchmarkConfig {
     private Long warmUpMinutesSpentLimit = null;
     private Long warmUpHoursSpentLimit = null;
     private Long warmUpDaysSpentLimit = null;
+    @XStreamAlias("warmUpSteadyState")
+    private WarmUpSteadyStateConfig warmUpSteadyStateConfig = null;
+
+    @XStreamAlias("confidenceInterval")
+    private ConfidenceIntervalConfig confidenceIntervalConfig = null;
 
     @XStreamAlias("benchmarkReport")
     private BenchmarkReportConfig benchmarkReportConfig = null;
@@ -156,6 +167,22 @@ public class PlannerBenchmarkConfig {
         this.warmUpDaysSpentLimit = warmUpDaysSpentLimit;
     }
 
+    public WarmUpSteadyStateConfig getWarmUpSteadyStateConfig() {
+        return warmUpSteadyStateConfig;
+    }
+
+    public void setWarmUpSteadyStateConfig(WarmUpSteadyStateConfig warmUpSteadyStateConfig) {
+        this.warmUpSteadyStateConfig = warmUpSteadyStateConfig;
+    }
+
+    public ConfidenceIntervalConfig getConfidenceIntervalConfig() {
+        return confidenceIntervalConfig;
+    }
+
+    public void setConfidenceIntervalConfig(ConfidenceIntervalConfig confidenceIntervalConfig) {
+        this.confidenceIntervalConfig = confidenceIntervalConfig;
+    }
+
     public BenchmarkReportConfig getBenchmarkReportConfig() {
         return benchmarkReportConfig;
     }
@@ -211,21 +238,35 @@ public class PlannerBenchmarkConfig {
         plannerBenchmarkResult.setAggregation(false);
         int parallelBenchmarkCount = resolveParallelBenchmarkCount();
         plannerBenchmarkResult.setParallelBenchmarkCount(parallelBenchmarkCount);
-        plannerBenchmarkResult.setWarmUpTimeMillisSpentLimit(defaultIfNull(calculateWarmUpTimeMillisSpentLimit(), 30L));
+        plannerBenchmarkResult.setWarmUpTimeMillisSpentLimit(defaultIfNull(calculateWarmUpTimeMillisSpentLimit(),
+                warmUpSteadyStateConfig == null ? 30L : WarmUpSteadyStateConfig.DEFAULT_WARM_UP_TIME_MILLIS_SPENT_LIMIT));
         plannerBenchmarkResult.setUnifiedProblemBenchmarkResultList(new ArrayList<>());
         plannerBenchmarkResult.setSolverBenchmarkResultList(new ArrayList<>(
                 effectiveSolverBenchmarkConfigList.size()));
+        Map<SolverBenchmarkResult, ForkedSubSingleBenchmarkLauncher> forkedSubSingleBenchmarkLauncherMap
+                = new HashMap<>(effectiveSolverBenchmarkConfigList.size());
         for (SolverBenchmarkConfig solverBenchmarkConfig : effectiveSolverBenchmarkConfigList) {
             solverBenchmarkConfig.buildSolverBenchmark(solverConfigContext, plannerBenchmarkResult, extraProblems);
+            if (solverBenchmarkConfig.getForkedJvmConfig() != null) {
+                List<SolverBenchmarkResult> solverBenchmarkResultList = plannerBenchmarkResult.getSolverBenchmarkResultList();
+                forkedSubSingleBenchmarkLauncherMap.put(solverBenchmarkResultList.get(solverBenchmarkResultList.size() - 1),
+                        new ForkedSubSingleBenchmarkLauncher(solverBenchmarkConfig.getForkedJvmConfig(),
+                                solverBenchmarkConfig, plannerBenchmarkResult.getWarmUpTimeMillisSpentLimit(),
+                                warmUpSteadyStateConfig));
+            }
         }
 
         BenchmarkReportConfig benchmarkReportConfig_ = benchmarkReportConfig == null ? new BenchmarkReportConfig()
                 : benchmarkReportConfig;
         BenchmarkReport benchmarkReport = benchmarkReportConfig_.buildBenchmarkReport(plannerBenchmarkResult);
-        return new DefaultPlannerBenchmark(
+        DefaultPlannerBenchmark plannerBenchmark = new DefaultPlannerBenchmark(
                 plannerBenchmarkResult, solverConfigContext, benchmarkDirectory,
                 buildExecutorService(parallelBenchmarkCount), buildExecutorService(parallelBenchmarkCount),
                 benchmarkReport);
+        plannerBenchmark.setWarmUpSteadyStateConfig(warmUpSteadyStateConfig);
+        plannerBenchmark.setConfidenceIntervalConfig(confidenceIntervalConfig);
+        plannerBenchmark.setForkedSubSingleBenchmarkLauncherMap(forkedSubSingleBenchmarkLauncherMap);
+        return plannerBenchmark;
     }
 
     private ExecutorService buildExecutorService(int parallelBenchmarkCount) {
@@ -17,8 +17,10 @@
 package org.optaplanner.benchmark.config;
 
 import java.util.ArrayList;
+import java.util.Collections;
 
 import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.optaplanner.benchmark.config.forked.ForkedJvmConfig;
 import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
 import org.optaplanner.core.config.AbstractConfig;
@@ -40,6 +42,9 @@ public class SolverBenchmarkConfig<Solution_> extends AbstractConfig<SolverBench
 
     private Integer subSingleCount = null;
 
+    @XStreamAlias("forkedJvm")
+    private ForkedJvmConfig forkedJvmConfig = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -76,6 +81,17 @@ public class SolverBenchmarkConfig<Solution_> extends AbstractConfig<SolverBench
         this.subSingleCount = subSingleCount;
     }
 
+    public ForkedJvmConfig getForkedJvmConfig() {
+        return forkedJvmConfig;
+    }
+
+    /**
+     * @param forkedJvmConfig null to run in the JVM of the benchmarker
+     */
+    public void setForkedJvmConfig(ForkedJvmConfig forkedJvmConfig) {
+        this.forkedJvmConfig = forkedJvmConfig;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -87,6 +103,16 @@ public class SolverBenchmarkConfig<Solution_> extends AbstractConfig<SolverBench
         solverBenchmarkResult.setName(name);
         solverBenchmarkResult.setSubSingleCount(ConfigUtils.inheritOverwritableProperty(subSingleCount, 1));
         solverBenchmarkResult.setSolverConfig(solverConfig);
+        if (forkedJvmConfig != null) {
+            if (extraProblems.length > 0) {
+                throw new IllegalArgumentException("The solverBenchmark name (" + name
+                        + ") with a forkedJvm cannot solve the extraProblems (" + extraProblems.length
+                        + " problems), because those can't be passed to a forked JVM.\n"
+                        + "Maybe configure them as an <inputSolutionFile> instead.");
+            }
+            solverBenchmarkResult.setForkedJvmArgumentList(forkedJvmConfig.getJvmArgumentList() == null
+                    ? Collections.emptyList() : forkedJvmConfig.getJvmArgumentList());
+        }
         SolutionDescriptor<Object> solutionDescriptor = solverConfig.buildSolutionDescriptor(solverConfigContext);
         for (Solution_ extraProblem : extraProblems) {
             if (!solutionDescriptor.getSolutionClass().isInstance(extraProblem)) {
@@ -129,6 +155,7 @@ public class SolverBenchmarkConfig<Solution_> extends AbstractConfig<SolverBench
         problemBenchmarksConfig = ConfigUtils.inheritConfig(problemBenchmarksConfig,
                 inheritedConfig.getProblemBenchmarksConfig());
         subSingleCount = ConfigUtils.inheritOverwritableProperty(subSingleCount, inheritedConfig.getSubSingleCount());
+        forkedJvmConfig = ConfigUtils.inheritConfig(forkedJvmConfig, inheritedConfig.getForkedJvmConfig());
     }
 
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.config.forked;
+
+import java.io.File;
+import java.util.List;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamImplicit;
+import org.optaplanner.core.config.AbstractConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+
+/**
+ * Runs every sub single benchmark of a solver benchmark in its own, freshly started JVM,
+ * so the JIT profile, garbage collector and heap of the other solver benchmarks can't distort its results.
+ */
+@XStreamAlias("forkedJvm")
+public class ForkedJvmConfig extends AbstractConfig<ForkedJvmConfig> {
+
+    private String javaExecutable = null;
+    @XStreamImplicit(itemFieldName = "jvmArgument")
+    private List<String> jvmArgumentList = null;
+
+    /**
+     * @return null or the path of the java executable, defaults to the one of the current JVM
+     */
+    public String getJavaExecutable() {
+        return javaExecutable;
+    }
+
+    public void setJavaExecutable(String javaExecutable) {
+        this.javaExecutable = javaExecutable;
+    }
+
+    /**
+     * @return null or the JVM options, for example {@code -Xmx2g} or {@code -XX:+UseParallelGC}
+     */
+    public List<String> getJvmArgumentList() {
+        return jvmArgumentList;
+    }
+
+    public void setJvmArgumentList(List<String> jvmArgumentList) {
+        this.jvmArgumentList = jvmArgumentList;
+    }
+
+    // ************************************************************************
+    // Builder methods
+    // ************************************************************************
+
+    public String determineJavaExecutable() {
+        if (javaExecutable != null) {
+            return javaExecutable;
+        }
+        return System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+    }
+
+    @Override
+    public void inherit(ForkedJvmConfig inheritedConfig) {
+        javaExecutable = ConfigUtils.inheritOverwritableProperty(javaExecutable,
+                inheritedConfig.getJavaExecutable());
+        jvmArgumentList = ConfigUtils.inheritMergeableListProperty(jvmArgumentList,
+                inheritedConfig.getJvmArgumentList());
+    }
+
+}
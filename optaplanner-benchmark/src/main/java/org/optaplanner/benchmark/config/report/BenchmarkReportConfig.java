@@ -35,10 +35,14 @@ import org.optaplanner.core.config.util.ConfigUtils;
 @XStreamAlias("benchmarkReport")
 public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig> {
 
+    public static final String CHART_RENDERING_THREAD_COUNT_AUTO = "AUTO";
+
     private Locale locale = null;
     private SolverRankingType solverRankingType = null;
     private Class<? extends Comparator<SolverBenchmarkResult>> solverRankingComparatorClass = null;
     private Class<? extends SolverRankingWeightFactory> solverRankingWeightFactoryClass = null;
+    private ChartFormat chartFormat = null;
+    private String chartRenderingThreadCount = null;
 
     public Locale getLocale() {
         return locale;
@@ -72,6 +76,22 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
         this.solverRankingWeightFactoryClass = solverRankingWeightFactoryClass;
     }
 
+    public ChartFormat getChartFormat() {
+        return chartFormat;
+    }
+
+    public void setChartFormat(ChartFormat chartFormat) {
+        this.chartFormat = chartFormat;
+    }
+
+    public String getChartRenderingThreadCount() {
+        return chartRenderingThreadCount;
+    }
+
+    public void setChartRenderingThreadCount(String chartRenderingThreadCount) {
+        this.chartRenderingThreadCount = chartRenderingThreadCount;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -80,6 +100,8 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
         BenchmarkReport benchmarkReport = new BenchmarkReport(plannerBenchmark);
         benchmarkReport.setLocale(determineLocale());
         benchmarkReport.setTimezoneId(ZoneId.systemDefault());
+        benchmarkReport.setChartFormat(chartFormat == null ? ChartFormat.PNG : chartFormat);
+        benchmarkReport.setChartRenderingThreadCount(resolveChartRenderingThreadCount());
         supplySolverRanking(benchmarkReport);
         return benchmarkReport;
     }
@@ -88,6 +110,23 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
         return locale == null ? Locale.getDefault() : locale;
     }
 
+    protected int resolveChartRenderingThreadCount() {
+        int resolvedChartRenderingThreadCount;
+        if (chartRenderingThreadCount == null || chartRenderingThreadCount.equals(CHART_RENDERING_THREAD_COUNT_AUTO)) {
+            // The benchmarks are done, so all processors are available
+            resolvedChartRenderingThreadCount = Runtime.getRuntime().availableProcessors();
+        } else {
+            resolvedChartRenderingThreadCount = ConfigUtils.resolveThreadPoolSizeScript(
+                    "chartRenderingThreadCount", chartRenderingThreadCount, CHART_RENDERING_THREAD_COUNT_AUTO);
+        }
+        if (resolvedChartRenderingThreadCount < 1) {
+            throw new IllegalArgumentException("The chartRenderingThreadCount (" + chartRenderingThreadCount
+                    + ") resulted in a resolvedChartRenderingThreadCount (" + resolvedChartRenderingThreadCount
+                    + ") that is lower than 1.");
+        }
+        return resolvedChartRenderingThreadCount;
+    }
+
     protected void supplySolverRanking(BenchmarkReport benchmarkReport) {
         if (solverRankingType != null && solverRankingComparatorClass != null) {
             throw new IllegalStateException("The PlannerBenchmark cannot have"
@@ -149,6 +188,9 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
                 inheritedConfig.getSolverRankingComparatorClass());
         solverRankingWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(solverRankingWeightFactoryClass,
                 inheritedConfig.getSolverRankingWeightFactoryClass());
+        chartFormat = ConfigUtils.inheritOverwritableProperty(chartFormat, inheritedConfig.getChartFormat());
+        chartRenderingThreadCount = ConfigUtils.inheritOverwritableProperty(chartRenderingThreadCount,
+                inheritedConfig.getChartRenderingThreadCount());
     }
 
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.config.report;
+
+/**
+ * The file format of the charts in the benchmark report.
+ */
+public enum ChartFormat {
+    /**
+     * A static image.
+     */
+    PNG("png"),
+    /**
+     * A scalable vector image, which stays sharp when zooming in.
+     * Charts that aren't line or scatter charts are still written as {@link #PNG}.
+     */
+    SVG("svg"),
+    /**
+     * A scalable vector image in a web page, with a tooltip per point
+     * and a legend that shows or hides a series when clicked.
+     * Charts that aren't line or scatter charts are still written as {@link #PNG}.
+     */
+    HTML("html");
+
+    private final String fileExtension;
+
+    ChartFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+}
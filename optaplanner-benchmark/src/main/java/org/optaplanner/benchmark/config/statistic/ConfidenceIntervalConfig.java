@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.config.statistic;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.optaplanner.core.config.AbstractConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+
+/**
+ * After the configured sub single runs, keeps adding extra sub single runs to each single benchmark
+ * until the 95% confidence intervals of its score and score calculation speed are tight enough,
+ * so the differences between the solver configurations in the ranking are statistically significant.
+ */
+@XStreamAlias("confidenceInterval")
+public class ConfidenceIntervalConfig extends AbstractConfig<ConfidenceIntervalConfig> {
+
+    public static final double DEFAULT_RELATIVE_THRESHOLD = 0.01;
+    public static final int DEFAULT_MAXIMUM_SUB_SINGLE_COUNT = 30;
+
+    private Double relativeThreshold = null;
+    private Integer maximumSubSingleCount = null;
+    private Long millisecondsSpentLimit = null;
+    private Long secondsSpentLimit = null;
+    private Long minutesSpentLimit = null;
+    private Long hoursSpentLimit = null;
+
+    /**
+     * @return null or the maximum half width of a confidence interval divided by its mean
+     */
+    public Double getRelativeThreshold() {
+        return relativeThreshold;
+    }
+
+    public void setRelativeThreshold(Double relativeThreshold) {
+        this.relativeThreshold = relativeThreshold;
+    }
+
+    /**
+     * @return null or the maximum number of sub single runs (including the configured ones) per single benchmark
+     */
+    public Integer getMaximumSubSingleCount() {
+        return maximumSubSingleCount;
+    }
+
+    public void setMaximumSubSingleCount(Integer maximumSubSingleCount) {
+        this.maximumSubSingleCount = maximumSubSingleCount;
+    }
+
+    public Long getMillisecondsSpentLimit() {
+        return millisecondsSpentLimit;
+    }
+
+    public void setMillisecondsSpentLimit(Long millisecondsSpentLimit) {
+        this.millisecondsSpentLimit = millisecondsSpentLimit;
+    }
+
+    public Long getSecondsSpentLimit() {
+        return secondsSpentLimit;
+    }
+
+    public void setSecondsSpentLimit(Long secondsSpentLimit) {
+        this.secondsSpentLimit = secondsSpentLimit;
+    }
+
+    public Long getMinutesSpentLimit() {
+        return minutesSpentLimit;
+    }
+
+    public void setMinutesSpentLimit(Long minutesSpentLimit) {
+        this.minutesSpentLimit = minutesSpentLimit;
+    }
+
+    public Long getHoursSpentLimit() {
+        return hoursSpentLimit;
+    }
+
+    public void setHoursSpentLimit(Long hoursSpentLimit) {
+        this.hoursSpentLimit = hoursSpentLimit;
+    }
+
+    // ************************************************************************
+    // Builder methods
+    // ************************************************************************
+
+    public double determineRelativeThreshold() {
+        if (relativeThreshold == null) {
+            return DEFAULT_RELATIVE_THRESHOLD;
+        }
+        if (relativeThreshold < 0.0) {
+            throw new IllegalArgumentException("The relativeThreshold (" + relativeThreshold
+                    + ") cannot be negative.");
+        }
+        return relativeThreshold;
+    }
+
+    public int determineMaximumSubSingleCount() {
+        if (maximumSubSingleCount == null) {
+            return DEFAULT_MAXIMUM_SUB_SINGLE_COUNT;
+        }
+        if (maximumSubSingleCount < 1) {
+            throw new IllegalArgumentException("The maximumSubSingleCount (" + maximumSubSingleCount
+                    + ") must be at least 1.");
+        }
+        return maximumSubSingleCount;
+    }
+
+    /**
+     * @return null if the extra sub single runs are only limited by the {@link #determineMaximumSubSingleCount()}
+     */
+    public Long calculateTimeMillisSpentLimit() {
+        if (millisecondsSpentLimit == null && secondsSpentLimit == null
+                && minutesSpentLimit == null && hoursSpentLimit == null) {
+            return null;
+        }
+        long timeMillisSpentLimit = 0L;
+        timeMillisSpentLimit += resolveNonNegative("millisecondsSpentLimit", millisecondsSpentLimit);
+        timeMillisSpentLimit += resolveNonNegative("secondsSpentLimit", secondsSpentLimit) * 1_000L;
+        timeMillisSpentLimit += resolveNonNegative("minutesSpentLimit", minutesSpentLimit) * 60_000L;
+        timeMillisSpentLimit += resolveNonNegative("hoursSpentLimit", hoursSpentLimit) * 3_600_000L;
+        return timeMillisSpentLimit;
+    }
+
+    private static long resolveNonNegative(String propertyName, Long value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value < 0L) {
+            throw new IllegalArgumentException("The " + propertyName + " (" + value + ") cannot be negative.");
+        }
+        return value;
+    }
+
+    @Override
+    public void inherit(ConfidenceIntervalConfig inheritedConfig) {
+        relativeThreshold = ConfigUtils.inheritOverwritableProperty(relativeThreshold,
+                inheritedConfig.getRelativeThreshold());
+        maximumSubSingleCount = ConfigUtils.inheritOverwritableProperty(maximumSubSingleCount,
+                inheritedConfig.getMaximumSubSingleCount());
+        millisecondsSpentLimit = ConfigUtils.inheritOverwritableProperty(millisecondsSpentLimit,
+                inheritedConfig.getMillisecondsSpentLimit());
+        secondsSpentLimit = ConfigUtils.inheritOverwritableProperty(secondsSpentLimit,
+                inheritedConfig.getSecondsSpentLimit());
+        minutesSpentLimit = ConfigUtils.inheritOverwritableProperty(minutesSpentLimit,
+                inheritedConfig.getMinutesSpentLimit());
+        hoursSpentLimit = ConfigUtils.inheritOverwritableProperty(hoursSpentLimit,
+                inheritedConfig.getHoursSpentLimit());
+    }
+
+}
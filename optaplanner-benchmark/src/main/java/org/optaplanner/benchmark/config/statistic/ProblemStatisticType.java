@@ -20,8 +20,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.StatisticType;
+import org.optaplanner.benchmark.impl.statistic.allocationrate.AllocationRateProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.garbagecollection.GarbageCollectionProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.scorecalculationspeed.ScoreCalculationSpeedProblemStatistic;
@@ -36,6 +38,14 @@ public enum ProblemStatisticType implements StatisticType {
     @Deprecated
     CALCULATE_COUNT_PER_SECOND,
     SCORE_CALCULATION_SPEED,
+    /**
+     * The bytes allocated per second and per evaluated move by the solver thread and its move threads.
+     */
+    ALLOCATION_RATE,
+    /**
+     * The garbage collection pause time and count per interval of the JVM.
+     */
+    GARBAGE_COLLECTION,
     BEST_SOLUTION_MUTATION,
     MOVE_COUNT_PER_STEP,
     MEMORY_USE;
@@ -55,6 +65,10 @@ public enum ProblemStatisticType implements StatisticType {
             case CALCULATE_COUNT_PER_SECOND:
             case SCORE_CALCULATION_SPEED:
                 return new ScoreCalculationSpeedProblemStatistic(problemBenchmarkResult);
+            case ALLOCATION_RATE:
+                return new AllocationRateProblemStatistic(problemBenchmarkResult);
+            case GARBAGE_COLLECTION:
+                return new GarbageCollectionProblemStatistic(problemBenchmarkResult);
             case BEST_SOLUTION_MUTATION:
                 return new BestSolutionMutationProblemStatistic(problemBenchmarkResult);
             case MOVE_COUNT_PER_STEP:
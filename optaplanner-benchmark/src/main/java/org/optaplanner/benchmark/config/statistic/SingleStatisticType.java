@@ -21,16 +21,20 @@ import org.optaplanner.benchmark.impl.report.ReportHelper;
 import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.StatisticType;
+import org.optaplanner.benchmark.impl.statistic.subsingle.adaptivemoveselectorprobability.AdaptiveMoveSelectorProbabilitySubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.subsingle.selectionfilterrejectionratio.SelectionFilterRejectionRatioSubSingleStatistic;
 
 public enum SingleStatisticType implements StatisticType {
     CONSTRAINT_MATCH_TOTAL_BEST_SCORE,
     CONSTRAINT_MATCH_TOTAL_STEP_SCORE,
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF,
-    PICKED_MOVE_TYPE_STEP_SCORE_DIFF;
+    PICKED_MOVE_TYPE_STEP_SCORE_DIFF,
+    ADAPTIVE_MOVE_SELECTOR_PROBABILITY,
+    SELECTION_FILTER_REJECTION_RATIO;
 
     @Override
     public String getLabel() {
@@ -48,6 +52,10 @@ public enum SingleStatisticType implements StatisticType {
                 return new PickedMoveTypeBestScoreDiffSubSingleStatistic(subSingleBenchmarkResult);
             case PICKED_MOVE_TYPE_STEP_SCORE_DIFF:
                 return new PickedMoveTypeStepScoreDiffSubSingleStatistic(subSingleBenchmarkResult);
+            case ADAPTIVE_MOVE_SELECTOR_PROBABILITY:
+                return new AdaptiveMoveSelectorProbabilitySubSingleStatistic(subSingleBenchmarkResult);
+            case SELECTION_FILTER_REJECTION_RATIO:
+                return new SelectionFilterRejectionRatioSubSingleStatistic(subSingleBenchmarkResult);
             default:
                 throw new IllegalStateException("The singleStatisticType (" + this + ") is not implemented.");
         }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.config.warmup;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.optaplanner.benchmark.impl.warmup.SteadyStateDetector;
+import org.optaplanner.benchmark.impl.warmup.WarmUpSteadyStateMonitor;
+import org.optaplanner.core.config.AbstractConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+
+/**
+ * Ends the warm up of each solver configuration as soon as its score calculation speed is steady,
+ * instead of always spending the full warm up time.
+ * The warm up time spent limit of the {@link org.optaplanner.benchmark.config.PlannerBenchmarkConfig}
+ * is still the maximum.
+ */
+@XStreamAlias("warmUpSteadyState")
+public class WarmUpSteadyStateConfig extends AbstractConfig<WarmUpSteadyStateConfig> {
+
+    public static final long DEFAULT_MEASUREMENT_INTERVAL_MILLISECONDS = 1000L;
+    public static final int DEFAULT_WINDOW_SIZE = 5;
+    public static final double DEFAULT_COEFFICIENT_OF_VARIATION_THRESHOLD = 0.05;
+    /**
+     * Used as the maximum if no warm up time spent limit is configured.
+     */
+    public static final long DEFAULT_WARM_UP_TIME_MILLIS_SPENT_LIMIT = 300_000L;
+
+    private Long measurementIntervalMilliseconds = null;
+    private Integer windowSize = null;
+    private Double coefficientOfVariationThreshold = null;
+
+    /**
+     * @return null or the time between 2 score calculation speed measurements
+     */
+    public Long getMeasurementIntervalMilliseconds() {
+        return measurementIntervalMilliseconds;
+    }
+
+    public void setMeasurementIntervalMilliseconds(Long measurementIntervalMilliseconds) {
+        this.measurementIntervalMilliseconds = measurementIntervalMilliseconds;
+    }
+
+    /**
+     * @return null or the number of last measurements that need to be steady
+     */
+    public Integer getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(Integer windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * @return null or the maximum standard deviation divided by the mean of the measurements in the window
+     */
+    public Double getCoefficientOfVariationThreshold() {
+        return coefficientOfVariationThreshold;
+    }
+
+    public void setCoefficientOfVariationThreshold(Double coefficientOfVariationThreshold) {
+        this.coefficientOfVariationThreshold = coefficientOfVariationThreshold;
+    }
+
+    // ************************************************************************
+    // Builder methods
+    // ************************************************************************
+
+    public <Solution_> WarmUpSteadyStateMonitor<Solution_> buildWarmUpSteadyStateMonitor() {
+        long measurementIntervalMilliseconds_ = measurementIntervalMilliseconds == null
+                ? DEFAULT_MEASUREMENT_INTERVAL_MILLISECONDS : measurementIntervalMilliseconds;
+        int windowSize_ = windowSize == null ? DEFAULT_WINDOW_SIZE : windowSize;
+        double coefficientOfVariationThreshold_ = coefficientOfVariationThreshold == null
+                ? DEFAULT_COEFFICIENT_OF_VARIATION_THRESHOLD : coefficientOfVariationThreshold;
+        // Fail fast on an invalid windowSize or coefficientOfVariationThreshold
+        new SteadyStateDetector(windowSize_, coefficientOfVariationThreshold_);
+        return new WarmUpSteadyStateMonitor<>(measurementIntervalMilliseconds_,
+                () -> new SteadyStateDetector(windowSize_, coefficientOfVariationThreshold_));
+    }
+
+    @Override
+    public void inherit(WarmUpSteadyStateConfig inheritedConfig) {
+        measurementIntervalMilliseconds = ConfigUtils.inheritOverwritableProperty(measurementIntervalMilliseconds,
+                inheritedConfig.getMeasurementIntervalMilliseconds());
+        windowSize = ConfigUtils.inheritOverwritableProperty(windowSize, inheritedConfig.getWindowSize());
+        coefficientOfVariationThreshold = ConfigUtils.inheritOverwritableProperty(coefficientOfVariationThreshold,
+                inheritedConfig.getCoefficientOfVariationThreshold());
+    }
+
+}
@@ -20,6 +20,7 @@ import java.awt.Desktop;
 import java.io.File;
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -33,15 +34,20 @@ import java.util.concurrent.Future;
 
 import org.optaplanner.benchmark.api.PlannerBenchmark;
 import org.optaplanner.benchmark.api.PlannerBenchmarkException;
+import org.optaplanner.benchmark.config.statistic.ConfidenceIntervalConfig;
+import org.optaplanner.benchmark.config.warmup.WarmUpSteadyStateConfig;
+import org.optaplanner.benchmark.impl.forked.ForkedSubSingleBenchmarkLauncher;
 import org.optaplanner.benchmark.impl.report.BenchmarkReport;
 import org.optaplanner.benchmark.impl.result.BenchmarkResultIO;
 import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkCheckpoint;
 import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.benchmark.impl.warmup.WarmUpSteadyStateMonitor;
 import org.optaplanner.core.config.SolverConfigContext;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
@@ -64,6 +70,14 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
     private final BenchmarkResultIO benchmarkResultIO;
     private final BenchmarkReport benchmarkReport;
 
+    private WarmUpSteadyStateConfig warmUpSteadyStateConfig = null;
+    private Map<SolverBenchmarkResult, WarmUpSteadyStateMonitor> warmUpSteadyStateMonitorMap = null;
+    private ConfidenceIntervalConfig confidenceIntervalConfig = null;
+    private Map<SolverBenchmarkResult, ForkedSubSingleBenchmarkLauncher> forkedSubSingleBenchmarkLauncherMap
+            = Collections.emptyMap();
+    private boolean resume = false;
+    private boolean resumed = false;
+
     private long startingSystemTimeMillis = -1L;
     private SubSingleBenchmarkRunner firstFailureSubSingleBenchmarkRunner = null;
 
@@ -94,6 +108,52 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
         return benchmarkReport;
     }
 
+    public WarmUpSteadyStateConfig getWarmUpSteadyStateConfig() {
+        return warmUpSteadyStateConfig;
+    }
+
+    /**
+     * @param warmUpSteadyStateConfig null to always spend the full warm up time
+     */
+    public void setWarmUpSteadyStateConfig(WarmUpSteadyStateConfig warmUpSteadyStateConfig) {
+        this.warmUpSteadyStateConfig = warmUpSteadyStateConfig;
+    }
+
+    public ConfidenceIntervalConfig getConfidenceIntervalConfig() {
+        return confidenceIntervalConfig;
+    }
+
+    /**
+     * @param confidenceIntervalConfig null to never run extra sub single benchmarks
+     */
+    public void setConfidenceIntervalConfig(ConfidenceIntervalConfig confidenceIntervalConfig) {
+        this.confidenceIntervalConfig = confidenceIntervalConfig;
+    }
+
+    public Map<SolverBenchmarkResult, ForkedSubSingleBenchmarkLauncher> getForkedSubSingleBenchmarkLauncherMap() {
+        return forkedSubSingleBenchmarkLauncherMap;
+    }
+
+    /**
+     * @param forkedSubSingleBenchmarkLauncherMap never null, only contains the solver benchmarks that run forked
+     */
+    public void setForkedSubSingleBenchmarkLauncherMap(
+            Map<SolverBenchmarkResult, ForkedSubSingleBenchmarkLauncher> forkedSubSingleBenchmarkLauncherMap) {
+        this.forkedSubSingleBenchmarkLauncherMap = forkedSubSingleBenchmarkLauncherMap;
+    }
+
+    public boolean isResume() {
+        return resume;
+    }
+
+    /**
+     * @param resume true to continue the last benchmark in the benchmarkDirectory if it was interrupted,
+     * skipping every subSingleBenchmarkResult it already completed
+     */
+    public void setResume(boolean resume) {
+        this.resume = resume;
+    }
+
     // ************************************************************************
     // Benchmark methods
     // ************************************************************************
@@ -103,6 +163,7 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
         benchmarkingStarted();
         warmUp();
         runSingleBenchmarks();
+        runExtraSubSingleBenchmarks();
         benchmarkingEnded();
     }
 
@@ -127,12 +188,65 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
                 plannerBenchmarkResult.getTotalSubSingleCount());
     }
 
+    /**
+     * Runs 1 sub single benchmark in a JVM forked by {@link ForkedSubSingleBenchmarkLauncher},
+     * after its own warm up.
+     * Instead of a report, it writes the statistics and a {@link SubSingleBenchmarkCheckpoint}
+     * in the benchmarkReportDirectory of the benchmark that forked this JVM.
+     * @param benchmarkReportDirectory never null, an existing directory
+     * @param subSingleBenchmarkIndex at least 0
+     */
+    public void benchmarkForkedSubSingle(File benchmarkReportDirectory, int subSingleBenchmarkIndex) {
+        if (startingSystemTimeMillis >= 0L) {
+            throw new IllegalStateException("This benchmark has already ran before.");
+        }
+        startingSystemTimeMillis = System.currentTimeMillis();
+        plannerBenchmarkResult.setStartingTimestamp(OffsetDateTime.now());
+        List<SolverBenchmarkResult> solverBenchmarkResultList = plannerBenchmarkResult.getSolverBenchmarkResultList();
+        if (solverBenchmarkResultList.size() != 1
+                || plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList().size() != 1) {
+            throw new IllegalArgumentException("A forked benchmark must have exactly 1 solverBenchmark (instead of "
+                    + solverBenchmarkResultList.size() + ") and exactly 1 problem (instead of "
+                    + plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList().size() + ").");
+        }
+        List<SubSingleBenchmarkResult> subSingleBenchmarkResultList = solverBenchmarkResultList.get(0)
+                .getSingleBenchmarkResultList().get(0).getSubSingleBenchmarkResultList();
+        if (subSingleBenchmarkIndex < 0 || subSingleBenchmarkIndex >= subSingleBenchmarkResultList.size()) {
+            throw new IllegalArgumentException("The subSingleBenchmarkIndex (" + subSingleBenchmarkIndex
+                    + ") must be at least 0 and less than the subSingleCount ("
+                    + subSingleBenchmarkResultList.size() + ").");
+        }
+        plannerBenchmarkResult.resumeBenchmarkReportDirectory(benchmarkReportDirectory);
+        plannerBenchmarkResult.initSystemProperties();
+        warmUp();
+        SubSingleBenchmarkResult subSingleBenchmarkResult = subSingleBenchmarkResultList.get(subSingleBenchmarkIndex);
+        new SubSingleBenchmarkRunner(subSingleBenchmarkResult, false, solverConfigContext).call();
+        subSingleBenchmarkResult.setSucceeded(true);
+        benchmarkResultIO.writeSubSingleBenchmarkCheckpoint(subSingleBenchmarkResult);
+        executorService.shutdownNow();
+        logger.info("Forked benchmark ended: subSingleBenchmarkResult ({}), time spent ({}).",
+                subSingleBenchmarkResult, calculateTimeMillisSpent());
+    }
+
     private void initBenchmarkDirectoryAndSubdirectories() {
         if (benchmarkDirectory == null) {
             throw new IllegalArgumentException("The benchmarkDirectory (" + benchmarkDirectory + ") must not be null.");
         }
         // benchmarkDirectory usually already exists
         benchmarkDirectory.mkdirs();
+        if (resume) {
+            File resumableBenchmarkReportDirectory
+                    = benchmarkResultIO.findResumableBenchmarkReportDirectory(benchmarkDirectory);
+            if (resumableBenchmarkReportDirectory != null) {
+                logger.info("Resuming the interrupted benchmark in directory ({}).",
+                        resumableBenchmarkReportDirectory.getAbsolutePath());
+                plannerBenchmarkResult.resumeBenchmarkReportDirectory(resumableBenchmarkReportDirectory);
+                resumed = true;
+                return;
+            }
+            logger.info("The benchmarkDirectory ({}) has no interrupted benchmark to resume,"
+                    + " so a new benchmark starts.", benchmarkDirectory.getAbsolutePath());
+        }
         plannerBenchmarkResult.initBenchmarkReportDirectory(benchmarkDirectory);
     }
 
@@ -140,12 +254,19 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
         if (plannerBenchmarkResult.getWarmUpTimeMillisSpentLimit() <= 0L) {
             return;
         }
+        List<SolverBenchmarkResult> warmUpSolverBenchmarkResultList = new ArrayList<>(
+                plannerBenchmarkResult.getSolverBenchmarkResultList());
+        // Each forked JVM does its own warm up
+        warmUpSolverBenchmarkResultList.removeIf(forkedSubSingleBenchmarkLauncherMap::containsKey);
+        if (warmUpSolverBenchmarkResultList.isEmpty()) {
+            return;
+        }
         logger.info("================================================================================");
         logger.info("Warm up started");
         logger.info("================================================================================");
         long timeLeftTotal = plannerBenchmarkResult.getWarmUpTimeMillisSpentLimit();
         int parallelBenchmarkCount = plannerBenchmarkResult.getParallelBenchmarkCount();
-        int solverBenchmarkResultCount = plannerBenchmarkResult.getSolverBenchmarkResultList().size();
+        int solverBenchmarkResultCount = warmUpSolverBenchmarkResultList.size();
         int cyclesCount = ConfigUtils.ceilDivide(solverBenchmarkResultCount, parallelBenchmarkCount);
         long timeLeftPerCycle = Math.floorDiv(timeLeftTotal, cyclesCount);
         Map<ProblemBenchmarkResult, List<ProblemStatistic>> originalProblemStatisticMap
@@ -154,13 +275,20 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
                 = new ConcurrentHashMap<>(solverBenchmarkResultCount);
 
         Map<SolverBenchmarkResult, WarmUpConfigBackup> warmUpConfigBackupMap = WarmUpConfigBackup.backupBenchmarkConfig(plannerBenchmarkResult, originalProblemStatisticMap);
+        if (warmUpSteadyStateConfig != null) {
+            warmUpSteadyStateMonitorMap = new HashMap<>(solverBenchmarkResultCount);
+            for (SolverBenchmarkResult solverBenchmarkResult : warmUpSolverBenchmarkResultList) {
+                warmUpSteadyStateMonitorMap.put(solverBenchmarkResult,
+                        warmUpSteadyStateConfig.buildWarmUpSteadyStateMonitor());
+            }
+        }
         SolverBenchmarkResult[] solverBenchmarkResultCycle = new SolverBenchmarkResult[parallelBenchmarkCount];
         int solverBenchmarkResultIndex = 0;
         for (int i = 0; i < cyclesCount; i++) {
             long timeCycleEnd = System.currentTimeMillis() + timeLeftPerCycle;
             for (int j = 0; j < parallelBenchmarkCount; j++) {
-                solverBenchmarkResultCycle[j] = plannerBenchmarkResult.
-                        getSolverBenchmarkResultList().get(solverBenchmarkResultIndex % solverBenchmarkResultCount);
+                solverBenchmarkResultCycle[j] = warmUpSolverBenchmarkResultList
+                        .get(solverBenchmarkResultIndex % solverBenchmarkResultCount);
                 solverBenchmarkResultIndex++;
             }
             ConcurrentMap<Future<SubSingleBenchmarkRunner>, SubSingleBenchmarkRunner> futureMap
@@ -169,6 +297,10 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
             warmUp(futureMap, singleBenchmarkResultIndexMap, timeCycleEnd);
         }
         WarmUpConfigBackup.restoreBenchmarkConfig(plannerBenchmarkResult, originalProblemStatisticMap, warmUpConfigBackupMap);
+        if (warmUpSteadyStateMonitorMap != null) {
+            reportWarmUpSteadyState(warmUpSolverBenchmarkResultList);
+            warmUpSteadyStateMonitorMap = null;
+        }
         List<Runnable> notFinishedWarmUpList = warmUpExecutorService.shutdownNow();
         if (!notFinishedWarmUpList.isEmpty()) {
             throw new IllegalStateException("Impossible state: notFinishedWarmUpList (" + notFinishedWarmUpList
@@ -198,6 +330,10 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
             // Just take the first subSingle, we don't need to warm up each one
             SubSingleBenchmarkRunner subSingleBenchmarkRunner = new SubSingleBenchmarkRunner(
                     singleBenchmarkResult.getSubSingleBenchmarkResultList().get(0), true, solverConfigContext);
+            if (warmUpSteadyStateMonitorMap != null) {
+                subSingleBenchmarkRunner.setWarmUpSteadyStateMonitor(
+                        warmUpSteadyStateMonitorMap.get(solverBenchmarkResult));
+            }
             Future<SubSingleBenchmarkRunner> future = warmUpExecutorCompletionService.submit(subSingleBenchmarkRunner);
             futureMap.put(future, subSingleBenchmarkRunner);
             singleBenchmarkResultIndexMap.put(solverBenchmarkResult, singleBenchmarkResultIndex + 1);
@@ -245,7 +381,7 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
 
             SolverBenchmarkResult solverBenchmarkResult = subSingleBenchmarkRunner.getSubSingleBenchmarkResult().getSingleBenchmarkResult().getSolverBenchmarkResult();
             long timeLeftInCycle = timePhaseEnd - System.currentTimeMillis();
-            if (timeLeftInCycle > 0L) {
+            if (timeLeftInCycle > 0L && !isWarmUpSteadyStateReached(solverBenchmarkResult)) {
                 SolverBenchmarkResult[] solverBenchmarkResultSingleton = new SolverBenchmarkResult[]{solverBenchmarkResult};
                 warmUpPopulate(futureMap, singleBenchmarkResultIndexMap, solverBenchmarkResultSingleton, timeLeftInCycle);
                 tasksCount++;
@@ -253,22 +389,134 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
         }
     }
 
+    private boolean isWarmUpSteadyStateReached(SolverBenchmarkResult solverBenchmarkResult) {
+        return warmUpSteadyStateMonitorMap != null
+                && warmUpSteadyStateMonitorMap.get(solverBenchmarkResult).isSteadyStateReached();
+    }
+
+    private void reportWarmUpSteadyState(List<SolverBenchmarkResult> warmUpSolverBenchmarkResultList) {
+        for (SolverBenchmarkResult solverBenchmarkResult : warmUpSolverBenchmarkResultList) {
+            WarmUpSteadyStateMonitor warmUpSteadyStateMonitor = warmUpSteadyStateMonitorMap.get(solverBenchmarkResult);
+            boolean steadyStateReached = warmUpSteadyStateMonitor.isSteadyStateReached();
+            long warmUpTimeMillisSpent = warmUpSteadyStateMonitor.getWarmUpTimeMillisSpent();
+            solverBenchmarkResult.setWarmUpSteadyStateReached(steadyStateReached);
+            solverBenchmarkResult.setWarmUpTimeMillisSpent(warmUpTimeMillisSpent);
+            if (steadyStateReached) {
+                logger.info("Warm up of solverBenchmarkResult ({}) reached a steady state after time spent ({}).",
+                        solverBenchmarkResult.getName(), warmUpTimeMillisSpent);
+            } else {
+                logger.warn("Warm up of solverBenchmarkResult ({}) did not reach a steady state"
+                        + " with coefficient of variation ({}) after time spent ({})."
+                        + " Maybe increase the warm up time spent limit.",
+                        solverBenchmarkResult.getName(), warmUpSteadyStateMonitor.calculateCoefficientOfVariation(),
+                        warmUpTimeMillisSpent);
+            }
+        }
+    }
+
     protected void runSingleBenchmarks() {
-        Map<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureMap = new HashMap<>();
+        List<SubSingleBenchmarkRunner> subSingleBenchmarkRunnerList = new ArrayList<>();
+        int restoredCount = 0;
         for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
             for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
                 for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
-                    SubSingleBenchmarkRunner subSingleBenchmarkRunner = new SubSingleBenchmarkRunner(
-                            subSingleBenchmarkResult, false, solverConfigContext);
-                    Future<SubSingleBenchmarkRunner> future = executorService.submit(subSingleBenchmarkRunner);
-                    futureMap.put(subSingleBenchmarkRunner, future);
+                    if (resumed) {
+                        SubSingleBenchmarkCheckpoint checkpoint
+                                = benchmarkResultIO.readSubSingleBenchmarkCheckpoint(subSingleBenchmarkResult);
+                        if (checkpoint != null) {
+                            checkpoint.restore(subSingleBenchmarkResult);
+                            restoredCount++;
+                            continue;
+                        }
+                    }
+                    subSingleBenchmarkRunnerList.add(buildSubSingleBenchmarkRunner(subSingleBenchmarkResult));
+                }
+                if (resumed && confidenceIntervalConfig != null) {
+                    // Extra runs aren't in the config, so only their checkpoints know about them
+                    restoredCount += benchmarkResultIO.restoreExtraSubSingleBenchmarkResults(singleBenchmarkResult,
+                            confidenceIntervalConfig.determineMaximumSubSingleCount());
+                }
+            }
+        }
+        if (resumed) {
+            logger.info("Resumed benchmark: restored subSingleCount ({}), remaining subSingleCount ({}).",
+                    restoredCount, subSingleBenchmarkRunnerList.size());
+        }
+        runSubSingleBenchmarks(subSingleBenchmarkRunnerList);
+    }
+
+    /**
+     * Runs extra rounds of sub single benchmarks, 1 extra per single benchmark per round,
+     * until the confidence intervals of every single benchmark are tight enough,
+     * its maximumSubSingleCount is reached or the time spent limit is exceeded.
+     */
+    protected void runExtraSubSingleBenchmarks() {
+        if (confidenceIntervalConfig == null) {
+            return;
+        }
+        double relativeThreshold = confidenceIntervalConfig.determineRelativeThreshold();
+        int maximumSubSingleCount = confidenceIntervalConfig.determineMaximumSubSingleCount();
+        Long timeMillisSpentLimit = confidenceIntervalConfig.calculateTimeMillisSpentLimit();
+        long startingTimeMillis = System.currentTimeMillis();
+        int extraSubSingleCount = 0;
+        int roundCount = 0;
+        while (timeMillisSpentLimit == null
+                || System.currentTimeMillis() - startingTimeMillis < timeMillisSpentLimit) {
+            List<SubSingleBenchmarkRunner> subSingleBenchmarkRunnerList = new ArrayList<>();
+            for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
+                for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+                    List<SubSingleBenchmarkResult> subSingleBenchmarkResultList
+                            = singleBenchmarkResult.getSubSingleBenchmarkResultList();
+                    // Extra runs can't fix a failure
+                    if (subSingleBenchmarkResultList.size() >= maximumSubSingleCount
+                            || subSingleBenchmarkResultList.stream().anyMatch(SubSingleBenchmarkResult::hasAnyFailure)
+                            || singleBenchmarkResult.hasTightConfidenceIntervals(relativeThreshold)) {
+                        continue;
+                    }
+                    subSingleBenchmarkRunnerList.add(buildSubSingleBenchmarkRunner(
+                            singleBenchmarkResult.addExtraSubSingleBenchmarkResult()));
                 }
             }
+            if (subSingleBenchmarkRunnerList.isEmpty()) {
+                break;
+            }
+            roundCount++;
+            logger.info("Extra sub single benchmarks round ({}): subSingleCount ({}).",
+                    roundCount, subSingleBenchmarkRunnerList.size());
+            runSubSingleBenchmarks(subSingleBenchmarkRunnerList);
+            extraSubSingleCount += subSingleBenchmarkRunnerList.size();
+        }
+        logger.info("Extra sub single benchmarks ended: roundCount ({}), extraSubSingleCount ({}), time spent ({}).",
+                roundCount, extraSubSingleCount, System.currentTimeMillis() - startingTimeMillis);
+    }
+
+    private SubSingleBenchmarkRunner buildSubSingleBenchmarkRunner(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        SubSingleBenchmarkRunner subSingleBenchmarkRunner = new SubSingleBenchmarkRunner(
+                subSingleBenchmarkResult, false, solverConfigContext);
+        subSingleBenchmarkRunner.setForkedSubSingleBenchmarkLauncher(forkedSubSingleBenchmarkLauncherMap.get(
+                subSingleBenchmarkResult.getSingleBenchmarkResult().getSolverBenchmarkResult()));
+        return subSingleBenchmarkRunner;
+    }
+
+    private void runSubSingleBenchmarks(List<SubSingleBenchmarkRunner> subSingleBenchmarkRunnerList) {
+        ExecutorCompletionService<SubSingleBenchmarkRunner> executorCompletionService
+                = new ExecutorCompletionService<>(executorService);
+        Map<Future<SubSingleBenchmarkRunner>, SubSingleBenchmarkRunner> futureMap = new HashMap<>(
+                subSingleBenchmarkRunnerList.size());
+        for (SubSingleBenchmarkRunner subSingleBenchmarkRunner : subSingleBenchmarkRunnerList) {
+            Future<SubSingleBenchmarkRunner> future = executorCompletionService.submit(subSingleBenchmarkRunner);
+            futureMap.put(future, subSingleBenchmarkRunner);
         }
-        // Wait for the benchmarks to complete
-        for (Map.Entry<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureEntry : futureMap.entrySet()) {
-            SubSingleBenchmarkRunner subSingleBenchmarkRunner = futureEntry.getKey();
-            Future<SubSingleBenchmarkRunner> future = futureEntry.getValue();
+        // Wait for the benchmarks to complete, in completion order, to checkpoint each one as soon as possible
+        for (int i = 0; i < futureMap.size(); i++) {
+            Future<SubSingleBenchmarkRunner> future;
+            try {
+                future = executorCompletionService.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Waiting for a subSingleBenchmarkRunner was interrupted.", e);
+            }
+            SubSingleBenchmarkRunner subSingleBenchmarkRunner = futureMap.get(future);
             Throwable failureThrowable = null;
             try {
                 // Explicitly returning it in the Callable guarantees memory visibility
@@ -286,6 +534,7 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
             }
             if (failureThrowable == null) {
                 subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(true);
+                writeSubSingleBenchmarkCheckpoint(subSingleBenchmarkRunner.getSubSingleBenchmarkResult());
             } else {
                 subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(false);
                 subSingleBenchmarkRunner.setFailureThrowable(failureThrowable);
@@ -296,6 +545,16 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
         }
     }
 
+    private void writeSubSingleBenchmarkCheckpoint(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        try {
+            benchmarkResultIO.writeSubSingleBenchmarkCheckpoint(subSingleBenchmarkResult);
+        } catch (IllegalArgumentException e) {
+            // A missing checkpoint only means that a resumed benchmark runs it again
+            logger.warn("Failed writing the checkpoint of subSingleBenchmarkResult ({}).",
+                    subSingleBenchmarkResult, e);
+        }
+    }
+
     public void benchmarkingEnded() {
         List<Runnable> notExecutedBenchmarkList = executorService.shutdownNow();
         if (!notExecutedBenchmarkList.isEmpty()) {
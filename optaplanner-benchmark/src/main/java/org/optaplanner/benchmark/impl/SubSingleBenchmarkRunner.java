@@ -18,9 +18,11 @@ package org.optaplanner.benchmark.impl;
 
 import java.util.concurrent.Callable;
 
+import org.optaplanner.benchmark.impl.forked.ForkedSubSingleBenchmarkLauncher;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
+import org.optaplanner.benchmark.impl.warmup.WarmUpSteadyStateMonitor;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.config.SolverConfigContext;
 import org.optaplanner.core.config.solver.SolverConfig;
@@ -41,6 +43,9 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
     private final SolverConfigContext solverConfigContext;
     private final boolean warmUp;
 
+    private WarmUpSteadyStateMonitor<Solution_> warmUpSteadyStateMonitor = null;
+    private ForkedSubSingleBenchmarkLauncher forkedSubSingleBenchmarkLauncher = null;
+
     private Throwable failureThrowable = null;
 
     /**
@@ -65,6 +70,28 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
         return subSingleBenchmarkResult;
     }
 
+    public WarmUpSteadyStateMonitor<Solution_> getWarmUpSteadyStateMonitor() {
+        return warmUpSteadyStateMonitor;
+    }
+
+    /**
+     * @param warmUpSteadyStateMonitor null if the warm up should not end on a steady state
+     */
+    public void setWarmUpSteadyStateMonitor(WarmUpSteadyStateMonitor<Solution_> warmUpSteadyStateMonitor) {
+        this.warmUpSteadyStateMonitor = warmUpSteadyStateMonitor;
+    }
+
+    public ForkedSubSingleBenchmarkLauncher getForkedSubSingleBenchmarkLauncher() {
+        return forkedSubSingleBenchmarkLauncher;
+    }
+
+    /**
+     * @param forkedSubSingleBenchmarkLauncher null to run in this JVM
+     */
+    public void setForkedSubSingleBenchmarkLauncher(ForkedSubSingleBenchmarkLauncher forkedSubSingleBenchmarkLauncher) {
+        this.forkedSubSingleBenchmarkLauncher = forkedSubSingleBenchmarkLauncher;
+    }
+
     public Throwable getFailureThrowable() {
         return failureThrowable;
     }
@@ -79,6 +106,10 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
 
     @Override
     public SubSingleBenchmarkRunner<Solution_> call() {
+        if (forkedSubSingleBenchmarkLauncher != null) {
+            forkedSubSingleBenchmarkLauncher.launch(subSingleBenchmarkResult);
+            return this;
+        }
         MDC.put(NAME_MDC, subSingleBenchmarkResult.getName());
         Runtime runtime = Runtime.getRuntime();
         ProblemBenchmarkResult<Solution_> problemBenchmarkResult = subSingleBenchmarkResult.getSingleBenchmarkResult().getProblemBenchmarkResult();
@@ -100,10 +131,27 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
 
         for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
             subSingleStatistic.open(solver);
-            subSingleStatistic.initPointList();
+            subSingleStatistic.openPointWriter();
+        }
+        WarmUpSteadyStateMonitor<Solution_>.WarmUpSteadyStateListener warmUpSteadyStateListener
+                = warmUpSteadyStateMonitor == null ? null : warmUpSteadyStateMonitor.open(solver, problemBenchmarkResult);
+
+        Solution_ solution;
+        try {
+            solution = solver.solve(problem);
+        } catch (RuntimeException | Error e) {
+            for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
+                try {
+                    subSingleStatistic.closePointWriter(true);
+                } catch (RuntimeException closeException) {
+                    e.addSuppressed(closeException);
+                }
+            }
+            throw e;
+        }
+        if (warmUpSteadyStateListener != null) {
+            warmUpSteadyStateMonitor.close(solver, warmUpSteadyStateListener);
         }
-
-        Solution_ solution = solver.solve(problem);
         long timeMillisSpent = solver.getTimeMillisSpent();
 
         DefaultSolverScope<Solution_> solverScope = ((DefaultSolver<Solution_>) solver).getSolverScope();
@@ -118,7 +166,7 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
 
         for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
             subSingleStatistic.close(solver);
-            subSingleStatistic.hibernatePointList();
+            subSingleStatistic.closePointWriter(false);
         }
         if (!warmUp) {
             problemBenchmarkResult.writeSolution(subSingleBenchmarkResult, solution);
@@ -20,24 +20,33 @@ import java.io.File;
 
 import org.optaplanner.benchmark.api.PlannerBenchmark;
 import org.optaplanner.benchmark.api.PlannerBenchmarkFactory;
+import org.optaplanner.benchmark.impl.DefaultPlannerBenchmark;
 
 /**
  * Run this class from the command line interface
  * to run a benchmarkConfigFile directly (using the normal classpath from the JVM).
+ * <p>
+ * With {@value #RESUME_OPTION}, an interrupted benchmark in the benchmarkDirectory continues
+ * and only runs the subSingleBenchmarks that did not complete yet.
  */
 public class OptaPlannerBenchmarkCli {
 
+    public static final String RESUME_OPTION = "--resume";
+
     public static void main(String[] args) {
-        if (args.length != 2) {
-            System.err.println("Usage: OptaPlannerBenchmarkCli benchmarkConfigFile benchmarkDirectory");
+        boolean resume = args.length > 0 && args[0].equals(RESUME_OPTION);
+        int argsOffset = resume ? 1 : 0;
+        if (args.length != argsOffset + 2) {
+            System.err.println("Usage: OptaPlannerBenchmarkCli [" + RESUME_OPTION
+                    + "] benchmarkConfigFile benchmarkDirectory");
             System.exit(1);
         }
-        File benchmarkConfigFile = new File(args[0]);
+        File benchmarkConfigFile = new File(args[argsOffset]);
         if (!benchmarkConfigFile.exists()) {
             System.err.println("The benchmarkConfigFile (" + benchmarkConfigFile + ") does not exist.");
             System.exit(1);
         }
-        File benchmarkDirectory = new File(args[1]);
+        File benchmarkDirectory = new File(args[argsOffset + 1]);
         PlannerBenchmarkFactory plannerBenchmarkFactory;
         if (benchmarkConfigFile.getName().endsWith(".ftl")) {
             plannerBenchmarkFactory = PlannerBenchmarkFactory.createFromFreemarkerXmlFile(benchmarkConfigFile);
@@ -46,6 +55,9 @@ public class OptaPlannerBenchmarkCli {
         }
         plannerBenchmarkFactory.getPlannerBenchmarkConfig().setBenchmarkDirectory(benchmarkDirectory);
         PlannerBenchmark plannerBenchmark = plannerBenchmarkFactory.buildPlannerBenchmark();
+        if (resume) {
+            ((DefaultPlannerBenchmark) plannerBenchmark).setResume(true);
+        }
         plannerBenchmark.benchmark();
     }
 
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.impl.forked;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.thoughtworks.xstream.XStream;
+import org.optaplanner.benchmark.config.PlannerBenchmarkConfig;
+import org.optaplanner.benchmark.config.ProblemBenchmarksConfig;
+import org.optaplanner.benchmark.config.SolverBenchmarkConfig;
+import org.optaplanner.benchmark.config.forked.ForkedJvmConfig;
+import org.optaplanner.benchmark.config.warmup.WarmUpSteadyStateConfig;
+import org.optaplanner.benchmark.impl.XStreamXmlPlannerBenchmarkFactory;
+import org.optaplanner.benchmark.impl.loader.FileProblemProvider;
+import org.optaplanner.benchmark.impl.loader.ProblemProvider;
+import org.optaplanner.benchmark.impl.result.BenchmarkResultIO;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkCheckpoint;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs a {@link SubSingleBenchmarkResult} of 1 solver benchmark in a freshly started JVM,
+ * with the same classpath and the configured JVM arguments.
+ * <p>
+ * The forked JVM runs {@link ForkedSubSingleBenchmarkMain} on a {@link PlannerBenchmarkConfig}
+ * with only that solver benchmark and only that problem,
+ * which writes its statistics and a {@link SubSingleBenchmarkCheckpoint}
+ * in the result directory of the {@link SubSingleBenchmarkResult}.
+ * The checkpoint is then restored in this JVM.
+ */
+public class ForkedSubSingleBenchmarkLauncher {
+
+    protected static final String FORKED_PLANNER_BENCHMARK_CONFIG_FILENAME = "forkedPlannerBenchmarkConfig.xml";
+
+    protected final transient Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ForkedJvmConfig forkedJvmConfig;
+    private final SolverBenchmarkConfig solverBenchmarkConfig;
+    private final long warmUpTimeMillisSpentLimit;
+    private final WarmUpSteadyStateConfig warmUpSteadyStateConfig;
+    private final XStream xStream;
+    private final BenchmarkResultIO benchmarkResultIO;
+
+    /**
+     * @param forkedJvmConfig never null
+     * @param solverBenchmarkConfig never null, already inherited
+     * @param warmUpTimeMillisSpentLimit at least 0, the warm up of each forked JVM
+     * @param warmUpSteadyStateConfig sometimes null
+     */
+    public ForkedSubSingleBenchmarkLauncher(ForkedJvmConfig forkedJvmConfig,
+            SolverBenchmarkConfig solverBenchmarkConfig,
+            long warmUpTimeMillisSpentLimit, WarmUpSteadyStateConfig warmUpSteadyStateConfig) {
+        this.forkedJvmConfig = forkedJvmConfig;
+        this.solverBenchmarkConfig = solverBenchmarkConfig;
+        this.warmUpTimeMillisSpentLimit = warmUpTimeMillisSpentLimit;
+        this.warmUpSteadyStateConfig = warmUpSteadyStateConfig;
+        xStream = new XStreamXmlPlannerBenchmarkFactory().getXStream();
+        benchmarkResultIO = new BenchmarkResultIO();
+    }
+
+    public ForkedJvmConfig getForkedJvmConfig() {
+        return forkedJvmConfig;
+    }
+
+    // ************************************************************************
+    // Launch methods
+    // ************************************************************************
+
+    /**
+     * Blocks until the forked JVM has ended.
+     * @param subSingleBenchmarkResult never null
+     * @throws IllegalStateException if the forked JVM fails
+     */
+    public void launch(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        File forkedPlannerBenchmarkConfigFile = new File(subSingleBenchmarkResult.getResultDirectory(),
+                FORKED_PLANNER_BENCHMARK_CONFIG_FILENAME);
+        writeForkedPlannerBenchmarkConfig(subSingleBenchmarkResult, forkedPlannerBenchmarkConfigFile);
+        List<String> command = buildCommand(subSingleBenchmarkResult, forkedPlannerBenchmarkConfigFile);
+        logger.debug("Forking a JVM for subSingleBenchmarkResult ({}) with command ({}).",
+                subSingleBenchmarkResult, command);
+        int exitValue;
+        Process process;
+        try {
+            // The forked JVM logs to the same console
+            process = new ProcessBuilder(command).inheritIO().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Forking a JVM for subSingleBenchmarkResult (" + subSingleBenchmarkResult
+                    + ") with command (" + command + ") failed.", e);
+        }
+        try {
+            exitValue = process.waitFor();
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Waiting for the forked JVM of subSingleBenchmarkResult ("
+                    + subSingleBenchmarkResult + ") was interrupted.", e);
+        }
+        if (exitValue != 0) {
+            throw new IllegalStateException("The forked JVM of subSingleBenchmarkResult (" + subSingleBenchmarkResult
+                    + ") failed with exitValue (" + exitValue + ").\n"
+                    + "Maybe check its output, which is logged above.");
+        }
+        SubSingleBenchmarkCheckpoint checkpoint = benchmarkResultIO.readSubSingleBenchmarkCheckpoint(
+                subSingleBenchmarkResult);
+        if (checkpoint == null) {
+            throw new IllegalStateException("The forked JVM of subSingleBenchmarkResult (" + subSingleBenchmarkResult
+                    + ") ended without writing its checkpoint.");
+        }
+        checkpoint.restore(subSingleBenchmarkResult);
+    }
+
+    private void writeForkedPlannerBenchmarkConfig(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            File forkedPlannerBenchmarkConfigFile) {
+        SingleBenchmarkResult singleBenchmarkResult = subSingleBenchmarkResult.getSingleBenchmarkResult();
+        ProblemProvider problemProvider = singleBenchmarkResult.getProblemBenchmarkResult().getProblemProvider();
+        if (!(problemProvider instanceof FileProblemProvider)) {
+            throw new IllegalStateException("The problemProvider (" + problemProvider
+                    + ") of subSingleBenchmarkResult (" + subSingleBenchmarkResult
+                    + ") can't be passed to a forked JVM.\n"
+                    + "Maybe configure it as an <inputSolutionFile> instead.");
+        }
+        File problemFile = ((FileProblemProvider) problemProvider).getProblemFile().getAbsoluteFile();
+        ProblemBenchmarksConfig forkedProblemBenchmarksConfig = new ProblemBenchmarksConfig();
+        if (solverBenchmarkConfig.getProblemBenchmarksConfig() != null) {
+            forkedProblemBenchmarksConfig.inherit(solverBenchmarkConfig.getProblemBenchmarksConfig());
+        }
+        forkedProblemBenchmarksConfig.setInputSolutionFileList(Collections.singletonList(problemFile));
+        SolverBenchmarkConfig forkedSolverBenchmarkConfig = new SolverBenchmarkConfig();
+        forkedSolverBenchmarkConfig.setName(solverBenchmarkConfig.getName());
+        forkedSolverBenchmarkConfig.setSolverConfig(solverBenchmarkConfig.getSolverConfig());
+        forkedSolverBenchmarkConfig.setProblemBenchmarksConfig(forkedProblemBenchmarksConfig);
+        // Includes the extra sub single benchmarks, so the random seed of each sub single index stays the same
+        forkedSolverBenchmarkConfig.setSubSingleCount(singleBenchmarkResult.getSubSingleCount());
+
+        PlannerBenchmarkConfig forkedPlannerBenchmarkConfig = new PlannerBenchmarkConfig();
+        forkedPlannerBenchmarkConfig.setBenchmarkDirectory(
+                subSingleBenchmarkResult.getResultDirectory().getAbsoluteFile());
+        forkedPlannerBenchmarkConfig.setParallelBenchmarkCount("1");
+        forkedPlannerBenchmarkConfig.setWarmUpMillisecondsSpentLimit(warmUpTimeMillisSpentLimit);
+        forkedPlannerBenchmarkConfig.setWarmUpSteadyStateConfig(warmUpSteadyStateConfig);
+        forkedPlannerBenchmarkConfig.setSolverBenchmarkConfigList(Collections.singletonList(forkedSolverBenchmarkConfig));
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(forkedPlannerBenchmarkConfigFile), "UTF-8")) {
+            xStream.toXML(forkedPlannerBenchmarkConfig, writer);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing forkedPlannerBenchmarkConfigFile ("
+                    + forkedPlannerBenchmarkConfigFile + ").", e);
+        }
+    }
+
+    private List<String> buildCommand(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            File forkedPlannerBenchmarkConfigFile) {
+        List<String> jvmArgumentList = forkedJvmConfig.getJvmArgumentList();
+        List<String> command = new ArrayList<>(8 + (jvmArgumentList == null ? 0 : jvmArgumentList.size()));
+        command.add(forkedJvmConfig.determineJavaExecutable());
+        if (jvmArgumentList != null) {
+            command.addAll(jvmArgumentList);
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ForkedSubSingleBenchmarkMain.class.getName());
+        command.add(forkedPlannerBenchmarkConfigFile.getAbsolutePath());
+        command.add(subSingleBenchmarkResult.getSingleBenchmarkResult().getProblemBenchmarkResult()
+                .getPlannerBenchmarkResult().getBenchmarkReportDirectory().getAbsolutePath());
+        command.add(Integer.toString(subSingleBenchmarkResult.getSubSingleBenchmarkIndex()));
+        return command;
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.impl.forked;
+
+import java.io.File;
+
+import org.optaplanner.benchmark.api.PlannerBenchmarkFactory;
+import org.optaplanner.benchmark.impl.DefaultPlannerBenchmark;
+
+/**
+ * The entry point of a JVM forked by {@link ForkedSubSingleBenchmarkLauncher}.
+ * Not intended to be run directly.
+ */
+public class ForkedSubSingleBenchmarkMain {
+
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println("Usage: ForkedSubSingleBenchmarkMain forkedPlannerBenchmarkConfigFile"
+                    + " benchmarkReportDirectory subSingleBenchmarkIndex");
+            System.exit(1);
+        }
+        File forkedPlannerBenchmarkConfigFile = new File(args[0]);
+        File benchmarkReportDirectory = new File(args[1]);
+        int subSingleBenchmarkIndex = Integer.parseInt(args[2]);
+        try {
+            DefaultPlannerBenchmark plannerBenchmark = (DefaultPlannerBenchmark) PlannerBenchmarkFactory
+                    .createFromXmlFile(forkedPlannerBenchmarkConfigFile).buildPlannerBenchmark();
+            plannerBenchmark.benchmarkForkedSubSingle(benchmarkReportDirectory, subSingleBenchmarkIndex);
+        } catch (RuntimeException | Error e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+        // Don't wait for non daemon threads, such as those of the executor services
+        System.exit(0);
+    }
+
+}
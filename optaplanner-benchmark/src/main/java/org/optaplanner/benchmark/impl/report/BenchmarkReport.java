@@ -17,11 +17,9 @@
 package org.optaplanner.benchmark.impl.report;
 
 import java.awt.BasicStroke;
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.text.NumberFormat;
@@ -34,7 +32,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.TreeSet;
-import javax.imageio.ImageIO;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import freemarker.template.Configuration;
 import freemarker.template.Template;
@@ -59,6 +60,7 @@ import org.jfree.data.xy.XYDataItem;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.ui.TextAnchor;
+import org.optaplanner.benchmark.config.report.ChartFormat;
 import org.optaplanner.benchmark.impl.ranking.SolverRankingWeightFactory;
 import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
@@ -68,9 +70,11 @@ import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.GraphSupport;
 import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.score.ScoreUtils;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,11 +84,17 @@ public class BenchmarkReport {
 
     public static final int CHARTED_SCORE_LEVEL_SIZE = 15;
     public static final int LOG_SCALE_MIN_DATASETS_COUNT = 5;
+    /**
+     * Statistic CSV files with more points are downsampled when they are read to draw a graph.
+     */
+    public static final int STATISTIC_GRAPH_MAXIMUM_POINT_COUNT = 10000;
 
     private final PlannerBenchmarkResult plannerBenchmarkResult;
 
     private Locale locale = null;
     private ZoneId timezoneId = null;
+    private ChartFormat chartFormat = ChartFormat.PNG;
+    private int chartRenderingThreadCount = 1;
     private Comparator<SolverBenchmarkResult> solverRankingComparator = null;
     private SolverRankingWeightFactory solverRankingWeightFactory = null;
     private File summaryDirectory = null;
@@ -128,6 +138,22 @@ public class BenchmarkReport {
         this.timezoneId = timezoneId;
     }
 
+    public ChartFormat getChartFormat() {
+        return chartFormat;
+    }
+
+    public void setChartFormat(ChartFormat chartFormat) {
+        this.chartFormat = chartFormat;
+    }
+
+    public int getChartRenderingThreadCount() {
+        return chartRenderingThreadCount;
+    }
+
+    public void setChartRenderingThreadCount(int chartRenderingThreadCount) {
+        this.chartRenderingThreadCount = chartRenderingThreadCount;
+    }
+
     public Comparator<SolverBenchmarkResult> getSolverRankingComparator() {
         return solverRankingComparator;
     }
@@ -238,16 +264,6 @@ public class BenchmarkReport {
         summaryDirectory.mkdir();
         plannerBenchmarkResult.accumulateResults(this);
         fillWarningList();
-        writeBestScoreSummaryChart();
-        writeBestScoreScalabilitySummaryChart();
-        writeWinningScoreDifferenceSummaryChart();
-        writeWorstScoreDifferencePercentageSummaryChart();
-        writeBestScoreDistributionSummaryChart();
-        writeScoreCalculationSpeedSummaryChart();
-        writeWorstScoreCalculationSpeedDifferencePercentageSummaryChart();
-        writeTimeSpentSummaryChart();
-        writeTimeSpentScalabilitySummaryChart();
-        writeBestScorePerTimeSpentSummaryChart();
         for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
             for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
                 for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
@@ -256,7 +272,7 @@ public class BenchmarkReport {
                     }
                     for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
                         try {
-                            subSingleStatistic.unhibernatePointList();
+                            subSingleStatistic.unhibernatePointList(STATISTIC_GRAPH_MAXIMUM_POINT_COUNT);
                         } catch (IllegalStateException e) {
                             if (!plannerBenchmarkResult.getAggregation()) {
                                 throw new IllegalStateException("Failed to unhibernate point list of SubSingleStatistic ("
@@ -269,38 +285,76 @@ public class BenchmarkReport {
                 }
             }
         }
+        writeGraphFiles();
+        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
+            for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+                for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
+                    if (!subSingleBenchmarkResult.hasAllSuccess()) {
+                        continue;
+                    }
+                    for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
+                        // The CSV file is not rewritten: the pointList might be downsampled
+                        subSingleStatistic.setPointList(null);
+                    }
+                }
+            }
+        }
+        determineDefaultShownScoreLevelIndex();
+        writeHtmlOverviewFile();
+    }
+
+    /**
+     * Each chart is independent, so they are rendered in parallel, on a bounded thread pool.
+     * Every chart task only writes its own chart file field(s), which are read after all tasks are done.
+     */
+    protected void writeGraphFiles() {
+        List<Runnable> chartTaskList = new ArrayList<>();
+        chartTaskList.add(this::writeBestScoreSummaryChart);
+        chartTaskList.add(this::writeBestScoreScalabilitySummaryChart);
+        chartTaskList.add(this::writeWinningScoreDifferenceSummaryChart);
+        chartTaskList.add(this::writeWorstScoreDifferencePercentageSummaryChart);
+        chartTaskList.add(this::writeBestScoreDistributionSummaryChart);
+        chartTaskList.add(this::writeScoreCalculationSpeedSummaryChart);
+        chartTaskList.add(this::writeWorstScoreCalculationSpeedDifferencePercentageSummaryChart);
+        chartTaskList.add(this::writeTimeSpentSummaryChart);
+        chartTaskList.add(this::writeTimeSpentScalabilitySummaryChart);
+        chartTaskList.add(this::writeBestScorePerTimeSpentSummaryChart);
         for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
             if (problemBenchmarkResult.hasAnySuccess()) {
                 for (ProblemStatistic problemStatistic : problemBenchmarkResult.getProblemStatisticList()) {
-                    problemStatistic.writeGraphFiles(this);
+                    chartTaskList.add(() -> problemStatistic.writeGraphFiles(this));
                 }
                 for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
                     if (singleBenchmarkResult.hasAllSuccess()) {
                         for (PureSubSingleStatistic pureSubSingleStatistic : singleBenchmarkResult.getMedian().getPureSubSingleStatisticList()) {
-                            pureSubSingleStatistic.writeGraphFiles(this);
+                            chartTaskList.add(() -> pureSubSingleStatistic.writeGraphFiles(this));
                         }
                     }
                 }
             }
         }
-        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
-            for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
-                for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
-                    if (!subSingleBenchmarkResult.hasAllSuccess()) {
-                        continue;
-                    }
-                    for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().values()) {
-                        if (plannerBenchmarkResult.getAggregation()) {
-                            subSingleStatistic.setPointList(null);
-                        } else {
-                            subSingleStatistic.hibernatePointList();
-                        }
-                    }
-                }
+        if (chartRenderingThreadCount <= 1) {
+            chartTaskList.forEach(Runnable::run);
+            return;
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(chartRenderingThreadCount,
+                new DefaultSolverThreadFactory("BenchmarkReportThread"));
+        try {
+            List<Future<?>> futureList = new ArrayList<>(chartTaskList.size());
+            for (Runnable chartTask : chartTaskList) {
+                futureList.add(executorService.submit(chartTask));
+            }
+            for (Future<?> future : futureList) {
+                future.get();
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The report generation was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Writing a chart of the report failed.", e.getCause());
+        } finally {
+            executorService.shutdownNow();
         }
-        determineDefaultShownScoreLevelIndex();
-        writeHtmlOverviewFile();
     }
 
     protected void fillWarningList() {
@@ -750,14 +804,7 @@ public class BenchmarkReport {
     }
 
     private File writeChartToImageFile(JFreeChart chart, String fileNameBase) {
-        BufferedImage chartImage = chart.createBufferedImage(1024, 768);
-        File summaryChartFile = new File(summaryDirectory, fileNameBase + ".png");
-        try (OutputStream out = new FileOutputStream(summaryChartFile)) {
-            ImageIO.write(chartImage, "png", out);
-        } catch (IOException e) {
-            throw new IllegalArgumentException("Failed writing summaryChartFile (" + summaryChartFile + ").", e);
-        }
-        return summaryChartFile;
+        return GraphSupport.writeChartToImageFile(chart, summaryDirectory, fileNameBase, chartFormat, locale);
     }
 
     private void determineDefaultShownScoreLevelIndex() {
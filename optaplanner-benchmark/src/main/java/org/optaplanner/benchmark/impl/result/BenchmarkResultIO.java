@@ -25,14 +25,22 @@ import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.XStreamException;
 import com.thoughtworks.xstream.converters.ConversionException;
 import org.apache.commons.io.filefilter.DirectoryFileFilter;
+import org.optaplanner.benchmark.impl.loader.FileProblemProvider;
+import org.optaplanner.benchmark.impl.loader.ProblemProvider;
 import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
 import org.optaplanner.core.config.SolverConfigContext;
@@ -45,6 +53,7 @@ import org.slf4j.LoggerFactory;
 public class BenchmarkResultIO {
 
     private static final String PLANNER_BENCHMARK_RESULT_FILENAME = "plannerBenchmarkResult.xml";
+    private static final String SUB_SINGLE_BENCHMARK_CHECKPOINT_FILENAME = "subSingleBenchmarkCheckpoint.xml";
 
     protected final transient Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -53,6 +62,7 @@ public class BenchmarkResultIO {
     public BenchmarkResultIO() {
         xStream = XStreamXmlSolverFactory.buildXStream();
         xStream.processAnnotations(PlannerBenchmarkResult.class);
+        xStream.processAnnotations(SubSingleBenchmarkCheckpoint.class);
         xStream.allowTypesByRegExp(new String[]{"org\\.optaplanner\\.\\w+\\.api\\..*"});
         xStream.allowTypesByRegExp(new String[]{"org\\.optaplanner\\.\\w+\\.impl\\..*"});
         AbstractScoreXStreamConverter.registerScoreConverters(xStream);
@@ -69,6 +79,163 @@ public class BenchmarkResultIO {
         }
     }
 
+    public boolean hasPlannerBenchmarkResult(File benchmarkReportDirectory) {
+        return new File(benchmarkReportDirectory, PLANNER_BENCHMARK_RESULT_FILENAME).exists();
+    }
+
+    /**
+     * @param benchmarkDirectory never null, an existing directory
+     * @return null if the last benchmark report directory is finished (or there is none)
+     */
+    public File findResumableBenchmarkReportDirectory(File benchmarkDirectory) {
+        File[] benchmarkReportDirectories = benchmarkDirectory.listFiles(File::isDirectory);
+        if (benchmarkReportDirectories == null) {
+            throw new IllegalStateException("Unable to list the subdirectories in the benchmarkDirectory ("
+                    + benchmarkDirectory.getAbsolutePath() + ").");
+        }
+        // The directory names start with the starting timestamp
+        File lastBenchmarkReportDirectory = Arrays.stream(benchmarkReportDirectories)
+                .filter(directory -> !directory.getName().endsWith("_aggregation"))
+                .max(Comparator.comparing(File::getName))
+                .orElse(null);
+        if (lastBenchmarkReportDirectory == null || hasPlannerBenchmarkResult(lastBenchmarkReportDirectory)) {
+            return null;
+        }
+        return lastBenchmarkReportDirectory;
+    }
+
+    /**
+     * Writes the outcome of a successfully completed run, atomically,
+     * so a crash during writing never leaves a corrupt checkpoint behind.
+     * @param subSingleBenchmarkResult never null, succeeded
+     */
+    public void writeSubSingleBenchmarkCheckpoint(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        File checkpointFile = new File(subSingleBenchmarkResult.getResultDirectory(),
+                SUB_SINGLE_BENCHMARK_CHECKPOINT_FILENAME);
+        File temporaryCheckpointFile = new File(subSingleBenchmarkResult.getResultDirectory(),
+                SUB_SINGLE_BENCHMARK_CHECKPOINT_FILENAME + ".tmp");
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(temporaryCheckpointFile), "UTF-8")) {
+            xStream.toXML(SubSingleBenchmarkCheckpoint.create(subSingleBenchmarkResult,
+                    calculateConfigFingerprint(subSingleBenchmarkResult)), writer);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                    "Failed writing checkpointFile (" + temporaryCheckpointFile + ").", e);
+        }
+        try {
+            Files.move(temporaryCheckpointFile.toPath(), checkpointFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                    "Failed moving checkpointFile (" + temporaryCheckpointFile + ") to (" + checkpointFile + ").", e);
+        }
+    }
+
+    /**
+     * @param subSingleBenchmarkResult never null
+     * @return null if there is no (readable) checkpoint for it, for example because it never completed,
+     * or if the checkpoint was made with another solver or problem configuration
+     */
+    public SubSingleBenchmarkCheckpoint readSubSingleBenchmarkCheckpoint(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        File checkpointFile = new File(subSingleBenchmarkResult.getResultDirectory(),
+                SUB_SINGLE_BENCHMARK_CHECKPOINT_FILENAME);
+        if (!checkpointFile.exists()) {
+            return null;
+        }
+        SubSingleBenchmarkCheckpoint checkpoint;
+        try (Reader reader = new InputStreamReader(new FileInputStream(checkpointFile), "UTF-8")) {
+            checkpoint = (SubSingleBenchmarkCheckpoint) xStream.fromXML(reader);
+        } catch (XStreamException | IOException | ClassCastException e) {
+            logger.warn("Failed reading checkpointFile ({}), so its subSingleBenchmarkResult ({}) runs again.",
+                    checkpointFile, subSingleBenchmarkResult, e);
+            return null;
+        }
+        if (!subSingleBenchmarkResult.getName().equals(checkpoint.getName())) {
+            logger.warn("The checkpointFile ({}) is for another subSingleBenchmarkResult ({}),"
+                    + " so the subSingleBenchmarkResult ({}) runs again.",
+                    checkpointFile, checkpoint, subSingleBenchmarkResult);
+            return null;
+        }
+        if (!calculateConfigFingerprint(subSingleBenchmarkResult).equals(checkpoint.getConfigFingerprint())) {
+            logger.warn("The checkpointFile ({}) was made with another solver or problem configuration,"
+                    + " so the subSingleBenchmarkResult ({}) runs again.",
+                    checkpointFile, subSingleBenchmarkResult);
+            return null;
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Restores the extra runs (beyond the configured subSingleCount) of an interrupted benchmark,
+     * in order, until an extra run has no matching checkpoint.
+     * @param singleBenchmarkResult never null
+     * @param maximumSubSingleCount at least 1
+     * @return at least 0, the number of restored extra runs
+     * @see SingleBenchmarkResult#addExtraSubSingleBenchmarkResult()
+     */
+    public int restoreExtraSubSingleBenchmarkResults(SingleBenchmarkResult singleBenchmarkResult,
+            int maximumSubSingleCount) {
+        int restoredCount = 0;
+        while (singleBenchmarkResult.getSubSingleCount() < maximumSubSingleCount) {
+            SubSingleBenchmarkResult subSingleBenchmarkResult
+                    = singleBenchmarkResult.createExtraSubSingleBenchmarkResult();
+            SubSingleBenchmarkCheckpoint checkpoint = readSubSingleBenchmarkCheckpoint(subSingleBenchmarkResult);
+            if (checkpoint == null) {
+                break;
+            }
+            singleBenchmarkResult.addExtraSubSingleBenchmarkResult(subSingleBenchmarkResult);
+            checkpoint.restore(subSingleBenchmarkResult);
+            restoredCount++;
+        }
+        return restoredCount;
+    }
+
+    /**
+     * Fingerprints the effective configuration of a run: the solver config, the problem (for a problem file:
+     * its path, size and last modification time) and the statistics that write a CSV file.
+     * @param subSingleBenchmarkResult never null
+     * @return never null, a hexadecimal SHA-256 hash
+     */
+    public String calculateConfigFingerprint(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        SingleBenchmarkResult singleBenchmarkResult = subSingleBenchmarkResult.getSingleBenchmarkResult();
+        StringBuilder configBuilder = new StringBuilder();
+        configBuilder.append(xStream.toXML(singleBenchmarkResult.getSolverBenchmarkResult().getSolverConfig()))
+                .append("\n");
+        ProblemBenchmarkResult<?> problemBenchmarkResult = singleBenchmarkResult.getProblemBenchmarkResult();
+        ProblemProvider<?> problemProvider = problemBenchmarkResult.getProblemProvider();
+        configBuilder.append(problemProvider.getClass().getName()).append("\n")
+                .append(problemProvider.getProblemName()).append("\n");
+        if (problemProvider instanceof FileProblemProvider) {
+            FileProblemProvider<?> fileProblemProvider = (FileProblemProvider<?>) problemProvider;
+            File problemFile = fileProblemProvider.getProblemFile();
+            configBuilder.append(fileProblemProvider.getSolutionFileIO().getClass().getName()).append("\n")
+                    .append(problemFile.getAbsolutePath()).append("\n")
+                    .append(problemFile.length()).append("\n")
+                    .append(problemFile.lastModified()).append("\n");
+        }
+        if (problemBenchmarkResult.getProblemStatisticList() != null) {
+            for (ProblemStatistic problemStatistic : problemBenchmarkResult.getProblemStatisticList()) {
+                configBuilder.append(problemStatistic.getProblemStatisticType().name()).append("\n");
+            }
+        }
+        if (subSingleBenchmarkResult.getPureSubSingleStatisticList() != null) {
+            for (PureSubSingleStatistic pureSubSingleStatistic : subSingleBenchmarkResult.getPureSubSingleStatisticList()) {
+                configBuilder.append(pureSubSingleStatistic.getStatisticType().name()).append("\n");
+            }
+        }
+        byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(
+                    configBuilder.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Every JVM supports SHA-256.", e);
+        }
+        StringBuilder hexBuilder = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            hexBuilder.append(String.format("%02x", b));
+        }
+        return hexBuilder.toString();
+    }
+
     public List<PlannerBenchmarkResult> readPlannerBenchmarkResultList(SolverConfigContext configContext, File benchmarkDirectory) {
         if (!benchmarkDirectory.exists() || !benchmarkDirectory.isDirectory()) {
             throw new IllegalArgumentException("The benchmarkDirectory (" + benchmarkDirectory
@@ -34,7 +34,9 @@ import com.thoughtworks.xstream.annotations.XStreamImplicit;
 import com.thoughtworks.xstream.annotations.XStreamOmitField;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.optaplanner.benchmark.impl.ranking.ResilientScoreComparator;
 import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.statistic.MannWhitneyUTest;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
@@ -277,6 +279,25 @@ public class PlannerBenchmarkResult {
         }
     }
 
+    /**
+     * Like {@link #initBenchmarkReportDirectory(File)}, but reuses the directory of an earlier, interrupted run,
+     * so the subSingleBenchmarkResults it completed can be restored from their checkpoints.
+     * @param resumedBenchmarkReportDirectory never null, an existing directory
+     */
+    public void resumeBenchmarkReportDirectory(File resumedBenchmarkReportDirectory) {
+        if (!resumedBenchmarkReportDirectory.isDirectory()) {
+            throw new IllegalArgumentException("The resumedBenchmarkReportDirectory (" + resumedBenchmarkReportDirectory
+                    + ") does not exist or is not a directory.");
+        }
+        if (StringUtils.isEmpty(name)) {
+            name = resumedBenchmarkReportDirectory.getName();
+        }
+        benchmarkReportDirectory = resumedBenchmarkReportDirectory;
+        for (ProblemBenchmarkResult problemBenchmarkResult : unifiedProblemBenchmarkResultList) {
+            problemBenchmarkResult.makeDirs();
+        }
+    }
+
     public void initSystemProperties() {
         availableProcessors = Runtime.getRuntime().availableProcessors();
         loggingLevelOptaPlannerCore = resolveLoggingLevel("org.optaplanner.core");
@@ -327,6 +348,7 @@ public class PlannerBenchmarkResult {
         }
         determineTotalsAndAverages();
         determineSolverRanking(benchmarkReport);
+        determineFavoriteScoreDifferencePValues();
     }
 
     private void determineTotalsAndAverages() {
@@ -387,6 +409,36 @@ public class PlannerBenchmarkResult {
                 : sameRankingListList.get(0).get(0);
     }
 
+    /**
+     * Uses a Mann-Whitney U test (instead of a t test) because it only relies on the ordering of the scores,
+     * which also works for scores with multiple levels.
+     */
+    private void determineFavoriteScoreDifferencePValues() {
+        Comparator<Score> scoreComparator = new ResilientScoreComparator();
+        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : unifiedProblemBenchmarkResultList) {
+            SingleBenchmarkResult favoriteSingleBenchmarkResult = null;
+            if (favoriteSolverBenchmarkResult != null) {
+                for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+                    if (singleBenchmarkResult.getSolverBenchmarkResult() == favoriteSolverBenchmarkResult) {
+                        favoriteSingleBenchmarkResult = singleBenchmarkResult;
+                    }
+                }
+            }
+            List<Score> favoriteScoreList = favoriteSingleBenchmarkResult == null ? Collections.emptyList()
+                    : favoriteSingleBenchmarkResult.getSuccessScoreList();
+            for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+                List<Score> scoreList = singleBenchmarkResult.getSuccessScoreList();
+                if (singleBenchmarkResult == favoriteSingleBenchmarkResult
+                        || favoriteScoreList.isEmpty() || scoreList.isEmpty()) {
+                    singleBenchmarkResult.setFavoriteScoreDifferencePValue(null);
+                } else {
+                    singleBenchmarkResult.setFavoriteScoreDifferencePValue(MannWhitneyUTest.calculateTwoSidedPValue(
+                            favoriteScoreList, scoreList, scoreComparator));
+                }
+            }
+        }
+    }
+
     private List<List<SolverBenchmarkResult>> createSameRankingListList(
             BenchmarkReport benchmarkReport, List<SolverBenchmarkResult> rankableSolverBenchmarkResultList) {
         List<List<SolverBenchmarkResult>> sameRankingListList = new ArrayList<>(
@@ -31,12 +31,14 @@ import org.optaplanner.benchmark.impl.measurement.ScoreDifferencePercentage;
 import org.optaplanner.benchmark.impl.ranking.ScoreSubSingleBenchmarkRankingComparator;
 import org.optaplanner.benchmark.impl.ranking.SubSingleBenchmarkRankBasedComparator;
 import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.StatisticUtils;
 import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
 import org.optaplanner.core.api.score.FeasibilityScore;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.score.ScoreUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,6 +72,9 @@ public class SingleBenchmarkResult implements BenchmarkResult {
     // - the squaring would cause overflow for relatively small int and long scores.
     // - standard deviation should not be rounded to integer numbers
     private double[] standardDeviationDoubles = null;
+    // Half width of the 95% confidence interval of the average score, per score level
+    private double[] scoreConfidenceIntervalHalfWidthDoubles = null;
+    private Double scoreCalculationSpeedConfidenceIntervalHalfWidth = null;
     private long timeMillisSpent = -1L;
     private long scoreCalculationCount = -1L;
 
@@ -81,6 +86,8 @@ public class SingleBenchmarkResult implements BenchmarkResult {
     private Score winningScoreDifference = null;
     private ScoreDifferencePercentage worstScoreDifferencePercentage = null;
     private Double worstScoreCalculationSpeedDifferencePercentage = null;
+    // Mann-Whitney U test of the scores against the favorite's SingleBenchmarkResult of the same problem
+    private Double favoriteScoreDifferencePValue = null;
 
     // Ranking starts from 0
     private Integer ranking = null;
@@ -183,6 +190,14 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         this.worstScoreCalculationSpeedDifferencePercentage = worstScoreCalculationSpeedDifferencePercentage;
     }
 
+    public Double getFavoriteScoreDifferencePValue() {
+        return favoriteScoreDifferencePValue;
+    }
+
+    public void setFavoriteScoreDifferencePValue(Double favoriteScoreDifferencePValue) {
+        this.favoriteScoreDifferencePValue = favoriteScoreDifferencePValue;
+    }
+
     public Integer getRanking() {
         return ranking;
     }
@@ -217,6 +232,14 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         return standardDeviationDoubles;
     }
 
+    public double[] getScoreConfidenceIntervalHalfWidthDoubles() {
+        return scoreConfidenceIntervalHalfWidthDoubles;
+    }
+
+    public Double getScoreCalculationSpeedConfidenceIntervalHalfWidth() {
+        return scoreCalculationSpeedConfidenceIntervalHalfWidth;
+    }
+
     public Integer getInfeasibleScoreCount() {
         return infeasibleScoreCount;
     }
@@ -292,6 +315,76 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         return StatisticUtils.getStandardDeviationString(standardDeviationDoubles);
     }
 
+    public String getScoreConfidenceIntervalString() {
+        return StatisticUtils.getConfidenceIntervalString(scoreConfidenceIntervalHalfWidthDoubles);
+    }
+
+    public String getScoreCalculationSpeedConfidenceIntervalString() {
+        return scoreCalculationSpeedConfidenceIntervalHalfWidth == null ? null
+                : StatisticUtils.getConfidenceIntervalString(
+                new double[]{scoreCalculationSpeedConfidenceIntervalHalfWidth});
+    }
+
+    /**
+     * @return true if the difference with the favorite is statistically significant at the 5% level
+     */
+    public boolean isFavoriteScoreDifferenceSignificant() {
+        return favoriteScoreDifferencePValue != null && favoriteScoreDifferencePValue < 0.05;
+    }
+
+    /**
+     * @return never null, the scores of the successful runs
+     */
+    public List<Score> getSuccessScoreList() {
+        List<Score> successScoreList = new ArrayList<>(subSingleBenchmarkResultList.size());
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult : subSingleBenchmarkResultList) {
+            if (subSingleBenchmarkResult.hasAllSuccess()) {
+                successScoreList.add(subSingleBenchmarkResult.getAverageScore());
+            }
+        }
+        return successScoreList;
+    }
+
+    /**
+     * Unlike the other statistics, this also works during benchmarking, before {@link #accumulateResults}.
+     * @param relativeThreshold at least 0.0
+     * @return true if the 95% confidence intervals of the score (per level) and of the score calculation speed
+     * of the successful runs are at most relativeThreshold of their mean
+     */
+    public boolean hasTightConfidenceIntervals(double relativeThreshold) {
+        List<double[]> scoreDoublesList = extractSuccessScoreDoublesList();
+        List<double[]> scoreCalculationSpeedDoublesList = extractSuccessScoreCalculationSpeedDoublesList();
+        double[] scoreHalfWidthDoubles = StatisticUtils.determineConfidenceIntervalHalfWidthDoubles(
+                scoreDoublesList);
+        if (scoreHalfWidthDoubles == null) {
+            return false;
+        }
+        return StatisticUtils.isConfidenceIntervalTight(scoreHalfWidthDoubles,
+                StatisticUtils.determineMeanDoubles(scoreDoublesList), relativeThreshold)
+                && StatisticUtils.isConfidenceIntervalTight(
+                StatisticUtils.determineConfidenceIntervalHalfWidthDoubles(scoreCalculationSpeedDoublesList),
+                StatisticUtils.determineMeanDoubles(scoreCalculationSpeedDoublesList), relativeThreshold);
+    }
+
+    private List<double[]> extractSuccessScoreDoublesList() {
+        List<double[]> scoreDoublesList = new ArrayList<>(subSingleBenchmarkResultList.size());
+        for (Score score : getSuccessScoreList()) {
+            scoreDoublesList.add(ScoreUtils.extractLevelDoubles(score));
+        }
+        return scoreDoublesList;
+    }
+
+    private List<double[]> extractSuccessScoreCalculationSpeedDoublesList() {
+        List<double[]> scoreCalculationSpeedDoublesList = new ArrayList<>(subSingleBenchmarkResultList.size());
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult : subSingleBenchmarkResultList) {
+            if (subSingleBenchmarkResult.hasAllSuccess()) {
+                scoreCalculationSpeedDoublesList.add(
+                        new double[]{subSingleBenchmarkResult.getScoreCalculationSpeed()});
+            }
+        }
+        return scoreCalculationSpeedDoublesList;
+    }
+
     // ************************************************************************
     // Accumulate methods
     // ************************************************************************
@@ -324,9 +417,59 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         }
         determineTotalsAndAveragesAndRanking();
         standardDeviationDoubles = StatisticUtils.determineStandardDeviationDoubles(subSingleBenchmarkResultList, averageScore, getSuccessCount());
+        scoreConfidenceIntervalHalfWidthDoubles = StatisticUtils.determineConfidenceIntervalHalfWidthDoubles(
+                extractSuccessScoreDoublesList());
+        double[] scoreCalculationSpeedHalfWidthDoubles = StatisticUtils.determineConfidenceIntervalHalfWidthDoubles(
+                extractSuccessScoreCalculationSpeedDoublesList());
+        scoreCalculationSpeedConfidenceIntervalHalfWidth = scoreCalculationSpeedHalfWidthDoubles == null ? null
+                : scoreCalculationSpeedHalfWidthDoubles[0];
         determineRepresentativeSubSingleBenchmarkResult();
     }
 
+    /**
+     * Adds an extra run, for example to narrow the confidence intervals.
+     * @return never null, with the same single statistics as the first subSingleBenchmarkResult
+     */
+    public SubSingleBenchmarkResult addExtraSubSingleBenchmarkResult() {
+        SubSingleBenchmarkResult subSingleBenchmarkResult = createExtraSubSingleBenchmarkResult();
+        addExtraSubSingleBenchmarkResult(subSingleBenchmarkResult);
+        return subSingleBenchmarkResult;
+    }
+
+    /**
+     * Creates the next extra run without adding it, for example to look for its checkpoint first.
+     * @return never null, with the same single statistics as the first subSingleBenchmarkResult
+     * @see #addExtraSubSingleBenchmarkResult(SubSingleBenchmarkResult)
+     */
+    public SubSingleBenchmarkResult createExtraSubSingleBenchmarkResult() {
+        SubSingleBenchmarkResult firstSubSingleBenchmarkResult = subSingleBenchmarkResultList.get(0);
+        SubSingleBenchmarkResult subSingleBenchmarkResult = new SubSingleBenchmarkResult(this,
+                subSingleBenchmarkResultList.size());
+        List<PureSubSingleStatistic> pureSubSingleStatisticList = new ArrayList<>(
+                firstSubSingleBenchmarkResult.getPureSubSingleStatisticList().size());
+        for (PureSubSingleStatistic pureSubSingleStatistic : firstSubSingleBenchmarkResult.getPureSubSingleStatisticList()) {
+            pureSubSingleStatisticList.add(pureSubSingleStatistic.getStatisticType()
+                    .buildPureSubSingleStatistic(subSingleBenchmarkResult));
+        }
+        subSingleBenchmarkResult.setPureSubSingleStatisticList(pureSubSingleStatisticList);
+        return subSingleBenchmarkResult;
+    }
+
+    /**
+     * @param subSingleBenchmarkResult never null, created by {@link #createExtraSubSingleBenchmarkResult()}
+     * after the last addition
+     */
+    public void addExtraSubSingleBenchmarkResult(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        if (subSingleBenchmarkResult.getSingleBenchmarkResult() != this
+                || subSingleBenchmarkResult.getSubSingleBenchmarkIndex() != subSingleBenchmarkResultList.size()) {
+            throw new IllegalArgumentException("The subSingleBenchmarkResult (" + subSingleBenchmarkResult
+                    + ") is not the next extra run of the singleBenchmarkResult (" + this + ").");
+        }
+        subSingleBenchmarkResultList.add(subSingleBenchmarkResult);
+        subSingleBenchmarkResult.initSubSingleStatisticMap();
+        subSingleBenchmarkResult.makeDirs();
+    }
+
     private void determineRepresentativeSubSingleBenchmarkResult() {
         if (subSingleBenchmarkResultList == null || subSingleBenchmarkResultList.isEmpty()) {
             throw new IllegalStateException("Cannot get representative subSingleBenchmarkResult from empty subSingleBenchmarkResultList.");
@@ -58,6 +58,12 @@ public class SolverBenchmarkResult {
     @XStreamImplicit(itemFieldName = "singleBenchmarkResult")
     private List<SingleBenchmarkResult> singleBenchmarkResultList = null;
 
+    // Only set if the warm up ended on a steady state
+    private Long warmUpTimeMillisSpent = null;
+    private Boolean warmUpSteadyStateReached = null;
+    // Only set if every sub single benchmark ran in a forked JVM
+    private List<String> forkedJvmArgumentList = null;
+
     // ************************************************************************
     // Report accumulates
     // ************************************************************************
@@ -132,6 +138,37 @@ public class SolverBenchmarkResult {
         this.scoreDefinition = scoreDefinition;
     }
 
+    public Long getWarmUpTimeMillisSpent() {
+        return warmUpTimeMillisSpent;
+    }
+
+    public void setWarmUpTimeMillisSpent(Long warmUpTimeMillisSpent) {
+        this.warmUpTimeMillisSpent = warmUpTimeMillisSpent;
+    }
+
+    public Boolean getWarmUpSteadyStateReached() {
+        return warmUpSteadyStateReached;
+    }
+
+    public void setWarmUpSteadyStateReached(Boolean warmUpSteadyStateReached) {
+        this.warmUpSteadyStateReached = warmUpSteadyStateReached;
+    }
+
+    /**
+     * @return null if it did not run in forked JVMs, otherwise the JVM arguments of those forked JVMs
+     */
+    public List<String> getForkedJvmArgumentList() {
+        return forkedJvmArgumentList;
+    }
+
+    public void setForkedJvmArgumentList(List<String> forkedJvmArgumentList) {
+        this.forkedJvmArgumentList = forkedJvmArgumentList;
+    }
+
+    public boolean isForked() {
+        return forkedJvmArgumentList != null;
+    }
+
     public List<SingleBenchmarkResult> getSingleBenchmarkResultList() {
         return singleBenchmarkResultList;
     }
@@ -360,6 +397,9 @@ public class SolverBenchmarkResult {
                 newResult.subSingleCount = oldResult.subSingleCount;
                 newResult.solverConfig = oldResult.solverConfig;
                 newResult.scoreDefinition = oldResult.scoreDefinition;
+                newResult.warmUpTimeMillisSpent = oldResult.warmUpTimeMillisSpent;
+                newResult.warmUpSteadyStateReached = oldResult.warmUpSteadyStateReached;
+                newResult.forkedJvmArgumentList = oldResult.forkedJvmArgumentList;
                 newResult.singleBenchmarkResultList = new ArrayList<>(
                         oldResult.singleBenchmarkResultList.size());
                 mergeMap.put(oldResult, newResult);
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.result;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.optaplanner.core.api.score.Score;
+
+/**
+ * The persisted outcome of 1 successfully completed {@link SubSingleBenchmarkResult},
+ * so an interrupted benchmark can be resumed without running it again.
+ * Its statistics are already persisted in their CSV files in the same directory.
+ * @see BenchmarkResultIO#writeSubSingleBenchmarkCheckpoint(SubSingleBenchmarkResult)
+ */
+@XStreamAlias("subSingleBenchmarkCheckpoint")
+public class SubSingleBenchmarkCheckpoint {
+
+    private String name = null;
+    /**
+     * Identifies the effective solver and problem configuration that produced this checkpoint.
+     * @see BenchmarkResultIO#calculateConfigFingerprint(SubSingleBenchmarkResult)
+     */
+    private String configFingerprint = null;
+
+    private Long usedMemoryAfterInputSolution = null;
+    private Score score = null;
+    private long timeMillisSpent = -1L;
+    private long scoreCalculationCount = -1L;
+
+    // Registered on the ProblemBenchmarkResult by the run, so they need to be registered again on resume
+    private Long entityCount = null;
+    private Long variableCount = null;
+    private Long maximumValueCount = null;
+    private Long problemScale = null;
+
+    public static SubSingleBenchmarkCheckpoint create(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            String configFingerprint) {
+        SubSingleBenchmarkCheckpoint checkpoint = new SubSingleBenchmarkCheckpoint();
+        checkpoint.name = subSingleBenchmarkResult.getName();
+        checkpoint.configFingerprint = configFingerprint;
+        checkpoint.usedMemoryAfterInputSolution = subSingleBenchmarkResult.getUsedMemoryAfterInputSolution();
+        checkpoint.score = subSingleBenchmarkResult.getScore();
+        checkpoint.timeMillisSpent = subSingleBenchmarkResult.getTimeMillisSpent();
+        checkpoint.scoreCalculationCount = subSingleBenchmarkResult.getScoreCalculationCount();
+        ProblemBenchmarkResult problemBenchmarkResult = subSingleBenchmarkResult.getSingleBenchmarkResult()
+                .getProblemBenchmarkResult();
+        checkpoint.entityCount = problemBenchmarkResult.getEntityCount();
+        checkpoint.variableCount = problemBenchmarkResult.getVariableCount();
+        checkpoint.maximumValueCount = problemBenchmarkResult.getMaximumValueCount();
+        checkpoint.problemScale = problemBenchmarkResult.getProblemScale();
+        return checkpoint;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getConfigFingerprint() {
+        return configFingerprint;
+    }
+
+    /**
+     * Restores a completed run on a fresh {@link SubSingleBenchmarkResult} of the same benchmark configuration.
+     * @param subSingleBenchmarkResult never null, with the same {@link SubSingleBenchmarkResult#getName()}
+     * and the same {@link #getConfigFingerprint()}
+     */
+    public void restore(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        if (!subSingleBenchmarkResult.getName().equals(name)) {
+            throw new IllegalArgumentException("The checkpoint (" + name
+                    + ") does not belong to the subSingleBenchmarkResult (" + subSingleBenchmarkResult + ").");
+        }
+        subSingleBenchmarkResult.setUsedMemoryAfterInputSolution(usedMemoryAfterInputSolution);
+        subSingleBenchmarkResult.setScore(score);
+        subSingleBenchmarkResult.setTimeMillisSpent(timeMillisSpent);
+        subSingleBenchmarkResult.setScoreCalculationCount(scoreCalculationCount);
+        subSingleBenchmarkResult.setSucceeded(true);
+        if (entityCount != null && variableCount != null && maximumValueCount != null && problemScale != null) {
+            subSingleBenchmarkResult.getSingleBenchmarkResult().getProblemBenchmarkResult().registerScale(
+                    entityCount, variableCount, maximumValueCount, problemScale);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The Mann-Whitney U test (also known as the Wilcoxon rank-sum test)
+ * checks if 2 independent samples come from the same distribution.
+ * <p>
+ * It is non-parametric: it only compares the values, so it works for any {@link Comparable}
+ * (such as a multi-level {@link org.optaplanner.core.api.score.Score})
+ * and it doesn't presume the values are normally distributed.
+ */
+public class MannWhitneyUTest {
+
+    /**
+     * Above this product of the sample sizes, the exact distribution is too expensive to calculate.
+     */
+    private static final int EXACT_SAMPLE_SIZE_PRODUCT_LIMIT = 400;
+
+    /**
+     * @param sampleA never null, not empty
+     * @param sampleB never null, not empty
+     * @param comparator never null
+     * @param <T> the type of the values
+     * @return the two-sided p-value: the probability of a difference at least this extreme
+     * if both samples come from the same distribution
+     */
+    public static <T> double calculateTwoSidedPValue(List<T> sampleA, List<T> sampleB,
+            Comparator<? super T> comparator) {
+        int sizeA = sampleA.size();
+        int sizeB = sampleB.size();
+        if (sizeA == 0 || sizeB == 0) {
+            throw new IllegalArgumentException("The sampleA size (" + sizeA + ") and sampleB size (" + sizeB
+                    + ") must both be at least 1.");
+        }
+        List<RankedValue<T>> rankedValueList = new ArrayList<>(sizeA + sizeB);
+        for (T value : sampleA) {
+            rankedValueList.add(new RankedValue<>(value, true));
+        }
+        for (T value : sampleB) {
+            rankedValueList.add(new RankedValue<>(value, false));
+        }
+        rankedValueList.sort((a, b) -> comparator.compare(a.value, b.value));
+        // Tied values get the average of their ranks
+        double rankSumA = 0.0;
+        double tieCorrectionSum = 0.0;
+        int size = rankedValueList.size();
+        int i = 0;
+        while (i < size) {
+            int j = i + 1;
+            while (j < size && comparator.compare(rankedValueList.get(i).value, rankedValueList.get(j).value) == 0) {
+                j++;
+            }
+            int tieCount = j - i;
+            double averageRank = (i + 1 + j) / 2.0;
+            for (int k = i; k < j; k++) {
+                if (rankedValueList.get(k).inSampleA) {
+                    rankSumA += averageRank;
+                }
+            }
+            tieCorrectionSum += (double) tieCount * tieCount * tieCount - tieCount;
+            i = j;
+        }
+        double uA = rankSumA - sizeA * (sizeA + 1) / 2.0;
+        double uMinimum = Math.min(uA, (double) sizeA * sizeB - uA);
+        if (tieCorrectionSum == 0.0 && sizeA * sizeB <= EXACT_SAMPLE_SIZE_PRODUCT_LIMIT) {
+            return calculateExactTwoSidedPValue(sizeA, sizeB, (int) uMinimum);
+        }
+        return calculateNormalApproximationTwoSidedPValue(sizeA, sizeB, uMinimum, tieCorrectionSum);
+    }
+
+    private static double calculateExactTwoSidedPValue(int sizeA, int sizeB, int uMinimum) {
+        // countTable[a][b][u] is the number of orderings of a and b values with that u statistic
+        double[][][] countTable = new double[sizeA + 1][sizeB + 1][];
+        for (int a = 0; a <= sizeA; a++) {
+            for (int b = 0; b <= sizeB; b++) {
+                double[] counts = new double[a * b + 1];
+                if (a == 0 || b == 0) {
+                    counts[0] = 1.0;
+                } else {
+                    // The largest value is either from sample A (outranking all b values) or from sample B
+                    double[] lastA = countTable[a - 1][b];
+                    double[] lastB = countTable[a][b - 1];
+                    for (int u = 0; u < counts.length; u++) {
+                        double count = 0.0;
+                        if (u - b >= 0 && u - b < lastA.length) {
+                            count += lastA[u - b];
+                        }
+                        if (u < lastB.length) {
+                            count += lastB[u];
+                        }
+                        counts[u] = count;
+                    }
+                }
+                countTable[a][b] = counts;
+            }
+        }
+        double[] counts = countTable[sizeA][sizeB];
+        double total = 0.0;
+        double tail = 0.0;
+        for (int u = 0; u < counts.length; u++) {
+            total += counts[u];
+            if (u <= uMinimum) {
+                tail += counts[u];
+            }
+        }
+        return Math.min(1.0, 2.0 * tail / total);
+    }
+
+    private static double calculateNormalApproximationTwoSidedPValue(int sizeA, int sizeB, double uMinimum,
+            double tieCorrectionSum) {
+        double size = sizeA + sizeB;
+        double mean = sizeA * (double) sizeB / 2.0;
+        double variance = sizeA * (double) sizeB / 12.0
+                * ((size + 1.0) - tieCorrectionSum / (size * (size - 1.0)));
+        if (variance <= 0.0) {
+            // All values are tied
+            return 1.0;
+        }
+        // With continuity correction
+        double z = Math.max(mean - uMinimum - 0.5, 0.0) / Math.sqrt(variance);
+        return Math.min(1.0, 2.0 * (1.0 - calculateStandardNormalCumulativeProbability(z)));
+    }
+
+    /**
+     * @param z at least 0.0
+     * @return the standard normal cumulative distribution, with an absolute error below 1e-7
+     */
+    private static double calculateStandardNormalCumulativeProbability(double z) {
+        // Abramowitz and Stegun formula 7.1.26 for erf(z / sqrt(2))
+        double x = z / Math.sqrt(2.0);
+        double t = 1.0 / (1.0 + 0.3275911 * x);
+        double polynomial = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429))));
+        double erf = 1.0 - polynomial * Math.exp(-x * x);
+        return 0.5 * (1.0 + erf);
+    }
+
+    private static final class RankedValue<T> {
+
+        private final T value;
+        private final boolean inSampleA;
+
+        private RankedValue(T value, boolean inSampleA) {
+            this.value = value;
+            this.inSampleA = inSampleA;
+        }
+
+    }
+
+    private MannWhitneyUTest() {
+    }
+
+}
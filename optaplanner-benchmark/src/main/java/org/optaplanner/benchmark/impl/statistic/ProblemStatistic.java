@@ -29,9 +29,11 @@ import org.optaplanner.benchmark.impl.report.ReportHelper;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.allocationrate.AllocationRateProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.common.GraphSupport;
+import org.optaplanner.benchmark.impl.statistic.garbagecollection.GarbageCollectionProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.scorecalculationspeed.ScoreCalculationSpeedProblemStatistic;
@@ -46,6 +48,8 @@ import org.slf4j.LoggerFactory;
         BestScoreProblemStatistic.class,
         StepScoreProblemStatistic.class,
         ScoreCalculationSpeedProblemStatistic.class,
+        AllocationRateProblemStatistic.class,
+        GarbageCollectionProblemStatistic.class,
         BestSolutionMutationProblemStatistic.class,
         MoveCountPerStepProblemStatistic.class,
         MemoryUseProblemStatistic.class
@@ -119,10 +123,9 @@ public abstract class ProblemStatistic {
     protected void fillWarningList() {
     }
 
-    protected File writeChartToImageFile(JFreeChart chart, String fileNameBase) {
-        File chartFile = new File(problemBenchmarkResult.getProblemReportDirectory(), fileNameBase + ".png");
-        GraphSupport.writeChartToImageFile(chart, chartFile);
-        return chartFile;
+    protected File writeChartToImageFile(BenchmarkReport benchmarkReport, JFreeChart chart, String fileNameBase) {
+        return GraphSupport.writeChartToImageFile(chart, problemBenchmarkResult.getProblemReportDirectory(),
+                fileNameBase, benchmarkReport.getChartFormat(), benchmarkReport.getLocale());
     }
 
     public File getGraphFile() {
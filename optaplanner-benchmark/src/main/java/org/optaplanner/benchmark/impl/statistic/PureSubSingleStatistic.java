@@ -25,10 +25,12 @@ import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
 import org.optaplanner.benchmark.impl.report.BenchmarkReport;
 import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.common.GraphSupport;
+import org.optaplanner.benchmark.impl.statistic.subsingle.adaptivemoveselectorprobability.AdaptiveMoveSelectorProbabilitySubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.subsingle.selectionfilterrejectionratio.SelectionFilterRejectionRatioSubSingleStatistic;
 
 /**
  * 1 statistic of {@link SubSingleBenchmarkResult}.
@@ -37,7 +39,9 @@ import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscor
         ConstraintMatchTotalBestScoreSubSingleStatistic.class,
         ConstraintMatchTotalStepScoreSubSingleStatistic.class,
         PickedMoveTypeBestScoreDiffSubSingleStatistic.class,
-        PickedMoveTypeStepScoreDiffSubSingleStatistic.class
+        PickedMoveTypeStepScoreDiffSubSingleStatistic.class,
+        AdaptiveMoveSelectorProbabilitySubSingleStatistic.class,
+        SelectionFilterRejectionRatioSubSingleStatistic.class
 })
 public abstract class PureSubSingleStatistic<Solution_, StatisticPoint_ extends StatisticPoint>
         extends SubSingleStatistic<Solution_, StatisticPoint_> {
@@ -60,10 +64,9 @@ public abstract class PureSubSingleStatistic<Solution_, StatisticPoint_ extends
 
     public abstract void writeGraphFiles(BenchmarkReport benchmarkReport);
 
-    protected File writeChartToImageFile(JFreeChart chart, String fileNameBase) {
-        File chartFile = new File(subSingleBenchmarkResult.getResultDirectory(), fileNameBase + ".png");
-        GraphSupport.writeChartToImageFile(chart, chartFile);
-        return chartFile;
+    protected File writeChartToImageFile(BenchmarkReport benchmarkReport, JFreeChart chart, String fileNameBase) {
+        return GraphSupport.writeChartToImageFile(chart, subSingleBenchmarkResult.getResultDirectory(),
+                fileNameBase, benchmarkReport.getChartFormat(), benchmarkReport.getLocale());
     }
 
     public File getGraphFile() {
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams {@link StatisticPoint}s to a CSV file on a background thread while the solver is running,
+ * so a {@link SubSingleStatistic} doesn't need to keep all of its points in memory.
+ * <p>
+ * Memory use is bounded by the queue capacity:
+ * if the background thread falls behind, {@link #write(StatisticPoint)} blocks until there is room again.
+ * If the background thread dies, {@link #write(StatisticPoint)} and {@link #close(boolean)} fail instead of blocking.
+ * The points are converted to CSV lines on the background thread, so they must not change after being written.
+ */
+public class StatisticPointCsvWriter {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 4096;
+
+    private static final Object END_OF_STREAM = new Object();
+    private static final Object FAILED_END_OF_STREAM = new Object();
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+
+    private final File csvFile;
+    private final BlockingQueue<Object> queue;
+    private final Thread writerThread;
+
+    private volatile Throwable writeFailure = null;
+    private volatile boolean writerThreadEnded = false;
+    private boolean closed = false;
+
+    public StatisticPointCsvWriter(File csvFile, String csvHeader) {
+        this(csvFile, csvHeader, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public StatisticPointCsvWriter(File csvFile, String csvHeader, int queueCapacity) {
+        this.csvFile = csvFile;
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Writer writer;
+        try {
+            writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(csvFile), "UTF-8"));
+            writer.append(csvHeader).append("\n");
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing csvFile (" + csvFile + ").", e);
+        }
+        writerThread = new Thread(() -> writeQueuedPoints(writer), "StatisticWriter-" + csvFile.getName());
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    private void writeQueuedPoints(Writer writer) {
+        try (Writer closingWriter = writer) {
+            while (true) {
+                Object element = queue.take();
+                if (element == END_OF_STREAM) {
+                    break;
+                } else if (element == FAILED_END_OF_STREAM) {
+                    if (writeFailure == null) {
+                        closingWriter.append("Failed\n");
+                    }
+                    break;
+                }
+                // After a failure, keep draining the queue so the solver thread never blocks forever
+                if (writeFailure == null) {
+                    try {
+                        closingWriter.append(((StatisticPoint) element).toCsvLine()).append("\n");
+                    } catch (IOException | RuntimeException e) {
+                        writeFailure = e;
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            if (writeFailure == null) {
+                writeFailure = e;
+            }
+        } catch (InterruptedException e) {
+            writeFailure = e;
+        } catch (Error e) {
+            writeFailure = e;
+            throw e;
+        } finally {
+            writerThreadEnded = true;
+        }
+    }
+
+    /**
+     * Called on the solver thread.
+     * @param point never null, must not change afterwards
+     */
+    public void write(StatisticPoint point) {
+        if (closed) {
+            throw new IllegalStateException("The csvFile (" + csvFile + ") writer is already closed.");
+        }
+        try {
+            offer(point);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing csvFile (" + csvFile + ").", e);
+        }
+    }
+
+    private void offer(Object element) throws InterruptedException {
+        // Don't put(): if the writer thread died, nothing takes from the queue anymore
+        do {
+            if (writerThreadEnded) {
+                throw new IllegalArgumentException("Failed writing csvFile (" + csvFile
+                        + ") because its writer thread (" + writerThread.getName() + ") ended.", writeFailure);
+            }
+        } while (!queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Waits until all written points are on disk.
+     * @param failed true if the sub single benchmark failed, which is recorded at the end of the CSV file
+     */
+    public void close(boolean failed) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!writerThreadEnded) {
+                offer(failed ? FAILED_END_OF_STREAM : END_OF_STREAM);
+            }
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while closing csvFile (" + csvFile + ").", e);
+        }
+        if (writeFailure != null) {
+            throw new IllegalArgumentException("Failed writing csvFile (" + csvFile + ").", writeFailure);
+        }
+    }
+
+}
@@ -62,6 +62,97 @@ public class StatisticUtils {
         return standardDeviationDoubles;
     }
 
+    /**
+     * Two-sided 95% quantiles of the Student's t-distribution, indexed by the degrees of freedom.
+     */
+    private static final double[] STUDENT_T_95_QUANTILES = {Double.NaN,
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042};
+
+    /**
+     * @param degreesOfFreedom at least 1
+     * @return the two-sided 95% quantile of the Student's t-distribution
+     */
+    public static double determineStudentT95Quantile(int degreesOfFreedom) {
+        if (degreesOfFreedom < 1) {
+            throw new IllegalArgumentException("The degreesOfFreedom (" + degreesOfFreedom
+                    + ") must be at least 1.");
+        }
+        if (degreesOfFreedom < STUDENT_T_95_QUANTILES.length) {
+            return STUDENT_T_95_QUANTILES[degreesOfFreedom];
+        }
+        // Approximation that converges to the normal quantile, off by less than 0.001 beyond 30
+        return 1.960 + 2.5 / degreesOfFreedom;
+    }
+
+    /**
+     * @param sampleDoublesList never null, not empty, every element has the same length
+     * @return the mean per level
+     */
+    public static double[] determineMeanDoubles(List<double[]> sampleDoublesList) {
+        int sampleCount = sampleDoublesList.size();
+        double[] meanDoubles = new double[sampleDoublesList.get(0).length];
+        for (double[] sampleDoubles : sampleDoublesList) {
+            for (int i = 0; i < meanDoubles.length; i++) {
+                meanDoubles[i] += sampleDoubles[i] / sampleCount;
+            }
+        }
+        return meanDoubles;
+    }
+
+    /**
+     * Calculates the half width of the 95% confidence interval of the mean, per level.
+     * @param sampleDoublesList never null, every element has the same length
+     * @return null if there are less than 2 samples
+     */
+    public static double[] determineConfidenceIntervalHalfWidthDoubles(List<double[]> sampleDoublesList) {
+        int sampleCount = sampleDoublesList.size();
+        if (sampleCount < 2) {
+            return null;
+        }
+        int levelCount = sampleDoublesList.get(0).length;
+        double[] meanDoubles = determineMeanDoubles(sampleDoublesList);
+        double[] differenceSquaredTotalDoubles = new double[levelCount];
+        for (double[] sampleDoubles : sampleDoublesList) {
+            for (int i = 0; i < levelCount; i++) {
+                double difference = sampleDoubles[i] - meanDoubles[i];
+                differenceSquaredTotalDoubles[i] += difference * difference;
+            }
+        }
+        double tQuantile = determineStudentT95Quantile(sampleCount - 1);
+        double[] halfWidthDoubles = new double[levelCount];
+        for (int i = 0; i < levelCount; i++) {
+            // Sample standard deviation, because the population mean is unknown
+            double standardDeviation = Math.sqrt(differenceSquaredTotalDoubles[i] / (sampleCount - 1));
+            halfWidthDoubles[i] = tQuantile * standardDeviation / Math.sqrt(sampleCount);
+        }
+        return halfWidthDoubles;
+    }
+
+    /**
+     * @param halfWidthDoubles never null
+     * @param meanDoubles never null, same length as halfWidthDoubles
+     * @param relativeThreshold at least 0.0
+     * @return true if every half width is at most the relativeThreshold of the absolute mean
+     */
+    public static boolean isConfidenceIntervalTight(double[] halfWidthDoubles, double[] meanDoubles,
+            double relativeThreshold) {
+        for (int i = 0; i < halfWidthDoubles.length; i++) {
+            if (halfWidthDoubles[i] > relativeThreshold * Math.abs(meanDoubles[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static String getConfidenceIntervalString(double[] halfWidthDoubles) {
+        if (halfWidthDoubles == null) {
+            return null;
+        }
+        return "\u00B1" + getStandardDeviationString(halfWidthDoubles);
+    }
+
     // TODO Do the locale formatting in benchmarkReport.html.ftl - https://issues.jboss.org/browse/PLANNER-169
     public static String getStandardDeviationString(double[] standardDeviationDoubles) {
         if (standardDeviationDoubles == null) {
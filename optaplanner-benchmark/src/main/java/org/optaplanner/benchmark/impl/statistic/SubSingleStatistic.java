@@ -58,6 +58,9 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
     @XStreamOmitField
     protected List<StatisticPoint_> pointList;
 
+    @XStreamOmitField
+    private StatisticPointCsvWriter pointWriter = null;
+
     protected SubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
         this.subSingleBenchmarkResult = subSingleBenchmarkResult;
     }
@@ -114,6 +117,46 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
         pointList = new ArrayList<>();
     }
 
+    /**
+     * Streams every point added during solving directly to the {@link #getCsvFile() CSV file},
+     * instead of keeping it in the {@link #getPointList() pointList}.
+     * @see #closePointWriter(boolean)
+     */
+    public void openPointWriter() {
+        if (pointWriter != null) {
+            throw new IllegalStateException("The pointWriter of the statistic (" + getStatisticType()
+                    + ") of the single benchmark (" + subSingleBenchmarkResult + ") is already open.");
+        }
+        pointList = null;
+        pointWriter = new StatisticPointCsvWriter(getCsvFile(), getCsvHeader());
+    }
+
+    /**
+     * @param failed true if the solver failed, which is recorded in the CSV file
+     */
+    public void closePointWriter(boolean failed) {
+        if (pointWriter == null) {
+            throw new IllegalStateException("The pointWriter of the statistic (" + getStatisticType()
+                    + ") of the single benchmark (" + subSingleBenchmarkResult + ") is not open.");
+        }
+        try {
+            pointWriter.close(failed);
+        } finally {
+            pointWriter = null;
+        }
+    }
+
+    /**
+     * @param point never null, must not change afterwards
+     */
+    protected void addPoint(StatisticPoint_ point) {
+        if (pointWriter != null) {
+            pointWriter.write(point);
+        } else {
+            pointList.add(point);
+        }
+    }
+
     protected abstract String getCsvHeader();
 
     private void writeCsvStatisticFile() {
@@ -131,7 +174,11 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
         }
     }
 
-    private void readCsvStatisticFile() {
+    /**
+     * @param maximumPointCount at least 2, if the CSV file has more points,
+     * only every n-th point is kept (with n a power of 2), along with the last point
+     */
+    private void readCsvStatisticFile(int maximumPointCount) {
         File csvFile = getCsvFile();
         ScoreDefinition scoreDefinition = subSingleBenchmarkResult.getSingleBenchmarkResult().getSolverBenchmarkResult()
                 .getScoreDefinition();
@@ -154,6 +201,9 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
                         + ") for statisticType (" + getStatisticType() + ").");
             }
             Map<String, String> stringDuplicationRemovalMap = new HashMap<>(1024);
+            long lineIndex = 0L;
+            long stride = 1L;
+            List<String> lastSkippedCsvLine = null;
             for (line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
                 if (line.equals("Failed")) {
                     if (subSingleBenchmarkResult.hasAnyFailure()) {
@@ -179,7 +229,26 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
                         it.set(originalToken);
                     }
                 }
-                pointList.add(createPointFromCsvLine(scoreDefinition, csvLine));
+                if (lineIndex % stride != 0L) {
+                    lastSkippedCsvLine = csvLine;
+                } else {
+                    lastSkippedCsvLine = null;
+                    pointList.add(createPointFromCsvLine(scoreDefinition, csvLine));
+                    if (pointList.size() > maximumPointCount) {
+                        // Downsample what has been read so far, so memory stays bounded for huge CSV files
+                        List<StatisticPoint_> downsampledPointList = new ArrayList<>(maximumPointCount);
+                        for (int i = 0; i < pointList.size(); i += 2) {
+                            downsampledPointList.add(pointList.get(i));
+                        }
+                        pointList = downsampledPointList;
+                        stride *= 2L;
+                    }
+                }
+                lineIndex++;
+            }
+            if (lastSkippedCsvLine != null) {
+                // Keep the last point so the graph still ends where the statistic ends
+                pointList.add(createPointFromCsvLine(scoreDefinition, lastSkippedCsvLine));
             }
         } catch (IOException e) {
             throw new IllegalArgumentException("Failed reading csvFile (" + csvFile + ").", e);
@@ -187,6 +256,17 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
     }
 
     public void unhibernatePointList() {
+        unhibernatePointList(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maximumPointCount at least 2, used to downsample huge CSV files, for example to draw a graph
+     */
+    public void unhibernatePointList(int maximumPointCount) {
+        if (maximumPointCount < 2) {
+            throw new IllegalArgumentException("The maximumPointCount (" + maximumPointCount
+                    + ") must be at least 2.");
+        }
         if (!getCsvFile().exists()) {
             throw new IllegalStateException("The csvFile (" + getCsvFile() + ") of the statistic (" + getStatisticType()
                     + ") of the single benchmark (" + subSingleBenchmarkResult + ") doesn't exist.");
@@ -195,7 +275,7 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
                     + ") of the single benchmark (" + subSingleBenchmarkResult + ") should be null when unhibernating.");
         }
         initPointList();
-        readCsvStatisticFile();
+        readCsvStatisticFile(maximumPointCount);
     }
 
     public void hibernatePointList() {
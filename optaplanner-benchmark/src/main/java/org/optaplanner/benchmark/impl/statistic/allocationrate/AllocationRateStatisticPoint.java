@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.allocationrate;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+
+public class AllocationRateStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final long allocatedBytesPerSecond;
+    private final long allocatedBytesPerMove;
+
+    public AllocationRateStatisticPoint(long timeMillisSpent, long allocatedBytesPerSecond,
+            long allocatedBytesPerMove) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.allocatedBytesPerSecond = allocatedBytesPerSecond;
+        this.allocatedBytesPerMove = allocatedBytesPerMove;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public long getAllocatedBytesPerSecond() {
+        return allocatedBytesPerSecond;
+    }
+
+    /**
+     * @return the allocated bytes per score calculation, which is 1 per evaluated move
+     */
+    public long getAllocatedBytesPerMove() {
+        return allocatedBytesPerMove;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithLongs(timeMillisSpent, allocatedBytesPerSecond, allocatedBytesPerMove);
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.allocationrate;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+
+/**
+ * Measures the bytes allocated by the solver thread and its move threads
+ * through {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long[])}.
+ * The move threads are those registered in {@link DefaultSolverScope#getMoveThreadIdSet()},
+ * so parallel benchmarks don't measure each other's move threads.
+ * The move threads are measured one last time when their phase ends, because they die right after.
+ * The allocated bytes per move are divided by {@link DefaultSolverScope#getScoreCalculationCount()},
+ * which includes the score calculations of the move threads that are still running.
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution} annotation
+ */
+public class AllocationRateSubSingleStatistic<Solution_>
+        extends ProblemBasedSubSingleStatistic<Solution_, AllocationRateStatisticPoint> {
+
+    private final long timeMillisThresholdInterval;
+
+    private final AllocationRateSubSingleStatisticListener listener;
+
+    public AllocationRateSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        this(subSingleBenchmarkResult, 1000L);
+    }
+
+    public AllocationRateSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            long timeMillisThresholdInterval) {
+        super(subSingleBenchmarkResult, ProblemStatisticType.ALLOCATION_RATE);
+        if (timeMillisThresholdInterval <= 0L) {
+            throw new IllegalArgumentException("The timeMillisThresholdInterval (" + timeMillisThresholdInterval
+                    + ") must be bigger than 0.");
+        }
+        this.timeMillisThresholdInterval = timeMillisThresholdInterval;
+        listener = new AllocationRateSubSingleStatisticListener();
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            logger.warn("The JVM does not support measuring the thread allocated memory,"
+                    + " so the allocation rate statistic of subSingleBenchmarkResult ({}) stays empty.",
+                    subSingleBenchmarkResult);
+            return;
+        }
+        com.sun.management.ThreadMXBean allocationThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!allocationThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+            allocationThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        listener.initThreadMXBean(allocationThreadMXBean);
+        ((DefaultSolver<Solution_>) solver).addPhaseLifecycleListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+    }
+
+    private class AllocationRateSubSingleStatisticListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private com.sun.management.ThreadMXBean threadMXBean;
+
+        private long solverThreadId;
+        private Map<Long, Long> lastAllocatedBytesMap;
+        private long unreportedAllocatedBytes;
+        private long nextTimeMillisThreshold;
+        private long lastTimeMillisSpent;
+        private long lastCalculationCount;
+
+        private void initThreadMXBean(com.sun.management.ThreadMXBean threadMXBean) {
+            this.threadMXBean = threadMXBean;
+        }
+
+        @Override
+        public void solvingStarted(DefaultSolverScope<Solution_> solverScope) {
+            solverThreadId = Thread.currentThread().getId();
+            lastAllocatedBytesMap = new HashMap<>();
+            lastAllocatedBytesMap.put(solverThreadId, threadMXBean.getThreadAllocatedBytes(solverThreadId));
+            unreportedAllocatedBytes = 0L;
+            nextTimeMillisThreshold = timeMillisThresholdInterval;
+            lastTimeMillisSpent = 0L;
+            lastCalculationCount = 0L;
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                long allocatedBytesInterval = unreportedAllocatedBytes + measureAllocatedBytesInterval(
+                        stepScope.getPhaseScope().getSolverScope().getMoveThreadIdSet());
+                unreportedAllocatedBytes = 0L;
+                long calculationCount = stepScope.getPhaseScope().getSolverScope().getScoreCalculationCount();
+                long calculationCountInterval = calculationCount - lastCalculationCount;
+                long timeMillisSpentInterval = timeMillisSpent - lastTimeMillisSpent;
+                if (timeMillisSpentInterval == 0L) {
+                    // Avoid divide by zero exception on a fast CPU
+                    timeMillisSpentInterval = 1L;
+                }
+                long allocatedBytesPerSecond = allocatedBytesInterval * 1000L / timeMillisSpentInterval;
+                long allocatedBytesPerMove = calculationCountInterval == 0L ? 0L
+                        : allocatedBytesInterval / calculationCountInterval;
+                addPoint(new AllocationRateStatisticPoint(timeMillisSpent,
+                        allocatedBytesPerSecond, allocatedBytesPerMove));
+                lastCalculationCount = calculationCount;
+
+                lastTimeMillisSpent = timeMillisSpent;
+                nextTimeMillisThreshold += timeMillisThresholdInterval;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        }
+
+        @Override
+        public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+            Set<Long> moveThreadIdSet = phaseScope.getSolverScope().getMoveThreadIdSet();
+            if (!moveThreadIdSet.isEmpty()) {
+                // The decider destroys the move threads after this event, so their allocations can't be measured later
+                unreportedAllocatedBytes += measureAllocatedBytesInterval(moveThreadIdSet);
+            }
+        }
+
+        private long measureAllocatedBytesInterval(Set<Long> moveThreadIdSet) {
+            long[] threadIds = findMeasuredThreadIds(moveThreadIdSet);
+            long[] allocatedBytesArray = threadMXBean.getThreadAllocatedBytes(threadIds);
+            long allocatedBytesInterval = 0L;
+            Map<Long, Long> allocatedBytesMap = new HashMap<>(threadIds.length);
+            for (int i = 0; i < threadIds.length; i++) {
+                long allocatedBytes = allocatedBytesArray[i];
+                if (allocatedBytes < 0L) {
+                    // The thread died in the meantime
+                    continue;
+                }
+                // A new move thread has allocated nothing before it was created
+                Long lastAllocatedBytes = lastAllocatedBytesMap.get(threadIds[i]);
+                allocatedBytesInterval += allocatedBytes - (lastAllocatedBytes == null ? 0L : lastAllocatedBytes);
+                allocatedBytesMap.put(threadIds[i], allocatedBytes);
+            }
+            lastAllocatedBytesMap = allocatedBytesMap;
+            return allocatedBytesInterval;
+        }
+
+        private long[] findMeasuredThreadIds(Set<Long> moveThreadIdSet) {
+            Long[] moveThreadIds = moveThreadIdSet.toArray(new Long[0]);
+            long[] threadIds = new long[moveThreadIds.length + 1];
+            threadIds[0] = solverThreadId;
+            for (int i = 0; i < moveThreadIds.length; i++) {
+                threadIds[i + 1] = moveThreadIds[i];
+            }
+            return threadIds;
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return AllocationRateStatisticPoint.buildCsvLine("timeMillisSpent", "allocatedBytesPerSecond",
+                "allocatedBytesPerMove");
+    }
+
+    @Override
+    protected AllocationRateStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new AllocationRateStatisticPoint(Long.parseLong(csvLine.get(0)),
+                Long.parseLong(csvLine.get(1)), Long.parseLong(csvLine.get(2)));
+    }
+
+}
@@ -130,7 +130,7 @@ public class BestScoreProblemStatistic extends ProblemStatistic {
             JFreeChart chart = new JFreeChart(
                     problemBenchmarkResult.getName() + " best " + scoreLevelLabel + " statistic",
                     JFreeChart.DEFAULT_TITLE_FONT, plotList.get(scoreLevelIndex), true);
-            graphFileList.add(writeChartToImageFile(chart,
+            graphFileList.add(writeChartToImageFile(benchmarkReport, chart,
                     problemBenchmarkResult.getName() + "BestScoreStatisticLevel" + scoreLevelIndex));
         }
     }
@@ -54,7 +54,7 @@ public class BestScoreSubSingleStatistic<Solution_>
 
         @Override
         public void bestSolutionChanged(BestSolutionChangedEvent<Solution_> event) {
-            pointList.add(new BestScoreStatisticPoint(event.getTimeMillisSpent(), event.getNewBestScore()));
+            addPoint(new BestScoreStatisticPoint(event.getTimeMillisSpent(), event.getNewBestScore()));
         }
 
     }
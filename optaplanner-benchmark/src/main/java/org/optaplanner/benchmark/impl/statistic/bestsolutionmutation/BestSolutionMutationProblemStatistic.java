@@ -100,7 +100,7 @@ public class BestSolutionMutationProblemStatistic extends ProblemStatistic {
         }
         JFreeChart chart = new JFreeChart(problemBenchmarkResult.getName() + " best solution mutation statistic",
                 JFreeChart.DEFAULT_TITLE_FONT, plot, true);
-        graphFile = writeChartToImageFile(chart, problemBenchmarkResult.getName() + "BestSolutionMutationStatistic");
+        graphFile = writeChartToImageFile(benchmarkReport, chart, problemBenchmarkResult.getName() + "BestSolutionMutationStatistic");
     }
 
     private XYPlot createPlot(BenchmarkReport benchmarkReport) {
@@ -80,7 +80,7 @@ public class BestSolutionMutationSubSingleStatistic<Solution_>
             } else {
                 mutationCount = mutationCounter.countMutations(oldBestSolution, newBestSolution);
             }
-            pointList.add(new BestSolutionMutationStatisticPoint(
+            addPoint(new BestSolutionMutationStatisticPoint(
                     event.getTimeMillisSpent(), mutationCount));
             oldBestSolution = newBestSolution;
         }
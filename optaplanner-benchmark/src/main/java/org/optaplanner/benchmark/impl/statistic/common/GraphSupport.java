@@ -21,19 +21,103 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import javax.imageio.ImageIO;
 
 import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.report.ChartFormat;
 
 public class GraphSupport {
 
-    public static void writeChartToImageFile(JFreeChart chart, File chartFile) {
-        BufferedImage chartImage = chart.createBufferedImage(1024, 768);
+    public static final int CHART_WIDTH = 1024;
+    public static final int CHART_HEIGHT = 768;
+
+    /**
+     * Series with more points than this are downsampled before rendering,
+     * because there are no more pixels to draw them anyway.
+     */
+    public static final int DOWNSAMPLING_THRESHOLD = CHART_WIDTH;
+
+    /**
+     * @param chart never null
+     * @param directory never null
+     * @param fileNameBase never null, the file name without extension
+     * @param chartFormat never null, charts that it doesn't support are written as {@link ChartFormat#PNG}
+     * @param locale never null
+     * @return never null, the written file
+     */
+    public static File writeChartToImageFile(JFreeChart chart, File directory, String fileNameBase,
+            ChartFormat chartFormat, Locale locale) {
+        downsampleSeries(chart);
+        if (chartFormat != ChartFormat.PNG && SvgChartWriter.isSupported(chart)) {
+            File chartFile = new File(directory, fileNameBase + "." + chartFormat.getFileExtension());
+            String chartContent;
+            switch (chartFormat) {
+                case SVG:
+                    chartContent = SvgChartWriter.writeSvg(chart, CHART_WIDTH, CHART_HEIGHT, locale);
+                    break;
+                case HTML:
+                    chartContent = SvgChartWriter.writeHtml(chart, CHART_WIDTH, CHART_HEIGHT, locale);
+                    break;
+                default:
+                    throw new IllegalStateException("The chartFormat (" + chartFormat + ") is not implemented.");
+            }
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(chartFile), "UTF-8")) {
+                writer.write(chartContent);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Failed writing chartFile (" + chartFile + ").", e);
+            }
+            return chartFile;
+        }
+        File chartFile = new File(directory, fileNameBase + "." + ChartFormat.PNG.getFileExtension());
+        BufferedImage chartImage = chart.createBufferedImage(CHART_WIDTH, CHART_HEIGHT);
         try (OutputStream out = new FileOutputStream(chartFile)) {
             ImageIO.write(chartImage, "png", out);
         } catch (IOException e) {
             throw new IllegalArgumentException("Failed writing chartFile (" + chartFile + ").", e);
         }
+        return chartFile;
+    }
+
+    private static void downsampleSeries(JFreeChart chart) {
+        if (!(chart.getPlot() instanceof XYPlot)) {
+            return;
+        }
+        XYPlot plot = (XYPlot) chart.getPlot();
+        for (int i = 0; i < plot.getDatasetCount(); i++) {
+            XYDataset dataset = plot.getDataset(i);
+            if (!(dataset instanceof XYSeriesCollection)) {
+                continue;
+            }
+            XYSeriesCollection seriesCollection = (XYSeriesCollection) dataset;
+            boolean downsamplingNeeded = false;
+            for (int j = 0; j < seriesCollection.getSeriesCount(); j++) {
+                if (seriesCollection.getSeries(j).getItemCount() > DOWNSAMPLING_THRESHOLD) {
+                    downsamplingNeeded = true;
+                    break;
+                }
+            }
+            if (downsamplingNeeded) {
+                List<XYSeries> seriesList = new ArrayList<>(seriesCollection.getSeriesCount());
+                for (int j = 0; j < seriesCollection.getSeriesCount(); j++) {
+                    seriesList.add(LargestTriangleThreeBuckets.downsample(
+                            seriesCollection.getSeries(j), DOWNSAMPLING_THRESHOLD));
+                }
+                // Replacing the series in the same order keeps their paint
+                seriesCollection.removeAllSeries();
+                for (XYSeries series : seriesList) {
+                    seriesCollection.addSeries(series);
+                }
+            }
+        }
     }
 
     private GraphSupport() {}
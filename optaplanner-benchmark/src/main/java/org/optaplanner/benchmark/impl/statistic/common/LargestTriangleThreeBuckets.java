@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.common;
+
+import org.jfree.data.xy.XYSeries;
+
+/**
+ * Downsamples a line series with the Largest-Triangle-Three-Buckets algorithm,
+ * which keeps the visual shape of the line (peaks and drops included),
+ * unlike keeping every n-th point.
+ * <p>
+ * The first and the last point are always kept.
+ * The other points are divided over buckets and each bucket keeps the point
+ * that forms the largest triangle with the previously kept point and the average point of the next bucket.
+ */
+public class LargestTriangleThreeBuckets {
+
+    /**
+     * @param series never null
+     * @param threshold at least 3, the maximum number of points in the result
+     * @return never null, the series itself if it has no more than threshold points or if it has a null y value
+     */
+    public static XYSeries downsample(XYSeries series, int threshold) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException("The threshold (" + threshold + ") must be at least 3.");
+        }
+        int itemCount = series.getItemCount();
+        if (itemCount <= threshold) {
+            return series;
+        }
+        double[] xs = new double[itemCount];
+        double[] ys = new double[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            Number y = series.getY(i);
+            if (y == null) {
+                return series;
+            }
+            xs[i] = series.getX(i).doubleValue();
+            ys[i] = y.doubleValue();
+        }
+        XYSeries downsampledSeries = new XYSeries(series.getKey(), series.getAutoSort(),
+                series.getAllowDuplicateXValues());
+        downsampledSeries.setDescription(series.getDescription());
+        downsampledSeries.add(series.getX(0), series.getY(0), false);
+        // The first and the last point are not in a bucket
+        double bucketSize = (double) (itemCount - 2) / (threshold - 2);
+        int previousIndex = 0;
+        for (int bucketIndex = 0; bucketIndex < threshold - 2; bucketIndex++) {
+            int bucketStart = (int) (bucketIndex * bucketSize) + 1;
+            int bucketEnd = Math.min((int) ((bucketIndex + 1) * bucketSize) + 1, itemCount - 1);
+            int nextBucketStart = bucketEnd;
+            int nextBucketEnd = Math.min((int) ((bucketIndex + 2) * bucketSize) + 1, itemCount);
+            double nextAverageX;
+            double nextAverageY;
+            if (nextBucketEnd <= nextBucketStart) {
+                nextAverageX = xs[itemCount - 1];
+                nextAverageY = ys[itemCount - 1];
+            } else {
+                nextAverageX = 0.0;
+                nextAverageY = 0.0;
+                for (int i = nextBucketStart; i < nextBucketEnd; i++) {
+                    nextAverageX += xs[i];
+                    nextAverageY += ys[i];
+                }
+                int nextBucketLength = nextBucketEnd - nextBucketStart;
+                nextAverageX /= nextBucketLength;
+                nextAverageY /= nextBucketLength;
+            }
+            double previousX = xs[previousIndex];
+            double previousY = ys[previousIndex];
+            double maximumArea = -1.0;
+            int selectedIndex = bucketStart;
+            for (int i = bucketStart; i < bucketEnd; i++) {
+                // Twice the triangle area, which doesn't matter for the comparison
+                double area = Math.abs((previousX - nextAverageX) * (ys[i] - previousY)
+                        - (previousX - xs[i]) * (nextAverageY - previousY));
+                if (area > maximumArea) {
+                    maximumArea = area;
+                    selectedIndex = i;
+                }
+            }
+            if (selectedIndex > previousIndex) {
+                downsampledSeries.add(series.getX(selectedIndex), series.getY(selectedIndex), false);
+                previousIndex = selectedIndex;
+            }
+        }
+        downsampledSeries.add(series.getX(itemCount - 1), series.getY(itemCount - 1), false);
+        return downsampledSeries;
+    }
+
+    private LargestTriangleThreeBuckets() {}
+
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.common;
+
+import java.awt.Color;
+import java.awt.Paint;
+import java.awt.geom.Rectangle2D;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.LogarithmicAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYStepRenderer;
+import org.jfree.data.Range;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.ui.RectangleEdge;
+
+/**
+ * Writes a line or scatter {@link JFreeChart} (an {@link XYPlot} of {@link XYSeriesCollection}s)
+ * as SVG or as an interactive HTML page, from the same (downsampled) data that is rendered in a PNG.
+ * <p>
+ * Other charts are not supported: use {@link #isSupported(JFreeChart)} first.
+ */
+public class SvgChartWriter {
+
+    private static final int MARGIN_LEFT = 100;
+    private static final int MARGIN_RIGHT = 30;
+    private static final int MARGIN_TOP = 50;
+    private static final int MARGIN_BOTTOM = 60;
+    private static final int LEGEND_ROW_HEIGHT = 20;
+    private static final int MAXIMUM_TICK_COUNT = 10;
+    private static final Color DEFAULT_SERIES_COLOR = Color.BLUE;
+
+    public static boolean isSupported(JFreeChart chart) {
+        if (!(chart.getPlot() instanceof XYPlot)) {
+            return false;
+        }
+        XYPlot plot = (XYPlot) chart.getPlot();
+        if (plot.getOrientation() != PlotOrientation.VERTICAL) {
+            return false;
+        }
+        for (int i = 0; i < plot.getDatasetCount(); i++) {
+            XYDataset dataset = plot.getDataset(i);
+            if (dataset != null && !(dataset instanceof XYSeriesCollection)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static String writeSvg(JFreeChart chart, int width, int height, Locale locale) {
+        StringBuilder out = new StringBuilder(64 * 1024);
+        appendSvg(out, chart, width, height, locale, false);
+        return out.toString();
+    }
+
+    public static String writeHtml(JFreeChart chart, int width, int height, Locale locale) {
+        String title = chart.getTitle() == null ? "" : chart.getTitle().getText();
+        StringBuilder out = new StringBuilder(64 * 1024);
+        out.append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\"/>\n<title>")
+                .append(escape(title)).append("</title>\n")
+                .append("<style>\n")
+                .append("body {margin: 0; font-family: sans-serif;}\n")
+                .append(".point {opacity: 0;}\n")
+                .append(".point:hover {opacity: 1;}\n")
+                .append(".legend-item {cursor: pointer;}\n")
+                .append(".legend-item.hidden {opacity: 0.3;}\n")
+                .append("</style>\n</head>\n<body>\n");
+        appendSvg(out, chart, width, height, locale, true);
+        out.append("<script>\n")
+                .append("document.querySelectorAll('.legend-item').forEach(function(item) {\n")
+                .append("  item.addEventListener('click', function() {\n")
+                .append("    var series = document.getElementById(item.getAttribute('data-series'));\n")
+                .append("    var hidden = series.style.display === 'none';\n")
+                .append("    series.style.display = hidden ? '' : 'none';\n")
+                .append("    item.classList.toggle('hidden', !hidden);\n")
+                .append("  });\n")
+                .append("});\n")
+                .append("</script>\n</body>\n</html>\n");
+        return out.toString();
+    }
+
+    private static void appendSvg(StringBuilder out, JFreeChart chart, int width, int height, Locale locale,
+            boolean interactive) {
+        XYPlot plot = (XYPlot) chart.getPlot();
+        List<SeriesEntry> seriesEntryList = new ArrayList<>();
+        for (int i = 0; i < plot.getDatasetCount(); i++) {
+            XYSeriesCollection dataset = (XYSeriesCollection) plot.getDataset(i);
+            if (dataset == null) {
+                continue;
+            }
+            XYItemRenderer renderer = plot.getRendererForDataset(dataset);
+            for (int j = 0; j < dataset.getSeriesCount(); j++) {
+                seriesEntryList.add(new SeriesEntry(dataset.getSeries(j), renderer, j,
+                        plot.getDomainAxisForDataset(i), plot.getRangeAxisForDataset(i)));
+            }
+        }
+        int legendRowCount = chart.getLegend() == null ? 0
+                : countLegendRows(seriesEntryList, width - MARGIN_LEFT - MARGIN_RIGHT);
+        Rectangle2D dataArea = new Rectangle2D.Double(MARGIN_LEFT, MARGIN_TOP,
+                width - MARGIN_LEFT - MARGIN_RIGHT,
+                height - MARGIN_TOP - MARGIN_BOTTOM - legendRowCount * LEGEND_ROW_HEIGHT);
+        out.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(width)
+                .append("\" height=\"").append(height).append("\" viewBox=\"0 0 ").append(width).append(" ")
+                .append(height).append("\" font-family=\"sans-serif\" font-size=\"12\">\n");
+        out.append("<rect width=\"100%\" height=\"100%\" fill=\"white\"/>\n");
+        if (chart.getTitle() != null) {
+            out.append("<text x=\"").append(width / 2).append("\" y=\"30\" text-anchor=\"middle\""
+                    + " font-size=\"18\" font-weight=\"bold\">")
+                    .append(escape(chart.getTitle().getText())).append("</text>\n");
+        }
+        out.append("<rect x=\"").append(fmt(dataArea.getX())).append("\" y=\"").append(fmt(dataArea.getY()))
+                .append("\" width=\"").append(fmt(dataArea.getWidth())).append("\" height=\"")
+                .append(fmt(dataArea.getHeight())).append("\" fill=\"#eeeeee\" stroke=\"#999999\"/>\n");
+        appendDomainAxis(out, plot.getDomainAxis(), dataArea, locale);
+        appendRangeAxis(out, plot.getRangeAxis(), dataArea, locale);
+        out.append("<clipPath id=\"dataArea\"><rect x=\"").append(fmt(dataArea.getX()))
+                .append("\" y=\"").append(fmt(dataArea.getY())).append("\" width=\"")
+                .append(fmt(dataArea.getWidth())).append("\" height=\"").append(fmt(dataArea.getHeight()))
+                .append("\"/></clipPath>\n");
+        int seriesIndex = 0;
+        for (SeriesEntry seriesEntry : seriesEntryList) {
+            appendSeries(out, seriesEntry, "series-" + seriesIndex, dataArea, locale, interactive);
+            seriesIndex++;
+        }
+        if (legendRowCount > 0) {
+            appendLegend(out, seriesEntryList, dataArea, width, interactive);
+        }
+        out.append("</svg>\n");
+    }
+
+    private static void appendDomainAxis(StringBuilder out, ValueAxis axis, Rectangle2D dataArea, Locale locale) {
+        NumberFormat format = determineNumberFormat(axis, locale);
+        double bottom = dataArea.getMaxY();
+        for (double tick : computeTicks(axis)) {
+            double x = axis.valueToJava2D(tick, dataArea, RectangleEdge.BOTTOM);
+            out.append("<line x1=\"").append(fmt(x)).append("\" y1=\"").append(fmt(dataArea.getY()))
+                    .append("\" x2=\"").append(fmt(x)).append("\" y2=\"").append(fmt(bottom))
+                    .append("\" stroke=\"white\"/>\n");
+            out.append("<text x=\"").append(fmt(x)).append("\" y=\"").append(fmt(bottom + 16))
+                    .append("\" text-anchor=\"middle\">").append(escape(format.format(tick))).append("</text>\n");
+        }
+        if (axis.getLabel() != null) {
+            out.append("<text x=\"").append(fmt(dataArea.getCenterX())).append("\" y=\"").append(fmt(bottom + 40))
+                    .append("\" text-anchor=\"middle\">").append(escape(axis.getLabel())).append("</text>\n");
+        }
+    }
+
+    private static void appendRangeAxis(StringBuilder out, ValueAxis axis, Rectangle2D dataArea, Locale locale) {
+        NumberFormat format = determineNumberFormat(axis, locale);
+        double left = dataArea.getX();
+        for (double tick : computeTicks(axis)) {
+            double y = axis.valueToJava2D(tick, dataArea, RectangleEdge.LEFT);
+            out.append("<line x1=\"").append(fmt(left)).append("\" y1=\"").append(fmt(y))
+                    .append("\" x2=\"").append(fmt(dataArea.getMaxX())).append("\" y2=\"").append(fmt(y))
+                    .append("\" stroke=\"white\"/>\n");
+            out.append("<text x=\"").append(fmt(left - 6)).append("\" y=\"").append(fmt(y + 4))
+                    .append("\" text-anchor=\"end\">").append(escape(format.format(tick))).append("</text>\n");
+        }
+        if (axis.getLabel() != null) {
+            double x = 16;
+            out.append("<text x=\"").append(fmt(x)).append("\" y=\"").append(fmt(dataArea.getCenterY()))
+                    .append("\" text-anchor=\"middle\" transform=\"rotate(-90 ").append(fmt(x)).append(" ")
+                    .append(fmt(dataArea.getCenterY())).append(")\">").append(escape(axis.getLabel()))
+                    .append("</text>\n");
+        }
+    }
+
+    private static void appendSeries(StringBuilder out, SeriesEntry seriesEntry, String id, Rectangle2D dataArea,
+            Locale locale, boolean interactive) {
+        XYSeries series = seriesEntry.series;
+        String color = toHex(seriesEntry.determinePaint());
+        boolean stepLine = seriesEntry.renderer instanceof XYStepRenderer;
+        boolean linesVisible = true;
+        boolean shapesVisible = false;
+        if (seriesEntry.renderer instanceof XYLineAndShapeRenderer) {
+            XYLineAndShapeRenderer lineAndShapeRenderer = (XYLineAndShapeRenderer) seriesEntry.renderer;
+            linesVisible = lineAndShapeRenderer.getItemLineVisible(seriesEntry.seriesIndex, 0);
+            shapesVisible = lineAndShapeRenderer.getItemShapeVisible(seriesEntry.seriesIndex, 0);
+        }
+        NumberFormat domainFormat = determineNumberFormat(seriesEntry.domainAxis, locale);
+        NumberFormat rangeFormat = determineNumberFormat(seriesEntry.rangeAxis, locale);
+        out.append("<g id=\"").append(id).append("\" clip-path=\"url(#dataArea)\">\n");
+        int itemCount = series.getItemCount();
+        double[] xs = new double[itemCount];
+        double[] ys = new double[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            Number y = series.getY(i);
+            xs[i] = seriesEntry.domainAxis.valueToJava2D(series.getX(i).doubleValue(), dataArea, RectangleEdge.BOTTOM);
+            ys[i] = y == null ? Double.NaN
+                    : seriesEntry.rangeAxis.valueToJava2D(y.doubleValue(), dataArea, RectangleEdge.LEFT);
+        }
+        if (linesVisible && itemCount > 1) {
+            out.append("<path fill=\"none\" stroke=\"").append(color).append("\" stroke-width=\"1.5\" d=\"");
+            boolean penDown = false;
+            for (int i = 0; i < itemCount; i++) {
+                if (Double.isNaN(ys[i])) {
+                    penDown = false;
+                    continue;
+                }
+                if (!penDown) {
+                    out.append("M").append(fmt(xs[i])).append(",").append(fmt(ys[i])).append(" ");
+                    penDown = true;
+                } else {
+                    if (stepLine) {
+                        out.append("H").append(fmt(xs[i])).append(" ");
+                    }
+                    out.append("L").append(fmt(xs[i])).append(",").append(fmt(ys[i])).append(" ");
+                }
+            }
+            out.append("\"/>\n");
+        }
+        if (shapesVisible || interactive) {
+            for (int i = 0; i < itemCount; i++) {
+                if (Double.isNaN(ys[i])) {
+                    continue;
+                }
+                out.append("<circle");
+                if (!shapesVisible) {
+                    out.append(" class=\"point\"");
+                }
+                out.append(" cx=\"").append(fmt(xs[i])).append("\" cy=\"").append(fmt(ys[i]))
+                        .append("\" r=\"3\" fill=\"").append(color).append("\">");
+                if (interactive) {
+                    out.append("<title>").append(escape(series.getKey().toString())).append(": ")
+                            .append(escape(domainFormat.format(series.getX(i).doubleValue()))).append(", ")
+                            .append(escape(rangeFormat.format(series.getY(i).doubleValue()))).append("</title>");
+                }
+                out.append("</circle>\n");
+            }
+        }
+        out.append("</g>\n");
+    }
+
+    private static int countLegendRows(List<SeriesEntry> seriesEntryList, int availableWidth) {
+        if (seriesEntryList.isEmpty()) {
+            return 0;
+        }
+        int rowCount = 1;
+        int rowWidth = 0;
+        for (SeriesEntry seriesEntry : seriesEntryList) {
+            int itemWidth = seriesEntry.estimateLegendItemWidth();
+            if (rowWidth > 0 && rowWidth + itemWidth > availableWidth) {
+                rowCount++;
+                rowWidth = 0;
+            }
+            rowWidth += itemWidth;
+        }
+        return rowCount;
+    }
+
+    private static void appendLegend(StringBuilder out, List<SeriesEntry> seriesEntryList, Rectangle2D dataArea,
+            int width, boolean interactive) {
+        double rowY = dataArea.getMaxY() + MARGIN_BOTTOM;
+        double x = MARGIN_LEFT;
+        int seriesIndex = 0;
+        for (SeriesEntry seriesEntry : seriesEntryList) {
+            int itemWidth = seriesEntry.estimateLegendItemWidth();
+            if (x > MARGIN_LEFT && x + itemWidth > width - MARGIN_RIGHT) {
+                rowY += LEGEND_ROW_HEIGHT;
+                x = MARGIN_LEFT;
+            }
+            out.append("<g class=\"legend-item\"");
+            if (interactive) {
+                out.append(" data-series=\"series-").append(seriesIndex).append("\"");
+            }
+            out.append(">");
+            out.append("<rect x=\"").append(fmt(x)).append("\" y=\"").append(fmt(rowY - 10))
+                    .append("\" width=\"12\" height=\"12\" fill=\"").append(toHex(seriesEntry.determinePaint()))
+                    .append("\"/>");
+            out.append("<text x=\"").append(fmt(x + 16)).append("\" y=\"").append(fmt(rowY)).append("\">")
+                    .append(escape(seriesEntry.series.getKey().toString())).append("</text>");
+            out.append("</g>\n");
+            x += itemWidth;
+            seriesIndex++;
+        }
+    }
+
+    private static double[] computeTicks(ValueAxis axis) {
+        Range range = axis.getRange();
+        double lower = range.getLowerBound();
+        double upper = range.getUpperBound();
+        if (axis instanceof LogarithmicAxis && lower > 0.0) {
+            List<Double> tickList = new ArrayList<>();
+            for (double tick = Math.pow(10.0, Math.ceil(Math.log10(lower))); tick <= upper; tick *= 10.0) {
+                tickList.add(tick);
+            }
+            return tickList.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+        double length = upper - lower;
+        if (length <= 0.0 || Double.isNaN(length) || Double.isInfinite(length)) {
+            return new double[]{lower};
+        }
+        double rawStep = length / MAXIMUM_TICK_COUNT;
+        double magnitude = Math.pow(10.0, Math.floor(Math.log10(rawStep)));
+        double residual = rawStep / magnitude;
+        double step;
+        if (residual > 5.0) {
+            step = 10.0 * magnitude;
+        } else if (residual > 2.0) {
+            step = 5.0 * magnitude;
+        } else if (residual > 1.0) {
+            step = 2.0 * magnitude;
+        } else {
+            step = magnitude;
+        }
+        long firstTickIndex = (long) Math.ceil(lower / step);
+        long lastTickIndex = (long) Math.floor(upper / step);
+        double[] ticks = new double[(int) (lastTickIndex - firstTickIndex + 1L)];
+        for (int i = 0; i < ticks.length; i++) {
+            ticks[i] = (firstTickIndex + i) * step;
+        }
+        return ticks;
+    }
+
+    private static NumberFormat determineNumberFormat(ValueAxis axis, Locale locale) {
+        if (axis instanceof NumberAxis) {
+            NumberFormat numberFormatOverride = ((NumberAxis) axis).getNumberFormatOverride();
+            if (numberFormatOverride != null) {
+                return numberFormatOverride;
+            }
+        }
+        return NumberFormat.getInstance(locale);
+    }
+
+    private static String toHex(Paint paint) {
+        Color color = paint instanceof Color ? (Color) paint : DEFAULT_SERIES_COLOR;
+        return String.format("#%02x%02x%02x", color.getRed(), color.getGreen(), color.getBlue());
+    }
+
+    private static String fmt(double value) {
+        // Locale independent, because SVG coordinates always use a dot as decimal separator
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<':
+                    escaped.append("&lt;");
+                    break;
+                case '>':
+                    escaped.append("&gt;");
+                    break;
+                case '&':
+                    escaped.append("&amp;");
+                    break;
+                case '"':
+                    escaped.append("&quot;");
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static class SeriesEntry {
+
+        private final XYSeries series;
+        private final XYItemRenderer renderer;
+        private final int seriesIndex;
+        private final ValueAxis domainAxis;
+        private final ValueAxis rangeAxis;
+
+        public SeriesEntry(XYSeries series, XYItemRenderer renderer, int seriesIndex,
+                ValueAxis domainAxis, ValueAxis rangeAxis) {
+            this.series = series;
+            this.renderer = renderer;
+            this.seriesIndex = seriesIndex;
+            this.domainAxis = domainAxis;
+            this.rangeAxis = rangeAxis;
+        }
+
+        public Paint determinePaint() {
+            return renderer == null ? DEFAULT_SERIES_COLOR : renderer.getItemPaint(seriesIndex, 0);
+        }
+
+        public int estimateLegendItemWidth() {
+            return 16 + 7 * series.getKey().toString().length() + 20;
+        }
+
+    }
+
+    private SvgChartWriter() {}
+
+}
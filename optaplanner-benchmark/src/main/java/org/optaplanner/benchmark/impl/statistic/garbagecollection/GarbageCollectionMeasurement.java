@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.garbagecollection;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * The accumulated garbage collection count and time of all collectors of the JVM.
+ */
+public class GarbageCollectionMeasurement {
+
+    public static GarbageCollectionMeasurement create() {
+        long collectionCount = 0L;
+        long collectionTimeMillis = 0L;
+        for (GarbageCollectorMXBean garbageCollectorMXBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // A collector returns -1 if it doesn't support the measurement
+            collectionCount += Math.max(garbageCollectorMXBean.getCollectionCount(), 0L);
+            collectionTimeMillis += Math.max(garbageCollectorMXBean.getCollectionTime(), 0L);
+        }
+        return new GarbageCollectionMeasurement(collectionCount, collectionTimeMillis);
+    }
+
+    private final long collectionCount;
+    private final long collectionTimeMillis;
+
+    public GarbageCollectionMeasurement(long collectionCount, long collectionTimeMillis) {
+        this.collectionCount = collectionCount;
+        this.collectionTimeMillis = collectionTimeMillis;
+    }
+
+    public long getCollectionCount() {
+        return collectionCount;
+    }
+
+    public long getCollectionTimeMillis() {
+        return collectionTimeMillis;
+    }
+
+    public GarbageCollectionMeasurement subtract(GarbageCollectionMeasurement earlierMeasurement) {
+        return new GarbageCollectionMeasurement(collectionCount - earlierMeasurement.collectionCount,
+                collectionTimeMillis - earlierMeasurement.collectionTimeMillis);
+    }
+
+}
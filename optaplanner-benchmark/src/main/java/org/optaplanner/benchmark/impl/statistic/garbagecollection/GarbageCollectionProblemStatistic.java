@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.garbagecollection;
+
+import java.awt.BasicStroke;
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+
+@XStreamAlias("garbageCollectionProblemStatistic")
+public class GarbageCollectionProblemStatistic extends ProblemStatistic {
+
+    protected File collectionTimeGraphFile = null;
+    protected File collectionCountGraphFile = null;
+
+    public GarbageCollectionProblemStatistic(ProblemBenchmarkResult problemBenchmarkResult) {
+        super(problemBenchmarkResult, ProblemStatisticType.GARBAGE_COLLECTION);
+    }
+
+    @Override
+    public SubSingleStatistic createSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        return new GarbageCollectionSubSingleStatistic(subSingleBenchmarkResult);
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return Arrays.asList(collectionTimeGraphFile, collectionCountGraphFile);
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        collectionTimeGraphFile = writeGraphFile(benchmarkReport,
+                "Garbage collection pause time (ms)", point -> point.getIntervalMeasurement().getCollectionTimeMillis(),
+                " garbage collection pause time statistic", "GarbageCollectionTimeStatistic");
+        collectionCountGraphFile = writeGraphFile(benchmarkReport,
+                "Garbage collection count", point -> point.getIntervalMeasurement().getCollectionCount(),
+                " garbage collection count statistic", "GarbageCollectionCountStatistic");
+    }
+
+    protected File writeGraphFile(BenchmarkReport benchmarkReport, String yAxisLabel,
+            ToLongFunction<GarbageCollectionStatisticPoint> valueFunction, String titleSuffix, String fileNameSuffix) {
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis(yAxisLabel);
+        yAxis.setNumberFormatOverride(NumberFormat.getInstance(locale));
+        XYPlot plot = new XYPlot(null, xAxis, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        int seriesIndex = 0;
+        for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            XYSeries series = new XYSeries(singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix());
+            XYItemRenderer renderer = new XYLineAndShapeRenderer();
+            if (singleBenchmarkResult.hasAllSuccess()) {
+                GarbageCollectionSubSingleStatistic subSingleStatistic = (GarbageCollectionSubSingleStatistic)
+                        singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                List<GarbageCollectionStatisticPoint> points = subSingleStatistic.getPointList();
+                for (GarbageCollectionStatisticPoint point : points) {
+                    series.add(point.getTimeMillisSpent(), valueFunction.applyAsLong(point));
+                }
+            }
+            plot.setDataset(seriesIndex, new XYSeriesCollection(series));
+
+            if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
+                // Make the favorite more obvious
+                renderer.setSeriesStroke(0, new BasicStroke(2.0f));
+            }
+            plot.setRenderer(seriesIndex, renderer);
+            seriesIndex++;
+        }
+        JFreeChart chart = new JFreeChart(problemBenchmarkResult.getName() + titleSuffix,
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        return writeChartToImageFile(benchmarkReport, chart, problemBenchmarkResult.getName() + fileNameSuffix);
+    }
+
+    @Override
+    protected void fillWarningList() {
+        if (problemBenchmarkResult.getPlannerBenchmarkResult().hasMultipleParallelBenchmarks()) {
+            warningList.add("This garbage collection statistic shows the garbage collection of all benchmarks "
+                    + "that ran in parallel, due to parallelBenchmarkCount ("
+                    + problemBenchmarkResult.getPlannerBenchmarkResult().getParallelBenchmarkCount() + ").");
+        }
+    }
+
+}
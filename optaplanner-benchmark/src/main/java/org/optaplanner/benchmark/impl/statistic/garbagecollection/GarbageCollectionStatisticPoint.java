@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.garbagecollection;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+
+public class GarbageCollectionStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final GarbageCollectionMeasurement intervalMeasurement;
+
+    /**
+     * @param timeMillisSpent the end of the interval
+     * @param intervalMeasurement the garbage collection count and time during the interval
+     */
+    public GarbageCollectionStatisticPoint(long timeMillisSpent, GarbageCollectionMeasurement intervalMeasurement) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.intervalMeasurement = intervalMeasurement;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public GarbageCollectionMeasurement getIntervalMeasurement() {
+        return intervalMeasurement;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithLongs(timeMillisSpent, intervalMeasurement.getCollectionCount(),
+                intervalMeasurement.getCollectionTimeMillis());
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.garbagecollection;
+
+import java.util.List;
+
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+
+public class GarbageCollectionSubSingleStatistic<Solution_>
+        extends ProblemBasedSubSingleStatistic<Solution_, GarbageCollectionStatisticPoint> {
+
+    private final long timeMillisThresholdInterval;
+
+    private final GarbageCollectionSubSingleStatisticListener listener;
+
+    public GarbageCollectionSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        this(subSingleBenchmarkResult, 1000L);
+    }
+
+    public GarbageCollectionSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            long timeMillisThresholdInterval) {
+        super(subSingleBenchmarkResult, ProblemStatisticType.GARBAGE_COLLECTION);
+        if (timeMillisThresholdInterval <= 0L) {
+            throw new IllegalArgumentException("The timeMillisThresholdInterval (" + timeMillisThresholdInterval
+                    + ") must be bigger than 0.");
+        }
+        this.timeMillisThresholdInterval = timeMillisThresholdInterval;
+        listener = new GarbageCollectionSubSingleStatisticListener();
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).addPhaseLifecycleListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+    }
+
+    private class GarbageCollectionSubSingleStatisticListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private long nextTimeMillisThreshold;
+        private GarbageCollectionMeasurement lastMeasurement = null;
+
+        @Override
+        public void solvingStarted(DefaultSolverScope<Solution_> solverScope) {
+            nextTimeMillisThreshold = timeMillisThresholdInterval;
+            lastMeasurement = GarbageCollectionMeasurement.create();
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                GarbageCollectionMeasurement measurement = GarbageCollectionMeasurement.create();
+                addPoint(new GarbageCollectionStatisticPoint(timeMillisSpent, measurement.subtract(lastMeasurement)));
+                lastMeasurement = measurement;
+
+                nextTimeMillisThreshold += timeMillisThresholdInterval;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return GarbageCollectionStatisticPoint.buildCsvLine("timeMillisSpent", "collectionCount",
+                "collectionTimeMillis");
+    }
+
+    @Override
+    protected GarbageCollectionStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new GarbageCollectionStatisticPoint(Long.parseLong(csvLine.get(0)),
+                new GarbageCollectionMeasurement(Long.parseLong(csvLine.get(1)), Long.parseLong(csvLine.get(2))));
+    }
+
+}
@@ -110,7 +110,7 @@ public class MemoryUseProblemStatistic extends ProblemStatistic {
         }
         JFreeChart chart = new JFreeChart(problemBenchmarkResult.getName() + " memory use statistic",
                 JFreeChart.DEFAULT_TITLE_FONT, plot, true);
-        graphFile = writeChartToImageFile(chart, problemBenchmarkResult.getName() + "MemoryUseStatistic");
+        graphFile = writeChartToImageFile(benchmarkReport, chart, problemBenchmarkResult.getName() + "MemoryUseStatistic");
     }
 
     @Override
@@ -70,7 +70,7 @@ public class MemoryUseSubSingleStatistic<Solution_>
         public void stepEnded(AbstractStepScope<Solution_> stepScope) {
             long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
             if (timeMillisSpent >= nextTimeMillisThreshold) {
-                pointList.add(new MemoryUseStatisticPoint(timeMillisSpent, MemoryUseMeasurement.create()));
+                addPoint(new MemoryUseStatisticPoint(timeMillisSpent, MemoryUseMeasurement.create()));
 
                 nextTimeMillisThreshold += timeMillisThresholdInterval;
                 if (nextTimeMillisThreshold < timeMillisSpent) {
@@ -126,7 +126,7 @@ public class MoveCountPerStepProblemStatistic extends ProblemStatistic {
 
         JFreeChart chart = new JFreeChart(problemBenchmarkResult.getName() + " move count per step statistic",
                 JFreeChart.DEFAULT_TITLE_FONT, plot, true);
-        graphFile = writeChartToImageFile(chart, problemBenchmarkResult.getName() + "MoveCountPerStepStatistic");
+        graphFile = writeChartToImageFile(benchmarkReport, chart, problemBenchmarkResult.getName() + "MoveCountPerStepStatistic");
     }
 
 }
@@ -102,7 +102,7 @@ public class ScoreCalculationSpeedProblemStatistic extends ProblemStatistic {
         }
         JFreeChart chart = new JFreeChart(problemBenchmarkResult.getName() + " score calculation speed statistic",
                 JFreeChart.DEFAULT_TITLE_FONT, plot, true);
-        graphFile = writeChartToImageFile(chart, problemBenchmarkResult.getName() + "ScoreCalculationSpeedStatistic");
+        graphFile = writeChartToImageFile(benchmarkReport, chart, problemBenchmarkResult.getName() + "ScoreCalculationSpeedStatistic");
     }
 
 }
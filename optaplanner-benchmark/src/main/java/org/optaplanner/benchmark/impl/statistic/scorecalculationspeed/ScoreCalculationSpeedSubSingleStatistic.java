@@ -82,7 +82,7 @@ public class ScoreCalculationSpeedSubSingleStatistic<Solution_>
                     timeMillisSpentInterval = 1L;
                 }
                 long scoreCalculationSpeed = calculationCountInterval * 1000L / timeMillisSpentInterval;
-                pointList.add(new ScoreCalculationSpeedStatisticPoint(timeMillisSpent, scoreCalculationSpeed));
+                addPoint(new ScoreCalculationSpeedStatisticPoint(timeMillisSpent, scoreCalculationSpeed));
                 lastCalculationCount = calculationCount;
 
                 lastTimeMillisSpent = timeMillisSpent;
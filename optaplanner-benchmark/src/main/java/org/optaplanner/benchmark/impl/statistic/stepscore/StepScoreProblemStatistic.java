@@ -119,7 +119,7 @@ public class StepScoreProblemStatistic extends ProblemStatistic {
             JFreeChart chart = new JFreeChart(
                     problemBenchmarkResult.getName() + " step " + scoreLevelLabel + " statistic",
                     JFreeChart.DEFAULT_TITLE_FONT, plotList.get(scoreLevelIndex), true);
-            graphFileList.add(writeChartToImageFile(chart,
+            graphFileList.add(writeChartToImageFile(benchmarkReport, chart,
                     problemBenchmarkResult.getName() + "StepScoreStatisticLevel" + scoreLevelIndex));
         }
     }
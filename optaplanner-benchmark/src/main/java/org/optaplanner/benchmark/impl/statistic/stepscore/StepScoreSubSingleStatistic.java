@@ -57,7 +57,7 @@ public class StepScoreSubSingleStatistic<Solution_>
         public void stepEnded(AbstractStepScope<Solution_> stepScope) {
             if (stepScope.getScore().isSolutionInitialized()) {
                 long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
-                pointList.add(new StepScoreStatisticPoint(timeMillisSpent, stepScope.getScore()));
+                addPoint(new StepScoreStatisticPoint(timeMillisSpent, stepScope.getScore()));
             }
         }
 
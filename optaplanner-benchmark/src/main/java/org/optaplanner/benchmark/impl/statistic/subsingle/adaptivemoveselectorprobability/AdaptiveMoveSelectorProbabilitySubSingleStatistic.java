@@ -0,0 +1,251 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.adaptivemoveselectorprobability;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamOmitField;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYStepRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.composite.AdaptiveUnionMoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.composite.CompositeMoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.decorator.AbstractCachingMoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.decorator.FilteringMoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.decorator.ProbabilityMoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.decorator.SelectedCountLimitMoveSelector;
+import org.optaplanner.core.impl.localsearch.DefaultLocalSearchPhase;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.Phase;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+/**
+ * Reports the selection probabilities learned by every {@link AdaptiveUnionMoveSelector}
+ * in the local search phases.
+ */
+@XStreamAlias("adaptiveMoveSelectorProbabilitySubSingleStatistic")
+public class AdaptiveMoveSelectorProbabilitySubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, AdaptiveMoveSelectorProbabilityStatisticPoint> {
+
+    /**
+     * A probability change smaller than this is not recorded, to avoid a point per step.
+     */
+    protected static final double PROBABILITY_CHANGE_THRESHOLD = 0.01;
+
+    @XStreamOmitField
+    private AdaptiveMoveSelectorProbabilitySubSingleStatisticListener listener;
+
+    @XStreamOmitField
+    protected List<File> graphFileList = null;
+
+    public AdaptiveMoveSelectorProbabilitySubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.ADAPTIVE_MOVE_SELECTOR_PROBABILITY);
+        listener = new AdaptiveMoveSelectorProbabilitySubSingleStatisticListener();
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFileList;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        List<AdaptiveUnionMoveSelector> moveSelectorList = new ArrayList<>();
+        for (Phase<Solution_> phase : defaultSolver.getPhaseList()) {
+            if (phase instanceof DefaultLocalSearchPhase) {
+                collectAdaptiveMoveSelectors(
+                        ((DefaultLocalSearchPhase<Solution_>) phase).getDecider().getMoveSelector(), moveSelectorList);
+            }
+        }
+        listener.initMoveSelectors(moveSelectorList);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    private void collectAdaptiveMoveSelectors(MoveSelector moveSelector,
+            List<AdaptiveUnionMoveSelector> moveSelectorList) {
+        if (moveSelector instanceof AdaptiveUnionMoveSelector) {
+            moveSelectorList.add((AdaptiveUnionMoveSelector) moveSelector);
+        }
+        if (moveSelector instanceof CompositeMoveSelector) {
+            for (MoveSelector childMoveSelector : ((CompositeMoveSelector) moveSelector).getChildMoveSelectorList()) {
+                collectAdaptiveMoveSelectors(childMoveSelector, moveSelectorList);
+            }
+        } else if (moveSelector instanceof AbstractCachingMoveSelector) {
+            collectAdaptiveMoveSelectors(((AbstractCachingMoveSelector) moveSelector).getChildMoveSelector(),
+                    moveSelectorList);
+        } else if (moveSelector instanceof FilteringMoveSelector) {
+            collectAdaptiveMoveSelectors(((FilteringMoveSelector) moveSelector).getChildMoveSelector(),
+                    moveSelectorList);
+        } else if (moveSelector instanceof ProbabilityMoveSelector) {
+            collectAdaptiveMoveSelectors(((ProbabilityMoveSelector) moveSelector).getChildMoveSelector(),
+                    moveSelectorList);
+        } else if (moveSelector instanceof SelectedCountLimitMoveSelector) {
+            collectAdaptiveMoveSelectors(((SelectedCountLimitMoveSelector) moveSelector).getChildMoveSelector(),
+                    moveSelectorList);
+        }
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+        listener.initMoveSelectors(Collections.emptyList());
+    }
+
+    private class AdaptiveMoveSelectorProbabilitySubSingleStatisticListener
+            extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private List<AdaptiveUnionMoveSelector> moveSelectorList = Collections.emptyList();
+        // Indexed by the adaptive move selector index and its child index,
+        // because different children can have the same toString()
+        private String[][] moveSelectorLabels = new String[0][];
+        private double[][] lastProbabilities = new double[0][];
+
+        private void initMoveSelectors(List<AdaptiveUnionMoveSelector> moveSelectorList) {
+            this.moveSelectorList = moveSelectorList;
+            int moveSelectorSize = moveSelectorList.size();
+            moveSelectorLabels = new String[moveSelectorSize][];
+            lastProbabilities = new double[moveSelectorSize][];
+            for (int i = 0; i < moveSelectorSize; i++) {
+                List<MoveSelector> childMoveSelectorList = moveSelectorList.get(i).getChildMoveSelectorList();
+                int childSize = childMoveSelectorList.size();
+                moveSelectorLabels[i] = new String[childSize];
+                for (int j = 0; j < childSize; j++) {
+                    moveSelectorLabels[i][j] = (moveSelectorSize > 1 ? i + "." : "") + j + ": "
+                            + childMoveSelectorList.get(j);
+                }
+                lastProbabilities[i] = new double[childSize];
+                Arrays.fill(lastProbabilities[i], Double.NaN);
+            }
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            if (stepScope instanceof LocalSearchStepScope) {
+                localSearchStepEnded((LocalSearchStepScope<Solution_>) stepScope);
+            }
+        }
+
+        private void localSearchStepEnded(LocalSearchStepScope<Solution_> stepScope) {
+            long timeMillisSpent = -1L;
+            for (int i = 0; i < moveSelectorLabels.length; i++) {
+                AdaptiveUnionMoveSelector adaptiveMoveSelector = moveSelectorList.get(i);
+                double[] selectorLastProbabilities = lastProbabilities[i];
+                for (int j = 0; j < selectorLastProbabilities.length; j++) {
+                    double probability = adaptiveMoveSelector.getProbabilityWeight(j);
+                    double lastProbability = selectorLastProbabilities[j];
+                    if (Double.isNaN(lastProbability)
+                            || Math.abs(probability - lastProbability) >= PROBABILITY_CHANGE_THRESHOLD) {
+                        if (timeMillisSpent < 0L) {
+                            timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+                        }
+                        selectorLastProbabilities[j] = probability;
+                        addPoint(new AdaptiveMoveSelectorProbabilityStatisticPoint(
+                                timeMillisSpent, moveSelectorLabels[i][j], probability));
+                    }
+                }
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return AdaptiveMoveSelectorProbabilityStatisticPoint.buildCsvLine(
+                "timeMillisSpent", "moveSelector", "probability");
+    }
+
+    @Override
+    protected AdaptiveMoveSelectorProbabilityStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new AdaptiveMoveSelectorProbabilityStatisticPoint(Long.parseLong(csvLine.get(0)),
+                csvLine.get(1), Double.parseDouble(csvLine.get(2)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Map<String, XYSeries> moveSelectorToSeriesMap = new LinkedHashMap<>();
+        for (AdaptiveMoveSelectorProbabilityStatisticPoint point : getPointList()) {
+            String moveSelector = point.getMoveSelector();
+            XYSeries series = moveSelectorToSeriesMap.computeIfAbsent(moveSelector, k -> new XYSeries(moveSelector));
+            series.add(point.getTimeMillisSpent(), point.getProbability());
+        }
+        long timeMillisSpent = subSingleBenchmarkResult.getTimeMillisSpent();
+        XYSeriesCollection seriesCollection = new XYSeriesCollection();
+        for (XYSeries series : moveSelectorToSeriesMap.values()) {
+            // Draw a horizontal line from the last change to how long the solver actually ran
+            series.add(timeMillisSpent, series.getY(series.getItemCount() - 1).doubleValue());
+            seriesCollection.addSeries(series);
+        }
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis("Selection probability");
+        yAxis.setNumberFormatOverride(NumberFormat.getPercentInstance(locale));
+        yAxis.setRange(0.0, 1.0);
+        XYPlot plot = new XYPlot(seriesCollection, xAxis, yAxis, null);
+        // No direct ascending lines between 2 points, but a stepping line instead
+        XYItemRenderer renderer = new XYStepRenderer();
+        plot.setRenderer(renderer);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName()
+                + " adaptive move selector probability statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFileList = Collections.singletonList(
+                writeChartToImageFile(benchmarkReport, chart, "AdaptiveMoveSelectorProbabilityStatistic"));
+    }
+
+}
@@ -115,7 +115,7 @@ public class ConstraintMatchTotalBestScoreSubSingleStatistic<Solution_>
             if (constraintMatchEnabled && stepScope.getBestScoreImproved()) {
                 long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
                 for (ConstraintMatchTotal constraintMatchTotal : stepScope.getScoreDirector().getConstraintMatchTotals()) {
-                    pointList.add(new ConstraintMatchTotalBestScoreStatisticPoint(
+                    addPoint(new ConstraintMatchTotalBestScoreStatisticPoint(
                             timeMillisSpent,
                             constraintMatchTotal.getConstraintPackage(),
                             constraintMatchTotal.getConstraintName(),
@@ -200,7 +200,7 @@ public class ConstraintMatchTotalBestScoreSubSingleStatistic<Solution_>
             JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName()
                     + " constraint match total best " + scoreLevelLabel + " diff statistic",
                     JFreeChart.DEFAULT_TITLE_FONT, plot, true);
-            graphFileList.add(writeChartToImageFile(chart,
+            graphFileList.add(writeChartToImageFile(benchmarkReport, chart,
                     "ConstraintMatchTotalBestScoreStatisticLevel" + scoreLevelIndex));
         }
     }
@@ -115,7 +115,7 @@ public class ConstraintMatchTotalStepScoreSubSingleStatistic<Solution_>
             if (constraintMatchEnabled) {
                 long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
                 for (ConstraintMatchTotal constraintMatchTotal : stepScope.getScoreDirector().getConstraintMatchTotals()) {
-                    pointList.add(new ConstraintMatchTotalStepScoreStatisticPoint(
+                    addPoint(new ConstraintMatchTotalStepScoreStatisticPoint(
                             timeMillisSpent,
                             constraintMatchTotal.getConstraintPackage(),
                             constraintMatchTotal.getConstraintName(),
@@ -200,7 +200,7 @@ public class ConstraintMatchTotalStepScoreSubSingleStatistic<Solution_>
             JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName()
                     + " constraint match total step " + scoreLevelLabel + " diff statistic",
                     JFreeChart.DEFAULT_TITLE_FONT, plot, true);
-            graphFileList.add(writeChartToImageFile(chart,
+            graphFileList.add(writeChartToImageFile(benchmarkReport, chart,
                     "ConstraintMatchTotalStepScoreStatisticLevel" + scoreLevelIndex));
         }
     }
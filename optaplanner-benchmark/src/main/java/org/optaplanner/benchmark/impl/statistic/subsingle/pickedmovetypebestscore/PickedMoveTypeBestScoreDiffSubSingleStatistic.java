@@ -119,7 +119,7 @@ public class PickedMoveTypeBestScoreDiffSubSingleStatistic<Solution_>
                 Score newBestScore = stepScope.getScore();
                 Score bestScoreDiff = newBestScore.subtract(oldBestScore);
                 oldBestScore = newBestScore;
-                pointList.add(new PickedMoveTypeBestScoreDiffStatisticPoint(
+                addPoint(new PickedMoveTypeBestScoreDiffStatisticPoint(
                         timeMillisSpent, moveType, bestScoreDiff));
             }
         }
@@ -182,7 +182,7 @@ public class PickedMoveTypeBestScoreDiffSubSingleStatistic<Solution_>
             JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName()
                     + " picked move type best " + scoreLevelLabel + " diff statistic",
                     JFreeChart.DEFAULT_TITLE_FONT, plot, true);
-            graphFileList.add(writeChartToImageFile(chart,
+            graphFileList.add(writeChartToImageFile(benchmarkReport, chart,
                     "PickedMoveTypeBestScoreDiffStatisticLevel" + scoreLevelIndex));
         }
     }
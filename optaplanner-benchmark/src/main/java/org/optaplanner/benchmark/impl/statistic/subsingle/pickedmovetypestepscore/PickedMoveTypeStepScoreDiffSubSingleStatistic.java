@@ -118,7 +118,7 @@ public class PickedMoveTypeStepScoreDiffSubSingleStatistic<Solution_>
             Score newStepScore = stepScope.getScore();
             Score stepScoreDiff = newStepScore.subtract(oldStepScore);
             oldStepScore = newStepScore;
-            pointList.add(new PickedMoveTypeStepScoreDiffStatisticPoint(
+            addPoint(new PickedMoveTypeStepScoreDiffStatisticPoint(
                     timeMillisSpent, moveType, stepScoreDiff));
         }
 
@@ -181,7 +181,7 @@ public class PickedMoveTypeStepScoreDiffSubSingleStatistic<Solution_>
             JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName()
                     + " picked move type step " + scoreLevelLabel + " diff statistic",
                     JFreeChart.DEFAULT_TITLE_FONT, plot, true);
-            graphFileList.add(writeChartToImageFile(chart,
+            graphFileList.add(writeChartToImageFile(benchmarkReport, chart,
                     "PickedMoveTypeStepScoreDiffStatisticLevel" + scoreLevelIndex));
         }
     }
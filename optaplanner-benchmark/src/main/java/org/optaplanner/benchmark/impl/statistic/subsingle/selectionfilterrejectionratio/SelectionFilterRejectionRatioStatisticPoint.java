@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.selectionfilterrejectionratio;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+
+public class SelectionFilterRejectionRatioStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    /**
+     * Not a {@link org.optaplanner.core.impl.heuristic.selector.Selector}
+     * because it needs to be written to and read from CSV.
+     */
+    private final String filteringSelector;
+    private final double rejectionRatio;
+
+    public SelectionFilterRejectionRatioStatisticPoint(long timeMillisSpent, String filteringSelector,
+            double rejectionRatio) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.filteringSelector = filteringSelector;
+        this.rejectionRatio = rejectionRatio;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public String getFilteringSelector() {
+        return filteringSelector;
+    }
+
+    public double getRejectionRatio() {
+        return rejectionRatio;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, filteringSelector, Double.toString(rejectionRatio));
+    }
+
+}
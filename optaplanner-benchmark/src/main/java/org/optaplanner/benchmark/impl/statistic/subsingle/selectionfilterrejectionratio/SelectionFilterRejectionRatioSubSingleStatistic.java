@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.selectionfilterrejectionratio;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamOmitField;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilterRejectionCounter;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+/**
+ * Reports which ratio of the selections of every filtering selector is rejected by its filters,
+ * cumulative since solving started.
+ * Filtering selectors with the same description are reported together.
+ */
+@XStreamAlias("selectionFilterRejectionRatioSubSingleStatistic")
+public class SelectionFilterRejectionRatioSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, SelectionFilterRejectionRatioStatisticPoint> {
+
+    /**
+     * A rejection ratio change smaller than this is not recorded, to avoid a point per step.
+     */
+    protected static final double REJECTION_RATIO_CHANGE_THRESHOLD = 0.01;
+
+    @XStreamOmitField
+    private SelectionFilterRejectionRatioSubSingleStatisticListener listener;
+
+    @XStreamOmitField
+    protected List<File> graphFileList = null;
+
+    public SelectionFilterRejectionRatioSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.SELECTION_FILTER_REJECTION_RATIO);
+        listener = new SelectionFilterRejectionRatioSubSingleStatisticListener();
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFileList;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).addPhaseLifecycleListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+        listener.lastRejectionRatioMap.clear();
+    }
+
+    private class SelectionFilterRejectionRatioSubSingleStatisticListener
+            extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private final Map<String, Double> lastRejectionRatioMap = new LinkedHashMap<>();
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            List<SelectionFilterRejectionCounter> counterList = stepScope.getPhaseScope().getSolverScope()
+                    .getSelectionFilterRejectionCounterList();
+            if (counterList.isEmpty()) {
+                return;
+            }
+            Map<String, long[]> countsMap = new LinkedHashMap<>(counterList.size());
+            for (SelectionFilterRejectionCounter counter : counterList) {
+                long[] counts = countsMap.computeIfAbsent(counter.getFilteringSelector().toString(),
+                        k -> new long[2]);
+                counts[0] += counter.getSelectionCount();
+                counts[1] += counter.getRejectionCount();
+            }
+            long timeMillisSpent = -1L;
+            for (Map.Entry<String, long[]> entry : countsMap.entrySet()) {
+                long selectionCount = entry.getValue()[0];
+                if (selectionCount == 0L) {
+                    continue;
+                }
+                String filteringSelector = entry.getKey();
+                double rejectionRatio = ((double) entry.getValue()[1]) / ((double) selectionCount);
+                Double lastRejectionRatio = lastRejectionRatioMap.get(filteringSelector);
+                if (lastRejectionRatio == null
+                        || Math.abs(rejectionRatio - lastRejectionRatio) >= REJECTION_RATIO_CHANGE_THRESHOLD) {
+                    if (timeMillisSpent < 0L) {
+                        timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+                    }
+                    lastRejectionRatioMap.put(filteringSelector, rejectionRatio);
+                    addPoint(new SelectionFilterRejectionRatioStatisticPoint(
+                            timeMillisSpent, filteringSelector, rejectionRatio));
+                }
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return SelectionFilterRejectionRatioStatisticPoint.buildCsvLine(
+                "timeMillisSpent", "filteringSelector", "rejectionRatio");
+    }
+
+    @Override
+    protected SelectionFilterRejectionRatioStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new SelectionFilterRejectionRatioStatisticPoint(Long.parseLong(csvLine.get(0)),
+                csvLine.get(1), Double.parseDouble(csvLine.get(2)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Map<String, XYSeries> filteringSelectorToSeriesMap = new LinkedHashMap<>();
+        for (SelectionFilterRejectionRatioStatisticPoint point : getPointList()) {
+            String filteringSelector = point.getFilteringSelector();
+            XYSeries series = filteringSelectorToSeriesMap.computeIfAbsent(filteringSelector,
+                    k -> new XYSeries(filteringSelector));
+            series.add(point.getTimeMillisSpent(), point.getRejectionRatio());
+        }
+        long timeMillisSpent = subSingleBenchmarkResult.getTimeMillisSpent();
+        XYSeriesCollection seriesCollection = new XYSeriesCollection();
+        for (XYSeries series : filteringSelectorToSeriesMap.values()) {
+            // Draw a horizontal line from the last change to how long the solver actually ran
+            series.add(timeMillisSpent, series.getY(series.getItemCount() - 1).doubleValue());
+            seriesCollection.addSeries(series);
+        }
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis("Rejection ratio");
+        yAxis.setNumberFormatOverride(NumberFormat.getPercentInstance(locale));
+        yAxis.setRange(0.0, 1.0);
+        XYPlot plot = new XYPlot(seriesCollection, xAxis, yAxis, null);
+        XYItemRenderer renderer = new XYLineAndShapeRenderer(true, false);
+        plot.setRenderer(renderer);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName()
+                + " selection filter rejection ratio statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFileList = Collections.singletonList(
+                writeChartToImageFile(benchmarkReport, chart, "SelectionFilterRejectionRatioStatistic"));
+    }
+
+}
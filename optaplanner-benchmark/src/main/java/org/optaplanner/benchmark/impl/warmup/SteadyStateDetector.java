@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.warmup;
+
+/**
+ * Detects a steady state in a series of measurements (such as the score calculation speed)
+ * when the coefficient of variation (the standard deviation divided by the mean)
+ * over a sliding window of the last measurements drops to or below a threshold.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class SteadyStateDetector {
+
+    private final double coefficientOfVariationThreshold;
+    private final double[] window;
+
+    private int measurementCount = 0;
+    private int nextIndex = 0;
+
+    /**
+     * @param windowSize at least 2
+     * @param coefficientOfVariationThreshold at least 0.0
+     */
+    public SteadyStateDetector(int windowSize, double coefficientOfVariationThreshold) {
+        if (windowSize < 2) {
+            throw new IllegalArgumentException("The windowSize (" + windowSize + ") must be at least 2.");
+        }
+        if (coefficientOfVariationThreshold < 0.0) {
+            throw new IllegalArgumentException("The coefficientOfVariationThreshold ("
+                    + coefficientOfVariationThreshold + ") cannot be negative.");
+        }
+        this.coefficientOfVariationThreshold = coefficientOfVariationThreshold;
+        window = new double[windowSize];
+    }
+
+    public int getMeasurementCount() {
+        return measurementCount;
+    }
+
+    /**
+     * @param measurement at least 0.0
+     * @return true if the last measurements are steady
+     */
+    public boolean addMeasurement(double measurement) {
+        window[nextIndex] = measurement;
+        nextIndex = (nextIndex + 1) % window.length;
+        measurementCount++;
+        return isSteady();
+    }
+
+    public boolean isSteady() {
+        if (measurementCount < window.length) {
+            return false;
+        }
+        return calculateCoefficientOfVariation() <= coefficientOfVariationThreshold;
+    }
+
+    /**
+     * @return {@link Double#NaN} if the window isn't full yet,
+     * {@link Double#POSITIVE_INFINITY} if the mean is 0.0 and the measurements differ
+     */
+    public double calculateCoefficientOfVariation() {
+        if (measurementCount < window.length) {
+            return Double.NaN;
+        }
+        double sum = 0.0;
+        for (double measurement : window) {
+            sum += measurement;
+        }
+        double mean = sum / window.length;
+        double squaredDifferenceSum = 0.0;
+        for (double measurement : window) {
+            double difference = measurement - mean;
+            squaredDifferenceSum += difference * difference;
+        }
+        double standardDeviation = Math.sqrt(squaredDifferenceSum / window.length);
+        if (mean == 0.0) {
+            return standardDeviation == 0.0 ? 0.0 : Double.POSITIVE_INFINITY;
+        }
+        return standardDeviation / Math.abs(mean);
+    }
+
+}
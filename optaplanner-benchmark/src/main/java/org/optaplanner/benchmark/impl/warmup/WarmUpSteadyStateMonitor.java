@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+
+/**
+ * Watches the score calculation speed of the warm up runs of 1 solver configuration
+ * and terminates them as soon as the JIT compilation has settled.
+ * <p>
+ * The JIT state outlives a single run, so the measurements of consecutive warm up runs
+ * of the same solver configuration on the same problem are fed into the same {@link SteadyStateDetector}.
+ * The score calculation speed depends on the problem size, so every problem has its own detector
+ * and the first one that settles ends the warm up.
+ * Only the local search phases are measured, because the construction heuristics speed differs too.
+ * This class is thread-safe, because the same solver configuration can be warmed up on parallel threads.
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution} annotation
+ */
+public class WarmUpSteadyStateMonitor<Solution_> {
+
+    private final long measurementIntervalMillis;
+    private final Supplier<SteadyStateDetector> steadyStateDetectorSupplier;
+    private final Map<ProblemBenchmarkResult, SteadyStateDetector> steadyStateDetectorMap = new HashMap<>();
+
+    private long finishedRunsTimeMillisSpent = 0L;
+    private Long steadyStateTimeMillisSpent = null;
+
+    /**
+     * @param measurementIntervalMillis at least 1
+     * @param steadyStateDetectorSupplier never null, called once per problem
+     */
+    public WarmUpSteadyStateMonitor(long measurementIntervalMillis,
+            Supplier<SteadyStateDetector> steadyStateDetectorSupplier) {
+        if (measurementIntervalMillis <= 0L) {
+            throw new IllegalArgumentException("The measurementIntervalMillis (" + measurementIntervalMillis
+                    + ") must be bigger than 0.");
+        }
+        this.measurementIntervalMillis = measurementIntervalMillis;
+        this.steadyStateDetectorSupplier = steadyStateDetectorSupplier;
+    }
+
+    public synchronized boolean isSteadyStateReached() {
+        return steadyStateTimeMillisSpent != null;
+    }
+
+    /**
+     * @return the time spent in the warm up runs until the steady state was reached,
+     * or in all warm up runs if it wasn't reached
+     */
+    public synchronized long getWarmUpTimeMillisSpent() {
+        return steadyStateTimeMillisSpent != null ? steadyStateTimeMillisSpent : finishedRunsTimeMillisSpent;
+    }
+
+    /**
+     * @return the lowest coefficient of variation of all problems,
+     * {@link Double#NaN} if the window of no problem is full yet
+     */
+    public synchronized double calculateCoefficientOfVariation() {
+        double lowestCoefficientOfVariation = Double.NaN;
+        for (SteadyStateDetector steadyStateDetector : steadyStateDetectorMap.values()) {
+            double coefficientOfVariation = steadyStateDetector.calculateCoefficientOfVariation();
+            if (Double.isNaN(lowestCoefficientOfVariation) || coefficientOfVariation < lowestCoefficientOfVariation) {
+                lowestCoefficientOfVariation = coefficientOfVariation;
+            }
+        }
+        return lowestCoefficientOfVariation;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    /**
+     * @param solver never null
+     * @param problemBenchmarkResult never null, the problem that the solver solves
+     * @return never null, to pass to {@link #close(Solver, WarmUpSteadyStateListener)}
+     */
+    public WarmUpSteadyStateListener open(Solver<Solution_> solver, ProblemBenchmarkResult problemBenchmarkResult) {
+        WarmUpSteadyStateListener listener = new WarmUpSteadyStateListener(solver, problemBenchmarkResult);
+        ((DefaultSolver<Solution_>) solver).addPhaseLifecycleListener(listener);
+        return listener;
+    }
+
+    public void close(Solver<Solution_> solver, WarmUpSteadyStateListener listener) {
+        ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+        synchronized (this) {
+            finishedRunsTimeMillisSpent += solver.getTimeMillisSpent();
+        }
+    }
+
+    private synchronized boolean addScoreCalculationSpeed(ProblemBenchmarkResult problemBenchmarkResult,
+            long scoreCalculationSpeed, long timeMillisSpent) {
+        if (steadyStateTimeMillisSpent != null) {
+            return true;
+        }
+        SteadyStateDetector steadyStateDetector = steadyStateDetectorMap.computeIfAbsent(problemBenchmarkResult,
+                key -> steadyStateDetectorSupplier.get());
+        if (steadyStateDetector.addMeasurement(scoreCalculationSpeed)) {
+            steadyStateTimeMillisSpent = finishedRunsTimeMillisSpent + timeMillisSpent;
+            return true;
+        }
+        return false;
+    }
+
+    public class WarmUpSteadyStateListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private final Solver<Solution_> solver;
+        private final ProblemBenchmarkResult problemBenchmarkResult;
+
+        private long nextTimeMillisThreshold;
+        private long lastTimeMillisSpent;
+        private long lastCalculationCount;
+
+        private WarmUpSteadyStateListener(Solver<Solution_> solver, ProblemBenchmarkResult problemBenchmarkResult) {
+            this.solver = solver;
+            this.problemBenchmarkResult = problemBenchmarkResult;
+        }
+
+        @Override
+        public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+            if (!(phaseScope instanceof LocalSearchPhaseScope)) {
+                return;
+            }
+            // Don't count the score calculations of a previous phase
+            lastTimeMillisSpent = phaseScope.calculateSolverTimeMillisSpentUpToNow();
+            lastCalculationCount = phaseScope.getSolverScope().getScoreCalculationCount();
+            nextTimeMillisThreshold = lastTimeMillisSpent + measurementIntervalMillis;
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            if (!(stepScope instanceof LocalSearchStepScope)) {
+                return;
+            }
+            long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                DefaultSolverScope<Solution_> solverScope = stepScope.getPhaseScope().getSolverScope();
+                long calculationCount = solverScope.getScoreCalculationCount();
+                long timeMillisSpentInterval = Math.max(timeMillisSpent - lastTimeMillisSpent, 1L);
+                long scoreCalculationSpeed = (calculationCount - lastCalculationCount) * 1000L
+                        / timeMillisSpentInterval;
+                lastCalculationCount = calculationCount;
+                lastTimeMillisSpent = timeMillisSpent;
+                nextTimeMillisThreshold = Math.max(nextTimeMillisThreshold + measurementIntervalMillis,
+                        timeMillisSpent);
+                if (addScoreCalculationSpeed(problemBenchmarkResult, scoreCalculationSpeed, timeMillisSpent)) {
+                    solver.terminateEarly();
+                }
+            }
+        }
+
+    }
+
+}
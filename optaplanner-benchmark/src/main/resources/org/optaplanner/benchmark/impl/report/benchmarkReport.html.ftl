@@ -50,6 +50,13 @@
         <span class="badge badge-warning" data-toggle="tooltip" title="Infeasible score">!</span>
     </#if>
 </#macro>
+<#macro addChart chartSrc>
+    <#if chartSrc?ends_with(".html")>
+        <iframe class="benchmark-chart-frame" src="${chartSrc}"></iframe>
+    <#else>
+        <img src="${chartSrc}"/>
+    </#if>
+</#macro>
 <#macro addScoreLevelChartList chartFileList idPrefix>
     <div class="tabbable tabs-right">
         <ul class="nav nav-tabs">
@@ -66,7 +73,7 @@
         <#list chartFileList as chartFile>
             <div class="tab-pane<#if scoreLevelIndex == benchmarkReport.defaultShownScoreLevelIndex> active</#if>" id="${idPrefix}_chart_${scoreLevelIndex}">
                 <div class="benchmark-chart">
-                    <img src="summary/${chartFile.name}"/>
+                    <@addChart chartSrc="summary/${chartFile.name}"/>
                 </div>
             </div>
             <#assign scoreLevelIndex = scoreLevelIndex + 1>
@@ -156,6 +163,9 @@
                             <li>
                                 <a href="#summary_worstScoreDifferencePercentage" data-toggle="tab">Worst score difference percentage (ROI)</a>
                             </li>
+                            <li>
+                                <a href="#summary_statisticalSignificance" data-toggle="tab">Statistical significance</a>
+                            </li>
                         </ul>
                         <div class="tab-content">
                             <div class="tab-pane active" id="summary_bestScore">
@@ -189,7 +199,7 @@
                                                 <#if !singleBenchmarkResult.hasAllSuccess()>
                                                     <td><span class="label label-important">Failed</span></td>
                                                 <#else>
-                                                    <#if solverBenchmarkResult.subSingleCount lte 1>
+                                                    <#if singleBenchmarkResult.subSingleCount lte 1>
                                                         <td>${singleBenchmarkResult.averageScore!""}&nbsp;<@addSolverProblemBenchmarkResultBadges solverProblemBenchmarkResult=singleBenchmarkResult/></td>
                                                     <#else>
                                                         <td><div class="dropdown">
@@ -209,6 +219,8 @@
                                                                 <li>${singleBenchmarkResult.averageScore!""}</li>
                                                                 <li class="dropdown-header"><strong>Standard Deviation</strong></li>
                                                                 <li>${singleBenchmarkResult.standardDeviationString!""}</li>
+                                                                <li class="dropdown-header"><strong>95% Confidence Interval</strong></li>
+                                                                <li>${singleBenchmarkResult.scoreConfidenceIntervalString!""}</li>
                                                                 <li class="dropdown-header"><strong>Best</strong></li>
                                                                 <li>${singleBenchmarkResult.best.score!""}</li>
                                                                 <li class="dropdown-header"><strong>Worst</strong></li>
@@ -318,6 +330,52 @@
                                 </#list>
                                 </table>
                             </div>
+                            <div class="tab-pane" id="summary_statisticalSignificance">
+                                <h3>Statistical significance summary</h3>
+                                <p>Useful for verifying that the ranking isn't caused by random variation between the runs.</p>
+                                <p>
+                                    Shows the 95% confidence interval of the average score and the score calculation speed,
+                                    and the p-value of a Mann-Whitney U test of the scores against the favorite solver.
+                                    A p-value below 0.05 (bold) means that the score difference with the favorite is significant.
+                                    More runs (<code>subSingleCount</code>) narrow the confidence intervals.
+                                </p>
+                                <table class="benchmark-table table table-striped table-bordered">
+                                    <tr>
+                                        <th>Solver</th>
+                                    <#list benchmarkReport.plannerBenchmarkResult.unifiedProblemBenchmarkResultList as problemBenchmarkResult>
+                                        <th>${problemBenchmarkResult.name}</th>
+                                    </#list>
+                                    </tr>
+                                <#list benchmarkReport.plannerBenchmarkResult.solverBenchmarkResultList as solverBenchmarkResult>
+                                    <tr<#if solverBenchmarkResult.favorite> class="favoriteSolverBenchmark"</#if>>
+                                        <th>${solverBenchmarkResult.name}&nbsp;<@addSolverBenchmarkBadges solverBenchmarkResult=solverBenchmarkResult/></th>
+                                        <#list benchmarkReport.plannerBenchmarkResult.unifiedProblemBenchmarkResultList as problemBenchmarkResult>
+                                            <#if !solverBenchmarkResult.findSingleBenchmark(problemBenchmarkResult)??>
+                                                <td></td>
+                                            <#else>
+                                                <#assign singleBenchmarkResult = solverBenchmarkResult.findSingleBenchmark(problemBenchmarkResult)>
+                                                <#if !singleBenchmarkResult.hasAllSuccess()>
+                                                    <td><span class="label label-important">Failed</span></td>
+                                                <#else>
+                                                    <td>
+                                                        <div>Runs: ${singleBenchmarkResult.subSingleCount}</div>
+                                                        <div>Score: ${singleBenchmarkResult.averageScore!""} ${singleBenchmarkResult.scoreConfidenceIntervalString!""}</div>
+                                                        <div>Speed: ${singleBenchmarkResult.scoreCalculationSpeed!""}/s ${singleBenchmarkResult.scoreCalculationSpeedConfidenceIntervalString!""}</div>
+                                                        <#if singleBenchmarkResult.favoriteScoreDifferencePValue??>
+                                                            <#if singleBenchmarkResult.favoriteScoreDifferenceSignificant>
+                                                                <div><strong>p = ${singleBenchmarkResult.favoriteScoreDifferencePValue?string("0.000")}</strong></div>
+                                                            <#else>
+                                                                <div>p = ${singleBenchmarkResult.favoriteScoreDifferencePValue?string("0.000")}</div>
+                                                            </#if>
+                                                        </#if>
+                                                    </td>
+                                                </#if>
+                                            </#if>
+                                        </#list>
+                                    </tr>
+                                </#list>
+                                </table>
+                            </div>
                         </div>
                     </div>
                 </section>
@@ -351,7 +409,7 @@
                                     Also useful to measure the scalability cost of an extra constraint.
                                 </p>
                                 <div class="benchmark-chart">
-                                    <img src="summary/${benchmarkReport.scoreCalculationSpeedSummaryChartFile.name}"/>
+                                    <@addChart chartSrc="summary/${benchmarkReport.scoreCalculationSpeedSummaryChartFile.name}"/>
                                 </div>
                                 <table class="benchmark-table table table-striped table-bordered">
                                     <tr>
@@ -383,7 +441,7 @@
                                                 <#if !singleBenchmarkResult.hasAllSuccess()>
                                                     <td><span class="label label-important">Failed</span></td>
                                                 <#else>
-                                                    <#if solverBenchmarkResult.subSingleCount lte 1>
+                                                    <#if singleBenchmarkResult.subSingleCount lte 1>
                                                         <td>${singleBenchmarkResult.scoreCalculationSpeed}/s</td>
                                                     <#else>
                                                         <td><div class="dropdown">
@@ -416,7 +474,7 @@
                                     Also useful to measure the scalability cost of an extra constraint.
                                 </p>
                                 <div class="benchmark-chart">
-                                    <img src="summary/${benchmarkReport.worstScoreCalculationSpeedDifferencePercentageSummaryChartFile.name}"/>
+                                    <@addChart chartSrc="summary/${benchmarkReport.worstScoreCalculationSpeedDifferencePercentageSummaryChartFile.name}"/>
                                 </div>
                                 <table class="benchmark-table table table-striped table-bordered">
                                     <tr>
@@ -457,7 +515,7 @@
                                 <h3>Time spent summary</h3>
                                 <p>Useful for visualizing the performance of construction heuristics (presuming that no other solver phases are configured).</p>
                                 <div class="benchmark-chart">
-                                    <img src="summary/${benchmarkReport.timeSpentSummaryChartFile.name}"/>
+                                    <@addChart chartSrc="summary/${benchmarkReport.timeSpentSummaryChartFile.name}"/>
                                 </div>
                                 <table class="benchmark-table table table-striped table-bordered">
                                     <tr>
@@ -489,7 +547,7 @@
                                                 <#if !singleBenchmarkResult.hasAllSuccess()>
                                                     <td><span class="label label-important">Failed</span></td>
                                                 <#else>
-                                                    <#if solverBenchmarkResult.subSingleCount lte 1>
+                                                    <#if singleBenchmarkResult.subSingleCount lte 1>
                                                         <td>${singleBenchmarkResult.timeMillisSpent}</td>
                                                     <#else>
                                                         <td><div class="dropdown">
@@ -518,7 +576,7 @@
                                 <h3>Time spent scalability summary</h3>
                                 <p>Useful for extrapolating the scalability of construction heuristics (presuming that no other solver phases are configured).</p>
                                 <div class="benchmark-chart">
-                                    <img src="summary/${benchmarkReport.timeSpentScalabilitySummaryChartFile.name}"/>
+                                    <@addChart chartSrc="summary/${benchmarkReport.timeSpentScalabilitySummaryChartFile.name}"/>
                                 </div>
                             </div>
                             <div class="tab-pane" id="summary_bestScorePerTimeSpent">
@@ -598,7 +656,7 @@
                                                         <#list problemStatistic.graphFileList as graphFile>
                                                             <div class="tab-pane<#if scoreLevelIndex == benchmarkReport.defaultShownScoreLevelIndex> active</#if>" id="problemStatistic_${problemStatistic.anchorId}_${scoreLevelIndex}">
                                                                 <div class="benchmark-chart">
-                                                                    <img src="${benchmarkReport.getRelativePathToBenchmarkReportDirectory(graphFile)}"/>
+                                                                    <@addChart chartSrc="${benchmarkReport.getRelativePathToBenchmarkReportDirectory(graphFile)}"/>
                                                                 </div>
                                                             </div>
                                                             <#assign scoreLevelIndex = scoreLevelIndex + 1>
@@ -607,7 +665,7 @@
                                                 </div>
                                             <#else>
                                                 <div class="benchmark-chart">
-                                                    <img src="${benchmarkReport.getRelativePathToBenchmarkReportDirectory(problemStatistic.graphFile)}"/>
+                                                    <@addChart chartSrc="${benchmarkReport.getRelativePathToBenchmarkReportDirectory(problemStatistic.graphFile)}"/>
                                                 </div>
                                             </#if>
                                         <#else>
@@ -645,7 +703,7 @@
                                                             <#list pureSubSingleStatistic.graphFileList as graphFile>
                                                                 <div class="tab-pane<#if scoreLevelIndex == benchmarkReport.defaultShownScoreLevelIndex> active</#if>" id="subSingleStatistic_${pureSubSingleStatistic.anchorId}_${scoreLevelIndex}">
                                                                     <div class="benchmark-chart">
-                                                                        <img src="${benchmarkReport.getRelativePathToBenchmarkReportDirectory(graphFile)}"/>
+                                                                        <@addChart chartSrc="${benchmarkReport.getRelativePathToBenchmarkReportDirectory(graphFile)}"/>
                                                                     </div>
                                                                 </div>
                                                                 <#assign scoreLevelIndex = scoreLevelIndex + 1>
@@ -654,7 +712,7 @@
                                                     </div>
                                                 <#else>
                                                     <div class="benchmark-chart">
-                                                        <img src="${benchmarkReport.getRelativePathToBenchmarkReportDirectory(pureSubSingleStatistic.graphFile)}"/>
+                                                        <@addChart chartSrc="${benchmarkReport.getRelativePathToBenchmarkReportDirectory(pureSubSingleStatistic.graphFile)}"/>
                                                     </div>
                                                 </#if>
                                             <#else>
@@ -689,6 +747,18 @@
                             <p>${solverBenchmarkResult.failureCount} benchmarks have failed!</p>
                         </div>
                     </#if>
+                    <#if solverBenchmarkResult.warmUpSteadyStateReached??>
+                        <#if solverBenchmarkResult.warmUpSteadyStateReached>
+                            <p>Warm up reached a steady state after ${solverBenchmarkResult.warmUpTimeMillisSpent} ms.</p>
+                        <#else>
+                            <div class="alert">
+                                <p>Warm up did not reach a steady state in ${solverBenchmarkResult.warmUpTimeMillisSpent} ms.</p>
+                            </div>
+                        </#if>
+                    </#if>
+                    <#if solverBenchmarkResult.forked>
+                        <p>Every run used a forked JVM<#if solverBenchmarkResult.forkedJvmArgumentList?has_content> with the JVM arguments <code>${solverBenchmarkResult.forkedJvmArgumentList?join(" ")}</code></#if>.</p>
+                    </#if>
                     <button class="btn showSolverConfiguration" data-toggle="collapse" data-target="#solverBenchmark_${solverBenchmarkResult.anchorId}_config">
                         Show/hide Solver configuration
                     </button>
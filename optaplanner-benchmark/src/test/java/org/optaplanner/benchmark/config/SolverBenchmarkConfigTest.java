@@ -16,7 +16,13 @@
 
 package org.optaplanner.benchmark.config;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Test;
+import org.optaplanner.benchmark.config.forked.ForkedJvmConfig;
+
+import static org.junit.Assert.*;
 
 public class SolverBenchmarkConfigTest {
 
@@ -83,4 +89,27 @@ public class SolverBenchmarkConfigTest {
         config.validate();
     }
 
+    @Test
+    public void inheritForkedJvmConfig() {
+        ForkedJvmConfig inheritedForkedJvmConfig = new ForkedJvmConfig();
+        inheritedForkedJvmConfig.setJavaExecutable("/opt/jdk/bin/java");
+        inheritedForkedJvmConfig.setJvmArgumentList(Collections.singletonList("-Xmx2g"));
+        SolverBenchmarkConfig inheritedConfig = new SolverBenchmarkConfig();
+        inheritedConfig.setForkedJvmConfig(inheritedForkedJvmConfig);
+
+        ForkedJvmConfig forkedJvmConfig = new ForkedJvmConfig();
+        forkedJvmConfig.setJvmArgumentList(Collections.singletonList("-XX:+UseG1GC"));
+        SolverBenchmarkConfig config = new SolverBenchmarkConfig();
+        config.setName("name");
+        config.setForkedJvmConfig(forkedJvmConfig);
+        config.inherit(inheritedConfig);
+        assertEquals("/opt/jdk/bin/java", config.getForkedJvmConfig().determineJavaExecutable());
+        assertEquals(Arrays.asList("-Xmx2g", "-XX:+UseG1GC"), config.getForkedJvmConfig().getJvmArgumentList());
+
+        SolverBenchmarkConfig notForkedConfig = new SolverBenchmarkConfig();
+        notForkedConfig.setName("notForked");
+        notForkedConfig.inherit(new SolverBenchmarkConfig());
+        assertNull(notForkedConfig.getForkedJvmConfig());
+    }
+
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.result;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.optaplanner.benchmark.impl.loader.FileProblemProvider;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.random.RandomType;
+import org.optaplanner.persistence.xstream.impl.domain.solution.XStreamSolutionFileIO;
+
+import static org.junit.Assert.*;
+
+public class BenchmarkResultIOTest {
+
+    private File benchmarkDirectory;
+
+    @Before
+    public void setup() throws IOException {
+        benchmarkDirectory = new File("target/benchmarkResultIOTest/");
+        FileUtils.deleteDirectory(benchmarkDirectory);
+        benchmarkDirectory.mkdirs();
+    }
+
+    @Test
+    public void writeAndReadSubSingleBenchmarkCheckpoint() {
+        BenchmarkResultIO benchmarkResultIO = new BenchmarkResultIO();
+        SubSingleBenchmarkResult subSingleBenchmarkResult = createSubSingleBenchmarkResult(
+                new File(benchmarkDirectory, "report"), RandomType.JDK);
+        assertNull(benchmarkResultIO.readSubSingleBenchmarkCheckpoint(subSingleBenchmarkResult));
+
+        subSingleBenchmarkResult.setScore(SimpleScore.valueOf(-7));
+        subSingleBenchmarkResult.setTimeMillisSpent(1234L);
+        subSingleBenchmarkResult.setScoreCalculationCount(5678L);
+        benchmarkResultIO.writeSubSingleBenchmarkCheckpoint(subSingleBenchmarkResult);
+        // The temporary file has been moved atomically
+        File resultDirectory = subSingleBenchmarkResult.getResultDirectory();
+        assertTrue(new File(resultDirectory, "subSingleBenchmarkCheckpoint.xml").exists());
+        assertFalse(new File(resultDirectory, "subSingleBenchmarkCheckpoint.xml.tmp").exists());
+
+        // Overwriting an existing checkpoint also moves atomically
+        subSingleBenchmarkResult.setScore(SimpleScore.valueOf(-3));
+        benchmarkResultIO.writeSubSingleBenchmarkCheckpoint(subSingleBenchmarkResult);
+        assertFalse(new File(resultDirectory, "subSingleBenchmarkCheckpoint.xml.tmp").exists());
+
+        SubSingleBenchmarkResult resumedSubSingleBenchmarkResult = createSubSingleBenchmarkResult(
+                new File(benchmarkDirectory, "report"), RandomType.JDK);
+        SubSingleBenchmarkCheckpoint checkpoint
+                = benchmarkResultIO.readSubSingleBenchmarkCheckpoint(resumedSubSingleBenchmarkResult);
+        assertNotNull(checkpoint);
+        assertEquals(benchmarkResultIO.calculateConfigFingerprint(subSingleBenchmarkResult),
+                checkpoint.getConfigFingerprint());
+        checkpoint.restore(resumedSubSingleBenchmarkResult);
+        assertEquals(SimpleScore.valueOf(-3), resumedSubSingleBenchmarkResult.getScore());
+        assertEquals(1234L, resumedSubSingleBenchmarkResult.getTimeMillisSpent());
+        assertEquals(5678L, resumedSubSingleBenchmarkResult.getScoreCalculationCount());
+        assertEquals(true, resumedSubSingleBenchmarkResult.getSucceeded());
+    }
+
+    @Test
+    public void readSubSingleBenchmarkCheckpointWithOtherConfig() {
+        BenchmarkResultIO benchmarkResultIO = new BenchmarkResultIO();
+        SubSingleBenchmarkResult subSingleBenchmarkResult = createSubSingleBenchmarkResult(
+                new File(benchmarkDirectory, "report"), RandomType.JDK);
+        subSingleBenchmarkResult.setScore(SimpleScore.valueOf(-7));
+        benchmarkResultIO.writeSubSingleBenchmarkCheckpoint(subSingleBenchmarkResult);
+
+        SubSingleBenchmarkResult otherSubSingleBenchmarkResult = createSubSingleBenchmarkResult(
+                new File(benchmarkDirectory, "report"), RandomType.MERSENNE_TWISTER);
+        assertNotEquals(benchmarkResultIO.calculateConfigFingerprint(subSingleBenchmarkResult),
+                benchmarkResultIO.calculateConfigFingerprint(otherSubSingleBenchmarkResult));
+        assertNull(benchmarkResultIO.readSubSingleBenchmarkCheckpoint(otherSubSingleBenchmarkResult));
+    }
+
+    @Test
+    public void readCorruptSubSingleBenchmarkCheckpoint() throws IOException {
+        BenchmarkResultIO benchmarkResultIO = new BenchmarkResultIO();
+        SubSingleBenchmarkResult subSingleBenchmarkResult = createSubSingleBenchmarkResult(
+                new File(benchmarkDirectory, "report"), RandomType.JDK);
+        try (OutputStream out = new FileOutputStream(
+                new File(subSingleBenchmarkResult.getResultDirectory(), "subSingleBenchmarkCheckpoint.xml"))) {
+            out.write("<subSingleBenchmarkCheckpoint>".getBytes(StandardCharsets.UTF_8));
+        }
+        assertNull(benchmarkResultIO.readSubSingleBenchmarkCheckpoint(subSingleBenchmarkResult));
+    }
+
+    @Test
+    public void restoreExtraSubSingleBenchmarkResults() {
+        BenchmarkResultIO benchmarkResultIO = new BenchmarkResultIO();
+        SingleBenchmarkResult singleBenchmarkResult = createSubSingleBenchmarkResult(
+                new File(benchmarkDirectory, "report"), RandomType.JDK).getSingleBenchmarkResult();
+        for (int i = 0; i < 2; i++) {
+            SubSingleBenchmarkResult extraSubSingleBenchmarkResult
+                    = singleBenchmarkResult.addExtraSubSingleBenchmarkResult();
+            extraSubSingleBenchmarkResult.setScore(SimpleScore.valueOf(-10 - i));
+            benchmarkResultIO.writeSubSingleBenchmarkCheckpoint(extraSubSingleBenchmarkResult);
+        }
+        assertEquals(3, singleBenchmarkResult.getSubSingleCount());
+
+        // The config only knows about the first run
+        SingleBenchmarkResult resumedSingleBenchmarkResult = createSubSingleBenchmarkResult(
+                new File(benchmarkDirectory, "report"), RandomType.JDK).getSingleBenchmarkResult();
+        assertEquals(1, benchmarkResultIO.restoreExtraSubSingleBenchmarkResults(resumedSingleBenchmarkResult, 2));
+        assertEquals(2, resumedSingleBenchmarkResult.getSubSingleCount());
+        assertEquals(1, benchmarkResultIO.restoreExtraSubSingleBenchmarkResults(resumedSingleBenchmarkResult, 5));
+        assertEquals(3, resumedSingleBenchmarkResult.getSubSingleCount());
+        assertEquals(SimpleScore.valueOf(-10),
+                resumedSingleBenchmarkResult.getSubSingleBenchmarkResultList().get(1).getScore());
+        assertEquals(SimpleScore.valueOf(-11),
+                resumedSingleBenchmarkResult.getSubSingleBenchmarkResultList().get(2).getScore());
+        assertEquals(0, benchmarkResultIO.restoreExtraSubSingleBenchmarkResults(resumedSingleBenchmarkResult, 5));
+        assertEquals(3, resumedSingleBenchmarkResult.getSubSingleCount());
+
+        // Another config doesn't restore extra runs either
+        SingleBenchmarkResult otherSingleBenchmarkResult = createSubSingleBenchmarkResult(
+                new File(benchmarkDirectory, "report"), RandomType.MERSENNE_TWISTER).getSingleBenchmarkResult();
+        assertEquals(0, benchmarkResultIO.restoreExtraSubSingleBenchmarkResults(otherSingleBenchmarkResult, 5));
+        assertEquals(1, otherSingleBenchmarkResult.getSubSingleCount());
+    }
+
+    @Test
+    public void findResumableBenchmarkReportDirectory() {
+        BenchmarkResultIO benchmarkResultIO = new BenchmarkResultIO();
+        assertNull(benchmarkResultIO.findResumableBenchmarkReportDirectory(benchmarkDirectory));
+
+        File finishedDirectory = new File(benchmarkDirectory, "2018-05-01_100000");
+        finishedDirectory.mkdirs();
+        benchmarkResultIO.writePlannerBenchmarkResult(finishedDirectory, new PlannerBenchmarkResult());
+        assertNull(benchmarkResultIO.findResumableBenchmarkReportDirectory(benchmarkDirectory));
+
+        File interruptedDirectory = new File(benchmarkDirectory, "2018-05-02_100000");
+        interruptedDirectory.mkdirs();
+        File olderInterruptedDirectory = new File(benchmarkDirectory, "2018-04-30_100000");
+        olderInterruptedDirectory.mkdirs();
+        new File(benchmarkDirectory, "2018-05-03_100000_aggregation").mkdirs();
+        assertEquals(interruptedDirectory, benchmarkResultIO.findResumableBenchmarkReportDirectory(benchmarkDirectory));
+
+        // Only the last benchmark can be resumed
+        File newerFinishedDirectory = new File(benchmarkDirectory, "2018-05-04_100000");
+        newerFinishedDirectory.mkdirs();
+        benchmarkResultIO.writePlannerBenchmarkResult(newerFinishedDirectory, new PlannerBenchmarkResult());
+        assertNull(benchmarkResultIO.findResumableBenchmarkReportDirectory(benchmarkDirectory));
+    }
+
+    private static SubSingleBenchmarkResult createSubSingleBenchmarkResult(File benchmarkReportDirectory,
+            RandomType randomType) {
+        PlannerBenchmarkResult plannerBenchmarkResult = new PlannerBenchmarkResult();
+        plannerBenchmarkResult.setBenchmarkReportDirectory(benchmarkReportDirectory);
+        SolverBenchmarkResult solverBenchmarkResult = new SolverBenchmarkResult(plannerBenchmarkResult);
+        solverBenchmarkResult.setName("Solver X");
+        SolverConfig solverConfig = new SolverConfig();
+        solverConfig.setRandomType(randomType);
+        solverBenchmarkResult.setSolverConfig(solverConfig);
+        solverBenchmarkResult.setSingleBenchmarkResultList(new ArrayList<>());
+        ProblemBenchmarkResult problemBenchmarkResult = new ProblemBenchmarkResult(plannerBenchmarkResult);
+        problemBenchmarkResult.setName("problemA");
+        problemBenchmarkResult.setProblemProvider(new FileProblemProvider<>(
+                new XStreamSolutionFileIO<>(), new File("problemA.xml")));
+        problemBenchmarkResult.setProblemStatisticList(Collections.emptyList());
+        problemBenchmarkResult.setSingleBenchmarkResultList(new ArrayList<>());
+        SingleBenchmarkResult singleBenchmarkResult = new SingleBenchmarkResult(
+                solverBenchmarkResult, problemBenchmarkResult);
+        solverBenchmarkResult.getSingleBenchmarkResultList().add(singleBenchmarkResult);
+        problemBenchmarkResult.getSingleBenchmarkResultList().add(singleBenchmarkResult);
+        singleBenchmarkResult.setSubSingleBenchmarkResultList(new ArrayList<>(1));
+        SubSingleBenchmarkResult subSingleBenchmarkResult = new SubSingleBenchmarkResult(singleBenchmarkResult, 0);
+        subSingleBenchmarkResult.setPureSubSingleStatisticList(Collections.emptyList());
+        singleBenchmarkResult.getSubSingleBenchmarkResultList().add(subSingleBenchmarkResult);
+        subSingleBenchmarkResult.makeDirs();
+        return subSingleBenchmarkResult;
+    }
+
+}
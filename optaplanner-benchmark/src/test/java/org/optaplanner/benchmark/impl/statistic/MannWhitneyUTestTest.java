@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.impl.statistic;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+
+import static org.junit.Assert.*;
+
+public class MannWhitneyUTestTest {
+
+    private static final double DELTA = 0.001;
+
+    @Test
+    public void exactSeparatedSamples() {
+        List<Integer> sampleA = Arrays.asList(1, 2, 3);
+        List<Integer> sampleB = Arrays.asList(4, 5, 6);
+        // Only 1 of the 20 orderings is this extreme, in each direction
+        assertEquals(0.1, MannWhitneyUTest.calculateTwoSidedPValue(sampleA, sampleB, Comparator.naturalOrder()), DELTA);
+        assertEquals(0.1, MannWhitneyUTest.calculateTwoSidedPValue(sampleB, sampleA, Comparator.naturalOrder()), DELTA);
+        assertEquals(2.0 / 252.0, MannWhitneyUTest.calculateTwoSidedPValue(
+                Arrays.asList(1, 2, 3, 4, 5), Arrays.asList(6, 7, 8, 9, 10), Comparator.naturalOrder()), DELTA);
+    }
+
+    @Test
+    public void exactInterleavedSamples() {
+        assertEquals(1.0, MannWhitneyUTest.calculateTwoSidedPValue(
+                Arrays.asList(1, 4, 5, 8), Arrays.asList(2, 3, 6, 7), Comparator.naturalOrder()), DELTA);
+    }
+
+    @Test
+    public void allTied() {
+        assertEquals(1.0, MannWhitneyUTest.calculateTwoSidedPValue(
+                Arrays.asList(1, 1), Arrays.asList(1, 1), Comparator.naturalOrder()), DELTA);
+    }
+
+    @Test
+    public void normalApproximation() {
+        Integer[] sampleA = new Integer[25];
+        Integer[] sampleB = new Integer[25];
+        for (int i = 0; i < 25; i++) {
+            sampleA[i] = i;
+            sampleB[i] = 100 + i;
+        }
+        assertTrue(MannWhitneyUTest.calculateTwoSidedPValue(
+                Arrays.asList(sampleA), Arrays.asList(sampleB), Comparator.naturalOrder()) < 0.0001);
+        assertTrue(MannWhitneyUTest.calculateTwoSidedPValue(
+                Arrays.asList(sampleA), Arrays.asList(sampleA), Comparator.naturalOrder()) > 0.9);
+    }
+
+    @Test
+    public void multiLevelScores() {
+        List<HardSoftScore> sampleA = Arrays.asList(HardSoftScore.valueOf(0, -10), HardSoftScore.valueOf(0, -12),
+                HardSoftScore.valueOf(0, -11));
+        List<HardSoftScore> sampleB = Arrays.asList(HardSoftScore.valueOf(-1, 0), HardSoftScore.valueOf(-1, -5),
+                HardSoftScore.valueOf(-2, 0));
+        assertEquals(0.1, MannWhitneyUTest.calculateTwoSidedPValue(sampleA, sampleB, Comparator.naturalOrder()), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptySample() {
+        MannWhitneyUTest.calculateTwoSidedPValue(Arrays.asList(1, 2), Arrays.<Integer>asList(), Comparator.naturalOrder());
+    }
+
+}
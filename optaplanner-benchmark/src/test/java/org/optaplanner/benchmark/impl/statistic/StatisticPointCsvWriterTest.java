@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+
+public class StatisticPointCsvWriterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writeAndClose() throws Exception {
+        File csvFile = temporaryFolder.newFile("STEP_SCORE.csv");
+        // A tiny queue capacity forces the solver thread to block on the background thread
+        StatisticPointCsvWriter writer = new StatisticPointCsvWriter(csvFile, "\"timeMillisSpent\",\"value\"", 2);
+        for (long i = 0L; i < 100L; i++) {
+            writer.write(new TestStatisticPoint(i, i * 10L));
+        }
+        writer.close(false);
+        List<String> lineList = Files.readAllLines(csvFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals(101, lineList.size());
+        assertEquals("\"timeMillisSpent\",\"value\"", lineList.get(0));
+        assertEquals("0,0", lineList.get(1));
+        assertEquals("99,990", lineList.get(100));
+    }
+
+    @Test
+    public void closeFailed() throws Exception {
+        File csvFile = temporaryFolder.newFile("STEP_SCORE.csv");
+        StatisticPointCsvWriter writer = new StatisticPointCsvWriter(csvFile, "\"timeMillisSpent\",\"value\"");
+        writer.write(new TestStatisticPoint(0L, 1L));
+        writer.close(true);
+        List<String> lineList = Files.readAllLines(csvFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList("\"timeMillisSpent\",\"value\"", "0,1", "Failed"), lineList);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void writeAfterClose() throws Exception {
+        File csvFile = temporaryFolder.newFile("STEP_SCORE.csv");
+        StatisticPointCsvWriter writer = new StatisticPointCsvWriter(csvFile, "\"timeMillisSpent\",\"value\"");
+        writer.close(false);
+        writer.write(new TestStatisticPoint(0L, 1L));
+    }
+
+    @Test(timeout = 10000L)
+    public void writeAndCloseAfterWriterThreadDied() throws Exception {
+        File csvFile = temporaryFolder.newFile("STEP_SCORE.csv");
+        StatisticPointCsvWriter writer = new StatisticPointCsvWriter(csvFile, "\"timeMillisSpent\",\"value\"", 1);
+        writer.write(new StatisticPoint() {
+            @Override
+            public String toCsvLine() {
+                throw new OutOfMemoryError("Test error.");
+            }
+        });
+        try {
+            // Without a writer thread, a full queue must not block the solver thread forever
+            for (long i = 0L; i < 100L; i++) {
+                writer.write(new TestStatisticPoint(i, i * 10L));
+            }
+            fail("The write() should have failed.");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getCause() instanceof OutOfMemoryError);
+        }
+        try {
+            writer.close(false);
+            fail("The close() should have failed.");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getCause() instanceof OutOfMemoryError);
+        }
+    }
+
+    private static class TestStatisticPoint extends StatisticPoint {
+
+        private final long timeMillisSpent;
+        private final long value;
+
+        public TestStatisticPoint(long timeMillisSpent, long value) {
+            this.timeMillisSpent = timeMillisSpent;
+            this.value = value;
+        }
+
+        @Override
+        public String toCsvLine() {
+            return buildCsvLineWithLongs(timeMillisSpent, value);
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ package org.optaplanner.benchmark.impl.statistic;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
@@ -71,6 +72,38 @@ public class StatisticUtilsTest {
         assertEquals("2.0E10", StatisticUtils.getStandardDeviationString(new double[]{20000000000.0}));
     }
 
+    @Test
+    public void determineConfidenceIntervalHalfWidthDoubles() {
+        assertNull(StatisticUtils.determineConfidenceIntervalHalfWidthDoubles(
+                Collections.singletonList(new double[]{1.0})));
+        List<double[]> sampleDoublesList = Arrays.asList(
+                new double[]{1.0, -10.0}, new double[]{2.0, -10.0}, new double[]{3.0, -10.0});
+        // Sample standard deviation 1.0, t quantile 4.303 for 2 degrees of freedom
+        assertArrayEquals(new double[]{4.303 / Math.sqrt(3.0), 0.0},
+                StatisticUtils.determineConfidenceIntervalHalfWidthDoubles(sampleDoublesList), DELTA);
+        assertArrayEquals(new double[]{2.0, -10.0}, StatisticUtils.determineMeanDoubles(sampleDoublesList), DELTA);
+    }
+
+    @Test
+    public void isConfidenceIntervalTight() {
+        assertTrue(StatisticUtils.isConfidenceIntervalTight(new double[]{0.5, 0.0}, new double[]{-100.0, 0.0}, 0.01));
+        assertFalse(StatisticUtils.isConfidenceIntervalTight(new double[]{1.5, 0.0}, new double[]{-100.0, 0.0}, 0.01));
+        assertFalse(StatisticUtils.isConfidenceIntervalTight(new double[]{0.5, 0.1}, new double[]{-100.0, 0.0}, 0.01));
+    }
+
+    @Test
+    public void determineStudentT95Quantile() {
+        assertEquals(12.706, StatisticUtils.determineStudentT95Quantile(1), DELTA);
+        assertEquals(2.042, StatisticUtils.determineStudentT95Quantile(30), DELTA);
+        assertEquals(1.984, StatisticUtils.determineStudentT95Quantile(100), DELTA);
+    }
+
+    @Test
+    public void getConfidenceIntervalString() {
+        assertEquals(null, StatisticUtils.getConfidenceIntervalString(null));
+        assertEquals("\u00B12.0", StatisticUtils.getConfidenceIntervalString(new double[]{2.0}));
+    }
+
     private SubSingleBenchmarkResult createSubSingleBenchmarkResult(Score score, int index) {
         SubSingleBenchmarkResult subSingleBenchmarkResult = spy(new SubSingleBenchmarkResult(null, index));
         when(subSingleBenchmarkResult.getAverageScore()).thenReturn(score);
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.benchmark.impl.statistic.allocationrate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListener;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.mockito.Mockito.*;
+
+public class AllocationRateSubSingleStatisticTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveTimeMillisThresholdInterval() {
+        new AllocationRateSubSingleStatistic<TestdataSolution>(buildSubSingleBenchmarkResult(), 0L);
+    }
+
+    @Test
+    public void measureSolverThreadAndRegisteredMoveThreads() {
+        assumeThreadAllocatedMemorySupported();
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().setMoveThreadCount("2");
+        ((LocalSearchPhaseConfig) solverFactory.getSolverConfig().getPhaseConfigList().get(1))
+                .setTerminationConfig(new TerminationConfig().withMillisecondsSpentLimit(200L));
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        Set<Long> moveThreadIdSet = new HashSet<>();
+        AtomicLong maxConstructionHeuristicMoveThreadsCalculationCount = new AtomicLong(0L);
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+            @Override
+            public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                DefaultSolverScope<TestdataSolution> solverScope = stepScope.getPhaseScope().getSolverScope();
+                moveThreadIdSet.addAll(solverScope.getMoveThreadIdSet());
+                if (stepScope instanceof ConstructionHeuristicStepScope) {
+                    // The move threads of the first phase haven't been added to the child threads count yet
+                    long moveThreadsCalculationCount = solverScope.getScoreCalculationCount()
+                            - solverScope.getScoreDirector().getCalculationCount();
+                    maxConstructionHeuristicMoveThreadsCalculationCount.accumulateAndGet(
+                            moveThreadsCalculationCount, Math::max);
+                }
+            }
+        });
+
+        AllocationRateSubSingleStatistic<TestdataSolution> statistic = new AllocationRateSubSingleStatistic<>(
+                buildSubSingleBenchmarkResult(), 10L);
+        statistic.initPointList();
+        statistic.open(solver);
+        solver.solve(buildSolution());
+        statistic.close(solver);
+
+        // Both the construction heuristic and the local search start their own move threads
+        assertTrue(moveThreadIdSet.size() >= 2);
+        assertFalse(moveThreadIdSet.contains(Thread.currentThread().getId()));
+        assertTrue(solver.getSolverScope().getMoveThreadIdSet().isEmpty());
+        assertTrue(maxConstructionHeuristicMoveThreadsCalculationCount.get() > 0L);
+        List<AllocationRateStatisticPoint> pointList = statistic.getPointList();
+        assertFalse(pointList.isEmpty());
+        long previousTimeMillisSpent = -1L;
+        for (AllocationRateStatisticPoint point : pointList) {
+            assertTrue(point.getTimeMillisSpent() >= previousTimeMillisSpent);
+            assertTrue(point.getAllocatedBytesPerSecond() >= 0L);
+            assertTrue(point.getAllocatedBytesPerMove() >= 0L);
+            previousTimeMillisSpent = point.getTimeMillisSpent();
+        }
+    }
+
+    @Test
+    public void measureMoveThreadAllocationsBeforeTheyDie() throws InterruptedException {
+        assumeThreadAllocatedMemorySupported();
+        AllocationRateSubSingleStatistic<TestdataSolution> statistic = new AllocationRateSubSingleStatistic<>(
+                buildSubSingleBenchmarkResult(), 1000L);
+        statistic.initPointList();
+        DefaultSolver<TestdataSolution> solver = mock(DefaultSolver.class);
+        statistic.open(solver);
+        ArgumentCaptor<PhaseLifecycleListener> listenerCaptor = ArgumentCaptor.forClass(PhaseLifecycleListener.class);
+        verify(solver).addPhaseLifecycleListener(listenerCaptor.capture());
+        PhaseLifecycleListener<TestdataSolution> listener = listenerCaptor.getValue();
+
+        int allocatedBytes = 16_000_000;
+        CountDownLatch allocateLatch = new CountDownLatch(1);
+        CountDownLatch allocatedLatch = new CountDownLatch(1);
+        CountDownLatch destroyLatch = new CountDownLatch(1);
+        Thread moveThread = new Thread(() -> {
+            try {
+                allocateLatch.await();
+                byte[] bytes = new byte[allocatedBytes];
+                bytes[allocatedBytes - 1] = 1;
+                allocatedLatch.countDown();
+                destroyLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        moveThread.start();
+        DefaultSolverScope<TestdataSolution> solverScope = mock(DefaultSolverScope.class);
+        when(solverScope.getMoveThreadIdSet()).thenReturn(Collections.singleton(moveThread.getId()));
+        AbstractPhaseScope<TestdataSolution> phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        AbstractStepScope<TestdataSolution> stepScope = mock(AbstractStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+
+        listener.solvingStarted(solverScope);
+        when(phaseScope.calculateSolverTimeMillisSpentUpToNow()).thenReturn(1000L);
+        when(solverScope.getScoreCalculationCount()).thenReturn(10L);
+        listener.stepEnded(stepScope);
+        allocateLatch.countDown();
+        allocatedLatch.await();
+        listener.phaseEnded(phaseScope);
+        // The decider destroys the move threads after the listeners
+        destroyLatch.countDown();
+        moveThread.join();
+        when(solverScope.getMoveThreadIdSet()).thenReturn(Collections.emptySet());
+        when(phaseScope.calculateSolverTimeMillisSpentUpToNow()).thenReturn(2000L);
+        when(solverScope.getScoreCalculationCount()).thenReturn(1010L);
+        listener.stepEnded(stepScope);
+        statistic.close(solver);
+
+        List<AllocationRateStatisticPoint> pointList = statistic.getPointList();
+        assertEquals(2, pointList.size());
+        AllocationRateStatisticPoint point = pointList.get(1);
+        assertEquals(2000L, point.getTimeMillisSpent());
+        assertTrue(point.getAllocatedBytesPerSecond() >= allocatedBytes);
+        assertTrue(point.getAllocatedBytesPerMove() >= allocatedBytes / 1000L);
+    }
+
+    private static void assumeThreadAllocatedMemorySupported() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported());
+    }
+
+    private static SubSingleBenchmarkResult buildSubSingleBenchmarkResult() {
+        SingleBenchmarkResult singleBenchmarkResult = new SingleBenchmarkResult(
+                mock(SolverBenchmarkResult.class), mock(ProblemBenchmarkResult.class));
+        return new SubSingleBenchmarkResult(singleBenchmarkResult, 0);
+    }
+
+    private static TestdataSolution buildSolution() {
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(
+                new TestdataValue("v1"), new TestdataValue("v2"), new TestdataValue("v3")));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1"), new TestdataEntity("e2"), new TestdataEntity("e3"),
+                new TestdataEntity("e4")));
+        return solution;
+    }
+
+}
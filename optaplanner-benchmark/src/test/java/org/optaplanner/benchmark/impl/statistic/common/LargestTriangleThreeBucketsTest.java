@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.common;
+
+import org.jfree.data.xy.XYSeries;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LargestTriangleThreeBucketsTest {
+
+    @Test
+    public void notDownsampledBelowThreshold() {
+        XYSeries series = new XYSeries("a");
+        for (int i = 0; i < 10; i++) {
+            series.add(i, i * i);
+        }
+        assertSame(series, LargestTriangleThreeBuckets.downsample(series, 10));
+    }
+
+    @Test
+    public void keepsFirstLastAndPeak() {
+        XYSeries series = new XYSeries("a");
+        for (int i = 0; i < 1000; i++) {
+            series.add(i, i == 567 ? 1000.0 : 0.0);
+        }
+        XYSeries downsampledSeries = LargestTriangleThreeBuckets.downsample(series, 100);
+        assertEquals("a", downsampledSeries.getKey());
+        assertTrue(downsampledSeries.getItemCount() <= 100);
+        assertEquals(0.0, downsampledSeries.getX(0).doubleValue(), 0.0);
+        assertEquals(999.0, downsampledSeries.getX(downsampledSeries.getItemCount() - 1).doubleValue(), 0.0);
+        boolean peakFound = false;
+        for (int i = 0; i < downsampledSeries.getItemCount(); i++) {
+            if (downsampledSeries.getY(i).doubleValue() == 1000.0) {
+                assertEquals(567.0, downsampledSeries.getX(i).doubleValue(), 0.0);
+                peakFound = true;
+            }
+        }
+        assertTrue(peakFound);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void thresholdTooLow() {
+        LargestTriangleThreeBuckets.downsample(new XYSeries("a"), 2);
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.benchmark.impl.statistic.garbagecollection;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class GarbageCollectionSubSingleStatisticTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveTimeMillisThresholdInterval() {
+        new GarbageCollectionSubSingleStatistic<TestdataSolution>(buildSubSingleBenchmarkResult(), 0L);
+    }
+
+    @Test
+    public void measureIntervals() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        ((LocalSearchPhaseConfig) solverFactory.getSolverConfig().getPhaseConfigList().get(1))
+                .setTerminationConfig(new TerminationConfig().withMillisecondsSpentLimit(200L));
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+
+        GarbageCollectionSubSingleStatistic<TestdataSolution> statistic = new GarbageCollectionSubSingleStatistic<>(
+                buildSubSingleBenchmarkResult(), 10L);
+        statistic.initPointList();
+        statistic.open(solver);
+        solver.solve(buildSolution());
+        statistic.close(solver);
+
+        List<GarbageCollectionStatisticPoint> pointList = statistic.getPointList();
+        assertFalse(pointList.isEmpty());
+        long previousTimeMillisSpent = -1L;
+        for (GarbageCollectionStatisticPoint point : pointList) {
+            assertTrue(point.getTimeMillisSpent() > previousTimeMillisSpent);
+            // Each point holds the garbage collection of its interval only, not the cumulative total
+            assertTrue(point.getIntervalMeasurement().getCollectionCount() >= 0L);
+            assertTrue(point.getIntervalMeasurement().getCollectionTimeMillis() >= 0L);
+            previousTimeMillisSpent = point.getTimeMillisSpent();
+        }
+    }
+
+    @Test
+    public void subtractMeasurement() {
+        GarbageCollectionMeasurement earlierMeasurement = new GarbageCollectionMeasurement(3L, 40L);
+        GarbageCollectionMeasurement laterMeasurement = new GarbageCollectionMeasurement(5L, 70L);
+        GarbageCollectionMeasurement intervalMeasurement = laterMeasurement.subtract(earlierMeasurement);
+        assertEquals(2L, intervalMeasurement.getCollectionCount());
+        assertEquals(30L, intervalMeasurement.getCollectionTimeMillis());
+    }
+
+    private static SubSingleBenchmarkResult buildSubSingleBenchmarkResult() {
+        SingleBenchmarkResult singleBenchmarkResult = new SingleBenchmarkResult(
+                mock(SolverBenchmarkResult.class), mock(ProblemBenchmarkResult.class));
+        return new SubSingleBenchmarkResult(singleBenchmarkResult, 0);
+    }
+
+    private static TestdataSolution buildSolution() {
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(
+                new TestdataValue("v1"), new TestdataValue("v2"), new TestdataValue("v3")));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1"), new TestdataEntity("e2"), new TestdataEntity("e3"),
+                new TestdataEntity("e4")));
+        return solution;
+    }
+
+}
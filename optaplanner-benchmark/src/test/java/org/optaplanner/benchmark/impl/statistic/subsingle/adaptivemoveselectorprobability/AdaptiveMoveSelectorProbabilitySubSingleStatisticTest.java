@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.adaptivemoveselectorprobability;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.composite.AdaptiveUnionMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class AdaptiveMoveSelectorProbabilitySubSingleStatisticTest {
+
+    @Test
+    public void sameChildConfigsAndFilteredAdaptiveMoveSelector() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataSolution.class, TestdataEntity.class);
+        // Both children have the same toString()
+        AdaptiveUnionMoveSelectorConfig moveSelectorConfig = new AdaptiveUnionMoveSelectorConfig(
+                Arrays.<MoveSelectorConfig>asList(new ChangeMoveSelectorConfig(), new ChangeMoveSelectorConfig()));
+        moveSelectorConfig.setFilterClassList(Collections.singletonList(AcceptAllMoveFilter.class));
+        ((LocalSearchPhaseConfig) solverFactory.getSolverConfig().getPhaseConfigList().get(1))
+                .setMoveSelectorConfig(moveSelectorConfig);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+
+        SingleBenchmarkResult singleBenchmarkResult = new SingleBenchmarkResult(
+                mock(SolverBenchmarkResult.class), mock(ProblemBenchmarkResult.class));
+        AdaptiveMoveSelectorProbabilitySubSingleStatistic<TestdataSolution> statistic
+                = new AdaptiveMoveSelectorProbabilitySubSingleStatistic<>(
+                new SubSingleBenchmarkResult(singleBenchmarkResult, 0));
+        statistic.initPointList();
+        statistic.open(solver);
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+        solver.solve(solution);
+        statistic.close(solver);
+
+        Set<String> moveSelectorSet = new LinkedHashSet<>();
+        for (AdaptiveMoveSelectorProbabilityStatisticPoint point : statistic.getPointList()) {
+            moveSelectorSet.add(point.getMoveSelector());
+        }
+        assertEquals(2, moveSelectorSet.size());
+        // The first step records both children
+        assertEquals(1.0, statistic.getPointList().get(0).getProbability()
+                + statistic.getPointList().get(1).getProbability(), 1e-9);
+    }
+
+    public static class AcceptAllMoveFilter implements SelectionFilter<TestdataSolution, Move<TestdataSolution>> {
+
+        @Override
+        public boolean accept(ScoreDirector<TestdataSolution> scoreDirector, Move<TestdataSolution> move) {
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.warmup;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SteadyStateDetectorTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void notSteadyBeforeWindowIsFull() {
+        SteadyStateDetector detector = new SteadyStateDetector(3, 0.05);
+        assertFalse(detector.addMeasurement(1000.0));
+        assertFalse(detector.addMeasurement(1000.0));
+        assertTrue(Double.isNaN(detector.calculateCoefficientOfVariation()));
+        assertTrue(detector.addMeasurement(1000.0));
+        assertEquals(0.0, detector.calculateCoefficientOfVariation(), DELTA);
+    }
+
+    @Test
+    public void steadyAfterJitSettles() {
+        SteadyStateDetector detector = new SteadyStateDetector(3, 0.05);
+        assertFalse(detector.addMeasurement(100.0));
+        assertFalse(detector.addMeasurement(400.0));
+        assertFalse(detector.addMeasurement(900.0));
+        assertFalse(detector.addMeasurement(1000.0));
+        // The window is 900, 1000, 1010
+        assertFalse(detector.addMeasurement(1010.0));
+        // The window is 1000, 1010, 990
+        assertTrue(detector.addMeasurement(990.0));
+        assertEquals(Math.sqrt(200.0 / 3.0) / 1000.0, detector.calculateCoefficientOfVariation(), DELTA);
+        assertEquals(6, detector.getMeasurementCount());
+    }
+
+    @Test
+    public void zeroMean() {
+        SteadyStateDetector detector = new SteadyStateDetector(2, 0.05);
+        detector.addMeasurement(0.0);
+        assertTrue(detector.addMeasurement(0.0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void windowSizeTooSmall() {
+        new SteadyStateDetector(1, 0.05);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeThreshold() {
+        new SteadyStateDetector(5, -0.1);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.warmup;
+
+import org.junit.Test;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class WarmUpSteadyStateMonitorTest {
+
+    @Test
+    public void onlyLocalSearchIsMeasured() {
+        WarmUpSteadyStateMonitor<TestdataSolution> monitor = new WarmUpSteadyStateMonitor<>(1000L,
+                () -> new SteadyStateDetector(2, 0.05));
+        DefaultSolver<TestdataSolution> solver = mock(DefaultSolver.class);
+        WarmUpSteadyStateMonitor<TestdataSolution>.WarmUpSteadyStateListener listener
+                = monitor.open(solver, mock(ProblemBenchmarkResult.class));
+        DefaultSolverScope<TestdataSolution> solverScope = mock(DefaultSolverScope.class);
+
+        ConstructionHeuristicPhaseScope<TestdataSolution> constructionHeuristicPhaseScope
+                = mock(ConstructionHeuristicPhaseScope.class);
+        when(constructionHeuristicPhaseScope.getSolverScope()).thenReturn(solverScope);
+        ConstructionHeuristicStepScope<TestdataSolution> constructionHeuristicStepScope
+                = mock(ConstructionHeuristicStepScope.class);
+        when(constructionHeuristicStepScope.getPhaseScope()).thenReturn(constructionHeuristicPhaseScope);
+        listener.phaseStarted(constructionHeuristicPhaseScope);
+        when(constructionHeuristicPhaseScope.calculateSolverTimeMillisSpentUpToNow()).thenReturn(5000L);
+        when(solverScope.getScoreCalculationCount()).thenReturn(1000L);
+        listener.stepEnded(constructionHeuristicStepScope);
+        listener.phaseEnded(constructionHeuristicPhaseScope);
+        assertTrue(Double.isNaN(monitor.calculateCoefficientOfVariation()));
+
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = mockLocalSearchPhaseScope(solverScope, 5000L);
+        listener.phaseStarted(phaseScope);
+        // The 5 seconds of construction heuristics don't dilute the first measurement
+        endLocalSearchStep(listener, phaseScope, 6000L, 2000L);
+        assertFalse(monitor.isSteadyStateReached());
+        endLocalSearchStep(listener, phaseScope, 7000L, 3000L);
+        assertTrue(monitor.isSteadyStateReached());
+        assertEquals(0.0, monitor.calculateCoefficientOfVariation(), 0.0);
+        assertEquals(7000L, monitor.getWarmUpTimeMillisSpent());
+        verify(solver).terminateEarly();
+    }
+
+    @Test
+    public void problemsAreMeasuredSeparately() {
+        WarmUpSteadyStateMonitor<TestdataSolution> monitor = new WarmUpSteadyStateMonitor<>(1000L,
+                () -> new SteadyStateDetector(2, 0.05));
+        DefaultSolver<TestdataSolution> solver = mock(DefaultSolver.class);
+        DefaultSolverScope<TestdataSolution> solverScope = mock(DefaultSolverScope.class);
+        WarmUpSteadyStateMonitor<TestdataSolution>.WarmUpSteadyStateListener bigListener
+                = monitor.open(solver, mock(ProblemBenchmarkResult.class));
+        LocalSearchPhaseScope<TestdataSolution> bigPhaseScope = mockLocalSearchPhaseScope(solverScope, 0L);
+        bigListener.phaseStarted(bigPhaseScope);
+        DefaultSolverScope<TestdataSolution> smallSolverScope = mock(DefaultSolverScope.class);
+        WarmUpSteadyStateMonitor<TestdataSolution>.WarmUpSteadyStateListener smallListener
+                = monitor.open(solver, mock(ProblemBenchmarkResult.class));
+        LocalSearchPhaseScope<TestdataSolution> smallPhaseScope = mockLocalSearchPhaseScope(smallSolverScope, 0L);
+        smallListener.phaseStarted(smallPhaseScope);
+
+        // A small problem has a far higher score calculation speed than a big problem
+        endLocalSearchStep(smallListener, smallPhaseScope, 1000L, 10000L);
+        endLocalSearchStep(bigListener, bigPhaseScope, 1000L, 100L);
+        assertFalse(monitor.isSteadyStateReached());
+        endLocalSearchStep(smallListener, smallPhaseScope, 2000L, 20000L);
+        assertTrue(monitor.isSteadyStateReached());
+    }
+
+    private static LocalSearchPhaseScope<TestdataSolution> mockLocalSearchPhaseScope(
+            DefaultSolverScope<TestdataSolution> solverScope, long timeMillisSpent) {
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        when(phaseScope.calculateSolverTimeMillisSpentUpToNow()).thenReturn(timeMillisSpent);
+        return phaseScope;
+    }
+
+    private static void endLocalSearchStep(WarmUpSteadyStateMonitor<TestdataSolution>.WarmUpSteadyStateListener listener,
+            LocalSearchPhaseScope<TestdataSolution> phaseScope, long timeMillisSpent, long scoreCalculationCount) {
+        when(phaseScope.calculateSolverTimeMillisSpentUpToNow()).thenReturn(timeMillisSpent);
+        when(phaseScope.getSolverScope().getScoreCalculationCount()).thenReturn(scoreCalculationCount);
+        LocalSearchStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        listener.stepEnded(stepScope);
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.domain.variable;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.solver.Solver;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * Specifies that a bean property (or a field) is an ordered {@link List} of planning values
+ * that the {@link Solver} can change, by moving values within and between the lists of the entities.
+ * <p>
+ * It is an alternative to a {@link PlanningVariable} with {@link PlanningVariableGraphType#CHAINED}:
+ * the entity is the anchor and it owns its values in order,
+ * so there's no need for an {@link InverseRelationShadowVariable} or an {@link AnchorShadowVariable}.
+ * <p>
+ * It is specified on a getter of a java bean property (or a field) of a {@link PlanningEntity} class.
+ * The getter must return a mutable {@link List} (such as an {@link java.util.ArrayList}), never null.
+ * <p>
+ * Every planning value must be in exactly 1 list.
+ * Construction heuristics don't support it yet, so the lists must be filled before local search starts,
+ * for example by a custom phase.
+ * Use the list move selectors (such as {@code listChangeMoveSelector}) to change it.
+ */
+@Target({METHOD, FIELD})
+@Retention(RUNTIME)
+public @interface PlanningListVariable {
+
+}
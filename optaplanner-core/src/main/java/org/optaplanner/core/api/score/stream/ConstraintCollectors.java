@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream;
+
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+
+/**
+ * Creates the {@link UniConstraintCollector}s for {@code UniConstraintStream.groupBy(...)}.
+ */
+public final class ConstraintCollectors {
+
+    /**
+     * @param <A> the type of the grouped facts
+     * @return never null, the number of facts in the group
+     */
+    public static <A> UniConstraintCollector<A, int[], Integer> count() {
+        return new UniConstraintCollector<>(
+                () -> new int[1],
+                (resultContainer, a) -> {
+                    resultContainer[0]++;
+                    return () -> resultContainer[0]--;
+                },
+                resultContainer -> resultContainer[0]);
+    }
+
+    /**
+     * @param groupValueMapping never null, the value to sum of each fact
+     * @param <A> the type of the grouped facts
+     * @return never null, the sum of the values of the facts in the group
+     */
+    public static <A> UniConstraintCollector<A, int[], Integer> sum(ToIntFunction<? super A> groupValueMapping) {
+        return new UniConstraintCollector<>(
+                () -> new int[1],
+                (resultContainer, a) -> {
+                    int value = groupValueMapping.applyAsInt(a);
+                    resultContainer[0] += value;
+                    return () -> resultContainer[0] -= value;
+                },
+                resultContainer -> resultContainer[0]);
+    }
+
+    /**
+     * @param groupValueMapping never null, the value to sum of each fact
+     * @param <A> the type of the grouped facts
+     * @return never null, the sum of the values of the facts in the group
+     */
+    public static <A> UniConstraintCollector<A, long[], Long> sumLong(ToLongFunction<? super A> groupValueMapping) {
+        return new UniConstraintCollector<>(
+                () -> new long[1],
+                (resultContainer, a) -> {
+                    long value = groupValueMapping.applyAsLong(a);
+                    resultContainer[0] += value;
+                    return () -> resultContainer[0] -= value;
+                },
+                resultContainer -> resultContainer[0]);
+    }
+
+    private ConstraintCollectors() {
+    }
+
+}
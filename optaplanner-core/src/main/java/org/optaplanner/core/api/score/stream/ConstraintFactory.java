@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+
+/**
+ * The start of every {@link Constraint}.
+ * @see ConstraintProvider
+ */
+public interface ConstraintFactory {
+
+    /**
+     * @return never null, the package of every {@link Constraint} built by this factory,
+     * the package of the {@link ConstraintProvider} implementation
+     */
+    String getDefaultConstraintPackage();
+
+    /**
+     * Starts a {@link UniConstraintStream} with every problem fact and planning entity
+     * that is an instance of the fromClass.
+     * <p>
+     * A {@link PlanningEntity} instance with an uninitialized planning variable is not included,
+     * so the constraints don't need to check for null variables during construction heuristics.
+     * @param fromClass never null
+     * @param <A> the type of the matched facts
+     * @return never null
+     */
+    <A> UniConstraintStream<A> from(Class<A> fromClass);
+
+}
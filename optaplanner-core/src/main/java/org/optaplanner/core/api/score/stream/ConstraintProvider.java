@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+
+/**
+ * Provides the {@link Constraint}s of a planning problem, as an alternative to a score DRL,
+ * to be used with {@code ScoreDirectorFactoryConfig.setConstraintProviderClass(Class)}.
+ * <p>
+ * The {@link Score} is calculated incrementally: only the parts of the constraints
+ * that depend on the changed facts are recalculated.
+ * <p>
+ * An implementation must be stateless and have a public no-arg constructor.
+ */
+@FunctionalInterface
+public interface ConstraintProvider {
+
+    /**
+     * This method is called once, to build the node network shared by every score calculation.
+     * @param constraintFactory never null, start every constraint with {@link ConstraintFactory#from(Class)}
+     * @return never null, the terminal result of {@link UniConstraintStream#penalize(String, Score)} etc.
+     * for every constraint that must count
+     */
+    Constraint[] defineConstraints(ConstraintFactory constraintFactory);
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream;
+
+import java.util.function.Function;
+
+import org.optaplanner.core.api.score.stream.bi.BiJoiner;
+import org.optaplanner.core.impl.score.stream.bi.EqualsBiJoiner;
+
+/**
+ * Creates the {@link BiJoiner}s for {@code UniConstraintStream.join(...)}.
+ */
+public final class Joiners {
+
+    /**
+     * Joins every A and B that share the same property value.
+     * The join is hash indexed on that property, so it doesn't try every combination of A and B.
+     * @param mapping never null, the property of both A and B
+     * @param <A> the type of both the left and the right fact
+     * @param <Property_> the type of the property
+     * @return never null
+     */
+    public static <A, Property_> BiJoiner<A, A> equal(Function<A, Property_> mapping) {
+        return equal(mapping, mapping);
+    }
+
+    /**
+     * Joins every A and B for which {@code leftMapping.apply(a).equals(rightMapping.apply(b))}.
+     * The join is hash indexed on that property, so it doesn't try every combination of A and B.
+     * @param leftMapping never null, the property of A
+     * @param rightMapping never null, the property of B
+     * @param <A> the type of the left fact
+     * @param <B> the type of the right fact
+     * @param <Property_> the type of the property
+     * @return never null
+     */
+    public static <A, B, Property_> BiJoiner<A, B> equal(
+            Function<A, Property_> leftMapping, Function<B, Property_> rightMapping) {
+        return new EqualsBiJoiner<>(leftMapping, rightMapping);
+    }
+
+    private Joiners() {
+    }
+
+}
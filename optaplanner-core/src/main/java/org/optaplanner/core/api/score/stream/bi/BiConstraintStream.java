@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream.bi;
+
+import java.util.function.BiPredicate;
+import java.util.function.ToIntBiFunction;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+
+/**
+ * A stream of tuples of 2 facts, created by {@link UniConstraintStream#join(Class, BiJoiner)}
+ * or {@link UniConstraintStream#groupBy}.
+ * @param <A> the type of the first fact of a tuple
+ * @param <B> the type of the second fact of a tuple
+ */
+public interface BiConstraintStream<A, B> {
+
+    /**
+     * Only keeps the tuples that match the predicate.
+     * @param predicate never null, must not have side effects
+     * @return never null
+     */
+    BiConstraintStream<A, B> filter(BiPredicate<A, B> predicate);
+
+    /**
+     * Subtracts the constraintWeight from the {@link Score} for every tuple.
+     * @param constraintName never null, unique per {@link ConstraintFactory#getDefaultConstraintPackage()}
+     * @param constraintWeight never null, of the {@link Score} type of the planning solution, usually positive
+     * @return never null
+     */
+    default Constraint penalize(String constraintName, Score<?> constraintWeight) {
+        return penalize(constraintName, constraintWeight, (a, b) -> 1);
+    }
+
+    /**
+     * Subtracts the constraintWeight multiplied by the match weight from the {@link Score} for every tuple.
+     * @param constraintName never null, unique per {@link ConstraintFactory#getDefaultConstraintPackage()}
+     * @param constraintWeight never null, of the {@link Score} type of the planning solution, usually positive
+     * @param matchWeigher never null, must not have side effects
+     * @return never null
+     */
+    Constraint penalize(String constraintName, Score<?> constraintWeight, ToIntBiFunction<A, B> matchWeigher);
+
+    /**
+     * Adds the constraintWeight to the {@link Score} for every tuple.
+     * @param constraintName never null, unique per {@link ConstraintFactory#getDefaultConstraintPackage()}
+     * @param constraintWeight never null, of the {@link Score} type of the planning solution, usually positive
+     * @return never null
+     */
+    default Constraint reward(String constraintName, Score<?> constraintWeight) {
+        return reward(constraintName, constraintWeight, (a, b) -> 1);
+    }
+
+    /**
+     * Adds the constraintWeight multiplied by the match weight to the {@link Score} for every tuple.
+     * @param constraintName never null, unique per {@link ConstraintFactory#getDefaultConstraintPackage()}
+     * @param constraintWeight never null, of the {@link Score} type of the planning solution, usually positive
+     * @param matchWeigher never null, must not have side effects
+     * @return never null
+     */
+    Constraint reward(String constraintName, Score<?> constraintWeight, ToIntBiFunction<A, B> matchWeigher);
+
+}
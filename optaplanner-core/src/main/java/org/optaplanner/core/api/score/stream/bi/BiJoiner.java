@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream.bi;
+
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+
+/**
+ * Defines which A and B facts {@link UniConstraintStream#join(Class, BiJoiner) join}.
+ * Created by {@link Joiners}.
+ * @param <A> the type of the left fact
+ * @param <B> the type of the right fact
+ */
+public interface BiJoiner<A, B> {
+
+    /**
+     * @param otherJoiner never null
+     * @return never null, a joiner that only matches if both this and the other joiner match
+     */
+    BiJoiner<A, B> and(BiJoiner<A, B> otherJoiner);
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream.uni;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+
+/**
+ * Aggregates the facts of a group incrementally, see {@link ConstraintCollectors}.
+ * @param <A> the type of the grouped facts
+ * @param <ResultContainer_> the mutable accumulation state of a group
+ * @param <Result_> the aggregated result of a group
+ */
+public final class UniConstraintCollector<A, ResultContainer_, Result_> {
+
+    private final Supplier<ResultContainer_> supplier;
+    private final BiFunction<ResultContainer_, ? super A, Runnable> accumulator;
+    private final Function<ResultContainer_, Result_> finisher;
+
+    /**
+     * @param supplier never null, creates the empty state of a new group
+     * @param accumulator never null, adds a fact to the state and returns the {@link Runnable} that removes it again
+     * @param finisher never null, extracts the result from the state, called after every change to the group
+     */
+    public UniConstraintCollector(Supplier<ResultContainer_> supplier,
+            BiFunction<ResultContainer_, ? super A, Runnable> accumulator,
+            Function<ResultContainer_, Result_> finisher) {
+        this.supplier = supplier;
+        this.accumulator = accumulator;
+        this.finisher = finisher;
+    }
+
+    public Supplier<ResultContainer_> getSupplier() {
+        return supplier;
+    }
+
+    public BiFunction<ResultContainer_, ? super A, Runnable> getAccumulator() {
+        return accumulator;
+    }
+
+    public Function<ResultContainer_, Result_> getFinisher() {
+        return finisher;
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream.uni;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.api.score.stream.bi.BiJoiner;
+
+/**
+ * A stream of single facts, started by {@link ConstraintFactory#from(Class)}.
+ * @param <A> the type of the facts
+ */
+public interface UniConstraintStream<A> {
+
+    /**
+     * Only keeps the facts that match the predicate.
+     * @param predicate never null, must not have side effects
+     * @return never null
+     */
+    UniConstraintStream<A> filter(Predicate<A> predicate);
+
+    /**
+     * Creates a tuple for every combination of A and B (a cartesian product).
+     * Prefer {@link #join(Class, BiJoiner)} if possible.
+     * @param otherClass never null
+     * @param <B> the type of the other facts
+     * @return never null
+     */
+    <B> BiConstraintStream<A, B> join(Class<B> otherClass);
+
+    /**
+     * Creates a tuple for every A and B that match the joiner.
+     * @param otherClass never null, see {@link ConstraintFactory#from(Class)}
+     * @param joiner never null, see {@link Joiners}
+     * @param <B> the type of the other facts
+     * @return never null
+     */
+    <B> BiConstraintStream<A, B> join(Class<B> otherClass, BiJoiner<A, B> joiner);
+
+    /**
+     * Creates a tuple for every A and B that match the joiner.
+     * @param otherStream never null, built by the same {@link ConstraintFactory}
+     * @param joiner never null, see {@link Joiners}
+     * @param <B> the type of the other facts
+     * @return never null
+     */
+    <B> BiConstraintStream<A, B> join(UniConstraintStream<B> otherStream, BiJoiner<A, B> joiner);
+
+    /**
+     * Groups the facts by a key and aggregates each group.
+     * An empty group is removed.
+     * @param groupKeyMapping never null, must not return null
+     * @param collector never null, see {@link ConstraintCollectors}
+     * @param <GroupKey_> the type of the group key
+     * @param <Result_> the type of the aggregated result
+     * @return never null, a tuple of the group key and the result for every non empty group
+     */
+    <GroupKey_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(Function<A, GroupKey_> groupKeyMapping,
+            UniConstraintCollector<A, ?, Result_> collector);
+
+    /**
+     * Subtracts the constraintWeight from the {@link Score} for every fact.
+     * @param constraintName never null, unique per {@link ConstraintFactory#getDefaultConstraintPackage()}
+     * @param constraintWeight never null, of the {@link Score} type of the planning solution, usually positive
+     * @return never null
+     */
+    default Constraint penalize(String constraintName, Score<?> constraintWeight) {
+        return penalize(constraintName, constraintWeight, a -> 1);
+    }
+
+    /**
+     * Subtracts the constraintWeight multiplied by the match weight from the {@link Score} for every fact.
+     * @param constraintName never null, unique per {@link ConstraintFactory#getDefaultConstraintPackage()}
+     * @param constraintWeight never null, of the {@link Score} type of the planning solution, usually positive
+     * @param matchWeigher never null, must not have side effects
+     * @return never null
+     */
+    Constraint penalize(String constraintName, Score<?> constraintWeight, ToIntFunction<A> matchWeigher);
+
+    /**
+     * Adds the constraintWeight to the {@link Score} for every fact.
+     * @param constraintName never null, unique per {@link ConstraintFactory#getDefaultConstraintPackage()}
+     * @param constraintWeight never null, of the {@link Score} type of the planning solution, usually positive
+     * @return never null
+     */
+    default Constraint reward(String constraintName, Score<?> constraintWeight) {
+        return reward(constraintName, constraintWeight, a -> 1);
+    }
+
+    /**
+     * Adds the constraintWeight multiplied by the match weight to the {@link Score} for every fact.
+     * @param constraintName never null, unique per {@link ConstraintFactory#getDefaultConstraintPackage()}
+     * @param constraintWeight never null, of the {@link Score} type of the planning solution, usually positive
+     * @param matchWeigher never null, must not have side effects
+     * @return never null
+     */
+    Constraint reward(String constraintName, Score<?> constraintWeight, ToIntFunction<A> matchWeigher);
+
+}
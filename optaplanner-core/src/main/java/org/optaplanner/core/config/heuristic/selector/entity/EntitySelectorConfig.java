@@ -263,15 +263,21 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
         validateSelectedLimit(minimumCacheType);
 
         // baseEntitySelector and lower should be SelectionOrder.ORIGINAL if they are going to get cached completely
+        boolean baseRandomSelection = determineBaseRandomSelection(
+                entityDescriptor, resolvedCacheType, resolvedSelectionOrder);
+        // A random baseEntitySelector only selects movable entities, instead of selecting and rejecting immovable ones
+        boolean baseMovableFiltering = baseRandomSelection && nearbySelectionConfig == null
+                && entityDescriptor.hasEffectiveMovableEntitySelectionFilter();
         EntitySelector entitySelector = buildBaseEntitySelector(configPolicy, entityDescriptor,
-                SelectionCacheType.max(minimumCacheType, resolvedCacheType),
-                determineBaseRandomSelection(entityDescriptor, resolvedCacheType, resolvedSelectionOrder));
+                SelectionCacheType.max(minimumCacheType, resolvedCacheType), baseRandomSelection,
+                baseMovableFiltering);
         if (nearbySelectionConfig != null) {
             // TODO Static filtering (such as movableEntitySelectionFilter) should affect nearbySelection
             entitySelector = nearbySelectionConfig.applyNearbyEntitySelector(configPolicy,
                     minimumCacheType, resolvedCacheType, resolvedSelectionOrder, entitySelector);
         }
-        entitySelector = applyFiltering(resolvedCacheType, resolvedSelectionOrder, entitySelector);
+        entitySelector = applyFiltering(resolvedCacheType, resolvedSelectionOrder, entitySelector,
+                !baseMovableFiltering);
         entitySelector = applySorting(resolvedCacheType, resolvedSelectionOrder, entitySelector);
         entitySelector = applyProbability(resolvedCacheType, resolvedSelectionOrder, entitySelector);
         entitySelector = applyShuffling(resolvedCacheType, resolvedSelectionOrder, entitySelector);
@@ -334,7 +340,7 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
 
     private EntitySelector buildBaseEntitySelector(
             HeuristicConfigPolicy configPolicy, EntityDescriptor entityDescriptor,
-            SelectionCacheType minimumCacheType, boolean randomSelection) {
+            SelectionCacheType minimumCacheType, boolean randomSelection, boolean movableFiltering) {
         if (minimumCacheType == SelectionCacheType.SOLVER) {
             // TODO Solver cached entities are not compatible with DroolsScoreCalculator and IncrementalScoreDirector
             // because between phases the entities get cloned and the KieSession/Maps contains those clones afterwards
@@ -343,18 +349,24 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
                     + ") is not yet supported. Please use " + SelectionCacheType.PHASE + " instead.");
         }
         // FromSolutionEntitySelector has an intrinsicCacheType STEP
-        return new FromSolutionEntitySelector(entityDescriptor, minimumCacheType, randomSelection);
+        return new FromSolutionEntitySelector(entityDescriptor, minimumCacheType, randomSelection,
+                movableFiltering ? entityDescriptor.getEffectiveMovableEntitySelectionFilter() : null,
+                configPolicy.getEnvironmentMode().isNonIntrusiveFullAsserted());
     }
 
     private boolean hasFiltering(EntityDescriptor entityDescriptor) {
+        return hasFiltering(entityDescriptor, true);
+    }
+
+    private boolean hasFiltering(EntityDescriptor entityDescriptor, boolean movableFiltering) {
         return !ConfigUtils.isEmptyCollection(filterClassList)
-                || entityDescriptor.hasEffectiveMovableEntitySelectionFilter();
+                || (movableFiltering && entityDescriptor.hasEffectiveMovableEntitySelectionFilter());
     }
 
     private EntitySelector applyFiltering(SelectionCacheType resolvedCacheType, SelectionOrder resolvedSelectionOrder,
-            EntitySelector entitySelector) {
+            EntitySelector entitySelector, boolean movableFiltering) {
         EntityDescriptor entityDescriptor = entitySelector.getEntityDescriptor();
-        if (hasFiltering(entityDescriptor)) {
+        if (hasFiltering(entityDescriptor, movableFiltering)) {
             List<SelectionFilter> filterList = new ArrayList<>(
                     filterClassList == null ? 1 : filterClassList.size() + 1);
             if (filterClassList != null) {
@@ -362,8 +374,8 @@ public class EntitySelectorConfig extends SelectorConfig<EntitySelectorConfig> {
                     filterList.add(ConfigUtils.newInstance(this, "filterClass", filterClass));
                 }
             }
-            // Filter out immovable entities
-            if (entityDescriptor.hasEffectiveMovableEntitySelectionFilter()) {
+            // Filter out immovable entities, unless the baseEntitySelector already did
+            if (movableFiltering && entityDescriptor.hasEffectiveMovableEntitySelectionFilter()) {
                 filterList.add(entityDescriptor.getEffectiveMovableEntitySelectionFilter());
             }
             // Do not filter out initialized entities here for CH and ES, because they can be partially initialized
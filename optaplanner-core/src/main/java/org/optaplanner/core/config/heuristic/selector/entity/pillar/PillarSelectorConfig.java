@@ -18,6 +18,7 @@ package org.optaplanner.core.config.heuristic.selector.entity.pillar;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
 
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import org.apache.commons.lang3.BooleanUtils;
@@ -31,6 +32,7 @@ import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescr
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.pillar.DefaultPillarSelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.pillar.PillarSelector;
+import org.optaplanner.core.impl.solver.ChildThreadType;
 
 import static org.apache.commons.lang3.ObjectUtils.*;
 
@@ -112,11 +114,22 @@ public class PillarSelectorConfig extends SelectorConfig<PillarSelectorConfig> {
                     + ") with minimumSubPillarSize (" + minimumSubPillarSize
                     + ") and maximumSubPillarSize (" + maximumSubPillarSize + ").");
         }
+        // A filter can depend on the planning values, so a step can change which entities are selected
+        boolean entityFiltering = !ConfigUtils.isEmptyCollection(entitySelectorConfig_.getFilterClassList())
+                || entitySelectorConfig_.getMimicSelectorRef() != null
+                || entitySelector.getEntityDescriptor().hasEffectiveMovableEntitySelectionFilter();
+        // The pillars are only built in parallel if the solver has opted in to multithreaded solving
+        Integer moveThreadCount = configPolicy.getMoveThreadCount();
+        int buildThreadCount = moveThreadCount == null ? 1 : moveThreadCount;
+        ThreadFactory buildThreadFactory = buildThreadCount > 1
+                ? configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD) : null;
         return new DefaultPillarSelector(entitySelector, variableDescriptors,
                 inheritedSelectionOrder.toRandomSelectionBoolean(),
                 defaultIfNull(subPillarEnabled, true),
                 defaultIfNull(minimumSubPillarSize, 1),
-                defaultIfNull(maximumSubPillarSize, Integer.MAX_VALUE));
+                defaultIfNull(maximumSubPillarSize, Integer.MAX_VALUE),
+                !entityFiltering, configPolicy.getEnvironmentMode().isNonIntrusiveFullAsserted(),
+                buildThreadCount, buildThreadFactory);
     }
 
     @Override
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.heuristic.selector.move.composite;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamImplicit;
+import org.optaplanner.core.config.heuristic.policy.HeuristicConfigPolicy;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.composite.AdaptiveUnionMoveSelector;
+
+import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
+
+/**
+ * Like {@link UnionMoveSelectorConfig}, but learns the selection probability of each child during solving,
+ * so there are no fixed probability weights to tune.
+ * @see AdaptiveUnionMoveSelector
+ */
+@XStreamAlias("adaptiveUnionMoveSelector")
+public class AdaptiveUnionMoveSelectorConfig extends MoveSelectorConfig<AdaptiveUnionMoveSelectorConfig> {
+
+    @XStreamImplicit()
+    private List<MoveSelectorConfig> moveSelectorConfigList = null;
+
+    private Integer windowSize = null;
+    private Double minimumProbabilityRatio = null;
+
+    public AdaptiveUnionMoveSelectorConfig() {
+    }
+
+    public AdaptiveUnionMoveSelectorConfig(List<MoveSelectorConfig> moveSelectorConfigList) {
+        this.moveSelectorConfigList = moveSelectorConfigList;
+    }
+
+    public List<MoveSelectorConfig> getMoveSelectorConfigList() {
+        return moveSelectorConfigList;
+    }
+
+    public void setMoveSelectorConfigList(List<MoveSelectorConfig> moveSelectorConfigList) {
+        this.moveSelectorConfigList = moveSelectorConfigList;
+    }
+
+    /**
+     * @return sometimes null, the number of steps over which the selection probabilities are learned
+     */
+    public Integer getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(Integer windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * @return sometimes null, the ratio of the selection probability that is divided equally over all children
+     */
+    public Double getMinimumProbabilityRatio() {
+        return minimumProbabilityRatio;
+    }
+
+    public void setMinimumProbabilityRatio(Double minimumProbabilityRatio) {
+        this.minimumProbabilityRatio = minimumProbabilityRatio;
+    }
+
+    // ************************************************************************
+    // Builder methods
+    // ************************************************************************
+
+    @Override
+    public MoveSelector buildBaseMoveSelector(HeuristicConfigPolicy configPolicy,
+            SelectionCacheType minimumCacheType, boolean randomSelection) {
+        if (!randomSelection) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + this
+                    + ") has non-random randomSelection (" + randomSelection + ").");
+        }
+        List<MoveSelector> moveSelectorList = new ArrayList<>(moveSelectorConfigList.size());
+        for (MoveSelectorConfig moveSelectorConfig : moveSelectorConfigList) {
+            if (moveSelectorConfig.getFixedProbabilityWeight() != null) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + this
+                        + ") has a child moveSelectorConfig (" + moveSelectorConfig
+                        + ") with a fixedProbabilityWeight (" + moveSelectorConfig.getFixedProbabilityWeight()
+                        + "), but the probability weights are learned.\n"
+                        + "Maybe use a unionMoveSelector instead.");
+            }
+            moveSelectorList.add(
+                    moveSelectorConfig.buildMoveSelector(configPolicy,
+                            minimumCacheType, SelectionOrder.fromRandomSelectionBoolean(randomSelection)));
+        }
+        return new AdaptiveUnionMoveSelector(moveSelectorList, randomSelection,
+                defaultIfNull(windowSize, AdaptiveUnionMoveSelector.DEFAULT_WINDOW_SIZE),
+                defaultIfNull(minimumProbabilityRatio, AdaptiveUnionMoveSelector.DEFAULT_MINIMUM_PROBABILITY_RATIO));
+    }
+
+    @Override
+    public void extractLeafMoveSelectorConfigsIntoList(List<MoveSelectorConfig> leafMoveSelectorConfigList) {
+        for (MoveSelectorConfig moveSelectorConfig : moveSelectorConfigList) {
+            moveSelectorConfig.extractLeafMoveSelectorConfigsIntoList(leafMoveSelectorConfigList);
+        }
+    }
+
+    @Override
+    public void inherit(AdaptiveUnionMoveSelectorConfig inheritedConfig) {
+        super.inherit(inheritedConfig);
+        moveSelectorConfigList = ConfigUtils.inheritMergeableListConfig(
+                moveSelectorConfigList, inheritedConfig.getMoveSelectorConfigList());
+        windowSize = ConfigUtils.inheritOverwritableProperty(windowSize, inheritedConfig.getWindowSize());
+        minimumProbabilityRatio = ConfigUtils.inheritOverwritableProperty(minimumProbabilityRatio,
+                inheritedConfig.getMinimumProbabilityRatio());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + moveSelectorConfigList + ")";
+    }
+
+}
@@ -52,6 +52,8 @@ public class SwapMoveSelectorConfig extends MoveSelectorConfig<SwapMoveSelectorC
 //            strings = {"variableNameInclude"}, types = {String.class}, useImplicitType = false)
     private List<String> variableNameIncludeList = null;
 
+    private Boolean valueRangeIndexEnabled = null;
+
     public EntitySelectorConfig getEntitySelectorConfig() {
         return entitySelectorConfig;
     }
@@ -76,6 +78,14 @@ public class SwapMoveSelectorConfig extends MoveSelectorConfig<SwapMoveSelectorC
         this.variableNameIncludeList = variableNameIncludeList;
     }
 
+    public Boolean getValueRangeIndexEnabled() {
+        return valueRangeIndexEnabled;
+    }
+
+    public void setValueRangeIndexEnabled(Boolean valueRangeIndexEnabled) {
+        this.valueRangeIndexEnabled = valueRangeIndexEnabled;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -96,7 +106,7 @@ public class SwapMoveSelectorConfig extends MoveSelectorConfig<SwapMoveSelectorC
         List<GenuineVariableDescriptor> variableDescriptorList = deduceVariableDescriptorList(
                 leftEntitySelector.getEntityDescriptor(), variableNameIncludeList);
         return new SwapMoveSelector(leftEntitySelector, rightEntitySelector, variableDescriptorList,
-                randomSelection);
+                randomSelection, defaultIfNull(valueRangeIndexEnabled, false));
     }
 
     @Override
@@ -139,6 +149,7 @@ public class SwapMoveSelectorConfig extends MoveSelectorConfig<SwapMoveSelectorC
                 childMoveSelectorConfig.setSecondaryEntitySelectorConfig(childSecondaryEntitySelectorConfig);
             }
             childMoveSelectorConfig.setVariableNameIncludeList(variableNameIncludeList);
+            childMoveSelectorConfig.setValueRangeIndexEnabled(valueRangeIndexEnabled);
             moveSelectorConfigList.add(childMoveSelectorConfig);
         }
 
@@ -159,6 +170,8 @@ public class SwapMoveSelectorConfig extends MoveSelectorConfig<SwapMoveSelectorC
         secondaryEntitySelectorConfig = ConfigUtils.inheritConfig(secondaryEntitySelectorConfig, inheritedConfig.getSecondaryEntitySelectorConfig());
         variableNameIncludeList = ConfigUtils.inheritMergeableListProperty(
                 variableNameIncludeList, inheritedConfig.getVariableNameIncludeList());
+        valueRangeIndexEnabled = ConfigUtils.inheritOverwritableProperty(valueRangeIndexEnabled,
+                inheritedConfig.getValueRangeIndexEnabled());
     }
 
     @Override
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.config.heuristic.policy.HeuristicConfigPolicy;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * General superclass for {@link ListChangeMoveSelectorConfig}, etc.
+ * Those move selectors only work on a {@link PlanningListVariable}.
+ */
+public abstract class AbstractListMoveSelectorConfig<C extends AbstractListMoveSelectorConfig>
+        extends MoveSelectorConfig<C> {
+
+    @XStreamAlias("entitySelector")
+    protected EntitySelectorConfig entitySelectorConfig = null;
+    protected String variableName = null;
+
+    public EntitySelectorConfig getEntitySelectorConfig() {
+        return entitySelectorConfig;
+    }
+
+    public void setEntitySelectorConfig(EntitySelectorConfig entitySelectorConfig) {
+        this.entitySelectorConfig = entitySelectorConfig;
+    }
+
+    public String getVariableName() {
+        return variableName;
+    }
+
+    public void setVariableName(String variableName) {
+        this.variableName = variableName;
+    }
+
+    // ************************************************************************
+    // Builder methods
+    // ************************************************************************
+
+    protected EntitySelector buildEntitySelector(HeuristicConfigPolicy configPolicy,
+            SelectionCacheType minimumCacheType, boolean randomSelection) {
+        EntitySelectorConfig entitySelectorConfig_ = entitySelectorConfig == null ? new EntitySelectorConfig()
+                : entitySelectorConfig;
+        if (entitySelectorConfig_.getMimicSelectorRef() == null && entitySelectorConfig_.getEntityClass() == null) {
+            entitySelectorConfig_ = new EntitySelectorConfig(entitySelectorConfig_);
+            entitySelectorConfig_.setEntityClass(
+                    deduceListEntityDescriptor(configPolicy.getSolutionDescriptor()).getEntityClass());
+        }
+        return entitySelectorConfig_.buildEntitySelector(configPolicy,
+                minimumCacheType, SelectionOrder.fromRandomSelectionBoolean(randomSelection));
+    }
+
+    private EntityDescriptor deduceListEntityDescriptor(SolutionDescriptor solutionDescriptor) {
+        List<EntityDescriptor> entityDescriptorList = new ArrayList<>();
+        for (Object entityDescriptor : solutionDescriptor.getEntityDescriptors()) {
+            if (((EntityDescriptor) entityDescriptor).hasAnyListVariableDescriptor()) {
+                entityDescriptorList.add((EntityDescriptor) entityDescriptor);
+            }
+        }
+        if (entityDescriptorList.size() != 1) {
+            throw new IllegalArgumentException("The config (" + this
+                    + ") has no entityClass configured and because there are "
+                    + entityDescriptorList.size() + " entity classes with a "
+                    + PlanningListVariable.class.getSimpleName() + " (" + entityDescriptorList
+                    + "), it can not be deduced automatically.");
+        }
+        return entityDescriptorList.get(0);
+    }
+
+    protected ListVariableDescriptor deduceListVariableDescriptor(EntityDescriptor entityDescriptor) {
+        ListVariableDescriptor variableDescriptor;
+        if (variableName != null) {
+            variableDescriptor = entityDescriptor.getListVariableDescriptor(variableName);
+            if (variableDescriptor == null) {
+                throw new IllegalArgumentException("The config (" + this
+                        + ") has a variableName (" + variableName
+                        + ") which is not a valid " + PlanningListVariable.class.getSimpleName()
+                        + " on entityClass (" + entityDescriptor.getEntityClass() + ").\n"
+                        + entityDescriptor.buildInvalidVariableNameExceptionMessage(variableName));
+            }
+        } else {
+            List<ListVariableDescriptor> variableDescriptorList
+                    = new ArrayList<>(entityDescriptor.getListVariableDescriptors());
+            if (variableDescriptorList.size() != 1) {
+                throw new IllegalArgumentException("The config (" + this
+                        + ") has no configured variableName for entityClass (" + entityDescriptor.getEntityClass()
+                        + ") and because there are " + variableDescriptorList.size() + " "
+                        + PlanningListVariable.class.getSimpleName() + "s (" + variableDescriptorList
+                        + "), it can not be deduced automatically.");
+            }
+            variableDescriptor = variableDescriptorList.get(0);
+        }
+        return variableDescriptor;
+    }
+
+    @Override
+    public void inherit(C inheritedConfig) {
+        super.inherit(inheritedConfig);
+        entitySelectorConfig = ConfigUtils.inheritConfig(entitySelectorConfig, inheritedConfig.getEntitySelectorConfig());
+        variableName = ConfigUtils.inheritOverwritableProperty(variableName, inheritedConfig.getVariableName());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelectorConfig + ", " + variableName + ")";
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.heuristic.selector.move.generic.list;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.optaplanner.core.config.heuristic.policy.HeuristicConfigPolicy;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListSwapMoveSelector;
+
+/**
+ * Swaps 2 planning values in the same list or in 2 different lists.
+ */
+@XStreamAlias("listSwapMoveSelector")
+public class ListSwapMoveSelectorConfig extends AbstractListMoveSelectorConfig<ListSwapMoveSelectorConfig> {
+
+    // ************************************************************************
+    // Builder methods
+    // ************************************************************************
+
+    @Override
+    public MoveSelector buildBaseMoveSelector(HeuristicConfigPolicy configPolicy,
+            SelectionCacheType minimumCacheType, boolean randomSelection) {
+        EntitySelector entitySelector = buildEntitySelector(configPolicy, minimumCacheType, randomSelection);
+        return new ListSwapMoveSelector(entitySelector,
+                deduceListVariableDescriptor(entitySelector.getEntityDescriptor()), randomSelection);
+    }
+
+}
@@ -62,6 +62,8 @@ import org.optaplanner.core.impl.heuristic.selector.value.mimic.MimicRecordingVa
 import org.optaplanner.core.impl.heuristic.selector.value.mimic.MimicReplayingValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.mimic.ValueMimicRecorder;
 
+import static org.apache.commons.lang3.ObjectUtils.*;
+
 @XStreamAlias("valueSelector")
 public class ValueSelectorConfig extends SelectorConfig<ValueSelectorConfig> {
 
@@ -93,6 +95,8 @@ public class ValueSelectorConfig extends SelectorConfig<ValueSelectorConfig> {
 
     protected Long selectedCountLimit = null;
 
+    protected Boolean valueRangeIndexEnabled = null;
+
     public ValueSelectorConfig() {
     }
 
@@ -226,6 +230,14 @@ public class ValueSelectorConfig extends SelectorConfig<ValueSelectorConfig> {
         this.selectedCountLimit = selectedCountLimit;
     }
 
+    public Boolean getValueRangeIndexEnabled() {
+        return valueRangeIndexEnabled;
+    }
+
+    public void setValueRangeIndexEnabled(Boolean valueRangeIndexEnabled) {
+        this.valueRangeIndexEnabled = valueRangeIndexEnabled;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -397,7 +409,8 @@ public class ValueSelectorConfig extends SelectorConfig<ValueSelectorConfig> {
                     (EntityIndependentValueRangeDescriptor) valueRangeDescriptor, minimumCacheType, randomSelection);
         } else {
             // TODO Do not allow PHASE cache on FromEntityPropertyValueSelector, except if the moveSelector is PHASE cached too.
-            return new FromEntityPropertyValueSelector(valueRangeDescriptor, randomSelection);
+            return new FromEntityPropertyValueSelector(valueRangeDescriptor, randomSelection,
+                    defaultIfNull(valueRangeIndexEnabled, false));
         }
     }
 
@@ -686,6 +699,8 @@ public class ValueSelectorConfig extends SelectorConfig<ValueSelectorConfig> {
                 probabilityWeightFactoryClass, inheritedConfig.getProbabilityWeightFactoryClass());
         selectedCountLimit = ConfigUtils.inheritOverwritableProperty(
                 selectedCountLimit, inheritedConfig.getSelectedCountLimit());
+        valueRangeIndexEnabled = ConfigUtils.inheritOverwritableProperty(
+                valueRangeIndexEnabled, inheritedConfig.getValueRangeIndexEnabled());
     }
 
     @Override
@@ -42,6 +42,7 @@ import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.localsearch.DefaultLocalSearchPhase;
 import org.optaplanner.core.impl.localsearch.LocalSearchPhase;
 import org.optaplanner.core.impl.localsearch.decider.LocalSearchDecider;
+import org.optaplanner.core.impl.localsearch.decider.MoveScoreCache;
 import org.optaplanner.core.impl.localsearch.decider.MultiThreadedLocalSearchDecider;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
@@ -67,6 +68,8 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
     @XStreamAlias("forager")
     private LocalSearchForagerConfig foragerConfig = null;
 
+    protected Integer moveScoreCacheSize = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -103,6 +106,14 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         this.foragerConfig = foragerConfig;
     }
 
+    public Integer getMoveScoreCacheSize() {
+        return moveScoreCacheSize;
+    }
+
+    public void setMoveScoreCacheSize(Integer moveScoreCacheSize) {
+        this.moveScoreCacheSize = moveScoreCacheSize;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -166,6 +177,12 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
             }
             decider = multiThreadedDecider;
         }
+        if (moveScoreCacheSize != null) {
+            decider.setMoveScoreCache(buildMoveScoreCache(moveThreadCount));
+            if (environmentMode.isNonIntrusiveFullAsserted()) {
+                decider.setAssertMoveScoreCache(true);
+            }
+        }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             decider.setAssertMoveScoreFromScratch(true);
         }
@@ -175,6 +192,27 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         return decider;
     }
 
+    protected MoveScoreCache buildMoveScoreCache(Integer moveThreadCount) {
+        if (moveScoreCacheSize < 1) {
+            throw new IllegalArgumentException("The moveScoreCacheSize (" + moveScoreCacheSize
+                    + ") must be at least 1.");
+        }
+        if (moveThreadCount != null) {
+            throw new IllegalArgumentException("The moveScoreCacheSize (" + moveScoreCacheSize
+                    + ") is not supported with a moveThreadCount (" + moveThreadCount + ").\n"
+                    + "Maybe remove the moveScoreCacheSize or the moveThreadCount.");
+        }
+        if (acceptorConfig != null && ((acceptorConfig.getAcceptorTypeList() != null
+                && acceptorConfig.getAcceptorTypeList().contains(AcceptorType.SOLUTION_TABU))
+                || acceptorConfig.getSolutionTabuSize() != null
+                || acceptorConfig.getFadingSolutionTabuSize() != null)) {
+            throw new IllegalArgumentException("The moveScoreCacheSize (" + moveScoreCacheSize
+                    + ") is not supported with solution tabu, because a cached move isn't done,"
+                    + " so the solution tabu can't inspect the solution after that move.");
+        }
+        return new MoveScoreCache(moveScoreCacheSize);
+    }
+
     protected Acceptor buildAcceptor(HeuristicConfigPolicy configPolicy) {
         AcceptorConfig acceptorConfig_;
         if (acceptorConfig != null) {
@@ -283,6 +321,8 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
                 getMoveSelectorConfig(), inheritedConfig.getMoveSelectorConfig()));
         acceptorConfig = ConfigUtils.inheritConfig(acceptorConfig, inheritedConfig.getAcceptorConfig());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        moveScoreCacheSize = ConfigUtils.inheritOverwritableProperty(moveScoreCacheSize,
+                inheritedConfig.getMoveScoreCacheSize());
     }
 
 }
@@ -29,6 +29,7 @@ import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.CompositeAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.hillclimbing.HillClimbingAcceptor;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance.DiversifiedLateAcceptanceAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance.LateAcceptanceAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.simulatedannealing.SimulatedAnnealingAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.stepcountinghillclimbing.StepCountingHillClimbingAcceptor;
@@ -479,12 +480,19 @@ public class AcceptorConfig extends AbstractConfig<AcceptorConfig> {
                     .parseScore(simulatedAnnealingStartingTemperature));
             acceptorList.add(acceptor);
         }
+        boolean diversifiedLateAcceptance = acceptorTypeList != null
+                && acceptorTypeList.contains(AcceptorType.DIVERSIFIED_LATE_ACCEPTANCE);
         if ((acceptorTypeList != null && acceptorTypeList.contains(AcceptorType.LATE_ACCEPTANCE))
-                || lateAcceptanceSize != null) {
+                || (!diversifiedLateAcceptance && lateAcceptanceSize != null)) {
             LateAcceptanceAcceptor acceptor = new LateAcceptanceAcceptor();
             acceptor.setLateAcceptanceSize(defaultIfNull(lateAcceptanceSize, 400));
             acceptorList.add(acceptor);
         }
+        if (diversifiedLateAcceptance) {
+            DiversifiedLateAcceptanceAcceptor acceptor = new DiversifiedLateAcceptanceAcceptor();
+            acceptor.setLateAcceptanceSize(defaultIfNull(lateAcceptanceSize, 5));
+            acceptorList.add(acceptor);
+        }
         if ((acceptorTypeList != null && acceptorTypeList.contains(AcceptorType.STEP_COUNTING_HILL_CLIMBING))
                 || stepCountingHillClimbingSize != null) {
             int stepCountingHillClimbingSize_ = defaultIfNull(stepCountingHillClimbingSize, 400);
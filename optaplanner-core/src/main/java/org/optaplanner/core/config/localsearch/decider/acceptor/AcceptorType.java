@@ -25,5 +25,6 @@ public enum AcceptorType {
     SOLUTION_TABU,
     SIMULATED_ANNEALING,
     LATE_ACCEPTANCE,
+    DIVERSIFIED_LATE_ACCEPTANCE,
     STEP_COUNTING_HILL_CLIMBING;
 }
@@ -38,6 +38,7 @@ import org.kie.api.io.KieResources;
 import org.kie.api.runtime.KieContainer;
 import org.kie.internal.builder.conf.PropertySpecificOption;
 import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.SolverConfigContext;
@@ -64,6 +65,7 @@ import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.drools.DroolsScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.drools.KieSessionPool;
 import org.optaplanner.core.impl.score.director.drools.LegacyDroolsScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.drools.testgen.TestGenDroolsScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.drools.testgen.TestGenLegacyDroolsScoreDirectorFactory;
@@ -71,6 +73,7 @@ import org.optaplanner.core.impl.score.director.easy.EasyScoreCalculator;
 import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreCalculator;
 import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,6 +92,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
+    protected Class<? extends ConstraintProvider> constraintProviderClass = null;
+
     protected String ksessionName = null;
     @XStreamOmitField
     @Deprecated protected KieBase kieBase = null;
@@ -98,6 +103,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     protected List<File> scoreDrlFileList = null;
     @XStreamConverter(KeyAsElementMapConverter.class)
     protected Map<String, String> kieBaseConfigurationProperties = null;
+    protected Integer kieSessionPoolSize = null;
+    protected Boolean kieSessionPoolWarmUp = null;
 
     protected String initializingScoreTrend = null;
 
@@ -186,6 +193,14 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.incrementalScoreCalculatorClass = incrementalScoreCalculatorClass;
     }
 
+    public Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return constraintProviderClass;
+    }
+
+    public void setConstraintProviderClass(Class<? extends ConstraintProvider> constraintProviderClass) {
+        this.constraintProviderClass = constraintProviderClass;
+    }
+
     public String getKsessionName() {
         return ksessionName;
     }
@@ -234,6 +249,33 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.kieBaseConfigurationProperties = kieBaseConfigurationProperties;
     }
 
+    /**
+     * @return sometimes null
+     */
+    public Integer getKieSessionPoolSize() {
+        return kieSessionPoolSize;
+    }
+
+    /**
+     * @param kieSessionPoolSize sometimes null, the maximum number of idle KieSessions to reuse,
+     * null to create a new KieSession for every setWorkingSolution()
+     */
+    public void setKieSessionPoolSize(Integer kieSessionPoolSize) {
+        this.kieSessionPoolSize = kieSessionPoolSize;
+    }
+
+    public Boolean getKieSessionPoolWarmUp() {
+        return kieSessionPoolWarmUp;
+    }
+
+    /**
+     * @param kieSessionPoolWarmUp sometimes null, true to create the pooled KieSessions in a background thread
+     * as soon as the score director factory is built
+     */
+    public void setKieSessionPoolWarmUp(Boolean kieSessionPoolWarmUp) {
+        this.kieSessionPoolWarmUp = kieSessionPoolWarmUp;
+    }
+
     public String getInitializingScoreTrend() {
         return initializingScoreTrend;
     }
@@ -329,8 +371,23 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         AbstractScoreDirectorFactory<Solution_> easyScoreDirectorFactory = buildEasyScoreDirectorFactory();
         AbstractScoreDirectorFactory<Solution_> incrementalScoreDirectorFactory = buildIncrementalScoreDirectorFactory();
         AbstractScoreDirectorFactory<Solution_> droolsScoreDirectorFactory = buildDroolsScoreDirectorFactory(configContext);
+        AbstractScoreDirectorFactory<Solution_> constraintStreamScoreDirectorFactory
+                = buildConstraintStreamScoreDirectorFactory();
         AbstractScoreDirectorFactory<Solution_> scoreDirectorFactory;
-        if (easyScoreDirectorFactory != null) {
+        if (constraintStreamScoreDirectorFactory != null) {
+            if (easyScoreDirectorFactory != null || incrementalScoreDirectorFactory != null
+                    || droolsScoreDirectorFactory != null) {
+                throw new IllegalArgumentException("The scoreDirectorFactory cannot have "
+                        + "both a constraintProviderClass (" + constraintProviderClass
+                        + ") and an easyScoreDirectorFactory, an incrementalScoreDirectorFactory"
+                        + " or a droolsScoreDirectorFactory.");
+            }
+            if (BooleanUtils.isTrue(generateDroolsTestOnError)) {
+                throw new IllegalArgumentException("The <generateDroolsTestOnError> option can only be set to true "
+                        + "when used together with droolsScoreDirectorFactory, not with a constraintProviderClass.");
+            }
+            scoreDirectorFactory = constraintStreamScoreDirectorFactory;
+        } else if (easyScoreDirectorFactory != null) {
             if (incrementalScoreDirectorFactory != null) {
                 throw new IllegalArgumentException("The scoreDirectorFactory cannot have "
                         + "both an easyScoreDirectorFactory and an incrementalScoreDirectorFactory.");
@@ -358,7 +415,16 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
             scoreDirectorFactory = droolsScoreDirectorFactory;
         } else {
             throw new IllegalArgumentException("The scoreDirectorFactory lacks a configuration for an "
-                    + "easyScoreDirectorFactory, an incrementalScoreDirectorFactory or a droolsScoreDirectorFactory.");
+                    + "easyScoreDirectorFactory, an incrementalScoreDirectorFactory, a droolsScoreDirectorFactory"
+                    + " or a constraintProviderClass.");
+        }
+        if (kieSessionPoolSize != null || kieSessionPoolWarmUp != null) {
+            if (scoreDirectorFactory != droolsScoreDirectorFactory) {
+                throw new IllegalArgumentException("The kieSessionPoolSize (" + kieSessionPoolSize
+                        + ") and kieSessionPoolWarmUp (" + kieSessionPoolWarmUp
+                        + ") can only be set together with a droolsScoreDirectorFactory.");
+            }
+            buildKieSessionPool((DroolsScoreDirectorFactory<Solution_>) droolsScoreDirectorFactory);
         }
         scoreDirectorFactory.setSolutionDescriptor(solutionDescriptor);
         if (assertionScoreDirectorFactory != null) {
@@ -414,6 +480,21 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         }
     }
 
+    protected <Solution_> AbstractScoreDirectorFactory<Solution_> buildConstraintStreamScoreDirectorFactory() {
+        if (constraintProviderClass != null) {
+            if (!ConstraintProvider.class.isAssignableFrom(constraintProviderClass)) {
+                throw new IllegalArgumentException(
+                        "The constraintProviderClass (" + constraintProviderClass
+                        + ") does not implement " + ConstraintProvider.class.getSimpleName() + ".");
+            }
+            ConstraintProvider constraintProvider = ConfigUtils.newInstance(this,
+                    "constraintProviderClass", constraintProviderClass);
+            return new ConstraintStreamScoreDirectorFactory<>(constraintProvider);
+        } else {
+            return null;
+        }
+    }
+
     protected <Solution_> AbstractScoreDirectorFactory<Solution_> buildDroolsScoreDirectorFactory(
             SolverConfigContext configContext) {
         KieContainer kieContainer = configContext.getKieContainer();
@@ -535,6 +616,19 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         }
     }
 
+    protected <Solution_> void buildKieSessionPool(DroolsScoreDirectorFactory<Solution_> droolsScoreDirectorFactory) {
+        if (kieSessionPoolSize == null) {
+            throw new IllegalArgumentException("The kieSessionPoolWarmUp (" + kieSessionPoolWarmUp
+                    + ") requires a kieSessionPoolSize (" + kieSessionPoolSize + ").");
+        }
+        KieSessionPool kieSessionPool = new KieSessionPool(droolsScoreDirectorFactory::newKieSession,
+                kieSessionPoolSize);
+        droolsScoreDirectorFactory.setKieSessionPool(kieSessionPool);
+        if (BooleanUtils.isTrue(kieSessionPoolWarmUp)) {
+            kieSessionPool.warmUpInBackground();
+        }
+    }
+
     @Override
     public void inherit(ScoreDirectorFactoryConfig inheritedConfig) {
         if (scoreDefinitionClass == null && scoreDefinitionType == null
@@ -548,6 +642,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 easyScoreCalculatorClass, inheritedConfig.getEasyScoreCalculatorClass());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
+        constraintProviderClass = ConfigUtils.inheritOverwritableProperty(
+                constraintProviderClass, inheritedConfig.getConstraintProviderClass());
         ksessionName = ConfigUtils.inheritOverwritableProperty(
                 ksessionName, inheritedConfig.getKsessionName());
         kieBase = ConfigUtils.inheritOverwritableProperty(
@@ -558,6 +654,10 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 scoreDrlFileList, inheritedConfig.getScoreDrlFileList());
         kieBaseConfigurationProperties = ConfigUtils.inheritMergeableMapProperty(
                 kieBaseConfigurationProperties, inheritedConfig.getKieBaseConfigurationProperties());
+        kieSessionPoolSize = ConfigUtils.inheritOverwritableProperty(
+                kieSessionPoolSize, inheritedConfig.getKieSessionPoolSize());
+        kieSessionPoolWarmUp = ConfigUtils.inheritOverwritableProperty(
+                kieSessionPoolWarmUp, inheritedConfig.getKieSessionPoolWarmUp());
         initializingScoreTrend = ConfigUtils.inheritOverwritableProperty(
                 initializingScoreTrend, inheritedConfig.getInitializingScoreTrend());
 
@@ -33,6 +33,7 @@ import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
 import org.optaplanner.core.api.domain.variable.AnchorShadowVariable;
 import org.optaplanner.core.api.domain.variable.CustomShadowVariable;
 import org.optaplanner.core.api.domain.variable.InverseRelationShadowVariable;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.api.domain.variable.PlanningVariable;
 import org.optaplanner.core.config.heuristic.selector.common.decorator.SelectionSorterOrder;
 import org.optaplanner.core.config.util.ConfigUtils;
@@ -44,6 +45,7 @@ import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.custom.CustomShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.InverseRelationShadowVariableDescriptor;
@@ -64,7 +66,7 @@ import static org.optaplanner.core.impl.domain.common.accessor.MemberAccessorFac
 public class EntityDescriptor<Solution_> {
 
     public static final Class[] VARIABLE_ANNOTATION_CLASSES = {
-            PlanningVariable.class,
+            PlanningVariable.class, PlanningListVariable.class,
             InverseRelationShadowVariable.class, AnchorShadowVariable.class,
             CustomShadowVariable.class};
 
@@ -77,6 +79,7 @@ public class EntityDescriptor<Solution_> {
 
     // Only declared variable descriptors, excludes inherited variable descriptors
     private Map<String, GenuineVariableDescriptor<Solution_>> declaredGenuineVariableDescriptorMap;
+    private Map<String, ListVariableDescriptor<Solution_>> declaredListVariableDescriptorMap;
     private Map<String, ShadowVariableDescriptor<Solution_>> declaredShadowVariableDescriptorMap;
 
     private List<SelectionFilter> declaredPinEntityFilterList;
@@ -88,6 +91,7 @@ public class EntityDescriptor<Solution_> {
 
     // Caches the inherited and declared variable descriptors
     private Map<String, GenuineVariableDescriptor<Solution_>> effectiveGenuineVariableDescriptorMap;
+    private Map<String, ListVariableDescriptor<Solution_>> effectiveListVariableDescriptorMap;
     private Map<String, ShadowVariableDescriptor<Solution_>> effectiveShadowVariableDescriptorMap;
     private Map<String, VariableDescriptor<Solution_>> effectiveVariableDescriptorMap;
 
@@ -107,6 +111,7 @@ public class EntityDescriptor<Solution_> {
     public void processAnnotations(DescriptorPolicy descriptorPolicy) {
         processEntityAnnotations(descriptorPolicy);
         declaredGenuineVariableDescriptorMap = new LinkedHashMap<>();
+        declaredListVariableDescriptorMap = new LinkedHashMap<>();
         declaredShadowVariableDescriptorMap = new LinkedHashMap<>();
         declaredPinEntityFilterList = new ArrayList<>(2);
         // Only iterate declared fields and methods, not inherited members, to avoid registering the same one twice
@@ -116,10 +121,12 @@ public class EntityDescriptor<Solution_> {
             processPlanningVariableAnnotation(descriptorPolicy, member);
             processPlanningPinAnnotation(descriptorPolicy, member);
         }
-        if (declaredGenuineVariableDescriptorMap.isEmpty() && declaredShadowVariableDescriptorMap.isEmpty()) {
+        if (declaredGenuineVariableDescriptorMap.isEmpty() && declaredListVariableDescriptorMap.isEmpty()
+                && declaredShadowVariableDescriptorMap.isEmpty()) {
             throw new IllegalStateException("The entityClass (" + entityClass
                     + ") should have at least 1 getter method or 1 field with a "
-                    + PlanningVariable.class.getSimpleName() + " annotation or a shadow variable annotation.");
+                    + PlanningVariable.class.getSimpleName() + " annotation, a "
+                    + PlanningListVariable.class.getSimpleName() + " annotation or a shadow variable annotation.");
         }
         processVariableAnnotations(descriptorPolicy);
     }
@@ -199,8 +206,12 @@ public class EntityDescriptor<Solution_> {
             Class<? extends Annotation> variableAnnotationClass, MemberAccessor memberAccessor) {
         String memberName = memberAccessor.getName();
         if (declaredGenuineVariableDescriptorMap.containsKey(memberName)
+                || declaredListVariableDescriptorMap.containsKey(memberName)
                 || declaredShadowVariableDescriptorMap.containsKey(memberName)) {
             VariableDescriptor<Solution_> duplicate = declaredGenuineVariableDescriptorMap.get(memberName);
+            if (duplicate == null) {
+                duplicate = declaredListVariableDescriptorMap.get(memberName);
+            }
             if (duplicate == null) {
                 duplicate = declaredShadowVariableDescriptorMap.get(memberName);
             }
@@ -214,6 +225,10 @@ public class EntityDescriptor<Solution_> {
             GenuineVariableDescriptor<Solution_> variableDescriptor = new GenuineVariableDescriptor<>(this,
                     memberAccessor);
             declaredGenuineVariableDescriptorMap.put(memberName, variableDescriptor);
+        } else if (variableAnnotationClass.equals(PlanningListVariable.class)) {
+            ListVariableDescriptor<Solution_> variableDescriptor = new ListVariableDescriptor<>(this,
+                    memberAccessor);
+            declaredListVariableDescriptorMap.put(memberName, variableDescriptor);
         } else if (variableAnnotationClass.equals(InverseRelationShadowVariable.class)) {
             ShadowVariableDescriptor<Solution_> variableDescriptor = new InverseRelationShadowVariableDescriptor<>(
                     this, memberAccessor);
@@ -286,21 +301,26 @@ public class EntityDescriptor<Solution_> {
 
     private void createEffectiveVariableDescriptorMaps() {
         effectiveGenuineVariableDescriptorMap = new LinkedHashMap<>(declaredGenuineVariableDescriptorMap.size());
+        effectiveListVariableDescriptorMap = new LinkedHashMap<>(declaredListVariableDescriptorMap.size());
         effectiveShadowVariableDescriptorMap = new LinkedHashMap<>(declaredShadowVariableDescriptorMap.size());
         for (EntityDescriptor<Solution_> inheritedEntityDescriptor : inheritedEntityDescriptorList) {
             effectiveGenuineVariableDescriptorMap.putAll(inheritedEntityDescriptor.getGenuineVariableDescriptorMap());
+            effectiveListVariableDescriptorMap.putAll(inheritedEntityDescriptor.getListVariableDescriptorMap());
             effectiveShadowVariableDescriptorMap.putAll(inheritedEntityDescriptor.getShadowVariableDescriptorMap());
         }
         effectiveGenuineVariableDescriptorMap.putAll(declaredGenuineVariableDescriptorMap);
+        effectiveListVariableDescriptorMap.putAll(declaredListVariableDescriptorMap);
         effectiveShadowVariableDescriptorMap.putAll(declaredShadowVariableDescriptorMap);
-        effectiveVariableDescriptorMap = new LinkedHashMap<>(
-                effectiveGenuineVariableDescriptorMap.size() + effectiveShadowVariableDescriptorMap.size());
+        effectiveVariableDescriptorMap = new LinkedHashMap<>(effectiveGenuineVariableDescriptorMap.size()
+                + effectiveListVariableDescriptorMap.size() + effectiveShadowVariableDescriptorMap.size());
         effectiveVariableDescriptorMap.putAll(effectiveGenuineVariableDescriptorMap);
+        effectiveVariableDescriptorMap.putAll(effectiveListVariableDescriptorMap);
         effectiveVariableDescriptorMap.putAll(effectiveShadowVariableDescriptorMap);
     }
 
     private void createEffectiveMovableEntitySelectionFilter() {
-        if (declaredMovableEntitySelectionFilter != null && !hasAnyDeclaredGenuineVariableDescriptor()) {
+        if (declaredMovableEntitySelectionFilter != null && !hasAnyDeclaredGenuineVariableDescriptor()
+                && declaredListVariableDescriptorMap.isEmpty()) {
             throw new IllegalStateException("The entityClass (" + entityClass
                     + ") has a movableEntitySelectionFilterClass (" + declaredMovableEntitySelectionFilter.getClass()
                     + "), but it has no declared genuine variables, only shadow variables.");
@@ -330,6 +350,9 @@ public class EntityDescriptor<Solution_> {
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : declaredGenuineVariableDescriptorMap.values()) {
             variableDescriptor.linkVariableDescriptors(descriptorPolicy);
         }
+        for (ListVariableDescriptor<Solution_> variableDescriptor : declaredListVariableDescriptorMap.values()) {
+            variableDescriptor.linkVariableDescriptors(descriptorPolicy);
+        }
         for (ShadowVariableDescriptor<Solution_> shadowVariableDescriptor : declaredShadowVariableDescriptorMap.values()) {
             shadowVariableDescriptor.linkVariableDescriptors(descriptorPolicy);
         }
@@ -392,6 +415,22 @@ public class EntityDescriptor<Solution_> {
         return effectiveGenuineVariableDescriptorMap.get(variableName);
     }
 
+    public Map<String, ListVariableDescriptor<Solution_>> getListVariableDescriptorMap() {
+        return effectiveListVariableDescriptorMap;
+    }
+
+    public Collection<ListVariableDescriptor<Solution_>> getListVariableDescriptors() {
+        return effectiveListVariableDescriptorMap.values();
+    }
+
+    public boolean hasAnyListVariableDescriptor() {
+        return !effectiveListVariableDescriptorMap.isEmpty();
+    }
+
+    public ListVariableDescriptor<Solution_> getListVariableDescriptor(String variableName) {
+        return effectiveListVariableDescriptorMap.get(variableName);
+    }
+
     public Map<String, ShadowVariableDescriptor<Solution_>> getShadowVariableDescriptorMap() {
         return effectiveShadowVariableDescriptorMap;
     }
@@ -428,14 +467,20 @@ public class EntityDescriptor<Solution_> {
         return declaredGenuineVariableDescriptorMap.values();
     }
 
+    public Collection<ListVariableDescriptor<Solution_>> getDeclaredListVariableDescriptors() {
+        return declaredListVariableDescriptorMap.values();
+    }
+
     public Collection<ShadowVariableDescriptor<Solution_>> getDeclaredShadowVariableDescriptors() {
         return declaredShadowVariableDescriptorMap.values();
     }
 
     public Collection<VariableDescriptor<Solution_>> getDeclaredVariableDescriptors() {
         Collection<VariableDescriptor<Solution_>> variableDescriptors = new ArrayList<>(
-                declaredGenuineVariableDescriptorMap.size() + declaredShadowVariableDescriptorMap.size());
+                declaredGenuineVariableDescriptorMap.size() + declaredListVariableDescriptorMap.size()
+                        + declaredShadowVariableDescriptorMap.size());
         variableDescriptors.addAll(declaredGenuineVariableDescriptorMap.values());
+        variableDescriptors.addAll(declaredListVariableDescriptorMap.values());
         variableDescriptors.addAll(declaredShadowVariableDescriptorMap.values());
         return variableDescriptors;
     }
@@ -48,6 +48,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.solution.cloner.DeepPlanningClone;
 import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
 import org.optaplanner.core.impl.domain.common.ConcurrentMemoization;
 import org.optaplanner.core.impl.domain.common.ReflectionHelper;
 import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
@@ -193,11 +194,13 @@ public class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<S
     }
 
     private boolean isFieldADeepCloneProperty(Field field, Class<?> fieldInstanceClass) {
-        if (field.isAnnotationPresent(DeepPlanningClone.class)) {
+        // A planning list variable's list is changed by the moves, so the clone needs its own list
+        if (field.isAnnotationPresent(DeepPlanningClone.class) || field.isAnnotationPresent(PlanningListVariable.class)) {
             return true;
         }
         Method getterMethod = ReflectionHelper.getGetterMethod(fieldInstanceClass, field.getName());
-        if (getterMethod != null && getterMethod.isAnnotationPresent(DeepPlanningClone.class)) {
+        if (getterMethod != null && (getterMethod.isAnnotationPresent(DeepPlanningClone.class)
+                || getterMethod.isAnnotationPresent(PlanningListVariable.class))) {
             return true;
         }
         return false;
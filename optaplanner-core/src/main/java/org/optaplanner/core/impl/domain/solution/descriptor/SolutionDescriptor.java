@@ -77,6 +77,7 @@ import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
 import org.optaplanner.core.impl.domain.solution.AbstractSolution;
 import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.buildin.bendable.BendableScoreDefinition;
@@ -671,7 +672,8 @@ public class SolutionDescriptor<Solution_> {
                 logger.trace("        Entity {}:", entityDescriptor.getEntityClass().getSimpleName());
                 for (VariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getDeclaredVariableDescriptors()) {
                     logger.trace("            {} variable {} ({})",
-                            variableDescriptor instanceof GenuineVariableDescriptor ? "Genuine" : "Shadow",
+                            variableDescriptor instanceof GenuineVariableDescriptor ? "Genuine"
+                                    : variableDescriptor instanceof ListVariableDescriptor ? "List" : "Shadow",
                             variableDescriptor.getVariableName(),
                             variableDescriptor.getMemberAccessorSpeedNote());
                 }
@@ -699,6 +701,12 @@ public class SolutionDescriptor<Solution_> {
                     sinkPair.setValue(sinkPair.getValue() - 1);
                 }
             }
+            for (ListVariableDescriptor<Solution_> list : entityDescriptor.getDeclaredListVariableDescriptors()) {
+                for (ShadowVariableDescriptor<Solution_> sink : list.getSinkVariableDescriptorList()) {
+                    Pair<ShadowVariableDescriptor<Solution_>, Integer> sinkPair = shadowToPairMap.get(sink);
+                    sinkPair.setValue(sinkPair.getValue() - 1);
+                }
+            }
         }
         int globalShadowOrder = 0;
         while (!pairList.isEmpty()) {
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.valuerange.index;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
+import org.optaplanner.core.api.domain.valuerange.ValueRange;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.StatefulVariableListener;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * Gives every distinct value (by {@link Object#equals(Object)}, like {@link ValueRange#contains(Object)})
+ * of the entity dependent value ranges an ordinal and remembers the value ordinals of each entity in a {@link BitSet}.
+ */
+public class ExternalizedValueRangeIndexSupply implements StatefulVariableListener<Object>, ValueRangeIndexSupply {
+
+    /**
+     * Countable value ranges bigger than this are not indexed,
+     * to avoid blowing up memory on for example a big numeric range.
+     */
+    protected static final long VALUE_RANGE_INDEX_SIZE_LIMIT = 1L << 20;
+
+    protected final GenuineVariableDescriptor sourceVariableDescriptor;
+    protected final ValueRangeDescriptor valueRangeDescriptor;
+
+    protected Object workingSolution = null;
+    protected Map<Object, Integer> valueOrdinalMap = null;
+    protected Map<Object, IndexedValueRange> entityMap = null;
+
+    public ExternalizedValueRangeIndexSupply(GenuineVariableDescriptor sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+        this.valueRangeDescriptor = sourceVariableDescriptor.getValueRangeDescriptor();
+    }
+
+    @Override
+    public VariableDescriptor getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector scoreDirector) {
+        workingSolution = scoreDirector.getWorkingSolution();
+        EntityDescriptor entityDescriptor = sourceVariableDescriptor.getEntityDescriptor();
+        List<Object> entityList = entityDescriptor.extractEntities(workingSolution);
+        valueOrdinalMap = new HashMap<>();
+        entityMap = new IdentityHashMap<>(entityList.size());
+        for (Object entity : entityList) {
+            insert(entity);
+        }
+    }
+
+    @Override
+    public void clearWorkingSolution(ScoreDirector scoreDirector) {
+        workingSolution = null;
+        valueOrdinalMap = null;
+        entityMap = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        insert(entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        entityMap.remove(entity);
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    protected void insert(Object entity) {
+        entityMap.put(entity, buildIndexedValueRange(entity));
+    }
+
+    protected IndexedValueRange buildIndexedValueRange(Object entity) {
+        ValueRange<Object> valueRange = (ValueRange<Object>) valueRangeDescriptor.extractValueRange(
+                workingSolution, entity);
+        BitSet valueOrdinalSet = null;
+        if (valueRange instanceof CountableValueRange) {
+            CountableValueRange<Object> countableValueRange = (CountableValueRange<Object>) valueRange;
+            if (countableValueRange.getSize() <= VALUE_RANGE_INDEX_SIZE_LIMIT) {
+                valueOrdinalSet = new BitSet();
+                for (Iterator<Object> it = countableValueRange.createOriginalIterator(); it.hasNext();) {
+                    Object value = it.next();
+                    // A null value (of a nullable variable) is checked on the valueRange directly
+                    if (value != null) {
+                        int valueOrdinal = valueOrdinalMap.computeIfAbsent(value, k -> valueOrdinalMap.size());
+                        valueOrdinalSet.set(valueOrdinal);
+                    }
+                }
+            }
+        }
+        return new IndexedValueRange(valueRange, valueOrdinalSet);
+    }
+
+    protected IndexedValueRange findIndexedValueRange(Object entity) {
+        if (entityMap == null) {
+            throw new IllegalStateException("The supply (" + this + ") has no working solution.");
+        }
+        IndexedValueRange indexedValueRange = entityMap.get(entity);
+        if (indexedValueRange == null) {
+            // The entity isn't part of the working solution, so don't remember it
+            indexedValueRange = buildIndexedValueRange(entity);
+        }
+        return indexedValueRange;
+    }
+
+    @Override
+    public ValueRange<?> getValueRange(Object entity) {
+        return findIndexedValueRange(entity).valueRange;
+    }
+
+    @Override
+    public boolean contains(Object entity, Object value) {
+        IndexedValueRange indexedValueRange = findIndexedValueRange(entity);
+        if (value == null || indexedValueRange.valueOrdinalSet == null) {
+            return indexedValueRange.valueRange.contains(value);
+        }
+        Integer valueOrdinal = valueOrdinalMap.get(value);
+        return valueOrdinal != null && indexedValueRange.valueOrdinalSet.get(valueOrdinal);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+    protected static final class IndexedValueRange {
+
+        private final ValueRange<Object> valueRange;
+        /**
+         * Null if the valueRange isn't indexed.
+         */
+        private final BitSet valueOrdinalSet;
+
+        public IndexedValueRange(ValueRange<Object> valueRange, BitSet valueOrdinalSet) {
+            this.valueRange = valueRange;
+            this.valueOrdinalSet = valueOrdinalSet;
+        }
+
+    }
+
+}
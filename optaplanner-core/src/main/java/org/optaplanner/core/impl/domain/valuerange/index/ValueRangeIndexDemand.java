@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.valuerange.index;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+public class ValueRangeIndexDemand implements Demand<ValueRangeIndexSupply> {
+
+    private static final int CLASS_NAME_HASH_CODE = ValueRangeIndexDemand.class.getName().hashCode() * 37;
+
+    protected final GenuineVariableDescriptor sourceVariableDescriptor;
+
+    public ValueRangeIndexDemand(GenuineVariableDescriptor sourceVariableDescriptor) {
+        if (sourceVariableDescriptor.isValueRangeEntityIndependent()) {
+            throw new IllegalArgumentException("The sourceVariableDescriptor ("
+                    + sourceVariableDescriptor.getSimpleEntityAndVariableName()
+                    + ") must have an entity dependent value range to be indexed.");
+        }
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    public GenuineVariableDescriptor getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public ValueRangeIndexSupply createExternalizedSupply(InnerScoreDirector scoreDirector) {
+        return new ExternalizedValueRangeIndexSupply(sourceVariableDescriptor);
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ValueRangeIndexDemand)) {
+            return false;
+        }
+        ValueRangeIndexDemand other = (ValueRangeIndexDemand) o;
+        if (!sourceVariableDescriptor.equals(other.sourceVariableDescriptor)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return CLASS_NAME_HASH_CODE + sourceVariableDescriptor.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+}
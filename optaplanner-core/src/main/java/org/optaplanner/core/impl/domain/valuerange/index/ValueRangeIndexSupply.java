@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.valuerange.index;
+
+import org.optaplanner.core.api.domain.valuerange.ValueRange;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Indexes an entity dependent value range (a {@link ValueRangeProvider} on the planning entity),
+ * so it doesn't need to be extracted from the entity and searched through for every selection or move.
+ * <p>
+ * The value range of every entity is read once per working solution
+ * (and again after a problem fact change), so the {@link ValueRangeProvider} of an entity
+ * must not depend on the planning variables.
+ * <p>
+ * To get an instance, demand a {@link ValueRangeIndexDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface ValueRangeIndexSupply extends Supply {
+
+    /**
+     * @param entity never null
+     * @return never null, the same instance for the same entity until the working solution is reset
+     */
+    ValueRange<?> getValueRange(Object entity);
+
+    /**
+     * Same as {@code getValueRange(entity).contains(value)}, but in O(1) for an indexed value range.
+     * @param entity never null
+     * @param value sometimes null
+     * @return true if the value is in the value range of that entity
+     */
+    boolean contains(Object entity, Object value);
+
+}
@@ -28,6 +28,11 @@ import org.optaplanner.core.impl.score.director.ScoreDirector;
 
 /**
  * Alternative to {@link AnchorVariableListener}.
+ * <p>
+ * Like the {@link AnchorVariableListener}, a change walks the trailing entities to update their anchor,
+ * which is O(n) in the chain length, but it keeps {@link #getAnchor(Object)} a plain O(1) lookup.
+ * The {@link org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableSupply}
+ * makes both O(log n), which only pays off for long chains, so it's demanded separately where positions are needed.
  */
 public class ExternalizedAnchorVariableSupply implements StatefulVariableListener<Object>, AnchorVariableSupply {
 
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.chainposition;
+
+/**
+ * A node of an implicit treap: a randomized balanced binary tree, ordered by position instead of by key,
+ * that keeps the size of every subtree so the position of any node is found in O(log n).
+ * Each tree holds 1 chain (or 1 detached part of a chain), the anchor (if any) being the first node.
+ * Splitting and merging trees, which happens when a sub chain moves, is O(log n) too.
+ */
+final class ChainPositionNode {
+
+    final Object value;
+    final boolean anchor;
+    final int priority;
+
+    int size = 1;
+    ChainPositionNode parent = null;
+    ChainPositionNode left = null;
+    ChainPositionNode right = null;
+
+    ChainPositionNode(Object value, boolean anchor, int priority) {
+        this.value = value;
+        this.anchor = anchor;
+        this.priority = priority;
+    }
+
+    private void update() {
+        size = 1 + size(left) + size(right);
+        if (left != null) {
+            left.parent = this;
+        }
+        if (right != null) {
+            right.parent = this;
+        }
+    }
+
+    ChainPositionNode findRoot() {
+        ChainPositionNode node = this;
+        while (node.parent != null) {
+            node = node.parent;
+        }
+        return node;
+    }
+
+    /**
+     * @return {@code >= 0}, the position of this node in its tree
+     */
+    int findIndex() {
+        int index = size(left);
+        ChainPositionNode node = this;
+        while (node.parent != null) {
+            if (node.parent.right == node) {
+                index += size(node.parent.left) + 1;
+            }
+            node = node.parent;
+        }
+        return index;
+    }
+
+    /**
+     * @return sometimes null, the node after this node in its tree
+     */
+    ChainPositionNode findNext() {
+        if (right != null) {
+            ChainPositionNode node = right;
+            while (node.left != null) {
+                node = node.left;
+            }
+            return node;
+        }
+        ChainPositionNode node = this;
+        while (node.parent != null && node.parent.right == node) {
+            node = node.parent;
+        }
+        return node.parent;
+    }
+
+    // ************************************************************************
+    // Tree methods
+    // ************************************************************************
+
+    static int size(ChainPositionNode root) {
+        return root == null ? 0 : root.size;
+    }
+
+    static ChainPositionNode findFirst(ChainPositionNode root) {
+        ChainPositionNode node = root;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    static ChainPositionNode select(ChainPositionNode root, int index) {
+        ChainPositionNode node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException("The index is outside of the tree.");
+    }
+
+    /**
+     * @param leftRoot sometimes null
+     * @param rightRoot sometimes null
+     * @return sometimes null, the root of the tree with all nodes of leftRoot followed by all nodes of rightRoot
+     */
+    static ChainPositionNode merge(ChainPositionNode leftRoot, ChainPositionNode rightRoot) {
+        ChainPositionNode root = mergeRecursively(leftRoot, rightRoot);
+        if (root != null) {
+            root.parent = null;
+        }
+        return root;
+    }
+
+    private static ChainPositionNode mergeRecursively(ChainPositionNode leftRoot, ChainPositionNode rightRoot) {
+        if (leftRoot == null) {
+            return rightRoot;
+        }
+        if (rightRoot == null) {
+            return leftRoot;
+        }
+        if (leftRoot.priority > rightRoot.priority) {
+            leftRoot.right = mergeRecursively(leftRoot.right, rightRoot);
+            leftRoot.update();
+            return leftRoot;
+        } else {
+            rightRoot.left = mergeRecursively(leftRoot, rightRoot.left);
+            rightRoot.update();
+            return rightRoot;
+        }
+    }
+
+    /**
+     * @param root never null
+     * @param index {@code 0 <= index <= size}
+     * @return never null, an array of the left root (the first index nodes) and the right root (the other nodes),
+     * both sometimes null
+     */
+    static ChainPositionNode[] split(ChainPositionNode root, int index) {
+        ChainPositionNode[] roots = new ChainPositionNode[2];
+        splitRecursively(root, index, roots);
+        if (roots[0] != null) {
+            roots[0].parent = null;
+        }
+        if (roots[1] != null) {
+            roots[1].parent = null;
+        }
+        return roots;
+    }
+
+    private static void splitRecursively(ChainPositionNode root, int index, ChainPositionNode[] roots) {
+        if (root == null) {
+            roots[0] = null;
+            roots[1] = null;
+            return;
+        }
+        int leftSize = size(root.left);
+        if (index <= leftSize) {
+            splitRecursively(root.left, index, roots);
+            root.left = roots[1];
+            root.update();
+            roots[1] = root;
+        } else {
+            splitRecursively(root.right, index - leftSize - 1, roots);
+            root.right = roots[0];
+            root.update();
+            roots[0] = root;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+}
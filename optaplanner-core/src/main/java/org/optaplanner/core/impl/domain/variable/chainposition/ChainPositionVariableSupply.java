@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.chainposition;
+
+import java.util.List;
+
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Only supported for chained variables.
+ * <p>
+ * Knows the position of every planning value in its chain,
+ * without walking the chain: every query is O(log n) in the chain length.
+ * The anchor has index 0, the first entity after the anchor has index 1, and so on.
+ * <p>
+ * To get an instance, demand a {@link ChainPositionVariableDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface ChainPositionVariableSupply extends Supply {
+
+    /**
+     * @param entity never null
+     * @return sometimes null, the anchor for the entity
+     */
+    Object getAnchor(Object entity);
+
+    /**
+     * @param planningValue never null, an anchor or an entity
+     * @return {@code 0} for an anchor, the number of entities up to and including the entity for an entity
+     * or {@code -1} if the entity isn't connected to an anchor (for example because it's uninitialized)
+     */
+    int getIndex(Object planningValue);
+
+    /**
+     * @param anchor never null
+     * @return {@code >= 0}, the number of entities in the chain of the anchor
+     */
+    int getChainLength(Object anchor);
+
+    /**
+     * @param anchor never null
+     * @param index {@code 0 <= index <= } {@link #getChainLength(Object)}
+     * @return never null, the anchor if the index is {@code 0}, otherwise the entity at that index
+     */
+    Object getPlanningValue(Object anchor, int index);
+
+    /**
+     * @param leftValue never null, an anchor or an entity
+     * @param rightValue never null, an anchor or an entity
+     * @return true if both are in the same chain and leftValue comes earlier in that chain than rightValue
+     */
+    boolean isBefore(Object leftValue, Object rightValue);
+
+    /**
+     * Finding both ends is O(log n), collecting the entities in between is O(k) in the sub chain length.
+     * @param firstEntity never null
+     * @param lastEntity never null, in the same chain as firstEntity, not before firstEntity
+     * @return never null, all entities from firstEntity up to and including lastEntity, in chain order
+     */
+    List<Object> getSubChainEntityList(Object firstEntity, Object lastEntity);
+
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.chainposition;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.StatefulVariableListener;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * Keeps every chain in a {@link ChainPositionNode} tree.
+ * <p>
+ * The changed and removed entities are only processed lazily, at the next query,
+ * because during a move the chains are temporarily inconsistent.
+ * Processing first detaches every removed entity from its chain
+ * and every changed entity (with its trailing entities) from its former previous value.
+ * Then it appends every detached part to its new previous value,
+ * which is always the last value of its tree once all changed entities are detached.
+ */
+public class ExternalizedChainPositionVariableSupply implements StatefulVariableListener<Object>,
+        ChainPositionVariableSupply {
+
+    protected final VariableDescriptor previousVariableDescriptor;
+
+    protected Map<Object, ChainPositionNode> nodeMap = null;
+    protected List<Object> dirtyEntityList = null;
+    protected List<ChainPositionNode> removedNodeList = null;
+    protected int nextPriority;
+
+    public ExternalizedChainPositionVariableSupply(VariableDescriptor previousVariableDescriptor) {
+        this.previousVariableDescriptor = previousVariableDescriptor;
+    }
+
+    @Override
+    public VariableDescriptor getSourceVariableDescriptor() {
+        return previousVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector scoreDirector) {
+        EntityDescriptor entityDescriptor = previousVariableDescriptor.getEntityDescriptor();
+        List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        nodeMap = new IdentityHashMap<>(entityList.size() * 2);
+        dirtyEntityList = new ArrayList<>(entityList.size());
+        removedNodeList = new ArrayList<>();
+        // The priorities don't influence the positions, so they don't need a seeded Random to be reproducible
+        nextPriority = 0;
+        for (Object entity : entityList) {
+            insert(entity);
+        }
+        processDirtyEntities();
+    }
+
+    @Override
+    public void clearWorkingSolution(ScoreDirector scoreDirector) {
+        nodeMap = null;
+        dirtyEntityList = null;
+        removedNodeList = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        insert(entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing: the tree still reflects the chains before the move until afterVariableChanged()
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector scoreDirector, Object entity) {
+        dirtyEntityList.add(entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        ChainPositionNode node = nodeMap.remove(entity);
+        if (node == null) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity
+                    + ") for sourceVariable (" + previousVariableDescriptor.getVariableName()
+                    + ") cannot be retracted: it was never inserted.");
+        }
+        // Other changes of the same move can still be queued, so only detach it at the next query
+        removedNodeList.add(node);
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    protected void insert(Object entity) {
+        ChainPositionNode node = new ChainPositionNode(entity, false, generatePriority());
+        ChainPositionNode oldNode = nodeMap.put(entity, node);
+        if (oldNode != null) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity
+                    + ") for sourceVariable (" + previousVariableDescriptor.getVariableName()
+                    + ") cannot be inserted: it was already inserted.");
+        }
+        dirtyEntityList.add(entity);
+    }
+
+    protected int generatePriority() {
+        // Xorshift of a Weyl sequence: well spread and no Random instance needed
+        int x = (nextPriority += 0x9E3779B9);
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        return x;
+    }
+
+    protected ChainPositionNode findOrCreateValueNode(Object value) {
+        ChainPositionNode node = nodeMap.get(value);
+        if (node == null) {
+            if (!previousVariableDescriptor.isValuePotentialAnchor(value)) {
+                throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                        + " because the value (" + value
+                        + ") for sourceVariable (" + previousVariableDescriptor.getVariableName()
+                        + ") is not an anchor and it was never inserted as an entity.");
+            }
+            node = new ChainPositionNode(value, true, generatePriority());
+            nodeMap.put(value, node);
+        }
+        return node;
+    }
+
+    protected void processDirtyEntities() {
+        if (dirtyEntityList.isEmpty() && removedNodeList.isEmpty()) {
+            return;
+        }
+        // Detach every removed entity, its trailing entities will change their previousVariable too
+        for (ChainPositionNode node : removedNodeList) {
+            ChainPositionNode root = node.findRoot();
+            int index = node.findIndex();
+            if (index > 0) {
+                root = ChainPositionNode.split(root, index)[1];
+            }
+            ChainPositionNode.split(root, 1);
+        }
+        removedNodeList.clear();
+        // Detach every dirty entity from its old previous value
+        for (Object entity : dirtyEntityList) {
+            ChainPositionNode node = nodeMap.get(entity);
+            if (node != null) {
+                int index = node.findIndex();
+                if (index > 0) {
+                    ChainPositionNode.split(node.findRoot(), index);
+                }
+            }
+        }
+        // Append every dirty entity to its new previous value
+        for (Object entity : dirtyEntityList) {
+            ChainPositionNode node = nodeMap.get(entity);
+            if (node == null) {
+                // Removed in the meantime
+                continue;
+            }
+            Object previousValue = previousVariableDescriptor.getValue(entity);
+            if (previousValue == null || node.findIndex() > 0) {
+                // Uninitialized or duplicate dirty entity
+                continue;
+            }
+            ChainPositionNode root = node.findRoot();
+            ChainPositionNode previousNode = findOrCreateValueNode(previousValue);
+            ChainPositionNode previousRoot = previousNode.findRoot();
+            if (previousRoot == root || previousNode.findIndex() != previousRoot.size - 1) {
+                throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                        + " because the entity (" + entity
+                        + ") for sourceVariable (" + previousVariableDescriptor.getVariableName()
+                        + ") cannot be appended to its previous value (" + previousValue
+                        + "): another entity also has that previous value or the chain has a cycle.");
+            }
+            ChainPositionNode.merge(previousRoot, root);
+        }
+        dirtyEntityList.clear();
+    }
+
+    protected ChainPositionNode findNode(Object planningValue) {
+        processDirtyEntities();
+        return nodeMap.get(planningValue);
+    }
+
+    @Override
+    public Object getAnchor(Object entity) {
+        ChainPositionNode node = findNode(entity);
+        if (node == null) {
+            return null;
+        }
+        ChainPositionNode first = ChainPositionNode.findFirst(node.findRoot());
+        return first.anchor ? first.value : null;
+    }
+
+    @Override
+    public int getIndex(Object planningValue) {
+        ChainPositionNode node = findNode(planningValue);
+        if (node == null) {
+            return previousVariableDescriptor.isValuePotentialAnchor(planningValue) ? 0 : -1;
+        }
+        if (!ChainPositionNode.findFirst(node.findRoot()).anchor) {
+            return -1;
+        }
+        return node.findIndex();
+    }
+
+    @Override
+    public int getChainLength(Object anchor) {
+        ChainPositionNode node = findNode(anchor);
+        if (node == null) {
+            return 0;
+        }
+        return node.findRoot().size - 1;
+    }
+
+    @Override
+    public Object getPlanningValue(Object anchor, int index) {
+        ChainPositionNode node = findNode(anchor);
+        if (node == null) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException("The index (" + index
+                        + ") is outside of the chain of the anchor (" + anchor + ") which is empty.");
+            }
+            return anchor;
+        }
+        ChainPositionNode root = node.findRoot();
+        if (index < 0 || index >= root.size) {
+            throw new IndexOutOfBoundsException("The index (" + index
+                    + ") is outside of the chain of the anchor (" + anchor
+                    + ") with chain length (" + (root.size - 1) + ").");
+        }
+        return ChainPositionNode.select(root, index).value;
+    }
+
+    @Override
+    public boolean isBefore(Object leftValue, Object rightValue) {
+        ChainPositionNode leftNode = findNode(leftValue);
+        ChainPositionNode rightNode = findNode(rightValue);
+        if (leftNode == null || rightNode == null || leftNode.findRoot() != rightNode.findRoot()) {
+            return false;
+        }
+        return leftNode.findIndex() < rightNode.findIndex();
+    }
+
+    @Override
+    public List<Object> getSubChainEntityList(Object firstEntity, Object lastEntity) {
+        ChainPositionNode firstNode = findNode(firstEntity);
+        ChainPositionNode lastNode = findNode(lastEntity);
+        if (firstNode == null || lastNode == null || firstNode.findRoot() != lastNode.findRoot()) {
+            throw new IllegalArgumentException("The firstEntity (" + firstEntity
+                    + ") and the lastEntity (" + lastEntity + ") are not in the same chain.");
+        }
+        int size = lastNode.findIndex() - firstNode.findIndex() + 1;
+        if (size <= 0) {
+            throw new IllegalArgumentException("The firstEntity (" + firstEntity
+                    + ") comes after the lastEntity (" + lastEntity + ") in their chain.");
+        }
+        List<Object> entityList = new ArrayList<>(size);
+        ChainPositionNode node = firstNode;
+        for (int i = 0; i < size; i++) {
+            entityList.add(node.value);
+            node = node.findNext();
+        }
+        return entityList;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + previousVariableDescriptor.getVariableName() + ")";
+    }
+
+}
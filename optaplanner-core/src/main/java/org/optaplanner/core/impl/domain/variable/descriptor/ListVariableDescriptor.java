@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.descriptor;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.policy.DescriptorPolicy;
+
+/**
+ * Describes a {@link PlanningListVariable}.
+ * It's not a {@link GenuineVariableDescriptor},
+ * so the generic move selectors and the construction heuristics ignore it.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ListVariableDescriptor<Solution_> extends VariableDescriptor<Solution_> {
+
+    public ListVariableDescriptor(EntityDescriptor<Solution_> entityDescriptor,
+            MemberAccessor variableMemberAccessor) {
+        super(entityDescriptor, variableMemberAccessor);
+        if (!List.class.isAssignableFrom(variableMemberAccessor.getType())) {
+            throw new IllegalStateException("The entityClass (" + entityDescriptor.getEntityClass()
+                    + ") has a " + PlanningListVariable.class.getSimpleName()
+                    + " annotated member (" + variableMemberAccessor
+                    + ") that does not return a " + List.class.getSimpleName()
+                    + " but a " + variableMemberAccessor.getType() + ".");
+        }
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void linkVariableDescriptors(DescriptorPolicy descriptorPolicy) {
+        // Nothing to link
+    }
+
+    // ************************************************************************
+    // Extraction methods
+    // ************************************************************************
+
+    /**
+     * @param entity never null
+     * @return never null, the mutable list itself, so changes to it must be surrounded by
+     * {@link org.optaplanner.core.impl.score.director.ScoreDirector#beforeVariableChanged(VariableDescriptor, Object)}
+     * and {@link org.optaplanner.core.impl.score.director.ScoreDirector#afterVariableChanged(VariableDescriptor, Object)}
+     */
+    public List<Object> getValueList(Object entity) {
+        List<Object> valueList = (List<Object>) variableMemberAccessor.executeGetter(entity);
+        if (valueList == null) {
+            throw new IllegalStateException("The entity (" + entity
+                    + ") has a " + PlanningListVariable.class.getSimpleName()
+                    + " (" + getSimpleEntityAndVariableName() + ") that is null.\n"
+                    + "Maybe initialize it with an empty list instead.");
+        }
+        return valueList;
+    }
+
+    public int getListSize(Object entity) {
+        return getValueList(entity).size();
+    }
+
+    public Object getElement(Object entity, int index) {
+        return getValueList(entity).get(index);
+    }
+
+    @Override
+    public boolean isGenuineAndUninitialized(Object entity) {
+        // A list is never uninitialized, an empty list is a valid assignment
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getSimpleEntityAndVariableName() + " list variable";
+    }
+
+}
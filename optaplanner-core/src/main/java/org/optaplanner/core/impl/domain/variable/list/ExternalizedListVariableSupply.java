@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.list;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.StatefulVariableListener;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * A changed entity is only marked dirty, which is O(1) per move.
+ * Its list is only reindexed at the next query.
+ * A value that was removed from every list keeps its stale location,
+ * which is detected in O(1) at query time.
+ */
+public class ExternalizedListVariableSupply implements StatefulVariableListener<Object>, ListVariableSupply {
+
+    protected final ListVariableDescriptor sourceVariableDescriptor;
+
+    protected Map<Object, ValueLocation> locationMap = null;
+    protected Set<Object> dirtyEntitySet = null;
+
+    public ExternalizedListVariableSupply(ListVariableDescriptor sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public ListVariableDescriptor getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector scoreDirector) {
+        EntityDescriptor entityDescriptor = sourceVariableDescriptor.getEntityDescriptor();
+        List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        int valueCount = 0;
+        for (Object entity : entityList) {
+            valueCount += sourceVariableDescriptor.getListSize(entity);
+        }
+        locationMap = new IdentityHashMap<>(valueCount);
+        dirtyEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object entity : entityList) {
+            reindex(entity);
+        }
+    }
+
+    @Override
+    public void clearWorkingSolution(ScoreDirector scoreDirector) {
+        locationMap = null;
+        dirtyEntitySet = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector scoreDirector, Object entity) {
+        dirtyEntitySet.add(entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector scoreDirector, Object entity) {
+        dirtyEntitySet.add(entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        dirtyEntitySet.remove(entity);
+        for (Object value : sourceVariableDescriptor.getValueList(entity)) {
+            ValueLocation location = locationMap.get(value);
+            if (location != null && location.entity == entity) {
+                locationMap.remove(value);
+            }
+        }
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    protected void reindex(Object entity) {
+        List<Object> valueList = sourceVariableDescriptor.getValueList(entity);
+        for (int i = 0; i < valueList.size(); i++) {
+            Object value = valueList.get(i);
+            ValueLocation location = locationMap.get(value);
+            if (location == null) {
+                location = new ValueLocation();
+                locationMap.put(value, location);
+            }
+            location.entity = entity;
+            location.index = i;
+        }
+    }
+
+    protected ValueLocation findLocation(Object planningValue) {
+        if (!dirtyEntitySet.isEmpty()) {
+            for (Object entity : dirtyEntitySet) {
+                reindex(entity);
+            }
+            dirtyEntitySet.clear();
+        }
+        ValueLocation location = locationMap.get(planningValue);
+        if (location == null) {
+            return null;
+        }
+        List<Object> valueList = sourceVariableDescriptor.getValueList(location.entity);
+        if (location.index >= valueList.size() || valueList.get(location.index) != planningValue) {
+            // Stale: the value has been removed from every list since
+            return null;
+        }
+        return location;
+    }
+
+    @Override
+    public Object getInverseSingleton(Object planningValue) {
+        ValueLocation location = findLocation(planningValue);
+        return location == null ? null : location.entity;
+    }
+
+    @Override
+    public int getIndex(Object planningValue) {
+        ValueLocation location = findLocation(planningValue);
+        return location == null ? -1 : location.index;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+    protected static final class ValueLocation {
+
+        private Object entity;
+        private int index;
+
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.list;
+
+import org.optaplanner.core.api.domain.variable.PlanningListVariable;
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Only supported for a {@link PlanningListVariable}.
+ * Combines the inverse relation and the index of each planning value in its list.
+ * For example, a custom phase that fills the lists can use it to find the values that aren't in any list yet.
+ * <p>
+ * To get an instance, demand a {@link ListVariableDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface ListVariableSupply extends Supply {
+
+    /**
+     * If entity1.list = [x, y] then the inverse of y is entity1.
+     * @param planningValue never null
+     * @return sometimes null, the entity whose list contains the planningValue
+     */
+    Object getInverseSingleton(Object planningValue);
+
+    /**
+     * If entity1.list = [x, y] then the index of y is 1.
+     * @param planningValue never null
+     * @return {@code >= 0} the index of the planningValue in its list, or {@code -1} if it isn't in any list
+     */
+    int getIndex(Object planningValue);
+
+}
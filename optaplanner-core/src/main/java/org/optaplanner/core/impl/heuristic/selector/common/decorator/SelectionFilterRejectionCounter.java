@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.decorator;
+
+import org.optaplanner.core.impl.heuristic.selector.Selector;
+
+/**
+ * Counts how many selections a filtering {@link Selector} evaluated and how many of those its filters rejected.
+ * <p>
+ * A high rejection ratio means that most selections are generated only to be discarded.
+ */
+public class SelectionFilterRejectionCounter {
+
+    protected final Selector filteringSelector;
+
+    protected long selectionCount = 0L;
+    protected long rejectionCount = 0L;
+
+    public SelectionFilterRejectionCounter(Selector filteringSelector) {
+        this.filteringSelector = filteringSelector;
+    }
+
+    /**
+     * @return never null
+     */
+    public Selector getFilteringSelector() {
+        return filteringSelector;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param accepted true if the selection passed all filters
+     */
+    public void addSelection(boolean accepted) {
+        selectionCount++;
+        if (!accepted) {
+            rejectionCount++;
+        }
+    }
+
+    public long getSelectionCount() {
+        return selectionCount;
+    }
+
+    public long getRejectionCount() {
+        return rejectionCount;
+    }
+
+    /**
+     * @return {@code 0.0 <= rejectionRatio <= 1.0}, {@code 0.0} if nothing was selected yet
+     */
+    public double getRejectionRatio() {
+        if (selectionCount == 0L) {
+            return 0.0;
+        }
+        return ((double) rejectionCount) / ((double) selectionCount);
+    }
+
+    @Override
+    public String toString() {
+        return filteringSelector + " rejected " + rejectionCount + "/" + selectionCount;
+    }
+
+}
@@ -16,12 +16,14 @@
 
 package org.optaplanner.core.impl.heuristic.selector.entity;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
@@ -29,12 +31,22 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 /**
  * This is the common {@link EntitySelector} implementation.
+ * <p>
+ * If it has a movableEntitySelectionFilter, it only selects the movable entities,
+ * so a random selection never needs to skip immovable entities.
+ * That filter is only applied when the entity list is (re)built,
+ * at the start of every phase and when the working entity list becomes dirty
+ * (which includes adding or removing a problem fact and changing a problem property).
+ * So that filter must only depend on problem facts and problem properties, not on planning variables.
+ * If assertMovableEntityList is true, every step asserts that restriction.
  */
 public class FromSolutionEntitySelector extends AbstractEntitySelector {
 
     protected final EntityDescriptor entityDescriptor;
     protected final SelectionCacheType minimumCacheType;
     protected final boolean randomSelection;
+    protected final SelectionFilter movableEntitySelectionFilter;
+    protected final boolean assertMovableEntityList;
 
     protected List<Object> cachedEntityList = null;
     protected Long cachedEntityListRevision = null;
@@ -42,9 +54,25 @@ public class FromSolutionEntitySelector extends AbstractEntitySelector {
 
     public FromSolutionEntitySelector(EntityDescriptor entityDescriptor,
             SelectionCacheType minimumCacheType, boolean randomSelection) {
+        this(entityDescriptor, minimumCacheType, randomSelection, null, false);
+    }
+
+    /**
+     * @param entityDescriptor never null
+     * @param minimumCacheType never null
+     * @param randomSelection true if the selection is random
+     * @param movableEntitySelectionFilter sometimes null, if not null, only the entities it accepts are selected
+     * @param assertMovableEntityList true if every step should assert that the movableEntitySelectionFilter
+     * still accepts the same entities, because it doesn't depend on a planning variable
+     */
+    public FromSolutionEntitySelector(EntityDescriptor entityDescriptor,
+            SelectionCacheType minimumCacheType, boolean randomSelection,
+            SelectionFilter movableEntitySelectionFilter, boolean assertMovableEntityList) {
         this.entityDescriptor = entityDescriptor;
         this.minimumCacheType = minimumCacheType;
         this.randomSelection = randomSelection;
+        this.movableEntitySelectionFilter = movableEntitySelectionFilter;
+        this.assertMovableEntityList = assertMovableEntityList;
     }
 
     @Override
@@ -70,7 +98,7 @@ public class FromSolutionEntitySelector extends AbstractEntitySelector {
     public void phaseStarted(AbstractPhaseScope phaseScope) {
         super.phaseStarted(phaseScope);
         InnerScoreDirector scoreDirector = phaseScope.getScoreDirector();
-        cachedEntityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        cachedEntityList = extractEntities(scoreDirector);
         cachedEntityListRevision = scoreDirector.getWorkingEntityListRevision();
         cachedEntityListIsDirty = false;
     }
@@ -83,9 +111,39 @@ public class FromSolutionEntitySelector extends AbstractEntitySelector {
             if (minimumCacheType.compareTo(SelectionCacheType.STEP) > 0) {
                 cachedEntityListIsDirty = true;
             } else {
-                cachedEntityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+                cachedEntityList = extractEntities(scoreDirector);
                 cachedEntityListRevision = scoreDirector.getWorkingEntityListRevision();
             }
+        } else if (assertMovableEntityList && movableEntitySelectionFilter != null) {
+            assertMovableEntityList(scoreDirector);
+        }
+    }
+
+    protected List<Object> extractEntities(InnerScoreDirector scoreDirector) {
+        List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        if (movableEntitySelectionFilter == null) {
+            return entityList;
+        }
+        List<Object> movableEntityList = new ArrayList<>(entityList.size());
+        for (Object entity : entityList) {
+            if (movableEntitySelectionFilter.accept(scoreDirector, entity)) {
+                movableEntityList.add(entity);
+            }
+        }
+        return movableEntityList;
+    }
+
+    protected void assertMovableEntityList(InnerScoreDirector scoreDirector) {
+        List<Object> movableEntityList = extractEntities(scoreDirector);
+        if (!movableEntityList.equals(cachedEntityList)) {
+            throw new IllegalStateException("The selector (" + this
+                    + ")'s cachedEntityList size (" + cachedEntityList.size()
+                    + ") differs from the movable entity list size (" + movableEntityList.size()
+                    + ") without a change of the working entity list.\n"
+                    + "Maybe the movableEntitySelectionFilter (" + movableEntitySelectionFilter
+                    + ") depends on a planning variable, instead of only on problem facts and problem properties.\n"
+                    + "Maybe a problem fact or problem property changed"
+                    + " without calling the ScoreDirector's before/after methods.");
         }
     }
 
@@ -164,7 +222,8 @@ public class FromSolutionEntitySelector extends AbstractEntitySelector {
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "(" + entityDescriptor.getEntityClass().getSimpleName() + ")";
+        return getClass().getSimpleName() + "(" + entityDescriptor.getEntityClass().getSimpleName()
+                + (movableEntitySelectionFilter == null ? "" : ", movable") + ")";
     }
 
 }
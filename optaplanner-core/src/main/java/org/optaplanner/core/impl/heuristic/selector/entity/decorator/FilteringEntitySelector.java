@@ -22,23 +22,27 @@ import java.util.ListIterator;
 
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilterRejectionCounter;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.entity.AbstractEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
 public class FilteringEntitySelector extends AbstractEntitySelector {
 
     protected final EntitySelector childEntitySelector;
     protected final List<SelectionFilter> filterList;
     protected final boolean bailOutEnabled;
+    protected final SelectionFilterRejectionCounter rejectionCounter;
 
     protected ScoreDirector scoreDirector = null;
 
     public FilteringEntitySelector(EntitySelector childEntitySelector, List<SelectionFilter> filterList) {
         this.childEntitySelector = childEntitySelector;
         this.filterList = filterList;
+        rejectionCounter = new SelectionFilterRejectionCounter(this);
         bailOutEnabled = childEntitySelector.isNeverEnding();
         phaseLifecycleSupport.addEventListener(childEntitySelector);
     }
@@ -47,6 +51,12 @@ public class FilteringEntitySelector extends AbstractEntitySelector {
     // Worker methods
     // ************************************************************************
 
+    @Override
+    public void solvingStarted(DefaultSolverScope solverScope) {
+        super.solvingStarted(solverScope);
+        solverScope.addSelectionFilterRejectionCounter(rejectionCounter);
+    }
+
     @Override
     public void phaseStarted(AbstractPhaseScope phaseScope) {
         super.phaseStarted(phaseScope);
@@ -59,6 +69,19 @@ public class FilteringEntitySelector extends AbstractEntitySelector {
         scoreDirector = null;
     }
 
+    @Override
+    public void solvingEnded(DefaultSolverScope solverScope) {
+        super.solvingEnded(solverScope);
+        solverScope.removeSelectionFilterRejectionCounter(rejectionCounter);
+    }
+
+    /**
+     * @return never null
+     */
+    public SelectionFilterRejectionCounter getRejectionCounter() {
+        return rejectionCounter;
+    }
+
     @Override
     public EntityDescriptor getEntityDescriptor() {
         return childEntitySelector.getEntityDescriptor();
@@ -97,6 +120,7 @@ public class FilteringEntitySelector extends AbstractEntitySelector {
         @Override
         protected Object createUpcomingSelection() {
             Object next;
+            boolean accepted;
             long attemptsBeforeBailOut = bailOutSize;
             do {
                 if (!childEntityIterator.hasNext()) {
@@ -112,7 +136,9 @@ public class FilteringEntitySelector extends AbstractEntitySelector {
                     attemptsBeforeBailOut--;
                 }
                 next = childEntityIterator.next();
-            } while (!accept(scoreDirector, next));
+                accepted = accept(scoreDirector, next);
+                rejectionCounter.addSelection(accepted);
+            } while (!accepted);
             return next;
         }
 
@@ -17,12 +17,21 @@
 package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
@@ -34,9 +43,23 @@ import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRa
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.value.chained.DefaultSubChainSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+import org.optaplanner.core.impl.solver.thread.ThreadUtils;
 
 /**
+ * The pillars are built once per phase and then maintained incrementally:
+ * after a local search step only the entities of that step's {@link org.optaplanner.core.impl.heuristic.move.Move#getPlanningEntities()}
+ * are moved to another pillar if their values changed.
+ * This presumes that the {@link EntitySelector} selects the same entities during the entire phase
+ * and that the step declares every entity it changes.
+ * So the pillars are rebuilt instead after any other step, after a step that declares no entities
+ * and after every step if the incremental update is disabled, for example because the entities are filtered.
+ * <p>
+ * A pillar list that has been selected is never changed afterwards (copy on write),
+ * because a {@link org.optaplanner.core.impl.heuristic.move.Move} can hold on to it.
  * @see PillarSelector
  */
 public class DefaultPillarSelector extends AbstractSelector
@@ -56,11 +79,61 @@ public class DefaultPillarSelector extends AbstractSelector
     protected final int minimumSubPillarSize;
     protected final int maximumSubPillarSize;
 
+    /**
+     * False if the selected entities can change between steps, for example because a filter depends on the values.
+     */
+    protected final boolean incrementalUpdateEnabled;
+    protected final boolean assertIncrementalUpdate;
+    /**
+     * If higher than 1, a pillar build extracts the values on this many threads for large entity sizes.
+     */
+    protected final int buildThreadCount;
+    protected final ThreadFactory buildThreadFactory;
+
+    /**
+     * The pillar build is done in parallel for at least this many entities.
+     */
+    protected static final int PARALLEL_BUILD_ENTITY_SIZE_THRESHOLD = 10_000;
+
+    protected ExecutorService buildExecutor = null;
+
     protected List<List<Object>> cachedBasePillarList = null;
+    protected List<Object> cachedEntityList = null;
+    protected Map<ValueState, Pillar> valueStateToPillarMap = null;
+    protected Map<Object, EntityPosition> entityPositionMap = null;
+    /**
+     * Same order as {@link #cachedBasePillarList}.
+     */
+    protected List<Pillar> pillarList = null;
+
+    protected boolean rebuildNeeded = false;
+    protected Collection<? extends Object> changedEntities = null;
 
     public DefaultPillarSelector(EntitySelector entitySelector,
             Collection<GenuineVariableDescriptor> variableDescriptors, boolean randomSelection,
             boolean subPillarEnabled, int minimumSubPillarSize, int maximumSubPillarSize) {
+        this(entitySelector, variableDescriptors, randomSelection, subPillarEnabled,
+                minimumSubPillarSize, maximumSubPillarSize, true, false, 1, null);
+    }
+
+    /**
+     * @param entitySelector never null
+     * @param variableDescriptors never null
+     * @param randomSelection true if the pillars are selected randomly
+     * @param subPillarEnabled true if sub pillars are selected
+     * @param minimumSubPillarSize at least 1
+     * @param maximumSubPillarSize at least minimumSubPillarSize
+     * @param incrementalUpdateEnabled false to rebuild the pillars every step,
+     * for example if the entitySelector filters
+     * @param assertIncrementalUpdate true to compare every incremental update with a rebuild, which is slow
+     * @param buildThreadCount at least 1, 1 to build the pillars on the solver thread only
+     * @param buildThreadFactory null if buildThreadCount is 1
+     */
+    public DefaultPillarSelector(EntitySelector entitySelector,
+            Collection<GenuineVariableDescriptor> variableDescriptors, boolean randomSelection,
+            boolean subPillarEnabled, int minimumSubPillarSize, int maximumSubPillarSize,
+            boolean incrementalUpdateEnabled, boolean assertIncrementalUpdate,
+            int buildThreadCount, ThreadFactory buildThreadFactory) {
         this.entitySelector = entitySelector;
         this.variableDescriptors = variableDescriptors;
         this.randomSelection = randomSelection;
@@ -112,6 +185,18 @@ public class DefaultPillarSelector extends AbstractSelector
                     " because the number of sub pillars scales exponentially.\n"
                     + "Either set subPillarEnabled to false or use JIT random selection.");
         }
+        this.incrementalUpdateEnabled = incrementalUpdateEnabled;
+        this.assertIncrementalUpdate = assertIncrementalUpdate;
+        if (buildThreadCount < 1) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ")'s buildThreadCount (" + buildThreadCount + ") must be at least 1.");
+        }
+        if (buildThreadCount > 1 && buildThreadFactory == null) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ") with buildThreadCount (" + buildThreadCount + ") must have a buildThreadFactory.");
+        }
+        this.buildThreadCount = buildThreadCount;
+        this.buildThreadFactory = buildThreadFactory;
     }
 
     @Override
@@ -128,30 +213,325 @@ public class DefaultPillarSelector extends AbstractSelector
     // Cache lifecycle methods
     // ************************************************************************
 
+    @Override
+    public void phaseStarted(AbstractPhaseScope phaseScope) {
+        super.phaseStarted(phaseScope);
+        clearPillars();
+        if (buildThreadCount > 1) {
+            // Don't use the common ForkJoinPool, which is shared with the rest of the JVM
+            buildExecutor = Executors.newFixedThreadPool(buildThreadCount, buildThreadFactory);
+        }
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope stepScope) {
+        super.stepEnded(stepScope);
+        if (rebuildNeeded || !incrementalUpdateEnabled) {
+            rebuildNeeded = true;
+            return;
+        }
+        Collection<? extends Object> stepEntities = null;
+        if (stepScope instanceof LocalSearchStepScope && ((LocalSearchStepScope) stepScope).getStep() != null) {
+            stepEntities = ((LocalSearchStepScope) stepScope).getStep().getPlanningEntities();
+        }
+        if (stepEntities == null || stepEntities.isEmpty()) {
+            // Not a local search step or the step's move doesn't declare the entities it changes
+            rebuildNeeded = true;
+        } else {
+            changedEntities = stepEntities;
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope phaseScope) {
+        super.phaseEnded(phaseScope);
+        clearPillars();
+        if (buildExecutor != null) {
+            ThreadUtils.shutdownAwaitOrKill(buildExecutor, "", "Pillar build");
+            buildExecutor = null;
+        }
+    }
+
     @Override
     public void constructCache(DefaultSolverScope solverScope) {
+        if (cachedBasePillarList == null || rebuildNeeded) {
+            buildPillars();
+        } else if (changedEntities != null) {
+            updatePillars(changedEntities);
+            if (assertIncrementalUpdate) {
+                assertUpdatedPillars();
+            }
+        }
+        rebuildNeeded = false;
+        changedEntities = null;
+    }
+
+    @Override
+    public void disposeCache(DefaultSolverScope solverScope) {
+        // Do nothing: the pillars are updated incrementally by the next constructCache() call
+    }
+
+    protected void buildPillars() {
         long entitySize = entitySelector.getSize();
         if (entitySize > (long) Integer.MAX_VALUE) {
             throw new IllegalStateException("The selector (" + this + ") has an entitySelector ("
                     + entitySelector + ") with entitySize (" + entitySize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
-        Map<List<Object>, List<Object>> valueStateToPillarMap = new LinkedHashMap<>((int) entitySize);
+        cachedEntityList = new ArrayList<>((int) entitySize);
         for (Object entity : entitySelector) {
-            List<Object> valueState = new ArrayList<>(variableDescriptors.size());
-            for (GenuineVariableDescriptor variableDescriptor : variableDescriptors) {
-                Object value = variableDescriptor.getValue(entity);
-                valueState.add(value);
+            cachedEntityList.add(entity);
+        }
+        int entityListSize = cachedEntityList.size();
+        ValueState[] valueStates = new ValueState[entityListSize];
+        if (buildExecutor != null && entityListSize >= PARALLEL_BUILD_ENTITY_SIZE_THRESHOLD) {
+            extractValueStatesInParallel(valueStates);
+        } else {
+            for (int i = 0; i < entityListSize; i++) {
+                valueStates[i] = new ValueState(extractValues(cachedEntityList.get(i)));
+            }
+        }
+        // Grouping is done single threaded to keep the pillar order reproducible
+        valueStateToPillarMap = new HashMap<>(entityListSize);
+        entityPositionMap = new IdentityHashMap<>(entityListSize);
+        pillarList = new ArrayList<>();
+        cachedBasePillarList = new ArrayList<>();
+        for (int ordinal = 0; ordinal < entityListSize; ordinal++) {
+            Object entity = cachedEntityList.get(ordinal);
+            Pillar pillar = valueStateToPillarMap.get(valueStates[ordinal]);
+            if (pillar == null) {
+                pillar = new Pillar(valueStates[ordinal], ordinal);
+                valueStateToPillarMap.put(pillar.valueState, pillar);
+                pillarList.add(pillar);
+                cachedBasePillarList.add(pillar.entityList);
             }
-            List<Object> pillar = valueStateToPillarMap.computeIfAbsent(valueState, key -> new ArrayList<>());
-            pillar.add(entity);
+            pillar.entityList.add(entity);
+            entityPositionMap.put(entity, new EntityPosition(pillar, ordinal));
+        }
+        for (Pillar pillar : pillarList) {
+            pillar.published = true;
         }
-        cachedBasePillarList = new ArrayList<>(valueStateToPillarMap.values());
     }
 
-    @Override
-    public void disposeCache(DefaultSolverScope solverScope) {
+    /**
+     * Extracting the values and calculating the hashCodes is the expensive part of a build,
+     * so it is split in 1 chunk of entities per build thread.
+     * @param valueStates never null, same size as {@link #cachedEntityList}
+     */
+    private void extractValueStatesInParallel(ValueState[] valueStates) {
+        int entityListSize = valueStates.length;
+        List<Callable<Void>> chunkList = new ArrayList<>(buildThreadCount);
+        for (int chunkIndex = 0; chunkIndex < buildThreadCount; chunkIndex++) {
+            int fromIndex = (int) ((long) entityListSize * chunkIndex / buildThreadCount);
+            int toIndex = (int) ((long) entityListSize * (chunkIndex + 1) / buildThreadCount);
+            chunkList.add(() -> {
+                for (int i = fromIndex; i < toIndex; i++) {
+                    valueStates[i] = new ValueState(extractValues(cachedEntityList.get(i)));
+                }
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : buildExecutor.invokeAll(chunkList)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The selector (" + this
+                    + ") was interrupted while building the pillars.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The selector (" + this
+                    + ") failed building the pillars.", e.getCause());
+        }
+    }
+
+    /**
+     * Rebuilds the pillars and fails fast if they differ from the incrementally updated pillars.
+     */
+    private void assertUpdatedPillars() {
+        List<List<Object>> updatedPillarList = cachedBasePillarList;
+        buildPillars();
+        boolean equal = updatedPillarList.size() == cachedBasePillarList.size();
+        for (int i = 0; equal && i < updatedPillarList.size(); i++) {
+            List<Object> updatedPillar = updatedPillarList.get(i);
+            List<Object> rebuiltPillar = cachedBasePillarList.get(i);
+            equal = updatedPillar.size() == rebuiltPillar.size();
+            for (int j = 0; equal && j < updatedPillar.size(); j++) {
+                equal = updatedPillar.get(j) == rebuiltPillar.get(j);
+            }
+        }
+        if (!equal) {
+            throw new IllegalStateException("The selector (" + this
+                    + ") has incrementally updated pillars (" + updatedPillarList
+                    + ") that differ from the rebuilt pillars (" + cachedBasePillarList + ").\n"
+                    + "Maybe a step's move doesn't return every entity it changes in getPlanningEntities().");
+        }
+    }
+
+    /**
+     * Moves the changed entities to their new pillar.
+     * The result is the same as {@link #buildPillars()}:
+     * the entities in a pillar and the pillars themselves are ordered by their (first) entity's ordinal.
+     * @param entities never null
+     */
+    protected void updatePillars(Collection<? extends Object> entities) {
+        for (Object entity : entities) {
+            EntityPosition position = entityPositionMap.get(entity);
+            if (position == null) {
+                // Not selected by the entitySelector, for example because it is not movable
+                continue;
+            }
+            if (matchesValues(entity, position.pillar.valueState.values)) {
+                continue;
+            }
+            removeFromPillar(entity, position);
+            ValueState valueState = new ValueState(extractValues(entity));
+            Pillar pillar = valueStateToPillarMap.get(valueState);
+            if (pillar == null) {
+                pillar = new Pillar(valueState, position.ordinal);
+                valueStateToPillarMap.put(valueState, pillar);
+                pillar.entityList.add(entity);
+                insertPillar(pillar);
+            } else {
+                int pillarIndex = indexOfPillar(pillar);
+                copyPillarOnWrite(pillar, pillarIndex);
+                int index = -(indexOfEntity(pillar.entityList, position.ordinal) + 1);
+                pillar.entityList.add(index, entity);
+                if (index == 0) {
+                    removePillar(pillarIndex);
+                    pillar.firstOrdinal = position.ordinal;
+                    insertPillar(pillar);
+                }
+            }
+            position.pillar = pillar;
+        }
+        for (Pillar pillar : pillarList) {
+            pillar.published = true;
+        }
+    }
+
+    private Object[] extractValues(Object entity) {
+        Object[] values = new Object[variableDescriptors.size()];
+        int i = 0;
+        for (GenuineVariableDescriptor variableDescriptor : variableDescriptors) {
+            values[i] = variableDescriptor.getValue(entity);
+            i++;
+        }
+        return values;
+    }
+
+    private boolean matchesValues(Object entity, Object[] values) {
+        // Avoid extracting the values in a new array, because most entities didn't change
+        int i = 0;
+        for (GenuineVariableDescriptor variableDescriptor : variableDescriptors) {
+            if (!Objects.equals(values[i], variableDescriptor.getValue(entity))) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    private void removeFromPillar(Object entity, EntityPosition position) {
+        Pillar pillar = position.pillar;
+        int pillarIndex = indexOfPillar(pillar);
+        copyPillarOnWrite(pillar, pillarIndex);
+        int index = indexOfEntity(pillar.entityList, position.ordinal);
+        pillar.entityList.remove(index);
+        if (pillar.entityList.isEmpty()) {
+            valueStateToPillarMap.remove(pillar.valueState);
+            removePillar(pillarIndex);
+        } else if (index == 0) {
+            removePillar(pillarIndex);
+            pillar.firstOrdinal = entityPositionMap.get(pillar.entityList.get(0)).ordinal;
+            insertPillar(pillar);
+        }
+    }
+
+    /**
+     * Copy on write: a published pillar list might be used by a move, so it must not change.
+     * @param pillar never null
+     * @param pillarIndex the index of the pillar in {@link #pillarList}
+     */
+    private void copyPillarOnWrite(Pillar pillar, int pillarIndex) {
+        if (pillar.published) {
+            pillar.entityList = new ArrayList<>(pillar.entityList);
+            cachedBasePillarList.set(pillarIndex, pillar.entityList);
+            pillar.published = false;
+        }
+    }
+
+    /**
+     * @param entityList never null, sorted by ordinal
+     * @param ordinal {@code >= 0}
+     * @return like {@link java.util.Collections#binarySearch(List, Object)}
+     */
+    private int indexOfEntity(List<Object> entityList, int ordinal) {
+        int low = 0;
+        int high = entityList.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleOrdinal = entityPositionMap.get(entityList.get(middle)).ordinal;
+            if (middleOrdinal < ordinal) {
+                low = middle + 1;
+            } else if (middleOrdinal > ordinal) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * @param firstOrdinal {@code >= 0}
+     * @return like {@link java.util.Collections#binarySearch(List, Object)}
+     */
+    private int indexOfPillar(int firstOrdinal) {
+        int low = 0;
+        int high = pillarList.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleOrdinal = pillarList.get(middle).firstOrdinal;
+            if (middleOrdinal < firstOrdinal) {
+                low = middle + 1;
+            } else if (middleOrdinal > firstOrdinal) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int indexOfPillar(Pillar pillar) {
+        int pillarIndex = indexOfPillar(pillar.firstOrdinal);
+        if (pillarIndex < 0 || pillarList.get(pillarIndex) != pillar) {
+            throw new IllegalStateException("Impossible state: the pillar (" + pillar.entityList
+                    + ") of selector (" + this + ") is corrupted.");
+        }
+        return pillarIndex;
+    }
+
+    private void removePillar(int pillarIndex) {
+        pillarList.remove(pillarIndex);
+        cachedBasePillarList.remove(pillarIndex);
+    }
+
+    private void insertPillar(Pillar pillar) {
+        int pillarIndex = -(indexOfPillar(pillar.firstOrdinal) + 1);
+        pillarList.add(pillarIndex, pillar);
+        cachedBasePillarList.add(pillarIndex, pillar.entityList);
+    }
+
+    private void clearPillars() {
         cachedBasePillarList = null;
+        cachedEntityList = null;
+        valueStateToPillarMap = null;
+        entityPositionMap = null;
+        pillarList = null;
+        rebuildNeeded = false;
+        changedEntities = null;
     }
 
     // ************************************************************************
@@ -240,8 +620,78 @@ public class DefaultPillarSelector extends AbstractSelector
         return getClass().getSimpleName() + "(" + entitySelector + ")";
     }
 
+    protected static final class ValueState {
+
+        private final Object[] values;
+        private final int hashCode;
+
+        public ValueState(Object[] values) {
+            this.values = values;
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (o instanceof ValueState) {
+                ValueState other = (ValueState) o;
+                return hashCode == other.hashCode && Arrays.equals(values, other.values);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+    protected static final class Pillar {
+
+        private final ValueState valueState;
+        private List<Object> entityList = new ArrayList<>();
+        /**
+         * The ordinal of the first entity in {@link #entityList}.
+         */
+        private int firstOrdinal;
+        private boolean published = false;
+
+        public Pillar(ValueState valueState, int firstOrdinal) {
+            this.valueState = valueState;
+            this.firstOrdinal = firstOrdinal;
+        }
+
+    }
+
+    protected static final class EntityPosition {
+
+        private Pillar pillar;
+        /**
+         * The index of the entity in {@link #cachedEntityList}.
+         */
+        private final int ordinal;
+
+        public EntityPosition(Pillar pillar, int ordinal) {
+            this.pillar = pillar;
+            this.ordinal = ordinal;
+        }
+
+    }
+
     private class RandomSubPillarIterator extends UpcomingSelectionIterator<List<Object>> {
 
+        /**
+         * Reused between selections, always the identity permutation between selections.
+         */
+        private int[] sandboxIndexes = new int[0];
+        /**
+         * Reused between selections, to undo the swaps in {@link #sandboxIndexes}.
+         */
+        private int[] swapTrail = new int[0];
+
         public RandomSubPillarIterator() {
             if (cachedBasePillarList.isEmpty()) {
                 upcomingSelection = noUpcomingSelection();
@@ -260,16 +710,39 @@ public class DefaultPillarSelector extends AbstractSelector
             int subPillarSize = min + workingRandom.nextInt(max - min + 1);
             // Random sampling: See http://eyalsch.wordpress.com/2010/04/01/random-sample/
             // Used Swapping instead of Floyd because subPillarSize is large, to avoid hashCode() hit
-            Object[] sandboxPillar = basePillar.toArray(); // Clone to avoid changing basePillar
+            // Swaps indexes in a reused sandbox instead of cloning basePillar, and undoes those swaps afterwards,
+            // so the only allocation is the subPillar itself and the cost is O(subPillarSize), not O(basePillarSize)
+            ensureSandboxCapacity(basePillarSize);
             List<Object> subPillar = new ArrayList<>(subPillarSize);
             for (int i = 0; i < subPillarSize; i++) {
                 int index = i + workingRandom.nextInt(basePillarSize - i);
-                subPillar.add(sandboxPillar[index]);
-                sandboxPillar[index] = sandboxPillar[i];
+                int swappedIndex = sandboxIndexes[index];
+                subPillar.add(basePillar.get(swappedIndex));
+                sandboxIndexes[index] = sandboxIndexes[i];
+                sandboxIndexes[i] = swappedIndex;
+                swapTrail[i] = index;
+            }
+            for (int i = subPillarSize - 1; i >= 0; i--) {
+                int index = swapTrail[i];
+                int swappedIndex = sandboxIndexes[i];
+                sandboxIndexes[i] = sandboxIndexes[index];
+                sandboxIndexes[index] = swappedIndex;
             }
             return subPillar;
         }
 
+        private void ensureSandboxCapacity(int basePillarSize) {
+            int oldCapacity = sandboxIndexes.length;
+            if (oldCapacity < basePillarSize) {
+                int newCapacity = Math.max(basePillarSize, oldCapacity * 2);
+                sandboxIndexes = Arrays.copyOf(sandboxIndexes, newCapacity);
+                for (int i = oldCapacity; i < newCapacity; i++) {
+                    sandboxIndexes[i] = i;
+                }
+                swapTrail = new int[newCapacity];
+            }
+        }
+
         private List<Object> selectBasePillar() {
             // Known issue/compromise: Every subPillar should have same probability, but doesn't.
             // Instead, every basePillar has the same probability.
@@ -0,0 +1,456 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.composite;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.random.RandomUtils;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+
+/**
+ * A random {@link UnionMoveSelector} that learns the selection probability of each child {@link MoveSelector}
+ * online, instead of using fixed probability weights.
+ * <p>
+ * Over a sliding window of the last {@link #windowSize} local search steps, it tracks per child
+ * how many moves it evaluated, how many of those were accepted, how much time it spent on them
+ * and how much reward it earned.
+ * The reward of a step is the step score delta, earned by the child that selected the step:
+ * the change of the most significant {@link Score#toLevelNumbers() score level} that changed,
+ * so a step that worsens the score earns nothing.
+ * The evaluation time of a move is the time from selecting it to selecting the next move,
+ * which includes the time spent by the acceptor and the forager on it.
+ * <p>
+ * The probabilities follow a probability matching bandit policy:
+ * each child gets at least {@link #minimumProbabilityRatio} divided by the number of children,
+ * to keep exploring, and the rest is divided proportionally to the reward per evaluation millisecond.
+ * A child that hasn't been tried in the window yet, gets the highest reward rate of the others (optimistic initialization).
+ * <p>
+ * The accepted count of every child is only known if this is the root move selector of the local search phase,
+ * otherwise only the step counts as accepted.
+ * A step that a move thread rebased can't be traced back to its child, so it earns no reward.
+ * @see UnionMoveSelector
+ */
+public class AdaptiveUnionMoveSelector extends CompositeMoveSelector {
+
+    public static final int DEFAULT_WINDOW_SIZE = 1000;
+    public static final double DEFAULT_MINIMUM_PROBABILITY_RATIO = 0.1;
+
+    protected final int windowSize;
+    protected final double minimumProbabilityRatio;
+
+    protected final int childSize;
+    protected final double[] probabilityWeights;
+
+    // Sliding window, indexed by stepSlot and child index
+    protected final long[][] windowEvaluatedCounts;
+    protected final long[][] windowAcceptedCounts;
+    protected final long[][] windowEvaluationNanos;
+    // Sliding window, indexed by stepSlot
+    protected final int[] windowPickedChildIndexes;
+    protected final double[] windowRewards;
+    protected int windowStepSlot;
+    // Sums over the sliding window, indexed by child index
+    protected final long[] evaluatedCountSums;
+    protected final long[] acceptedCountSums;
+    protected final long[] evaluationNanosSums;
+    protected final double[] rewardSums;
+
+    // Step state, indexed by child index
+    protected final long[] stepEvaluatedCounts;
+    protected final long[] stepAcceptedCounts;
+    protected final long[] stepEvaluationNanos;
+    // Indexed by selection order within the step, which is the moveIndex if this is the root move selector
+    protected Move[] stepSelectedMoves = new Move[64];
+    protected int[] stepSelectedChildIndexes = new int[64];
+    protected int stepSelectionCount = 0;
+    protected long lastSelectionNanos = 0L;
+    protected Score lastStepScore = null;
+
+    public AdaptiveUnionMoveSelector(List<MoveSelector> childMoveSelectorList, boolean randomSelection) {
+        this(childMoveSelectorList, randomSelection, DEFAULT_WINDOW_SIZE, DEFAULT_MINIMUM_PROBABILITY_RATIO);
+    }
+
+    public AdaptiveUnionMoveSelector(List<MoveSelector> childMoveSelectorList, boolean randomSelection,
+            int windowSize, double minimumProbabilityRatio) {
+        super(childMoveSelectorList, randomSelection);
+        if (!randomSelection) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ") with randomSelection (" + randomSelection
+                    + ") cannot learn probabilities, because it does not select randomly.");
+        }
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ")'s windowSize (" + windowSize + ") must be at least 1.");
+        }
+        if (minimumProbabilityRatio < 0.0 || minimumProbabilityRatio > 1.0) {
+            throw new IllegalArgumentException("The selector (" + this
+                    + ")'s minimumProbabilityRatio (" + minimumProbabilityRatio
+                    + ") must be between 0.0 and 1.0.");
+        }
+        this.windowSize = windowSize;
+        this.minimumProbabilityRatio = minimumProbabilityRatio;
+        childSize = childMoveSelectorList.size();
+        probabilityWeights = new double[childSize];
+        windowEvaluatedCounts = new long[windowSize][childSize];
+        windowAcceptedCounts = new long[windowSize][childSize];
+        windowEvaluationNanos = new long[windowSize][childSize];
+        windowPickedChildIndexes = new int[windowSize];
+        windowRewards = new double[windowSize];
+        evaluatedCountSums = new long[childSize];
+        acceptedCountSums = new long[childSize];
+        evaluationNanosSums = new long[childSize];
+        rewardSums = new double[childSize];
+        stepEvaluatedCounts = new long[childSize];
+        stepAcceptedCounts = new long[childSize];
+        stepEvaluationNanos = new long[childSize];
+        refreshProbabilityWeights();
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(DefaultSolverScope solverScope) {
+        super.solvingStarted(solverScope);
+        for (int i = 0; i < windowSize; i++) {
+            Arrays.fill(windowEvaluatedCounts[i], 0L);
+            Arrays.fill(windowAcceptedCounts[i], 0L);
+            Arrays.fill(windowEvaluationNanos[i], 0L);
+        }
+        Arrays.fill(windowPickedChildIndexes, -1);
+        Arrays.fill(windowRewards, 0.0);
+        windowStepSlot = 0;
+        Arrays.fill(evaluatedCountSums, 0L);
+        Arrays.fill(acceptedCountSums, 0L);
+        Arrays.fill(evaluationNanosSums, 0L);
+        Arrays.fill(rewardSums, 0.0);
+        refreshProbabilityWeights();
+    }
+
+    @Override
+    public void stepStarted(AbstractStepScope stepScope) {
+        super.stepStarted(stepScope);
+        lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        Arrays.fill(stepEvaluatedCounts, 0L);
+        Arrays.fill(stepAcceptedCounts, 0L);
+        Arrays.fill(stepEvaluationNanos, 0L);
+        clearStepSelections();
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope stepScope) {
+        super.stepEnded(stepScope);
+        if (stepScope instanceof LocalSearchStepScope) {
+            LocalSearchStepScope localSearchStepScope = (LocalSearchStepScope) stepScope;
+            if (stepSelectionCount > 0) {
+                // The last selected move has been evaluated by now
+                stepEvaluationNanos[stepSelectedChildIndexes[stepSelectionCount - 1]]
+                        += currentNanoTime() - lastSelectionNanos;
+            }
+            Move step = localSearchStepScope.getStep();
+            Integer stepMoveIndex = localSearchStepScope.getStepMoveIndex();
+            int pickedChildIndex;
+            double reward;
+            if (step == null) {
+                pickedChildIndex = -1;
+                reward = 0.0;
+            } else if (stepMoveIndex != null && stepMoveIndex < stepSelectionCount
+                    && stepSelectedMoves[stepMoveIndex] == step) {
+                // The root move selector: the moveIndex of every move is its selection order
+                for (int i = 0; i < stepSelectionCount; i++) {
+                    if (localSearchStepScope.isMoveIndexAccepted(i)) {
+                        stepAcceptedCounts[stepSelectedChildIndexes[i]]++;
+                    }
+                }
+                pickedChildIndex = stepSelectedChildIndexes[stepMoveIndex];
+                reward = calculateReward(stepScope.getScore());
+            } else {
+                pickedChildIndex = findPickedChildIndex(step);
+                if (pickedChildIndex >= 0) {
+                    stepAcceptedCounts[pickedChildIndex]++;
+                    reward = calculateReward(stepScope.getScore());
+                } else {
+                    reward = 0.0;
+                }
+            }
+            slideWindow(pickedChildIndex, reward);
+            refreshProbabilityWeights();
+        }
+        lastStepScore = null;
+        clearStepSelections();
+    }
+
+    /**
+     * @param step never null
+     * @return -1 if the step was not selected by this selector in this step,
+     * for example because it was rebased by a move thread
+     */
+    protected int findPickedChildIndex(Move step) {
+        // Not the root move selector: this happens only once per step, so scanning the selected moves is cheap
+        for (int i = stepSelectionCount - 1; i >= 0; i--) {
+            if (stepSelectedMoves[i] == step) {
+                return stepSelectedChildIndexes[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param stepScore never null
+     * @return {@code >= 0}, the improvement of the most significant score level that changed
+     */
+    protected double calculateReward(Score stepScore) {
+        if (lastStepScore == null) {
+            return 0.0;
+        }
+        Number[] levelNumbers = stepScore.subtract(lastStepScore).toLevelNumbers();
+        for (Number levelNumber : levelNumbers) {
+            double levelDelta = levelNumber.doubleValue();
+            if (levelDelta != 0.0) {
+                return Math.max(levelDelta, 0.0);
+            }
+        }
+        return 0.0;
+    }
+
+    protected void clearStepSelections() {
+        // Don't keep the moves of the last step reachable
+        Arrays.fill(stepSelectedMoves, 0, stepSelectionCount, null);
+        stepSelectionCount = 0;
+    }
+
+    protected void slideWindow(int pickedChildIndex, double reward) {
+        long[] slotEvaluatedCounts = windowEvaluatedCounts[windowStepSlot];
+        long[] slotAcceptedCounts = windowAcceptedCounts[windowStepSlot];
+        long[] slotEvaluationNanos = windowEvaluationNanos[windowStepSlot];
+        int oldPickedChildIndex = windowPickedChildIndexes[windowStepSlot];
+        if (oldPickedChildIndex >= 0) {
+            rewardSums[oldPickedChildIndex] -= windowRewards[windowStepSlot];
+        }
+        for (int i = 0; i < childSize; i++) {
+            evaluatedCountSums[i] += stepEvaluatedCounts[i] - slotEvaluatedCounts[i];
+            slotEvaluatedCounts[i] = stepEvaluatedCounts[i];
+            acceptedCountSums[i] += stepAcceptedCounts[i] - slotAcceptedCounts[i];
+            slotAcceptedCounts[i] = stepAcceptedCounts[i];
+            evaluationNanosSums[i] += stepEvaluationNanos[i] - slotEvaluationNanos[i];
+            slotEvaluationNanos[i] = stepEvaluationNanos[i];
+        }
+        windowPickedChildIndexes[windowStepSlot] = pickedChildIndex;
+        windowRewards[windowStepSlot] = reward;
+        if (pickedChildIndex >= 0) {
+            rewardSums[pickedChildIndex] += reward;
+        }
+        windowStepSlot = (windowStepSlot + 1) % windowSize;
+    }
+
+    protected void refreshProbabilityWeights() {
+        double maximumRewardRate = 0.0;
+        for (int i = 0; i < childSize; i++) {
+            if (evaluatedCountSums[i] > 0L) {
+                // Reward per millisecond, but avoid a division by zero with a timer that is too coarse
+                double rewardRate = Math.max(rewardSums[i], 0.0) * 1_000_000.0
+                        / Math.max(evaluationNanosSums[i], 1L);
+                probabilityWeights[i] = rewardRate;
+                maximumRewardRate = Math.max(maximumRewardRate, rewardRate);
+            } else {
+                probabilityWeights[i] = -1.0;
+            }
+        }
+        double rewardRateTotal = 0.0;
+        for (int i = 0; i < childSize; i++) {
+            if (probabilityWeights[i] < 0.0) {
+                // Optimistic initialization: a child that hasn't been tried yet, has the highest reward rate
+                probabilityWeights[i] = maximumRewardRate;
+            }
+            rewardRateTotal += probabilityWeights[i];
+        }
+        double minimumProbability = minimumProbabilityRatio / childSize;
+        for (int i = 0; i < childSize; i++) {
+            // Without any reward in the window, no child is better than another
+            double rewardRateRatio = rewardRateTotal > 0.0 ? probabilityWeights[i] / rewardRateTotal
+                    : 1.0 / childSize;
+            probabilityWeights[i] = minimumProbability + (1.0 - minimumProbabilityRatio) * rewardRateRatio;
+        }
+    }
+
+    /**
+     * Only for time measurement, overridable for testing.
+     * @return the current value of the running JVM's high-resolution time source, in nanoseconds
+     */
+    protected long currentNanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * @param childIndex {@code 0 <= childIndex <} the size of {@link #getChildMoveSelectorList()}
+     * @return the learned selection probability of that child {@link MoveSelector}
+     */
+    public double getProbabilityWeight(int childIndex) {
+        return probabilityWeights[childIndex];
+    }
+
+    /**
+     * @return never null, the learned selection probability per child {@link MoveSelector}, adding up to 1.0
+     */
+    public Map<MoveSelector, Double> getProbabilityWeightMap() {
+        Map<MoveSelector, Double> probabilityWeightMap = new LinkedHashMap<>(childSize);
+        for (int i = 0; i < childSize; i++) {
+            probabilityWeightMap.put(childMoveSelectorList.get(i), probabilityWeights[i]);
+        }
+        return probabilityWeightMap;
+    }
+
+    /**
+     * @param childIndex {@code 0 <= childIndex <} the size of {@link #getChildMoveSelectorList()}
+     * @return {@code >= 0}, the number of moves selected by that child {@link MoveSelector}
+     * in the steps of the sliding window
+     */
+    public long getEvaluatedCount(int childIndex) {
+        return evaluatedCountSums[childIndex];
+    }
+
+    /**
+     * @param childIndex {@code 0 <= childIndex <} the size of {@link #getChildMoveSelectorList()}
+     * @return {@code >= 0}, the number of moves selected by that child {@link MoveSelector}
+     * and accepted in the steps of the sliding window
+     */
+    public long getAcceptedCount(int childIndex) {
+        return acceptedCountSums[childIndex];
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isNeverEnding() {
+        for (MoveSelector moveSelector : childMoveSelectorList) {
+            if (moveSelector.isNeverEnding()) {
+                return true;
+            }
+        }
+        // Like the UnionMoveSelector, it can be randomSelection true and still neverEnding false
+        return false;
+    }
+
+    @Override
+    public long getSize() {
+        long size = 0L;
+        for (MoveSelector moveSelector : childMoveSelectorList) {
+            size += moveSelector.getSize();
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<Move> iterator() {
+        return new AdaptiveRandomUnionMoveIterator();
+    }
+
+    private class AdaptiveRandomUnionMoveIterator extends SelectionIterator<Move> {
+
+        private final Iterator<Move>[] moveIterators;
+        private final double[] cumulativeWeights;
+        private double weightTotal;
+        private boolean stale;
+
+        public AdaptiveRandomUnionMoveIterator() {
+            moveIterators = new Iterator[childSize];
+            for (int i = 0; i < childSize; i++) {
+                moveIterators[i] = childMoveSelectorList.get(i).iterator();
+            }
+            cumulativeWeights = new double[childSize];
+            stale = true;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (stale) {
+                refreshCumulativeWeights();
+            }
+            return weightTotal > 0.0;
+        }
+
+        @Override
+        public Move next() {
+            long selectionNanos = currentNanoTime();
+            if (stepSelectionCount > 0) {
+                // The previous selected move has been evaluated by now
+                stepEvaluationNanos[stepSelectedChildIndexes[stepSelectionCount - 1]]
+                        += selectionNanos - lastSelectionNanos;
+            }
+            lastSelectionNanos = selectionNanos;
+            if (stale) {
+                refreshCumulativeWeights();
+            }
+            double randomOffset = RandomUtils.nextDouble(workingRandom, weightTotal);
+            int childIndex = -1;
+            for (int i = 0; i < childSize; i++) {
+                if (cumulativeWeights[i] > (i == 0 ? 0.0 : cumulativeWeights[i - 1])) {
+                    childIndex = i;
+                    if (randomOffset < cumulativeWeights[i]) {
+                        break;
+                    }
+                }
+            }
+            Iterator<Move> moveIterator = moveIterators[childIndex];
+            Move next = moveIterator.next();
+            if (!moveIterator.hasNext()) {
+                stale = true;
+            }
+            stepEvaluatedCounts[childIndex]++;
+            if (stepSelectionCount == stepSelectedMoves.length) {
+                stepSelectedMoves = Arrays.copyOf(stepSelectedMoves, stepSelectionCount * 2);
+                stepSelectedChildIndexes = Arrays.copyOf(stepSelectedChildIndexes, stepSelectionCount * 2);
+            }
+            stepSelectedMoves[stepSelectionCount] = next;
+            stepSelectedChildIndexes[stepSelectionCount] = childIndex;
+            stepSelectionCount++;
+            return next;
+        }
+
+        private void refreshCumulativeWeights() {
+            double weightOffset = 0.0;
+            for (int i = 0; i < childSize; i++) {
+                if (moveIterators[i].hasNext()) {
+                    weightOffset += probabilityWeights[i];
+                }
+                cumulativeWeights[i] = weightOffset;
+            }
+            weightTotal = weightOffset;
+            stale = false;
+        }
+
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveUnion(" + childMoveSelectorList + ")";
+    }
+
+}
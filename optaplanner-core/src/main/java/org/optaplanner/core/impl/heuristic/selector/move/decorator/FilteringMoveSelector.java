@@ -21,31 +21,45 @@ import java.util.List;
 
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilterRejectionCounter;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.move.AbstractMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
 public class FilteringMoveSelector extends AbstractMoveSelector {
 
     protected final MoveSelector childMoveSelector;
     protected final List<SelectionFilter> filterList;
     protected final boolean bailOutEnabled;
+    protected final SelectionFilterRejectionCounter rejectionCounter;
 
     protected ScoreDirector scoreDirector = null;
 
     public FilteringMoveSelector(MoveSelector childMoveSelector, List<SelectionFilter> filterList) {
         this.childMoveSelector = childMoveSelector;
         this.filterList = filterList;
+        rejectionCounter = new SelectionFilterRejectionCounter(this);
         bailOutEnabled = childMoveSelector.isNeverEnding();
         phaseLifecycleSupport.addEventListener(childMoveSelector);
     }
 
+    public MoveSelector getChildMoveSelector() {
+        return childMoveSelector;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
 
+    @Override
+    public void solvingStarted(DefaultSolverScope solverScope) {
+        super.solvingStarted(solverScope);
+        solverScope.addSelectionFilterRejectionCounter(rejectionCounter);
+    }
+
     @Override
     public void phaseStarted(AbstractPhaseScope phaseScope) {
         super.phaseStarted(phaseScope);
@@ -58,6 +72,19 @@ public class FilteringMoveSelector extends AbstractMoveSelector {
         scoreDirector = null;
     }
 
+    @Override
+    public void solvingEnded(DefaultSolverScope solverScope) {
+        super.solvingEnded(solverScope);
+        solverScope.removeSelectionFilterRejectionCounter(rejectionCounter);
+    }
+
+    /**
+     * @return never null
+     */
+    public SelectionFilterRejectionCounter getRejectionCounter() {
+        return rejectionCounter;
+    }
+
     @Override
     public boolean isCountable() {
         return childMoveSelector.isCountable();
@@ -91,6 +118,7 @@ public class FilteringMoveSelector extends AbstractMoveSelector {
         @Override
         protected Move createUpcomingSelection() {
             Move next;
+            boolean accepted;
             long attemptsBeforeBailOut = bailOutSize;
             do {
                 if (!childMoveIterator.hasNext()) {
@@ -106,7 +134,9 @@ public class FilteringMoveSelector extends AbstractMoveSelector {
                     attemptsBeforeBailOut--;
                 }
                 next = childMoveIterator.next();
-            } while (!accept(scoreDirector, next));
+                accepted = accept(scoreDirector, next);
+                rejectionCounter.addSelection(accepted);
+            } while (!accepted);
             return next;
         }
 
@@ -59,6 +59,10 @@ public class ProbabilityMoveSelector extends AbstractMoveSelector implements Sel
         phaseLifecycleSupport.addEventListener(new SelectionCacheLifecycleBridge(cacheType, this));
     }
 
+    public MoveSelector getChildMoveSelector() {
+        return childMoveSelector;
+    }
+
     @Override
     public SelectionCacheType getCacheType() {
         return cacheType;
@@ -39,6 +39,10 @@ public class SelectedCountLimitMoveSelector extends AbstractMoveSelector {
         phaseLifecycleSupport.addEventListener(childMoveSelector);
     }
 
+    public MoveSelector getChildMoveSelector() {
+        return childMoveSelector;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
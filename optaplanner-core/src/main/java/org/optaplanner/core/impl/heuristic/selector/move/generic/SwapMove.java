@@ -27,6 +27,7 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.ValueRange;
 import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.valuerange.index.ValueRangeIndexSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
@@ -37,12 +38,26 @@ import org.optaplanner.core.impl.score.director.ScoreDirector;
 public class SwapMove<Solution_> extends AbstractMove<Solution_> {
 
     protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
+    protected final List<ValueRangeIndexSupply> valueRangeIndexSupplyList;
 
     protected final Object leftEntity;
     protected final Object rightEntity;
 
     public SwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, Object leftEntity, Object rightEntity) {
+        this(variableDescriptorList, null, leftEntity, rightEntity);
+    }
+
+    /**
+     * @param variableDescriptorList never null
+     * @param valueRangeIndexSupplyList sometimes null, if not null it has the same size as variableDescriptorList
+     * and has an element (which is sometimes null) for each variableDescriptor
+     * @param leftEntity never null
+     * @param rightEntity never null
+     */
+    public SwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList,
+            List<ValueRangeIndexSupply> valueRangeIndexSupplyList, Object leftEntity, Object rightEntity) {
         this.variableDescriptorList = variableDescriptorList;
+        this.valueRangeIndexSupplyList = valueRangeIndexSupplyList;
         this.leftEntity = leftEntity;
         this.rightEntity = rightEntity;
     }
@@ -70,12 +85,20 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
     @Override
     public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
         boolean movable = false;
-        for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+        for (int i = 0; i < variableDescriptorList.size(); i++) {
+            GenuineVariableDescriptor<Solution_> variableDescriptor = variableDescriptorList.get(i);
             Object leftValue = variableDescriptor.getValue(leftEntity);
             Object rightValue = variableDescriptor.getValue(rightEntity);
             if (!Objects.equals(leftValue, rightValue)) {
                 movable = true;
-                if (!variableDescriptor.isValueRangeEntityIndependent()) {
+                ValueRangeIndexSupply valueRangeIndexSupply = valueRangeIndexSupplyList == null ? null
+                        : valueRangeIndexSupplyList.get(i);
+                if (valueRangeIndexSupply != null) {
+                    if (!valueRangeIndexSupply.contains(rightEntity, leftValue)
+                            || !valueRangeIndexSupply.contains(leftEntity, rightValue)) {
+                        return false;
+                    }
+                } else if (!variableDescriptor.isValueRangeEntityIndependent()) {
                     ValueRangeDescriptor<Solution_> valueRangeDescriptor = variableDescriptor.getValueRangeDescriptor();
                     Solution_ workingSolution = scoreDirector.getWorkingSolution();
                     ValueRange rightValueRange = valueRangeDescriptor.extractValueRange(workingSolution, rightEntity);
@@ -94,11 +117,12 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
 
     @Override
     public SwapMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
-        return new SwapMove<>(variableDescriptorList, rightEntity, leftEntity);
+        return new SwapMove<>(variableDescriptorList, valueRangeIndexSupplyList, rightEntity, leftEntity);
     }
 
     @Override
     public SwapMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        // The valueRangeIndexSupplyList belongs to the origin ScoreDirector
         return new SwapMove<>(variableDescriptorList,
                 destinationScoreDirector.lookUpWorkingObject(leftEntity),
                 destinationScoreDirector.lookUpWorkingObject(rightEntity));
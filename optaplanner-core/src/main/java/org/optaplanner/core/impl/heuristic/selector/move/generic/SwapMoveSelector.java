@@ -21,6 +21,8 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.valuerange.index.ValueRangeIndexDemand;
+import org.optaplanner.core.impl.domain.valuerange.index.ValueRangeIndexSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
@@ -38,16 +40,33 @@ public class SwapMoveSelector extends GenericMoveSelector {
     protected final EntitySelector rightEntitySelector;
     protected final List<GenuineVariableDescriptor> variableDescriptorList;
     protected final boolean randomSelection;
+    protected final boolean valueRangeIndexEnabled;
 
     protected final boolean anyChained;
     protected List<SingletonInverseVariableSupply> inverseVariableSupplyList = null;
+    protected List<ValueRangeIndexSupply> valueRangeIndexSupplyList = null;
 
     public SwapMoveSelector(EntitySelector leftEntitySelector, EntitySelector rightEntitySelector,
             List<GenuineVariableDescriptor> variableDescriptorList, boolean randomSelection) {
+        this(leftEntitySelector, rightEntitySelector, variableDescriptorList, randomSelection, false);
+    }
+
+    /**
+     * @param leftEntitySelector never null
+     * @param rightEntitySelector never null
+     * @param variableDescriptorList never null, not empty
+     * @param randomSelection true if the selection is random
+     * @param valueRangeIndexEnabled true to check the entity dependent value ranges
+     * of the variables through a {@link ValueRangeIndexSupply}
+     */
+    public SwapMoveSelector(EntitySelector leftEntitySelector, EntitySelector rightEntitySelector,
+            List<GenuineVariableDescriptor> variableDescriptorList, boolean randomSelection,
+            boolean valueRangeIndexEnabled) {
         this.leftEntitySelector = leftEntitySelector;
         this.rightEntitySelector = rightEntitySelector;
         this.variableDescriptorList = variableDescriptorList;
         this.randomSelection = randomSelection;
+        this.valueRangeIndexEnabled = valueRangeIndexEnabled;
         EntityDescriptor leftEntityDescriptor = leftEntitySelector.getEntityDescriptor();
         EntityDescriptor rightEntityDescriptor = rightEntitySelector.getEntityDescriptor();
         if (!leftEntityDescriptor.getEntityClass().equals(rightEntityDescriptor.getEntityClass())) {
@@ -98,6 +117,24 @@ public class SwapMoveSelector extends GenericMoveSelector {
                 inverseVariableSupplyList.add(inverseVariableSupply);
             }
         }
+        if (valueRangeIndexEnabled && !anyChained) {
+            valueRangeIndexSupplyList = new ArrayList<>(variableDescriptorList.size());
+            SupplyManager supplyManager = solverScope.getScoreDirector().getSupplyManager();
+            boolean anyIndexed = false;
+            for (GenuineVariableDescriptor variableDescriptor : variableDescriptorList) {
+                ValueRangeIndexSupply valueRangeIndexSupply;
+                if (!variableDescriptor.isValueRangeEntityIndependent()) {
+                    valueRangeIndexSupply = supplyManager.demand(new ValueRangeIndexDemand(variableDescriptor));
+                    anyIndexed = true;
+                } else {
+                    valueRangeIndexSupply = null;
+                }
+                valueRangeIndexSupplyList.add(valueRangeIndexSupply);
+            }
+            if (!anyIndexed) {
+                valueRangeIndexSupplyList = null;
+            }
+        }
     }
 
     @Override
@@ -106,6 +143,7 @@ public class SwapMoveSelector extends GenericMoveSelector {
         if (anyChained) {
             inverseVariableSupplyList = null;
         }
+        valueRangeIndexSupplyList = null;
     }
 
     // ************************************************************************
@@ -135,7 +173,8 @@ public class SwapMoveSelector extends GenericMoveSelector {
                 protected Move newSwapSelection(Object leftSubSelection, Object rightSubSelection) {
                     return anyChained
                             ? new ChainedSwapMove(variableDescriptorList, inverseVariableSupplyList, leftSubSelection, rightSubSelection)
-                            : new SwapMove(variableDescriptorList, leftSubSelection, rightSubSelection);
+                            : new SwapMove(variableDescriptorList, valueRangeIndexSupplyList,
+                                    leftSubSelection, rightSubSelection);
                 }
             };
         } else {
@@ -144,7 +183,8 @@ public class SwapMoveSelector extends GenericMoveSelector {
                 protected Move newSwapSelection(Object leftSubSelection, Object rightSubSelection) {
                     return anyChained
                             ? new ChainedSwapMove(variableDescriptorList, inverseVariableSupplyList, leftSubSelection, rightSubSelection)
-                            : new SwapMove(variableDescriptorList, leftSubSelection, rightSubSelection);
+                            : new SwapMove(variableDescriptorList, valueRangeIndexSupplyList,
+                                    leftSubSelection, rightSubSelection);
                 }
             };
         }
@@ -25,6 +25,7 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
@@ -38,6 +39,7 @@ public class KOptMove<Solution_> extends AbstractMove<Solution_> {
     protected final GenuineVariableDescriptor<Solution_> variableDescriptor;
     protected final SingletonInverseVariableSupply inverseVariableSupply;
     protected final AnchorVariableSupply anchorVariableSupply;
+    protected final ChainPositionVariableSupply chainPositionVariableSupply;
 
     protected final Object entity;
     protected final Object[] values;
@@ -45,9 +47,25 @@ public class KOptMove<Solution_> extends AbstractMove<Solution_> {
     public KOptMove(GenuineVariableDescriptor<Solution_> variableDescriptor,
             SingletonInverseVariableSupply inverseVariableSupply, AnchorVariableSupply anchorVariableSupply,
             Object entity, Object[] values) {
+        this(variableDescriptor, inverseVariableSupply, anchorVariableSupply, null, entity, values);
+    }
+
+    /**
+     * @param variableDescriptor never null
+     * @param inverseVariableSupply never null
+     * @param anchorVariableSupply never null
+     * @param chainPositionVariableSupply sometimes null, if null the chains are walked to compare positions
+     * @param entity never null
+     * @param values never null
+     */
+    public KOptMove(GenuineVariableDescriptor<Solution_> variableDescriptor,
+            SingletonInverseVariableSupply inverseVariableSupply, AnchorVariableSupply anchorVariableSupply,
+            ChainPositionVariableSupply chainPositionVariableSupply,
+            Object entity, Object[] values) {
         this.variableDescriptor = variableDescriptor;
         this.inverseVariableSupply = inverseVariableSupply;
         this.anchorVariableSupply = anchorVariableSupply;
+        this.chainPositionVariableSupply = chainPositionVariableSupply;
         this.entity = entity;
         this.values = values;
     }
@@ -97,6 +115,9 @@ public class KOptMove<Solution_> extends AbstractMove<Solution_> {
         if (a == b) {
             return 0;
         }
+        if (chainPositionVariableSupply != null) {
+            return chainPositionVariableSupply.isBefore(a, b) ? 1 : -1;
+        }
         Object afterA = inverseVariableSupply.getInverseSingleton(a);
         while (afterA != null) {
             if (afterA == b) {
@@ -115,7 +136,7 @@ public class KOptMove<Solution_> extends AbstractMove<Solution_> {
             undoValues[i] = values[values.length - i];
         }
         return new KOptMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
-                entity, undoValues);
+                chainPositionVariableSupply, entity, undoValues);
     }
 
     @Override
@@ -137,7 +158,7 @@ public class KOptMove<Solution_> extends AbstractMove<Solution_> {
     @Override
     public KOptMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
         return new KOptMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
-                destinationScoreDirector.lookUpWorkingObject(entity),
+                chainPositionVariableSupply, destinationScoreDirector.lookUpWorkingObject(entity),
                 rebaseArray(values, destinationScoreDirector));
     }
 
@@ -21,6 +21,8 @@ import java.util.Iterator;
 
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableDemand;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableDemand;
+import org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
@@ -41,6 +43,7 @@ public class KOptMoveSelector extends GenericMoveSelector {
 
     protected SingletonInverseVariableSupply inverseVariableSupply;
     protected AnchorVariableSupply anchorVariableSupply;
+    protected ChainPositionVariableSupply chainPositionVariableSupply;
 
     public KOptMoveSelector(EntitySelector entitySelector, ValueSelector[] valueSelectors,
             boolean randomSelection) {
@@ -83,6 +86,7 @@ public class KOptMoveSelector extends GenericMoveSelector {
         SupplyManager supplyManager = solverScope.getScoreDirector().getSupplyManager();
         inverseVariableSupply = supplyManager.demand(new SingletonInverseVariableDemand(variableDescriptor));
         anchorVariableSupply = supplyManager.demand(new AnchorVariableDemand(variableDescriptor));
+        chainPositionVariableSupply = supplyManager.demand(new ChainPositionVariableDemand(variableDescriptor));
     }
 
     @Override
@@ -90,6 +94,7 @@ public class KOptMoveSelector extends GenericMoveSelector {
         super.solvingEnded(solverScope);
         inverseVariableSupply = null;
         anchorVariableSupply = null;
+        chainPositionVariableSupply = null;
     }
 
     // ************************************************************************
@@ -156,7 +161,7 @@ public class KOptMoveSelector extends GenericMoveSelector {
                         values[i] = valueIterator.next();
                     }
                     return new KOptMove(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
-                            entity, values);
+                            chainPositionVariableSupply, entity, values);
                 }
             };
         }
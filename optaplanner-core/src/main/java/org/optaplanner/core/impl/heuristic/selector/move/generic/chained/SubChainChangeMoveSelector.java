@@ -30,6 +30,12 @@ import org.optaplanner.core.impl.heuristic.selector.value.chained.SubChain;
 import org.optaplanner.core.impl.heuristic.selector.value.chained.SubChainSelector;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
+/**
+ * Unlike the {@link KOptMoveSelector} and the {@link TailChainSwapMoveSelector},
+ * this doesn't demand a {@link org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableSupply}:
+ * the {@link SubChainSelector} already walks every chain once per cache to enumerate the sub chains
+ * and the {@link SubChainChangeMove} only looks up the neighbours of both ends of its sub chain, in O(1).
+ */
 public class SubChainChangeMoveSelector extends GenericMoveSelector {
 
     protected final SubChainSelector subChainSelector;
@@ -26,6 +26,7 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.ValueRange;
 import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
@@ -40,6 +41,7 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
     protected final GenuineVariableDescriptor<Solution_> variableDescriptor;
     protected final SingletonInverseVariableSupply inverseVariableSupply;
     protected final AnchorVariableSupply anchorVariableSupply;
+    protected final ChainPositionVariableSupply chainPositionVariableSupply;
 
     protected final Object leftEntity;
     protected final Object rightValue;
@@ -47,9 +49,25 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
     public TailChainSwapMove(GenuineVariableDescriptor<Solution_> variableDescriptor,
             SingletonInverseVariableSupply inverseVariableSupply, AnchorVariableSupply anchorVariableSupply,
             Object leftEntity, Object rightValue) {
+        this(variableDescriptor, inverseVariableSupply, anchorVariableSupply, null, leftEntity, rightValue);
+    }
+
+    /**
+     * @param variableDescriptor never null
+     * @param inverseVariableSupply never null
+     * @param anchorVariableSupply never null
+     * @param chainPositionVariableSupply sometimes null, if null the chain is walked to find its last entity
+     * @param leftEntity never null
+     * @param rightValue never null
+     */
+    public TailChainSwapMove(GenuineVariableDescriptor<Solution_> variableDescriptor,
+            SingletonInverseVariableSupply inverseVariableSupply, AnchorVariableSupply anchorVariableSupply,
+            ChainPositionVariableSupply chainPositionVariableSupply,
+            Object leftEntity, Object rightValue) {
         this.variableDescriptor = variableDescriptor;
         this.inverseVariableSupply = inverseVariableSupply;
         this.anchorVariableSupply = anchorVariableSupply;
+        this.chainPositionVariableSupply = chainPositionVariableSupply;
         this.leftEntity = leftEntity;
         this.rightValue = rightValue;
     }
@@ -114,13 +132,13 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
         Object rightAnchor = determineRightAnchor();
         Object leftValue = variableDescriptor.getValue(leftEntity);
         if (leftAnchor != rightAnchor) {
-            return new TailChainSwapMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply, leftEntity,
-                    leftValue);
+            return new TailChainSwapMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
+                    chainPositionVariableSupply, leftEntity, leftValue);
         } else {
             Object rightEntity = inverseVariableSupply.getInverseSingleton(rightValue);
             if (rightEntity != null) {
                 return new TailChainSwapMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
-                        rightEntity, rightValue);
+                        chainPositionVariableSupply, rightEntity, rightValue);
             } else {
                 // TODO Currently unsupported because we fail to create a valid undoMove... even though doMove supports it
                 throw new IllegalStateException("Impossible state, because isMoveDoable() should not return true.");
@@ -168,6 +186,13 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
     }
 
     protected Object findLastEntityInChainOrLeftEntity() {
+        if (chainPositionVariableSupply != null) {
+            if (chainPositionVariableSupply.isBefore(rightValue, leftEntity)) {
+                return leftEntity;
+            }
+            Object anchor = anchorVariableSupply.getAnchor(leftEntity);
+            return chainPositionVariableSupply.getPlanningValue(anchor, chainPositionVariableSupply.getChainLength(anchor));
+        }
         Object entity = rightValue;
         while (entity != leftEntity) {
             Object nextEntity = inverseVariableSupply.getInverseSingleton(entity);
@@ -193,7 +218,7 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
     @Override
     public TailChainSwapMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
         return new TailChainSwapMove<>(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
-                destinationScoreDirector.lookUpWorkingObject(leftEntity),
+                chainPositionVariableSupply, destinationScoreDirector.lookUpWorkingObject(leftEntity),
                 destinationScoreDirector.lookUpWorkingObject(rightValue));
     }
 
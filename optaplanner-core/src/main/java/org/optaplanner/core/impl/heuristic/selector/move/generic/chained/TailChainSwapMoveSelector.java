@@ -20,6 +20,8 @@ import java.util.Iterator;
 
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableDemand;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableDemand;
+import org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
@@ -44,6 +46,7 @@ public class TailChainSwapMoveSelector extends GenericMoveSelector {
 
     protected SingletonInverseVariableSupply inverseVariableSupply;
     protected AnchorVariableSupply anchorVariableSupply;
+    protected ChainPositionVariableSupply chainPositionVariableSupply;
 
     public TailChainSwapMoveSelector(EntitySelector entitySelector, ValueSelector valueSelector,
             boolean randomSelection) {
@@ -75,6 +78,7 @@ public class TailChainSwapMoveSelector extends GenericMoveSelector {
         GenuineVariableDescriptor variableDescriptor = valueSelector.getVariableDescriptor();
         inverseVariableSupply = supplyManager.demand(new SingletonInverseVariableDemand(variableDescriptor));
         anchorVariableSupply = supplyManager.demand(new AnchorVariableDemand(variableDescriptor));
+        chainPositionVariableSupply = supplyManager.demand(new ChainPositionVariableDemand(variableDescriptor));
     }
 
     @Override
@@ -82,6 +86,7 @@ public class TailChainSwapMoveSelector extends GenericMoveSelector {
         super.solvingEnded(solverScope);
         inverseVariableSupply = null;
         anchorVariableSupply = null;
+        chainPositionVariableSupply = null;
     }
 
     // ************************************************************************
@@ -120,7 +125,7 @@ public class TailChainSwapMoveSelector extends GenericMoveSelector {
                 @Override
                 protected Move newChangeSelection(Object entity, Object toValue) {
                     return new TailChainSwapMove(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
-                            entity, toValue);
+                            chainPositionVariableSupply, entity, toValue);
                 }
             };
         } else {
@@ -128,7 +133,7 @@ public class TailChainSwapMoveSelector extends GenericMoveSelector {
                 @Override
                 protected Move newChangeSelection(Object entity, Object toValue) {
                     return new TailChainSwapMove(variableDescriptor, inverseVariableSupply, anchorVariableSupply,
-                            entity, toValue);
+                            chainPositionVariableSupply, entity, toValue);
                 }
             };
         }
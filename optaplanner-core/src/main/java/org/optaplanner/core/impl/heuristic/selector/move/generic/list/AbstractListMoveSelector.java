@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.GenericMoveSelector;
+
+/**
+ * Common superclass of the {@link GenericMoveSelector}s that select moves on a {@link ListVariableDescriptor}.
+ */
+public abstract class AbstractListMoveSelector extends GenericMoveSelector {
+
+    protected final EntitySelector entitySelector;
+    protected final ListVariableDescriptor variableDescriptor;
+    protected final boolean randomSelection;
+
+    public AbstractListMoveSelector(EntitySelector entitySelector, ListVariableDescriptor variableDescriptor,
+            boolean randomSelection) {
+        this.entitySelector = entitySelector;
+        this.variableDescriptor = variableDescriptor;
+        this.randomSelection = randomSelection;
+        if (!variableDescriptor.getEntityDescriptor().getEntityClass().isAssignableFrom(
+                entitySelector.getEntityDescriptor().getEntityClass())) {
+            throw new IllegalStateException("The selector (" + this
+                    + ") has a variableDescriptor with a entityClass ("
+                    + variableDescriptor.getEntityDescriptor().getEntityClass()
+                    + ") which is not equal or a superclass to the entitySelector's entityClass ("
+                    + entitySelector.getEntityDescriptor().getEntityClass() + ").");
+        }
+        phaseLifecycleSupport.addEventListener(entitySelector);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isCountable() {
+        return entitySelector.isCountable();
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return randomSelection || entitySelector.isNeverEnding();
+    }
+
+    @Override
+    public long getSize() {
+        List<Object> entityList = extractEntityList();
+        int[] listSizes = new int[entityList.size()];
+        for (int i = 0; i < listSizes.length; i++) {
+            listSizes[i] = variableDescriptor.getListSize(entityList.get(i));
+        }
+        return calculateSize(listSizes);
+    }
+
+    /**
+     * @param listSizes never null, the list size of every selectable entity, in selection order
+     * @return {@code >= 0}, the number of moves that {@link #iterator()} selects with original selection
+     */
+    protected abstract long calculateSize(int[] listSizes);
+
+    @Override
+    public Iterator<Move> iterator() {
+        if (randomSelection) {
+            return randomIterator();
+        } else {
+            return originalIterator(extractEntityList());
+        }
+    }
+
+    /**
+     * @return never null, never ending
+     */
+    protected abstract Iterator<Move> randomIterator();
+
+    /**
+     * Every list must keep its size while the returned iterator is used,
+     * which is the case because every selected move is undone before the next one is selected.
+     * @param entityList never null, the selectable entities
+     * @return never null, ending
+     */
+    protected abstract Iterator<Move> originalIterator(List<Object> entityList);
+
+    protected List<Object> extractEntityList() {
+        List<Object> entityList = new ArrayList<>();
+        Iterator<Object> entityIterator = entitySelector.endingIterator();
+        while (entityIterator.hasNext()) {
+            entityList.add(entityIterator.next());
+        }
+        return entityList;
+    }
+
+    /**
+     * @param entityIterator never null
+     * @return null if no entity with a non empty list was found before bailing out
+     */
+    protected Object nextEntityWithValues(Iterator<Object> entityIterator) {
+        long bailOutSize = Math.max(entitySelector.getSize() * 10L, 10L);
+        for (long attempt = 0L; attempt < bailOutSize; attempt++) {
+            if (!entityIterator.hasNext()) {
+                return null;
+            }
+            Object entity = entityIterator.next();
+            if (variableDescriptor.getListSize(entity) > 0) {
+                return entity;
+            }
+        }
+        logger.warn("Bailing out of neverEnding selector ({}) after ({}) attempts to find an entity"
+                + " with a non empty list variable ({}).", this, bailOutSize, variableDescriptor);
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + entitySelector + ", " + variableDescriptor.getVariableName() + ")";
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * Moves 1 planning value from an index in a list to an index in the same or another list.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ListChangeMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+
+    protected final Object sourceEntity;
+    protected final int sourceIndex;
+    protected final Object destinationEntity;
+    protected final int destinationIndex;
+    protected final Object movedValue;
+
+    public ListChangeMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, Object destinationEntity, int destinationIndex) {
+        this(variableDescriptor, sourceEntity, sourceIndex, destinationEntity, destinationIndex,
+                variableDescriptor.getElement(sourceEntity, sourceIndex));
+    }
+
+    /**
+     * @param variableDescriptor never null
+     * @param sourceEntity never null
+     * @param sourceIndex {@code >= 0}
+     * @param destinationEntity never null
+     * @param destinationIndex {@code >= 0}, the index after the value has been removed from its source list
+     * @param movedValue never null, the value at the sourceIndex of the sourceEntity before the move
+     */
+    public ListChangeMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object sourceEntity, int sourceIndex, Object destinationEntity, int destinationIndex,
+            Object movedValue) {
+        this.variableDescriptor = variableDescriptor;
+        this.sourceEntity = sourceEntity;
+        this.sourceIndex = sourceIndex;
+        this.destinationEntity = destinationEntity;
+        this.destinationIndex = destinationIndex;
+        this.movedValue = movedValue;
+    }
+
+    public String getVariableName() {
+        return variableDescriptor.getVariableName();
+    }
+
+    public Object getSourceEntity() {
+        return sourceEntity;
+    }
+
+    public int getSourceIndex() {
+        return sourceIndex;
+    }
+
+    public Object getDestinationEntity() {
+        return destinationEntity;
+    }
+
+    public int getDestinationIndex() {
+        return destinationIndex;
+    }
+
+    public Object getMovedValue() {
+        return movedValue;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return sourceEntity != destinationEntity || sourceIndex != destinationIndex;
+    }
+
+    @Override
+    public ListChangeMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new ListChangeMove<>(variableDescriptor, destinationEntity, destinationIndex,
+                sourceEntity, sourceIndex, movedValue);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        if (sourceEntity == destinationEntity) {
+            List<Object> valueList = variableDescriptor.getValueList(sourceEntity);
+            scoreDirector.beforeVariableChanged(variableDescriptor, sourceEntity);
+            valueList.add(destinationIndex, valueList.remove(sourceIndex));
+            scoreDirector.afterVariableChanged(variableDescriptor, sourceEntity);
+        } else {
+            List<Object> sourceValueList = variableDescriptor.getValueList(sourceEntity);
+            List<Object> destinationValueList = variableDescriptor.getValueList(destinationEntity);
+            scoreDirector.beforeVariableChanged(variableDescriptor, sourceEntity);
+            scoreDirector.beforeVariableChanged(variableDescriptor, destinationEntity);
+            destinationValueList.add(destinationIndex, sourceValueList.remove(sourceIndex));
+            scoreDirector.afterVariableChanged(variableDescriptor, sourceEntity);
+            scoreDirector.afterVariableChanged(variableDescriptor, destinationEntity);
+        }
+    }
+
+    @Override
+    public ListChangeMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new ListChangeMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(sourceEntity), sourceIndex,
+                destinationScoreDirector.lookUpWorkingObject(destinationEntity), destinationIndex,
+                destinationScoreDirector.lookUpWorkingObject(movedValue));
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        if (sourceEntity == destinationEntity) {
+            return Collections.singletonList(sourceEntity);
+        }
+        return Arrays.asList(sourceEntity, destinationEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        return Collections.singletonList(movedValue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof ListChangeMove) {
+            ListChangeMove<?> other = (ListChangeMove) o;
+            return new EqualsBuilder()
+                    .append(variableDescriptor, other.variableDescriptor)
+                    .append(sourceEntity, other.sourceEntity)
+                    .append(sourceIndex, other.sourceIndex)
+                    .append(destinationEntity, other.destinationEntity)
+                    .append(destinationIndex, other.destinationIndex)
+                    .append(movedValue, other.movedValue)
+                    .isEquals();
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(variableDescriptor)
+                .append(sourceEntity)
+                .append(sourceIndex)
+                .append(destinationEntity)
+                .append(destinationIndex)
+                .append(movedValue)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return movedValue + " {" + sourceEntity + "[" + sourceIndex + "] -> "
+                + destinationEntity + "[" + destinationIndex + "]}";
+    }
+
+}
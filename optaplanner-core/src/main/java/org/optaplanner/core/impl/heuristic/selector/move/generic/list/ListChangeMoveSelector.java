@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Selects {@link ListChangeMove}s: moves 1 planning value to a position in the same or another list.
+ */
+public class ListChangeMoveSelector extends AbstractListMoveSelector {
+
+    public ListChangeMoveSelector(EntitySelector entitySelector, ListVariableDescriptor variableDescriptor,
+            boolean randomSelection) {
+        super(entitySelector, variableDescriptor, randomSelection);
+    }
+
+    @Override
+    protected long calculateSize(int[] listSizes) {
+        long valueCount = 0L;
+        for (int listSize : listSizes) {
+            valueCount += listSize;
+        }
+        // Every value can move to every position in another list (listSize + 1) or in its own list (listSize)
+        return valueCount * (valueCount + listSizes.length - 1L);
+    }
+
+    @Override
+    protected Iterator<Move> randomIterator() {
+        final Iterator<Object> entityIterator = entitySelector.iterator();
+        return new UpcomingSelectionIterator<Move>() {
+            @Override
+            protected Move createUpcomingSelection() {
+                Object sourceEntity = nextEntityWithValues(entityIterator);
+                if (sourceEntity == null || !entityIterator.hasNext()) {
+                    return noUpcomingSelection();
+                }
+                Object destinationEntity = entityIterator.next();
+                int sourceSize = variableDescriptor.getListSize(sourceEntity);
+                int sourceIndex = workingRandom.nextInt(sourceSize);
+                // The destinationIndex is relative to the destination list after the removal from the source list
+                int destinationIndex = sourceEntity == destinationEntity
+                        ? workingRandom.nextInt(sourceSize)
+                        : workingRandom.nextInt(variableDescriptor.getListSize(destinationEntity) + 1);
+                return new ListChangeMove(variableDescriptor, sourceEntity, sourceIndex,
+                        destinationEntity, destinationIndex);
+            }
+        };
+    }
+
+    @Override
+    protected Iterator<Move> originalIterator(List<Object> entityList) {
+        return new UpcomingSelectionIterator<Move>() {
+
+            private int sourceEntityIndex = 0;
+            private int sourceIndex = 0;
+            private int destinationEntityIndex = 0;
+            private int destinationIndex = 0;
+
+            @Override
+            protected Move createUpcomingSelection() {
+                while (sourceEntityIndex < entityList.size()) {
+                    Object sourceEntity = entityList.get(sourceEntityIndex);
+                    int sourceSize = variableDescriptor.getListSize(sourceEntity);
+                    if (sourceIndex >= sourceSize) {
+                        sourceEntityIndex++;
+                        sourceIndex = 0;
+                        destinationEntityIndex = 0;
+                        destinationIndex = 0;
+                        continue;
+                    }
+                    if (destinationEntityIndex >= entityList.size()) {
+                        sourceIndex++;
+                        destinationEntityIndex = 0;
+                        destinationIndex = 0;
+                        continue;
+                    }
+                    Object destinationEntity = entityList.get(destinationEntityIndex);
+                    // The destinationIndex is relative to the destination list after the removal from the source list
+                    int destinationIndexLimit = sourceEntity == destinationEntity
+                            ? sourceSize : variableDescriptor.getListSize(destinationEntity) + 1;
+                    if (destinationIndex >= destinationIndexLimit) {
+                        destinationEntityIndex++;
+                        destinationIndex = 0;
+                        continue;
+                    }
+                    Move move = new ListChangeMove(variableDescriptor, sourceEntity, sourceIndex,
+                            destinationEntity, destinationIndex);
+                    destinationIndex++;
+                    return move;
+                }
+                return noUpcomingSelection();
+            }
+
+        };
+    }
+
+}
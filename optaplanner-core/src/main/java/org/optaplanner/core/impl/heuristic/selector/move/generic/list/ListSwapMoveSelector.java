@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Selects {@link ListSwapMove}s: swaps 2 planning values in the same list or in 2 different lists.
+ */
+public class ListSwapMoveSelector extends AbstractListMoveSelector {
+
+    public ListSwapMoveSelector(EntitySelector entitySelector, ListVariableDescriptor variableDescriptor,
+            boolean randomSelection) {
+        super(entitySelector, variableDescriptor, randomSelection);
+    }
+
+    @Override
+    protected long calculateSize(int[] listSizes) {
+        long valueCount = 0L;
+        for (int listSize : listSizes) {
+            valueCount += listSize;
+        }
+        // Every unordered pair of 2 different positions
+        return valueCount * (valueCount - 1L) / 2L;
+    }
+
+    @Override
+    protected Iterator<Move> randomIterator() {
+        final Iterator<Object> entityIterator = entitySelector.iterator();
+        return new UpcomingSelectionIterator<Move>() {
+            @Override
+            protected Move createUpcomingSelection() {
+                Object leftEntity = nextEntityWithValues(entityIterator);
+                if (leftEntity == null) {
+                    return noUpcomingSelection();
+                }
+                Object rightEntity = nextEntityWithValues(entityIterator);
+                if (rightEntity == null) {
+                    return noUpcomingSelection();
+                }
+                int leftIndex = workingRandom.nextInt(variableDescriptor.getListSize(leftEntity));
+                int rightIndex = workingRandom.nextInt(variableDescriptor.getListSize(rightEntity));
+                return new ListSwapMove(variableDescriptor, leftEntity, leftIndex, rightEntity, rightIndex);
+            }
+        };
+    }
+
+    @Override
+    protected Iterator<Move> originalIterator(List<Object> entityList) {
+        return new UpcomingSelectionIterator<Move>() {
+
+            // The right position is always after the left position, so every pair is only selected once
+            private int leftEntityIndex = 0;
+            private int leftIndex = 0;
+            private int rightEntityIndex = 0;
+            private int rightIndex = 1;
+
+            @Override
+            protected Move createUpcomingSelection() {
+                while (leftEntityIndex < entityList.size()) {
+                    Object leftEntity = entityList.get(leftEntityIndex);
+                    if (leftIndex >= variableDescriptor.getListSize(leftEntity)) {
+                        leftEntityIndex++;
+                        leftIndex = 0;
+                        rightEntityIndex = leftEntityIndex;
+                        rightIndex = 1;
+                        continue;
+                    }
+                    if (rightEntityIndex >= entityList.size()) {
+                        leftIndex++;
+                        rightEntityIndex = leftEntityIndex;
+                        rightIndex = leftIndex + 1;
+                        continue;
+                    }
+                    Object rightEntity = entityList.get(rightEntityIndex);
+                    if (rightIndex >= variableDescriptor.getListSize(rightEntity)) {
+                        rightEntityIndex++;
+                        rightIndex = 0;
+                        continue;
+                    }
+                    Move move = new ListSwapMove(variableDescriptor, leftEntity, leftIndex, rightEntity, rightIndex);
+                    rightIndex++;
+                    return move;
+                }
+                return noUpcomingSelection();
+            }
+
+        };
+    }
+
+}
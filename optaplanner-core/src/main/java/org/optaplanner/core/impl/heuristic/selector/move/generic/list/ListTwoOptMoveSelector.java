@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Selects 2-opt moves:
+ * a {@link SubListReversingMove} if both selected entities are the same
+ * or a {@link TailListSwapMove} if they differ.
+ */
+public class ListTwoOptMoveSelector extends AbstractListMoveSelector {
+
+    public ListTwoOptMoveSelector(EntitySelector entitySelector, ListVariableDescriptor variableDescriptor,
+            boolean randomSelection) {
+        super(entitySelector, variableDescriptor, randomSelection);
+    }
+
+    @Override
+    protected long calculateSize(int[] listSizes) {
+        long size = 0L;
+        long boundarySum = 0L;
+        long boundarySquareSum = 0L;
+        for (int listSize : listSizes) {
+            // Every sub list of at least 1 value within the same list
+            size += ((long) listSize) * (listSize + 1L) / 2L;
+            boundarySum += listSize + 1L;
+            boundarySquareSum += (listSize + 1L) * (listSize + 1L);
+        }
+        // Every pair of tail boundaries in 2 different lists
+        size += (boundarySum * boundarySum - boundarySquareSum) / 2L;
+        return size;
+    }
+
+    @Override
+    protected Iterator<Move> randomIterator() {
+        final Iterator<Object> entityIterator = entitySelector.iterator();
+        return new UpcomingSelectionIterator<Move>() {
+            @Override
+            protected Move createUpcomingSelection() {
+                Object leftEntity = nextEntityWithValues(entityIterator);
+                if (leftEntity == null || !entityIterator.hasNext()) {
+                    return noUpcomingSelection();
+                }
+                Object rightEntity = entityIterator.next();
+                int leftSize = variableDescriptor.getListSize(leftEntity);
+                if (leftEntity == rightEntity) {
+                    int a = workingRandom.nextInt(leftSize + 1);
+                    int b = workingRandom.nextInt(leftSize + 1);
+                    return new SubListReversingMove(variableDescriptor, leftEntity, Math.min(a, b), Math.max(a, b));
+                }
+                int leftIndex = workingRandom.nextInt(leftSize + 1);
+                int rightIndex = workingRandom.nextInt(variableDescriptor.getListSize(rightEntity) + 1);
+                return new TailListSwapMove(variableDescriptor, leftEntity, leftIndex, rightEntity, rightIndex);
+            }
+        };
+    }
+
+    @Override
+    protected Iterator<Move> originalIterator(List<Object> entityList) {
+        return new UpcomingSelectionIterator<Move>() {
+
+            private int leftEntityIndex = 0;
+            private int rightEntityIndex = 0;
+            // The fromIndex and toIndex within the same list, or the leftIndex and rightIndex in 2 lists
+            private int leftIndex = 0;
+            private int rightIndex = 1;
+
+            @Override
+            protected Move createUpcomingSelection() {
+                while (leftEntityIndex < entityList.size()) {
+                    if (rightEntityIndex >= entityList.size()) {
+                        leftEntityIndex++;
+                        rightEntityIndex = leftEntityIndex;
+                        leftIndex = 0;
+                        rightIndex = 1;
+                        continue;
+                    }
+                    Object leftEntity = entityList.get(leftEntityIndex);
+                    int leftSize = variableDescriptor.getListSize(leftEntity);
+                    if (leftEntityIndex == rightEntityIndex) {
+                        if (leftIndex >= leftSize) {
+                            rightEntityIndex++;
+                            leftIndex = 0;
+                            rightIndex = 0;
+                            continue;
+                        }
+                        if (rightIndex > leftSize) {
+                            leftIndex++;
+                            rightIndex = leftIndex + 1;
+                            continue;
+                        }
+                        Move move = new SubListReversingMove(variableDescriptor, leftEntity, leftIndex, rightIndex);
+                        rightIndex++;
+                        return move;
+                    }
+                    Object rightEntity = entityList.get(rightEntityIndex);
+                    if (leftIndex > leftSize) {
+                        rightEntityIndex++;
+                        leftIndex = 0;
+                        rightIndex = 0;
+                        continue;
+                    }
+                    if (rightIndex > variableDescriptor.getListSize(rightEntity)) {
+                        leftIndex++;
+                        rightIndex = 0;
+                        continue;
+                    }
+                    Move move = new TailListSwapMove(variableDescriptor, leftEntity, leftIndex,
+                            rightEntity, rightIndex);
+                    rightIndex++;
+                    return move;
+                }
+                return noUpcomingSelection();
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * Reverses the order of the planning values from fromIndex (inclusive) to toIndex (exclusive) in 1 list.
+ * Also known as a 2-opt move within 1 route.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see TailListSwapMove
+ */
+public class SubListReversingMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+
+    protected final Object entity;
+    protected final int fromIndex;
+    protected final int toIndex;
+
+    public SubListReversingMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object entity, int fromIndex, int toIndex) {
+        this.variableDescriptor = variableDescriptor;
+        this.entity = entity;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    public String getVariableName() {
+        return variableDescriptor.getVariableName();
+    }
+
+    public Object getEntity() {
+        return entity;
+    }
+
+    public int getFromIndex() {
+        return fromIndex;
+    }
+
+    public int getToIndex() {
+        return toIndex;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        return toIndex - fromIndex >= 2;
+    }
+
+    @Override
+    public SubListReversingMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new SubListReversingMove<>(variableDescriptor, entity, fromIndex, toIndex);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        List<Object> valueList = variableDescriptor.getValueList(entity);
+        scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+        Collections.reverse(valueList.subList(fromIndex, toIndex));
+        scoreDirector.afterVariableChanged(variableDescriptor, entity);
+    }
+
+    @Override
+    public SubListReversingMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new SubListReversingMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(entity), fromIndex, toIndex);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return Collections.singletonList(entity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        // The reversed values are the same before and after the move, only their order differs
+        return new ArrayList<>(variableDescriptor.getValueList(entity).subList(fromIndex, toIndex));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof SubListReversingMove) {
+            SubListReversingMove<?> other = (SubListReversingMove) o;
+            return new EqualsBuilder()
+                    .append(variableDescriptor, other.variableDescriptor)
+                    .append(entity, other.entity)
+                    .append(fromIndex, other.fromIndex)
+                    .append(toIndex, other.toIndex)
+                    .isEquals();
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(variableDescriptor)
+                .append(entity)
+                .append(fromIndex)
+                .append(toIndex)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return entity + "[" + fromIndex + ".." + toIndex + ") -reversing->";
+    }
+
+}
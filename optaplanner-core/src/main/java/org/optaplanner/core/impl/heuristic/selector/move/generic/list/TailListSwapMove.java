@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+
+/**
+ * Swaps the tail of 1 list (from leftIndex) with the tail of another list (from rightIndex).
+ * Also known as a 2-opt move between 2 routes.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see SubListReversingMove
+ */
+public class TailListSwapMove<Solution_> extends AbstractMove<Solution_> {
+
+    protected final ListVariableDescriptor<Solution_> variableDescriptor;
+
+    protected final Object leftEntity;
+    protected final int leftIndex;
+    protected final Object rightEntity;
+    protected final int rightIndex;
+
+    public TailListSwapMove(ListVariableDescriptor<Solution_> variableDescriptor,
+            Object leftEntity, int leftIndex, Object rightEntity, int rightIndex) {
+        this.variableDescriptor = variableDescriptor;
+        this.leftEntity = leftEntity;
+        this.leftIndex = leftIndex;
+        this.rightEntity = rightEntity;
+        this.rightIndex = rightIndex;
+    }
+
+    public String getVariableName() {
+        return variableDescriptor.getVariableName();
+    }
+
+    public Object getLeftEntity() {
+        return leftEntity;
+    }
+
+    public int getLeftIndex() {
+        return leftIndex;
+    }
+
+    public Object getRightEntity() {
+        return rightEntity;
+    }
+
+    public int getRightIndex() {
+        return rightIndex;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
+        if (leftEntity == rightEntity) {
+            return false;
+        }
+        return leftIndex < variableDescriptor.getListSize(leftEntity)
+                || rightIndex < variableDescriptor.getListSize(rightEntity);
+    }
+
+    @Override
+    public TailListSwapMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        return new TailListSwapMove<>(variableDescriptor, leftEntity, leftIndex, rightEntity, rightIndex);
+    }
+
+    @Override
+    protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        List<Object> leftTail = variableDescriptor.getValueList(leftEntity).subList(leftIndex,
+                variableDescriptor.getListSize(leftEntity));
+        List<Object> rightTail = variableDescriptor.getValueList(rightEntity).subList(rightIndex,
+                variableDescriptor.getListSize(rightEntity));
+        scoreDirector.beforeVariableChanged(variableDescriptor, leftEntity);
+        scoreDirector.beforeVariableChanged(variableDescriptor, rightEntity);
+        List<Object> oldLeftTail = new ArrayList<>(leftTail);
+        leftTail.clear();
+        leftTail.addAll(rightTail);
+        rightTail.clear();
+        rightTail.addAll(oldLeftTail);
+        scoreDirector.afterVariableChanged(variableDescriptor, leftEntity);
+        scoreDirector.afterVariableChanged(variableDescriptor, rightEntity);
+    }
+
+    @Override
+    public TailListSwapMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
+        return new TailListSwapMove<>(variableDescriptor,
+                destinationScoreDirector.lookUpWorkingObject(leftEntity), leftIndex,
+                destinationScoreDirector.lookUpWorkingObject(rightEntity), rightIndex);
+    }
+
+    // ************************************************************************
+    // Introspection methods
+    // ************************************************************************
+
+    @Override
+    public String getSimpleMoveTypeDescription() {
+        return getClass().getSimpleName() + "(" + variableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningEntities() {
+        return Arrays.asList(leftEntity, rightEntity);
+    }
+
+    @Override
+    public Collection<? extends Object> getPlanningValues() {
+        // The swapped values are the same before and after the move
+        List<Object> leftValueList = variableDescriptor.getValueList(leftEntity);
+        List<Object> rightValueList = variableDescriptor.getValueList(rightEntity);
+        List<Object> valueList = new ArrayList<>(leftValueList.size() - leftIndex
+                + rightValueList.size() - rightIndex);
+        valueList.addAll(leftValueList.subList(leftIndex, leftValueList.size()));
+        valueList.addAll(rightValueList.subList(rightIndex, rightValueList.size()));
+        return valueList;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof TailListSwapMove) {
+            TailListSwapMove<?> other = (TailListSwapMove) o;
+            return new EqualsBuilder()
+                    .append(variableDescriptor, other.variableDescriptor)
+                    .append(leftEntity, other.leftEntity)
+                    .append(leftIndex, other.leftIndex)
+                    .append(rightEntity, other.rightEntity)
+                    .append(rightIndex, other.rightIndex)
+                    .isEquals();
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder()
+                .append(variableDescriptor)
+                .append(leftEntity)
+                .append(leftIndex)
+                .append(rightEntity)
+                .append(rightIndex)
+                .toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return leftEntity + "[" + leftIndex + "..] <-tailListSwap-> " + rightEntity + "[" + rightIndex + "..]";
+    }
+
+}
@@ -22,8 +22,11 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
 import org.optaplanner.core.api.domain.valuerange.ValueRange;
 import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
+import org.optaplanner.core.impl.domain.valuerange.index.ValueRangeIndexDemand;
+import org.optaplanner.core.impl.domain.valuerange.index.ValueRangeIndexSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
 /**
  * This is the common {@link ValueSelector} implementation.
@@ -33,12 +36,26 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
 
     protected final ValueRangeDescriptor<Solution_> valueRangeDescriptor;
     protected final boolean randomSelection;
+    protected final boolean valueRangeIndexEnabled;
 
+    protected ValueRangeIndexSupply valueRangeIndexSupply = null;
     protected Solution_ workingSolution;
 
     public FromEntityPropertyValueSelector(ValueRangeDescriptor<Solution_> valueRangeDescriptor, boolean randomSelection) {
+        this(valueRangeDescriptor, randomSelection, false);
+    }
+
+    /**
+     * @param valueRangeDescriptor never null
+     * @param randomSelection true if the selection is random
+     * @param valueRangeIndexEnabled true to reuse the value range of each entity
+     * through a {@link ValueRangeIndexSupply}, instead of extracting it for every selection
+     */
+    public FromEntityPropertyValueSelector(ValueRangeDescriptor<Solution_> valueRangeDescriptor, boolean randomSelection,
+            boolean valueRangeIndexEnabled) {
         this.valueRangeDescriptor = valueRangeDescriptor;
         this.randomSelection = randomSelection;
+        this.valueRangeIndexEnabled = valueRangeIndexEnabled;
     }
 
     @Override
@@ -46,6 +63,21 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
         return valueRangeDescriptor.getVariableDescriptor();
     }
 
+    @Override
+    public void solvingStarted(DefaultSolverScope solverScope) {
+        super.solvingStarted(solverScope);
+        if (valueRangeIndexEnabled) {
+            valueRangeIndexSupply = solverScope.getScoreDirector().getSupplyManager()
+                    .demand(new ValueRangeIndexDemand(getVariableDescriptor()));
+        }
+    }
+
+    @Override
+    public void solvingEnded(DefaultSolverScope solverScope) {
+        super.solvingEnded(solverScope);
+        valueRangeIndexSupply = null;
+    }
+
     @Override
     public void phaseStarted(AbstractPhaseScope phaseScope) {
         super.phaseStarted(phaseScope);
@@ -75,14 +107,13 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
 
     @Override
     public long getSize(Object entity) {
-        ValueRange<?> valueRange = valueRangeDescriptor.extractValueRange(workingSolution, entity);
+        ValueRange<?> valueRange = extractValueRange(entity);
         return ((CountableValueRange<?>) valueRange).getSize();
     }
 
     @Override
     public Iterator<Object> iterator(Object entity) {
-        ValueRange<Object> valueRange = (ValueRange<Object>)
-                valueRangeDescriptor.extractValueRange(workingSolution, entity);
+        ValueRange<Object> valueRange = (ValueRange<Object>) extractValueRange(entity);
         if (!randomSelection) {
             return ((CountableValueRange<Object>) valueRange).createOriginalIterator();
         } else {
@@ -92,11 +123,17 @@ public class FromEntityPropertyValueSelector<Solution_> extends AbstractValueSel
 
     @Override
     public Iterator<Object> endingIterator(Object entity) {
-        ValueRange<Object> valueRange = (ValueRange<Object>)
-                valueRangeDescriptor.extractValueRange(workingSolution, entity);
+        ValueRange<Object> valueRange = (ValueRange<Object>) extractValueRange(entity);
         return ((CountableValueRange<Object>) valueRange).createOriginalIterator();
     }
 
+    protected ValueRange<?> extractValueRange(Object entity) {
+        if (valueRangeIndexSupply != null) {
+            return valueRangeIndexSupply.getValueRange(entity);
+        }
+        return valueRangeDescriptor.extractValueRange(workingSolution, entity);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "(" + getVariableDescriptor().getVariableName() + ")";
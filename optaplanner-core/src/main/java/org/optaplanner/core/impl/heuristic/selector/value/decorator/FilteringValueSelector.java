@@ -21,12 +21,14 @@ import java.util.List;
 
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilterRejectionCounter;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.value.AbstractValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 
 public class FilteringValueSelector extends AbstractValueSelector {
 
@@ -42,12 +44,14 @@ public class FilteringValueSelector extends AbstractValueSelector {
     protected final ValueSelector childValueSelector;
     protected final List<SelectionFilter> filterList;
     protected final boolean bailOutEnabled;
+    protected final SelectionFilterRejectionCounter rejectionCounter;
 
     protected ScoreDirector scoreDirector = null;
 
     protected FilteringValueSelector(ValueSelector childValueSelector, List<SelectionFilter> filterList) {
         this.childValueSelector = childValueSelector;
         this.filterList = filterList;
+        rejectionCounter = new SelectionFilterRejectionCounter(this);
         bailOutEnabled = childValueSelector.isNeverEnding();
         phaseLifecycleSupport.addEventListener(childValueSelector);
     }
@@ -56,6 +60,12 @@ public class FilteringValueSelector extends AbstractValueSelector {
     // Worker methods
     // ************************************************************************
 
+    @Override
+    public void solvingStarted(DefaultSolverScope solverScope) {
+        super.solvingStarted(solverScope);
+        solverScope.addSelectionFilterRejectionCounter(rejectionCounter);
+    }
+
     @Override
     public void phaseStarted(AbstractPhaseScope phaseScope) {
         super.phaseStarted(phaseScope);
@@ -68,6 +78,19 @@ public class FilteringValueSelector extends AbstractValueSelector {
         scoreDirector = null;
     }
 
+    @Override
+    public void solvingEnded(DefaultSolverScope solverScope) {
+        super.solvingEnded(solverScope);
+        solverScope.removeSelectionFilterRejectionCounter(rejectionCounter);
+    }
+
+    /**
+     * @return never null
+     */
+    public SelectionFilterRejectionCounter getRejectionCounter() {
+        return rejectionCounter;
+    }
+
     @Override
     public GenuineVariableDescriptor getVariableDescriptor() {
         return childValueSelector.getVariableDescriptor();
@@ -107,6 +130,7 @@ public class FilteringValueSelector extends AbstractValueSelector {
         @Override
         protected Object createUpcomingSelection() {
             Object next;
+            boolean accepted;
             long attemptsBeforeBailOut = bailOutSize;
             do {
                 if (!childValueIterator.hasNext()) {
@@ -122,7 +146,9 @@ public class FilteringValueSelector extends AbstractValueSelector {
                     attemptsBeforeBailOut--;
                 }
                 next = childValueIterator.next();
-            } while (!accept(scoreDirector, next));
+                accepted = accept(scoreDirector, next);
+                rejectionCounter.addSelection(accepted);
+            } while (!accepted);
             return next;
         }
 
@@ -46,6 +46,10 @@ public class MoveThreadRunner<Solution_> implements Runnable {
     private final boolean assertShadowVariablesAreNotStaleAfterStep;
 
     private InnerScoreDirector<Solution_> scoreDirector = null;
+    /**
+     * Published after every operation, so the solver thread can read it while this move thread runs.
+     */
+    private volatile long calculationCount = 0L;
 
     public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
             BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
@@ -151,6 +155,7 @@ public class MoveThreadRunner<Solution_> implements Runnable {
                 } else {
                     throw new IllegalStateException("Unknown operation (" + operation + ").");
                 }
+                calculationCount = scoreDirector.getCalculationCount();
                 // TODO checkYielding();
             }
             logger.trace("{}            Move thread finished.", logIndentation);
@@ -162,6 +167,7 @@ public class MoveThreadRunner<Solution_> implements Runnable {
             resultQueue.addExceptionThrown(moveThreadIndex, throwable);
         } finally {
             if (scoreDirector != null) {
+                calculationCount = scoreDirector.getCalculationCount();
                 scoreDirector.close();
             }
         }
@@ -181,8 +187,12 @@ public class MoveThreadRunner<Solution_> implements Runnable {
         }
     }
 
+    /**
+     * Thread-safe: the solver thread can call this while this move thread runs.
+     * @return at least 0
+     */
     public long getCalculationCount() {
-        return scoreDirector.getCalculationCount();
+        return calculationCount;
     }
 
     @Override
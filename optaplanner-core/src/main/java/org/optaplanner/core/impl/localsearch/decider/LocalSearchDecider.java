@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.localsearch.decider;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
@@ -43,8 +44,11 @@ public class LocalSearchDecider<Solution_> {
     protected final Acceptor acceptor;
     protected final LocalSearchForager forager;
 
+    protected MoveScoreCache<Solution_> moveScoreCache = null;
+
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
+    protected boolean assertMoveScoreCache = false;
 
     public LocalSearchDecider(String logIndentation,
             Termination termination, MoveSelector moveSelector, Acceptor acceptor, LocalSearchForager forager) {
@@ -71,6 +75,17 @@ public class LocalSearchDecider<Solution_> {
         return forager;
     }
 
+    public MoveScoreCache<Solution_> getMoveScoreCache() {
+        return moveScoreCache;
+    }
+
+    /**
+     * @param moveScoreCache sometimes null, if null the score of every move is calculated
+     */
+    public void setMoveScoreCache(MoveScoreCache<Solution_> moveScoreCache) {
+        this.moveScoreCache = moveScoreCache;
+    }
+
     public void setAssertMoveScoreFromScratch(boolean assertMoveScoreFromScratch) {
         this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
     }
@@ -79,6 +94,13 @@ public class LocalSearchDecider<Solution_> {
         this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
     }
 
+    /**
+     * @param assertMoveScoreCache true to still calculate the score of a cached move and fail fast if it differs
+     */
+    public void setAssertMoveScoreCache(boolean assertMoveScoreCache) {
+        this.assertMoveScoreCache = assertMoveScoreCache;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -93,6 +115,10 @@ public class LocalSearchDecider<Solution_> {
         moveSelector.phaseStarted(phaseScope);
         acceptor.phaseStarted(phaseScope);
         forager.phaseStarted(phaseScope);
+        if (moveScoreCache != null) {
+            moveScoreCache.clear();
+            moveScoreCache.resetStatistics();
+        }
     }
 
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
@@ -128,6 +154,10 @@ public class LocalSearchDecider<Solution_> {
     }
 
     protected void doMove(LocalSearchMoveScope<Solution_> moveScope) {
+        if (moveScoreCache != null) {
+            doCachedMove(moveScope);
+            return;
+        }
         InnerScoreDirector<Solution_> scoreDirector = moveScope.getScoreDirector();
         scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
                     moveScope.setScore(score);
@@ -145,11 +175,48 @@ public class LocalSearchDecider<Solution_> {
                 moveScope.getMove());
     }
 
+    protected void doCachedMove(LocalSearchMoveScope<Solution_> moveScope) {
+        InnerScoreDirector<Solution_> scoreDirector = moveScope.getScoreDirector();
+        Move<Solution_> move = moveScope.getMove();
+        long solutionHash = scoreDirector.getWorkingSolutionHash();
+        Score cachedScore = moveScoreCache.get(solutionHash, move);
+        if (cachedScore == null || assertMoveScoreCache) {
+            scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch, score -> {
+                if (cachedScore != null && !cachedScore.equals(score)) {
+                    throw new IllegalStateException("Move score cache corruption: the cachedScore (" + cachedScore
+                            + ") is not the calculated score (" + score + ") of the move (" + move
+                            + ") on the solutionHash (" + solutionHash + ").\n"
+                            + "  Maybe the move's equals() method doesn't take all of its changes into account."
+                            + " Or maybe a problem fact change isn't notified to the scoreDirector.");
+                }
+                moveScope.setScore(score);
+                boolean accepted = acceptor.isAccepted(moveScope);
+                moveScope.setAccepted(accepted);
+                forager.addMove(moveScope);
+            });
+            if (assertExpectedUndoMoveScore) {
+                scoreDirector.assertExpectedUndoMoveScore(move,
+                        moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
+            }
+            moveScoreCache.put(solutionHash, move, moveScope.getScore());
+        } else {
+            moveScope.setScore(cachedScore);
+            boolean accepted = acceptor.isAccepted(moveScope);
+            moveScope.setAccepted(accepted);
+            forager.addMove(moveScope);
+        }
+        logger.trace("{}        Move index ({}), score ({}), accepted ({}), cached ({}), move ({}).",
+                logIndentation,
+                moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(), cachedScore != null,
+                move);
+    }
+
     protected void pickMove(LocalSearchStepScope<Solution_> stepScope) {
         LocalSearchMoveScope<Solution_> pickedMoveScope = forager.pickMove(stepScope);
         if (pickedMoveScope != null) {
             Move<Solution_> step = pickedMoveScope.getMove();
             stepScope.setStep(step);
+            stepScope.setStepMoveIndex(pickedMoveScope.getMoveIndex());
             if (logger.isDebugEnabled()) {
                 stepScope.setStepString(step.toString());
             }
@@ -167,6 +234,13 @@ public class LocalSearchDecider<Solution_> {
         moveSelector.phaseEnded(phaseScope);
         acceptor.phaseEnded(phaseScope);
         forager.phaseEnded(phaseScope);
+        if (moveScoreCache != null) {
+            logger.debug("{}    Move score cache hit ratio ({}) with hit count ({}), miss count ({}) and size ({}/{}).",
+                    logIndentation,
+                    moveScoreCache.getHitRatio(), moveScoreCache.getHitCount(), moveScoreCache.getMissCount(),
+                    moveScoreCache.getSize(), moveScoreCache.getMaximumSize());
+            moveScoreCache.clear();
+        }
     }
 
     public void solvingEnded(DefaultSolverScope<Solution_> solverScope) {
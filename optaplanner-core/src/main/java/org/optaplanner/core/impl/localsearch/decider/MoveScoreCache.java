@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * A bounded transposition table that remembers the score of a {@link Move}
+ * done on a specific state of the working solution,
+ * so the same move on the same state doesn't need to be done and undone again.
+ * <p>
+ * The state is identified by {@link InnerScoreDirector#getWorkingSolutionHash()}
+ * and the move by its {@link Object#equals(Object)} and {@link Object#hashCode()},
+ * so moves that don't implement those never hit.
+ * When the cache is full, the least recently used entry is evicted.
+ * <p>
+ * Not thread-safe.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MoveScoreCache<Solution_> {
+
+    protected final int maximumSize;
+    protected final Map<MoveScoreCacheKey<Solution_>, Score> scoreMap;
+
+    protected long hitCount = 0L;
+    protected long missCount = 0L;
+
+    public MoveScoreCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximumSize (" + maximumSize + ") must be at least 1.");
+        }
+        this.maximumSize = maximumSize;
+        // Access order makes the eldest entry the least recently used one
+        scoreMap = new LinkedHashMap<MoveScoreCacheKey<Solution_>, Score>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MoveScoreCacheKey<Solution_>, Score> eldest) {
+                return size() > MoveScoreCache.this.maximumSize;
+            }
+        };
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public int getSize() {
+        return scoreMap.size();
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return between {@code 0.0} and {@code 1.0}, {@code 0.0} if there have been no lookups yet
+     */
+    public double getHitRatio() {
+        long lookUpCount = hitCount + missCount;
+        return lookUpCount == 0L ? 0.0 : ((double) hitCount) / lookUpCount;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param solutionHash the {@link InnerScoreDirector#getWorkingSolutionHash()} before the move is done
+     * @param move never null
+     * @return null if the score isn't cached
+     */
+    public Score get(long solutionHash, Move<Solution_> move) {
+        Score score = scoreMap.get(new MoveScoreCacheKey<>(solutionHash, move));
+        if (score == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return score;
+    }
+
+    /**
+     * @param solutionHash the {@link InnerScoreDirector#getWorkingSolutionHash()} before the move is done
+     * @param move never null
+     * @param score never null, the score after the move is done
+     */
+    public void put(long solutionHash, Move<Solution_> move, Score score) {
+        scoreMap.put(new MoveScoreCacheKey<>(solutionHash, move), score);
+    }
+
+    public void clear() {
+        scoreMap.clear();
+    }
+
+    public void resetStatistics() {
+        hitCount = 0L;
+        missCount = 0L;
+    }
+
+    protected static final class MoveScoreCacheKey<Solution_> {
+
+        private final long solutionHash;
+        private final Move<Solution_> move;
+
+        public MoveScoreCacheKey(long solutionHash, Move<Solution_> move) {
+            this.solutionHash = solutionHash;
+            this.move = move;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (o instanceof MoveScoreCacheKey) {
+                MoveScoreCacheKey<?> other = (MoveScoreCacheKey<?>) o;
+                return solutionHash == other.solutionHash && Objects.equals(move, other.move);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(solutionHash) * 31 + move.hashCode();
+        }
+
+    }
+
+}
@@ -43,6 +43,7 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.thread.ThreadUtils;
 
@@ -95,7 +96,7 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
         moveThreadBarrier = new CyclicBarrier(moveThreadCount);
         InnerScoreDirector<Solution_> scoreDirector = phaseScope.getScoreDirector();
-        executor = createThreadPoolExecutor();
+        executor = createThreadPoolExecutor(phaseScope.getSolverScope());
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
         for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
             MoveThreadRunner<Solution_> moveThreadRunner = new MoveThreadRunner<>(
@@ -104,6 +105,7 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
                     assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
                     assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
             moveThreadRunnerList.add(moveThreadRunner);
+            phaseScope.getSolverScope().addMoveThreadRunner(moveThreadRunner);
             executor.submit(moveThreadRunner);
             operationQueue.add(new SetupOperation<>(scoreDirector));
         }
@@ -124,14 +126,21 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             childThreadsScoreCalculationCount += moveThreadRunner.getCalculationCount();
         }
         phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
+        phaseScope.getSolverScope().clearMoveThreads();
         operationQueue = null;
         resultQueue = null;
         moveThreadRunnerList = null;
     }
 
-    protected ExecutorService createThreadPoolExecutor() {
+    protected ExecutorService createThreadPoolExecutor(DefaultSolverScope<Solution_> solverScope) {
+        // Register every move thread, so statistics can measure the move threads of this solver only
+        ThreadFactory moveThreadFactory = runnable -> {
+            Thread moveThread = threadFactory.newThread(runnable);
+            solverScope.addMoveThreadId(moveThread.getId());
+            return moveThread;
+        };
         ThreadPoolExecutor threadPoolExecutor
-                = (ThreadPoolExecutor) Executors.newFixedThreadPool(moveThreadCount, threadFactory);
+                = (ThreadPoolExecutor) Executors.newFixedThreadPool(moveThreadCount, moveThreadFactory);
         if (threadPoolExecutor.getMaximumPoolSize() < moveThreadCount) {
             throw new IllegalStateException(
                     "The threadPoolExecutor's maximumPoolSize (" + threadPoolExecutor.getMaximumPoolSize()
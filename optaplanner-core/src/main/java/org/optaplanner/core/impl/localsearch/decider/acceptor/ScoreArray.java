@@ -0,0 +1,197 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider.acceptor;
+
+import java.util.Arrays;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.ScoreLongLevelsExtractor;
+
+/**
+ * A fixed size array of {@link Score}s, for {@link Acceptor}s that remember a history of step scores.
+ * <p>
+ * For the int and long based score types, the scores are stored as levels in a single {@code long[]}
+ * (see {@link ScoreLongLevelsExtractor}), which keeps no {@link Score} instances alive
+ * and compares without dereferencing them.
+ * Other score types are stored as a {@code Score[]}.
+ */
+public abstract class ScoreArray {
+
+    /**
+     * @param size {@code > 0}
+     * @param initialScore never null, every element starts with this score
+     * @return never null
+     */
+    public static ScoreArray build(int size, Score initialScore) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The size (" + size + ") cannot be negative or zero.");
+        }
+        ScoreLongLevelsExtractor extractor = ScoreLongLevelsExtractor.build(initialScore.getClass());
+        ScoreArray scoreArray;
+        if (extractor != null) {
+            int stride = 1 + initialScore.toLevelNumbers().length;
+            scoreArray = new LongLevelsScoreArray(size, stride, extractor);
+        } else {
+            scoreArray = new ObjectScoreArray(size);
+        }
+        scoreArray.fill(initialScore);
+        return scoreArray;
+    }
+
+    protected final int size;
+
+    protected ScoreArray(int size) {
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public abstract void fill(Score score);
+
+    /**
+     * @param index {@code 0 <= index < size}
+     * @param score never null
+     */
+    public abstract void set(int index, Score score);
+
+    /**
+     * @param fromIndex {@code 0 <= fromIndex < size}
+     * @param toIndex {@code 0 <= toIndex < size}
+     */
+    public abstract void copy(int fromIndex, int toIndex);
+
+    /**
+     * @param score never null
+     * @param index {@code 0 <= index < size}
+     * @return negative, zero or positive if the score is lower, equal or higher than the element at index
+     */
+    public abstract int compareTo(Score score, int index);
+
+    /**
+     * @param index {@code 0 <= index < size}
+     * @param otherIndex {@code 0 <= otherIndex < size}
+     * @return negative, zero or positive if the element at index is lower, equal or higher
+     * than the element at otherIndex
+     */
+    public abstract int compare(int index, int otherIndex);
+
+    private static class LongLevelsScoreArray extends ScoreArray {
+
+        private final int stride;
+        private final ScoreLongLevelsExtractor extractor;
+        private final long[] levels;
+        private final long[] scratchLevels;
+        // Acceptors often compare the same move score against several elements
+        private Score scratchScore = null;
+
+        private LongLevelsScoreArray(int size, int stride, ScoreLongLevelsExtractor extractor) {
+            super(size);
+            this.stride = stride;
+            this.extractor = extractor;
+            levels = new long[size * stride];
+            scratchLevels = new long[stride];
+        }
+
+        @Override
+        public void fill(Score score) {
+            extractor.extract(score, levels, 0);
+            for (int i = 1; i < size; i++) {
+                System.arraycopy(levels, 0, levels, i * stride, stride);
+            }
+        }
+
+        @Override
+        public void set(int index, Score score) {
+            extractor.extract(score, levels, index * stride);
+        }
+
+        @Override
+        public void copy(int fromIndex, int toIndex) {
+            System.arraycopy(levels, fromIndex * stride, levels, toIndex * stride, stride);
+        }
+
+        @Override
+        public int compareTo(Score score, int index) {
+            if (score != scratchScore) {
+                extractor.extract(score, scratchLevels, 0);
+                scratchScore = score;
+            }
+            int offset = index * stride;
+            for (int i = 0; i < stride; i++) {
+                long level = levels[offset + i];
+                if (scratchLevels[i] != level) {
+                    return scratchLevels[i] < level ? -1 : 1;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public int compare(int index, int otherIndex) {
+            int offset = index * stride;
+            int otherOffset = otherIndex * stride;
+            for (int i = 0; i < stride; i++) {
+                long level = levels[offset + i];
+                long otherLevel = levels[otherOffset + i];
+                if (level != otherLevel) {
+                    return level < otherLevel ? -1 : 1;
+                }
+            }
+            return 0;
+        }
+
+    }
+
+    private static class ObjectScoreArray extends ScoreArray {
+
+        private final Score[] scores;
+
+        private ObjectScoreArray(int size) {
+            super(size);
+            scores = new Score[size];
+        }
+
+        @Override
+        public void fill(Score score) {
+            Arrays.fill(scores, score);
+        }
+
+        @Override
+        public void set(int index, Score score) {
+            scores[index] = score;
+        }
+
+        @Override
+        public void copy(int fromIndex, int toIndex) {
+            scores[toIndex] = scores[fromIndex];
+        }
+
+        @Override
+        public int compareTo(Score score, int index) {
+            return score.compareTo(scores[index]);
+        }
+
+        @Override
+        public int compare(int index, int otherIndex) {
+            return scores[index].compareTo(scores[otherIndex]);
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.ScoreArray;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+
+/**
+ * Diversified Late Acceptance Search, as described in
+ * "Diversified Late Acceptance Search" by Majid Namazi, Conrad Sanderson, M.A. Hakim Newton, Abdul Sattar (2018).
+ * <p>
+ * A move is accepted if its score equals the last step score
+ * or if it is higher than the lowest score in the history of late scores.
+ * A late score is only replaced by a step score that is lower than it,
+ * or by a step score that is higher than both it and the previous step score.
+ */
+public class DiversifiedLateAcceptanceAcceptor extends AbstractAcceptor {
+
+    protected int lateAcceptanceSize = -1;
+
+    // The last element (at index lateAcceptanceSize) holds the lowest score of the others
+    protected ScoreArray previousScores;
+    protected int lateScoreIndex = -1;
+    protected int lowestScoreCount = -1;
+
+    public void setLateAcceptanceSize(int lateAcceptanceSize) {
+        this.lateAcceptanceSize = lateAcceptanceSize;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope phaseScope) {
+        super.phaseStarted(phaseScope);
+        validate();
+        previousScores = ScoreArray.build(lateAcceptanceSize + 1, phaseScope.getBestScore());
+        lateScoreIndex = 0;
+        lowestScoreCount = lateAcceptanceSize;
+    }
+
+    private void validate() {
+        if (lateAcceptanceSize <= 0) {
+            throw new IllegalArgumentException("The lateAcceptanceSize (" + lateAcceptanceSize
+                    + ") cannot be negative or zero.");
+        }
+    }
+
+    @Override
+    public boolean isAccepted(LocalSearchMoveScope moveScope) {
+        Score moveScore = moveScope.getScore();
+        Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
+        if (moveScore.compareTo(lastStepScore) == 0) {
+            return true;
+        }
+        return previousScores.compareTo(moveScore, lateAcceptanceSize) > 0;
+    }
+
+    @Override
+    public void stepEnded(LocalSearchStepScope stepScope) {
+        super.stepEnded(stepScope);
+        Score stepScore = stepScope.getScore();
+        int lateComparison = previousScores.compareTo(stepScore, lateScoreIndex);
+        if (lateComparison < 0) {
+            replaceLateScore(stepScore);
+        } else if (lateComparison > 0) {
+            Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+            if (stepScore.compareTo(lastStepScore) > 0) {
+                replaceLateScore(stepScore);
+            }
+        }
+        lateScoreIndex = (lateScoreIndex + 1) % lateAcceptanceSize;
+    }
+
+    private void replaceLateScore(Score stepScore) {
+        if (previousScores.compare(lateScoreIndex, lateAcceptanceSize) == 0) {
+            lowestScoreCount--;
+        }
+        previousScores.set(lateScoreIndex, stepScore);
+        int lowestComparison = previousScores.compare(lateScoreIndex, lateAcceptanceSize);
+        if (lowestComparison < 0) {
+            previousScores.copy(lateScoreIndex, lateAcceptanceSize);
+            lowestScoreCount = 1;
+        } else if (lowestComparison == 0) {
+            lowestScoreCount++;
+        } else if (lowestScoreCount == 0) {
+            recalculateLowestScore();
+        }
+    }
+
+    private void recalculateLowestScore() {
+        previousScores.copy(0, lateAcceptanceSize);
+        lowestScoreCount = 1;
+        for (int i = 1; i < lateAcceptanceSize; i++) {
+            int comparison = previousScores.compare(i, lateAcceptanceSize);
+            if (comparison < 0) {
+                previousScores.copy(i, lateAcceptanceSize);
+                lowestScoreCount = 1;
+            } else if (comparison == 0) {
+                lowestScoreCount++;
+            }
+        }
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope phaseScope) {
+        super.phaseEnded(phaseScope);
+        previousScores = null;
+        lateScoreIndex = -1;
+        lowestScoreCount = -1;
+    }
+
+}
@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.ScoreArray;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -27,7 +28,7 @@ public class LateAcceptanceAcceptor extends AbstractAcceptor {
     protected int lateAcceptanceSize = -1;
     protected boolean hillClimbingEnabled = true;
 
-    protected Score[] previousScores;
+    protected ScoreArray previousScores;
     protected int lateScoreIndex = -1;
 
     public void setLateAcceptanceSize(int lateAcceptanceSize) {
@@ -46,11 +47,7 @@ public class LateAcceptanceAcceptor extends AbstractAcceptor {
     public void phaseStarted(LocalSearchPhaseScope phaseScope) {
         super.phaseStarted(phaseScope);
         validate();
-        previousScores = new Score[lateAcceptanceSize];
-        Score initialScore = phaseScope.getBestScore();
-        for (int i = 0; i < previousScores.length; i++) {
-            previousScores[i] = initialScore;
-        }
+        previousScores = ScoreArray.build(lateAcceptanceSize, phaseScope.getBestScore());
         lateScoreIndex = 0;
     }
 
@@ -64,8 +61,7 @@ public class LateAcceptanceAcceptor extends AbstractAcceptor {
     @Override
     public boolean isAccepted(LocalSearchMoveScope moveScope) {
         Score moveScore = moveScope.getScore();
-        Score lateScore = previousScores[lateScoreIndex];
-        if (moveScore.compareTo(lateScore) >= 0) {
+        if (previousScores.compareTo(moveScore, lateScoreIndex) >= 0) {
             return true;
         }
         if (hillClimbingEnabled) {
@@ -80,7 +76,7 @@ public class LateAcceptanceAcceptor extends AbstractAcceptor {
     @Override
     public void stepEnded(LocalSearchStepScope stepScope) {
         super.stepEnded(stepScope);
-        previousScores[lateScoreIndex] = stepScope.getScore();
+        previousScores.set(lateScoreIndex, stepScope.getScore());
         lateScoreIndex = (lateScoreIndex + 1) % lateAcceptanceSize;
     }
 
@@ -21,10 +21,16 @@ import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.ScoreLevelDoublesSubtractor;
 import org.optaplanner.core.impl.score.ScoreUtils;
 
 /**
  * The time gradient implementation of simulated annealing.
+ * <p>
+ * A worse move is accepted if {@code random < exp(-sum(moveScoreDifferenceLevel / temperatureLevel))},
+ * which is evaluated as the equivalent {@code -ln(random) > sum(moveScoreDifferenceLevel / temperatureLevel)}:
+ * so it consumes the same random numbers and accepts the same moves as the product of an {@code exp} per level,
+ * but without creating a {@link Score}, an array or an {@code exp} per level for every move.
  */
 public class SimulatedAnnealingAcceptor extends AbstractAcceptor {
 
@@ -37,6 +43,10 @@ public class SimulatedAnnealingAcceptor extends AbstractAcceptor {
 
     protected double temperatureMinimum = 1.0E-100; // Double.MIN_NORMAL is E-308
 
+    protected ScoreLevelDoublesSubtractor scoreLevelDoublesSubtractor;
+    // Reused for every move to avoid allocation
+    protected double[] moveScoreDifferenceLevels;
+
     public void setStartingTemperature(Score startingTemperature) {
         this.startingTemperature = startingTemperature;
     }
@@ -55,8 +65,10 @@ public class SimulatedAnnealingAcceptor extends AbstractAcceptor {
             }
         }
         startingTemperatureLevels = ScoreUtils.extractLevelDoubles(startingTemperature);
-        temperatureLevels = startingTemperatureLevels;
+        temperatureLevels = startingTemperatureLevels.clone();
         levelsLength = startingTemperatureLevels.length;
+        scoreLevelDoublesSubtractor = ScoreLevelDoublesSubtractor.build(startingTemperature.getClass());
+        moveScoreDifferenceLevels = new double[levelsLength];
     }
 
     @Override
@@ -65,6 +77,8 @@ public class SimulatedAnnealingAcceptor extends AbstractAcceptor {
         startingTemperatureLevels = null;
         temperatureLevels = null;
         levelsLength = -1;
+        scoreLevelDoublesSubtractor = null;
+        moveScoreDifferenceLevels = null;
     }
 
     @Override
@@ -75,34 +89,26 @@ public class SimulatedAnnealingAcceptor extends AbstractAcceptor {
         if (moveScore.compareTo(lastStepScore) >= 0) {
             return true;
         }
-        Score moveScoreDifference = lastStepScore.subtract(moveScore);
-        double[] moveScoreDifferenceLevels = ScoreUtils.extractLevelDoubles(moveScoreDifference);
-        double acceptChance = 1.0;
+        scoreLevelDoublesSubtractor.subtract(lastStepScore, moveScore, moveScoreDifferenceLevels);
+        double acceptThreshold = 0.0;
         for (int i = 0; i < levelsLength; i++) {
             double moveScoreDifferenceLevel = moveScoreDifferenceLevels[i];
-            double temperatureLevel = temperatureLevels[i];
-            double acceptChanceLevel;
-            if (moveScoreDifferenceLevel <= 0.0) {
-                // In this level, moveScore is better than the lastStepScore, so do not disrupt the acceptChance
-                acceptChanceLevel = 1.0;
-            } else {
-                acceptChanceLevel = Math.exp(-moveScoreDifferenceLevel / temperatureLevel);
+            // In a level where moveScore is better than the lastStepScore, do not disrupt the acceptChance
+            if (moveScoreDifferenceLevel > 0.0) {
+                acceptThreshold += moveScoreDifferenceLevel / temperatureLevels[i];
             }
-            acceptChance *= acceptChanceLevel;
-        }
-        if (moveScope.getWorkingRandom().nextDouble() < acceptChance) {
-            return true;
-        } else {
-            return false;
         }
+        double random = moveScope.getWorkingRandom().nextDouble();
+        // Equivalent to random < exp(-acceptThreshold)
+        return -Math.log(random) > acceptThreshold;
     }
 
     @Override
     public void stepStarted(LocalSearchStepScope stepScope) {
-        super.stepEnded(stepScope);
+        super.stepStarted(stepScope);
         double timeGradient = stepScope.getTimeGradient();
         double reverseTimeGradient = 1.0 - timeGradient;
-        temperatureLevels = new double[levelsLength];
+        // The temperature only changes per step, not per move
         for (int i = 0; i < levelsLength; i++) {
             temperatureLevels[i] = startingTemperatureLevels[i] * reverseTimeGradient;
             if (temperatureLevels[i] < temperatureMinimum) {
@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.localsearch.decider.acceptor.stepcountinghillc
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.config.localsearch.decider.acceptor.stepcountinghillclimbing.StepCountingHillClimbingType;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.ScoreArray;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -28,7 +29,7 @@ public class StepCountingHillClimbingAcceptor extends AbstractAcceptor {
     protected int stepCountingHillClimbingSize = -1;
     protected StepCountingHillClimbingType stepCountingHillClimbingType;
 
-    protected Score thresholdScore;
+    protected ScoreArray thresholdScore;
     protected int count = -1;
 
     public StepCountingHillClimbingAcceptor(int stepCountingHillClimbingSize,
@@ -52,7 +53,7 @@ public class StepCountingHillClimbingAcceptor extends AbstractAcceptor {
     @Override
     public void phaseStarted(LocalSearchPhaseScope phaseScope) {
         super.phaseStarted(phaseScope);
-        thresholdScore = phaseScope.getBestScore();
+        thresholdScore = ScoreArray.build(1, phaseScope.getBestScore());
         count = 0;
     }
 
@@ -63,7 +64,7 @@ public class StepCountingHillClimbingAcceptor extends AbstractAcceptor {
         if (moveScore.compareTo(lastStepScore) >= 0) {
             return true;
         }
-        return moveScore.compareTo(thresholdScore) >= 0;
+        return thresholdScore.compareTo(moveScore, 0) >= 0;
     }
 
     @Override
@@ -71,7 +72,7 @@ public class StepCountingHillClimbingAcceptor extends AbstractAcceptor {
         super.stepEnded(stepScope);
         count += determineCountIncrement(stepScope);
         if (count >= stepCountingHillClimbingSize) {
-            thresholdScore = stepScope.getScore();
+            thresholdScore.set(0, stepScope.getScore());
             count = 0;
         }
     }
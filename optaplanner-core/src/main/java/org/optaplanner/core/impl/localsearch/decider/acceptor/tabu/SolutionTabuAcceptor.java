@@ -22,7 +22,14 @@ import java.util.Collections;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
 
+/**
+ * Makes earlier states of the working solution tabu.
+ * <p>
+ * A state is identified by {@link ScoreDirector#getWorkingSolutionHash()},
+ * so it doesn't need to clone the solution nor rely on its {@code equals()} and {@code hashCode()} methods.
+ */
 public class SolutionTabuAcceptor extends AbstractTabuAcceptor {
 
     public SolutionTabuAcceptor(String logIndentation) {
@@ -37,20 +44,20 @@ public class SolutionTabuAcceptor extends AbstractTabuAcceptor {
 
     @Override
     protected Collection<? extends Object> findTabu(LocalSearchMoveScope moveScope) {
-        return Collections.singletonList(moveScope.getWorkingSolution());
+        return Collections.singletonList(moveScope.getScoreDirector().getWorkingSolutionHash());
     }
 
     @Override
     protected Collection<? extends Object> findNewTabu(LocalSearchStepScope stepScope) {
-        // TODO this should be better done in stepEnded
-        return Collections.singletonList(stepScope.createOrGetClonedSolution());
+        // The step has already been done
+        return Collections.singletonList(stepScope.getScoreDirector().getWorkingSolutionHash());
     }
 
     @Override
     public void phaseStarted(LocalSearchPhaseScope phaseScope) {
         super.phaseStarted(phaseScope);
         // Add the starting solution to the tabu list
-        Object tabu = phaseScope.getScoreDirector().cloneWorkingSolution();
+        Object tabu = phaseScope.getScoreDirector().getWorkingSolutionHash();
         tabuToStepIndexMap.put(tabu, 0); // TODO should -1 when AbstractTabuAcceptor can handle that
         tabuSequenceDeque.add(tabu);
     }
@@ -91,6 +91,7 @@ public class AcceptedLocalSearchForager extends AbstractLocalSearchForager {
         selectedMoveCount++;
         if (moveScope.getAccepted()) {
             acceptedMoveCount++;
+            moveScope.getStepScope().addAcceptedMoveIndex(moveScope.getMoveIndex());
             checkPickEarly(moveScope);
         }
         finalistPodium.addMove(moveScope);
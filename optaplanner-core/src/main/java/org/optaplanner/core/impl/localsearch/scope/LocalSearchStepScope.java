@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.localsearch.scope;
 
+import java.util.BitSet;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
@@ -29,10 +31,12 @@ public class LocalSearchStepScope<Solution_> extends AbstractStepScope<Solution_
 
     private double timeGradient = Double.NaN;
     private Move<Solution_> step = null;
+    private Integer stepMoveIndex = null;
     private String stepString = null;
     private Move<Solution_> undoStep = null;
     private Long selectedMoveCount = null;
     private Long acceptedMoveCount = null;
+    private final BitSet acceptedMoveIndexSet = new BitSet();
 
     public LocalSearchStepScope(LocalSearchPhaseScope<Solution_> phaseScope) {
         this(phaseScope, phaseScope.getNextStepIndex());
@@ -64,6 +68,18 @@ public class LocalSearchStepScope<Solution_> extends AbstractStepScope<Solution_
         this.step = step;
     }
 
+    /**
+     * @return null if there is no {@link #getStep() step},
+     * otherwise the {@link LocalSearchMoveScope#getMoveIndex() moveIndex} of the step
+     */
+    public Integer getStepMoveIndex() {
+        return stepMoveIndex;
+    }
+
+    public void setStepMoveIndex(Integer stepMoveIndex) {
+        this.stepMoveIndex = stepMoveIndex;
+    }
+
     /**
      * @return null if logging level is to high
      */
@@ -99,6 +115,22 @@ public class LocalSearchStepScope<Solution_> extends AbstractStepScope<Solution_
         this.acceptedMoveCount = acceptedMoveCount;
     }
 
+    /**
+     * @param moveIndex {@code >= 0}, the {@link LocalSearchMoveScope#getMoveIndex() moveIndex} of an accepted move
+     */
+    public void addAcceptedMoveIndex(int moveIndex) {
+        acceptedMoveIndexSet.set(moveIndex);
+    }
+
+    /**
+     * @param moveIndex {@code >= 0}
+     * @return true if the move with that {@link LocalSearchMoveScope#getMoveIndex() moveIndex}
+     * was accepted in this step
+     */
+    public boolean isMoveIndexAccepted(int moveIndex) {
+        return acceptedMoveIndexSet.get(moveIndex);
+    }
+
     // ************************************************************************
     // Calculated methods
     // ************************************************************************
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
+import org.optaplanner.core.api.score.buildin.bendablelong.BendableLongScore;
+import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
+import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdouble.HardSoftDoubleScore;
+import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.buildin.simpledouble.SimpleDoubleScore;
+import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
+
+/**
+ * Calculates {@code minuend.subtract(subtrahend)} as level doubles (see {@link ScoreUtils#extractLevelDoubles(Score)})
+ * without creating a {@link Score} or an array, for the hot loops that evaluate every move.
+ * <p>
+ * The built-in score types subtract their primitive levels directly, with the same arithmetic as
+ * {@link Score#subtract(Score)}. Other score types fall back to {@link Score#subtract(Score)}.
+ */
+@FunctionalInterface
+public interface ScoreLevelDoublesSubtractor {
+
+    /**
+     * @param scoreClass never null
+     * @return never null
+     */
+    static ScoreLevelDoublesSubtractor build(Class<? extends Score> scoreClass) {
+        if (scoreClass == SimpleScore.class) {
+            return (minuend, subtrahend, resultLevelDoubles) -> resultLevelDoubles[0]
+                    = ((SimpleScore) minuend).getScore() - ((SimpleScore) subtrahend).getScore();
+        } else if (scoreClass == SimpleLongScore.class) {
+            return (minuend, subtrahend, resultLevelDoubles) -> resultLevelDoubles[0]
+                    = ((SimpleLongScore) minuend).getScore() - ((SimpleLongScore) subtrahend).getScore();
+        } else if (scoreClass == SimpleDoubleScore.class) {
+            return (minuend, subtrahend, resultLevelDoubles) -> resultLevelDoubles[0]
+                    = ((SimpleDoubleScore) minuend).getScore() - ((SimpleDoubleScore) subtrahend).getScore();
+        } else if (scoreClass == HardSoftScore.class) {
+            return (minuend, subtrahend, resultLevelDoubles) -> {
+                HardSoftScore m = (HardSoftScore) minuend;
+                HardSoftScore s = (HardSoftScore) subtrahend;
+                resultLevelDoubles[0] = m.getHardScore() - s.getHardScore();
+                resultLevelDoubles[1] = m.getSoftScore() - s.getSoftScore();
+            };
+        } else if (scoreClass == HardSoftLongScore.class) {
+            return (minuend, subtrahend, resultLevelDoubles) -> {
+                HardSoftLongScore m = (HardSoftLongScore) minuend;
+                HardSoftLongScore s = (HardSoftLongScore) subtrahend;
+                resultLevelDoubles[0] = m.getHardScore() - s.getHardScore();
+                resultLevelDoubles[1] = m.getSoftScore() - s.getSoftScore();
+            };
+        } else if (scoreClass == HardSoftDoubleScore.class) {
+            return (minuend, subtrahend, resultLevelDoubles) -> {
+                HardSoftDoubleScore m = (HardSoftDoubleScore) minuend;
+                HardSoftDoubleScore s = (HardSoftDoubleScore) subtrahend;
+                resultLevelDoubles[0] = m.getHardScore() - s.getHardScore();
+                resultLevelDoubles[1] = m.getSoftScore() - s.getSoftScore();
+            };
+        } else if (scoreClass == HardMediumSoftScore.class) {
+            return (minuend, subtrahend, resultLevelDoubles) -> {
+                HardMediumSoftScore m = (HardMediumSoftScore) minuend;
+                HardMediumSoftScore s = (HardMediumSoftScore) subtrahend;
+                resultLevelDoubles[0] = m.getHardScore() - s.getHardScore();
+                resultLevelDoubles[1] = m.getMediumScore() - s.getMediumScore();
+                resultLevelDoubles[2] = m.getSoftScore() - s.getSoftScore();
+            };
+        } else if (scoreClass == HardMediumSoftLongScore.class) {
+            return (minuend, subtrahend, resultLevelDoubles) -> {
+                HardMediumSoftLongScore m = (HardMediumSoftLongScore) minuend;
+                HardMediumSoftLongScore s = (HardMediumSoftLongScore) subtrahend;
+                resultLevelDoubles[0] = m.getHardScore() - s.getHardScore();
+                resultLevelDoubles[1] = m.getMediumScore() - s.getMediumScore();
+                resultLevelDoubles[2] = m.getSoftScore() - s.getSoftScore();
+            };
+        } else if (scoreClass == BendableScore.class) {
+            return (minuend, subtrahend, resultLevelDoubles) -> {
+                BendableScore m = (BendableScore) minuend;
+                BendableScore s = (BendableScore) subtrahend;
+                for (int i = 0; i < resultLevelDoubles.length; i++) {
+                    resultLevelDoubles[i] = m.getHardOrSoftScore(i) - s.getHardOrSoftScore(i);
+                }
+            };
+        } else if (scoreClass == BendableLongScore.class) {
+            return (minuend, subtrahend, resultLevelDoubles) -> {
+                BendableLongScore m = (BendableLongScore) minuend;
+                BendableLongScore s = (BendableLongScore) subtrahend;
+                for (int i = 0; i < resultLevelDoubles.length; i++) {
+                    resultLevelDoubles[i] = m.getHardOrSoftScore(i) - s.getHardOrSoftScore(i);
+                }
+            };
+        } else {
+            // For example the BigDecimal based scores, which allocate during subtraction anyway
+            return (minuend, subtrahend, resultLevelDoubles) -> {
+                Number[] levelNumbers = minuend.subtract(subtrahend).toLevelNumbers();
+                for (int i = 0; i < resultLevelDoubles.length; i++) {
+                    resultLevelDoubles[i] = levelNumbers[i].doubleValue();
+                }
+            };
+        }
+    }
+
+    /**
+     * @param minuend never null
+     * @param subtrahend never null, of the same type as the minuend
+     * @param resultLevelDoubles never null, its length is the number of levels, overwritten
+     */
+    void subtract(Score minuend, Score subtrahend, double[] resultLevelDoubles);
+
+}
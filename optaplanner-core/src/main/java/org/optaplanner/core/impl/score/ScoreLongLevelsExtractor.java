@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
+import org.optaplanner.core.api.score.buildin.bendablelong.BendableLongScore;
+import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
+import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
+
+/**
+ * Copies the {@link Score#getInitScore() init score} and the levels of an int or long based {@link Score}
+ * into a {@code long[]}, so a sequence of scores can be stored and compared without keeping {@link Score} instances.
+ * <p>
+ * Comparing 2 extracted scores lexicographically gives the same result as {@link Score#compareTo(Object)}.
+ */
+@FunctionalInterface
+public interface ScoreLongLevelsExtractor {
+
+    /**
+     * @param scoreClass never null
+     * @return null if the score type isn't backed by int or long levels (for example a double or BigDecimal score)
+     */
+    static ScoreLongLevelsExtractor build(Class<? extends Score> scoreClass) {
+        if (scoreClass == SimpleScore.class) {
+            return (score, target, offset) -> {
+                SimpleScore s = (SimpleScore) score;
+                target[offset] = s.getInitScore();
+                target[offset + 1] = s.getScore();
+            };
+        } else if (scoreClass == SimpleLongScore.class) {
+            return (score, target, offset) -> {
+                SimpleLongScore s = (SimpleLongScore) score;
+                target[offset] = s.getInitScore();
+                target[offset + 1] = s.getScore();
+            };
+        } else if (scoreClass == HardSoftScore.class) {
+            return (score, target, offset) -> {
+                HardSoftScore s = (HardSoftScore) score;
+                target[offset] = s.getInitScore();
+                target[offset + 1] = s.getHardScore();
+                target[offset + 2] = s.getSoftScore();
+            };
+        } else if (scoreClass == HardSoftLongScore.class) {
+            return (score, target, offset) -> {
+                HardSoftLongScore s = (HardSoftLongScore) score;
+                target[offset] = s.getInitScore();
+                target[offset + 1] = s.getHardScore();
+                target[offset + 2] = s.getSoftScore();
+            };
+        } else if (scoreClass == HardMediumSoftScore.class) {
+            return (score, target, offset) -> {
+                HardMediumSoftScore s = (HardMediumSoftScore) score;
+                target[offset] = s.getInitScore();
+                target[offset + 1] = s.getHardScore();
+                target[offset + 2] = s.getMediumScore();
+                target[offset + 3] = s.getSoftScore();
+            };
+        } else if (scoreClass == HardMediumSoftLongScore.class) {
+            return (score, target, offset) -> {
+                HardMediumSoftLongScore s = (HardMediumSoftLongScore) score;
+                target[offset] = s.getInitScore();
+                target[offset + 1] = s.getHardScore();
+                target[offset + 2] = s.getMediumScore();
+                target[offset + 3] = s.getSoftScore();
+            };
+        } else if (scoreClass == BendableScore.class) {
+            return (score, target, offset) -> {
+                BendableScore s = (BendableScore) score;
+                target[offset] = s.getInitScore();
+                int levelsSize = s.getLevelsSize();
+                for (int i = 0; i < levelsSize; i++) {
+                    target[offset + 1 + i] = s.getHardOrSoftScore(i);
+                }
+            };
+        } else if (scoreClass == BendableLongScore.class) {
+            return (score, target, offset) -> {
+                BendableLongScore s = (BendableLongScore) score;
+                target[offset] = s.getInitScore();
+                int levelsSize = s.getLevelsSize();
+                for (int i = 0; i < levelsSize; i++) {
+                    target[offset + 1 + i] = s.getHardOrSoftScore(i);
+                }
+            };
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * @param score never null
+     * @param target never null, at least {@code offset + 1 + score.toLevelNumbers().length} long
+     * @param offset {@code >= 0}, the init score is written there, the levels right after it
+     */
+    void extract(Score score, long[] target, int offset);
+
+}
@@ -76,6 +76,7 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
     protected Solution_ workingSolution;
     protected long workingEntityListRevision = 0L;
     protected Integer workingInitScore = null;
+    protected ZobristSolutionHash<Solution_> workingSolutionHash = null;
 
     protected boolean allChangesWillBeUndoneBeforeStepEnds = false;
 
@@ -154,6 +155,19 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         return variableListenerSupport;
     }
 
+    @Override
+    public long getWorkingSolutionHash() {
+        if (workingSolutionHash == null) {
+            if (workingSolution == null) {
+                throw new IllegalStateException("The workingSolution must be set"
+                        + " before the workingSolutionHash can be requested.");
+            }
+            workingSolutionHash = new ZobristSolutionHash<>(getSolutionDescriptor());
+            workingSolutionHash.resetWorkingSolution(workingSolution);
+        }
+        return workingSolutionHash.getHash();
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -167,9 +181,20 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
             lookUpManager.resetWorkingObjects(solutionDescriptor.getAllFacts(workingSolution));
         }
         variableListenerSupport.resetWorkingSolution();
+        if (workingSolutionHash != null) {
+            // Do not reuse the keys of the previous working solution's entities and values
+            workingSolutionHash = new ZobristSolutionHash<>(solutionDescriptor);
+            workingSolutionHash.resetWorkingSolution(workingSolution);
+        }
         setWorkingEntityListDirty();
     }
 
+    protected void resetWorkingSolutionHash() {
+        if (workingSolutionHash != null) {
+            workingSolutionHash.resetWorkingSolution(workingSolution);
+        }
+    }
+
     @Override
     public Score doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch) {
         Move<Solution_> undoMove = move.doMove(this);
@@ -352,6 +377,7 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
     public void close() {
         workingSolution = null;
         workingInitScore = null;
+        workingSolutionHash = null;
         if (lookUpEnabled) {
             lookUpManager.clearWorkingObjects();
         }
@@ -405,6 +431,9 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         if (lookUpEnabled) {
             lookUpManager.addWorkingObject(entity);
         }
+        if (workingSolutionHash != null) {
+            workingSolutionHash.afterEntityAdded(entityDescriptor, entity);
+        }
         variableListenerSupport.afterEntityAdded(entityDescriptor, entity);
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             setWorkingEntityListDirty();
@@ -416,6 +445,9 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         if (variableDescriptor.isGenuineAndUninitialized(entity)) {
             workingInitScore++;
         }
+        if (workingSolutionHash != null) {
+            workingSolutionHash.beforeVariableChanged(variableDescriptor, entity);
+        }
         variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
     }
 
@@ -424,6 +456,9 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
         if (variableDescriptor.isGenuineAndUninitialized(entity)) {
             workingInitScore--;
         }
+        if (workingSolutionHash != null) {
+            workingSolutionHash.afterVariableChanged(variableDescriptor, entity);
+        }
         variableListenerSupport.afterVariableChanged(variableDescriptor, entity);
     }
 
@@ -436,6 +471,9 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
 
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         workingInitScore += entityDescriptor.countUninitializedVariables(entity);
+        if (workingSolutionHash != null) {
+            workingSolutionHash.beforeEntityRemoved(entityDescriptor, entity);
+        }
         variableListenerSupport.beforeEntityRemoved(entityDescriptor, entity);
     }
 
@@ -464,6 +502,9 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
             lookUpManager.addWorkingObject(problemFact);
         }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke it
+        resetWorkingSolutionHash();
+        // The movable entities might have changed too, if the movableEntitySelectionFilter depends on that fact
+        setWorkingEntityListDirty();
     }
 
     @Override
@@ -474,6 +515,9 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke it
+        resetWorkingSolutionHash();
+        // The movable entities might have changed too, for example if an entity got pinned
+        setWorkingEntityListDirty();
     }
 
     @Override
@@ -487,6 +531,9 @@ public abstract class AbstractScoreDirector<Solution_, Factory_ extends Abstract
             lookUpManager.removeWorkingObject(problemFact);
         }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke it
+        resetWorkingSolutionHash();
+        // The movable entities might have changed too, if the movableEntitySelectionFilter depends on that fact
+        setWorkingEntityListDirty();
     }
 
     @Override
@@ -89,6 +89,20 @@ public abstract class AbstractScoreDirectorFactory<Solution_> implements InnerSc
         return buildScoreDirector(true, true);
     }
 
+    @Override
+    public ScoreExplanation explainScore(Solution_ solution) {
+        try (InnerScoreDirector<Solution_> scoreDirector = buildScoreDirector(false, true)) {
+            scoreDirector.setWorkingSolution(solution);
+            Score score = scoreDirector.calculateScore();
+            if (!scoreDirector.isConstraintMatchEnabled()) {
+                throw new IllegalStateException("The scoreDirector (" + scoreDirector.getClass().getSimpleName()
+                        + ") does not support constraint matches, so it cannot explain the score (" + score + ").");
+            }
+            return ScoreExplanation.build(score, scoreDirector.getConstraintMatchTotals(),
+                    scoreDirector.getIndictmentMap());
+        }
+    }
+
     @Override
     public void assertScoreFromScratch(Solution_ solution) {
         // Get the score before uncorruptedScoreDirector.calculateScore() modifies it
@@ -104,4 +118,11 @@ public abstract class AbstractScoreDirectorFactory<Solution_> implements InnerSc
         }
     }
 
+    @Override
+    public void disposeIdleResources() {
+        if (assertionScoreDirectorFactory != null) {
+            assertionScoreDirectorFactory.disposeIdleResources();
+        }
+    }
+
 }
@@ -61,7 +61,9 @@ public interface InnerScoreDirector<Solution_> extends ScoreDirector<Solution_>
 
     /**
      * @param expectedWorkingEntityListRevision an
-     * @return true if the entityList might have a different set of instances now
+     * @return true if the entityList might have a different set of instances now,
+     * or if a problem fact was added or removed
+     * or if a problem property (such as a {@link org.optaplanner.core.api.domain.entity.PlanningPin}) changed
      */
     boolean isWorkingEntityListDirty(long expectedWorkingEntityListRevision);
 
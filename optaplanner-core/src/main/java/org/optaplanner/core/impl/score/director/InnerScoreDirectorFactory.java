@@ -67,4 +67,12 @@ public interface InnerScoreDirectorFactory<Solution_> extends ScoreDirectorFacto
      */
     void assertScoreFromScratch(Solution_ solution);
 
+    /**
+     * Disposes the resources kept for reuse by the next {@link ScoreDirector}s,
+     * such as pooled {@link org.kie.api.runtime.KieSession}s.
+     * Called when the {@link org.optaplanner.core.api.solver.Solver} is done solving.
+     * The factory remains usable afterwards.
+     */
+    void disposeIdleResources();
+
 }
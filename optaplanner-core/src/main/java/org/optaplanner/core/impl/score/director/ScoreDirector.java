@@ -124,6 +124,23 @@ public interface ScoreDirector<Solution_> extends AutoCloseable {
      */
     String explainScore();
 
+    /**
+     * Returns a 64-bit hash of the genuine planning variables of the {@link PlanningSolution working solution},
+     * to cheaply detect that the working solution returns to an earlier state,
+     * for example in a custom phase.
+     * It's maintained incrementally in O(1) per variable change, so it's cheap to call after every change.
+     * The first call enables it, so a {@link ScoreDirector} that never calls this method doesn't pay for it.
+     * <p>
+     * The same state of the same working solution instance always has the same hash,
+     * also after a {@link ProblemFactChange}.
+     * Two different states have the same hash with a negligible chance (about 1 in 2^64).
+     * Hashes of different working solution instances (such as clones) are not comparable.
+     * @return the hash of the current state of the genuine variables of the working solution
+     * @throws IllegalStateException if there is no working solution
+     * @see ZobristSolutionHash
+     */
+    long getWorkingSolutionHash();
+
     void beforeEntityAdded(Object entity);
 
     void afterEntityAdded(Object entity);
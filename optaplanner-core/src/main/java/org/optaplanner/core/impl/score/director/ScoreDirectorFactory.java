@@ -17,6 +17,10 @@
 package org.optaplanner.core.impl.score.director;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
 
 /**
  * Builds a {@link ScoreDirector}.
@@ -30,4 +34,15 @@ public interface ScoreDirectorFactory<Solution_> {
      */
     ScoreDirector<Solution_> buildScoreDirector();
 
+    /**
+     * Calculates the {@link Score} of a solution once from scratch, on a new {@link ScoreDirector}
+     * with {@link ConstraintMatch} tracking, and sorts its {@link ConstraintMatchTotal}s and {@link Indictment}s.
+     * This way, the {@link ScoreDirector} used while solving doesn't need {@link ConstraintMatch} tracking
+     * to explain the score afterwards, for example in a UI.
+     * @param solution never null, its score is overwritten with the calculated score
+     * @return never null
+     * @throws IllegalStateException if the {@link ScoreDirector} does not support {@link ConstraintMatch}es
+     */
+    ScoreExplanation explainScore(Solution_ solution);
+
 }
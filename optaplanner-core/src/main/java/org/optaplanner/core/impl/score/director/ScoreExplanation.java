@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotalScoreComparator;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.api.score.constraint.IndictmentScoreComparator;
+
+/**
+ * An immutable explanation of a {@link Score}, calculated once from scratch,
+ * with the {@link ConstraintMatchTotal}s and the {@link Indictment}s sorted from the heaviest (most negative) score.
+ * Use the page methods to show the top N of each in a UI.
+ * <p>
+ * The {@link Indictment}s are those that the score director indexed while calculating the score,
+ * this class only sorts them.
+ * @see ScoreDirectorFactory#explainScore(Object)
+ */
+public class ScoreExplanation {
+
+    /**
+     * @param score never null
+     * @param constraintMatchTotals never null
+     * @param indictmentMap never null, copied
+     * @return never null
+     */
+    public static ScoreExplanation build(Score score, Collection<ConstraintMatchTotal> constraintMatchTotals,
+            Map<Object, Indictment> indictmentMap) {
+        ConstraintMatchTotal[] constraintMatchTotalArray = constraintMatchTotals.toArray(
+                new ConstraintMatchTotal[0]);
+        Arrays.sort(constraintMatchTotalArray, new ConstraintMatchTotalScoreComparator());
+        Indictment[] indictmentArray = indictmentMap.values().toArray(new Indictment[0]);
+        Arrays.sort(indictmentArray, new IndictmentScoreComparator());
+        return new ScoreExplanation(score, Arrays.asList(constraintMatchTotalArray),
+                new LinkedHashMap<>(indictmentMap), Arrays.asList(indictmentArray));
+    }
+
+    private final Score score;
+    private final List<ConstraintMatchTotal> constraintMatchTotalList;
+    private final Map<Object, Indictment> indictmentMap;
+    private final List<Indictment> indictmentList;
+
+    protected ScoreExplanation(Score score, List<ConstraintMatchTotal> constraintMatchTotalList,
+            Map<Object, Indictment> indictmentMap, List<Indictment> indictmentList) {
+        this.score = score;
+        this.constraintMatchTotalList = Collections.unmodifiableList(constraintMatchTotalList);
+        this.indictmentMap = Collections.unmodifiableMap(indictmentMap);
+        this.indictmentList = Collections.unmodifiableList(indictmentList);
+    }
+
+    /**
+     * @return never null
+     */
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * @return never null, sorted from the heaviest score
+     */
+    public List<ConstraintMatchTotal> getConstraintMatchTotalList() {
+        return constraintMatchTotalList;
+    }
+
+    /**
+     * @param pageIndex {@code >= 0}
+     * @param pageSize {@code >= 1}
+     * @return never null, empty if the pageIndex is beyond the last page
+     */
+    public List<ConstraintMatchTotal> getConstraintMatchTotalPage(int pageIndex, int pageSize) {
+        return page(constraintMatchTotalList, pageIndex, pageSize);
+    }
+
+    /**
+     * @return never null, the justification of each {@link Indictment} as key
+     */
+    public Map<Object, Indictment> getIndictmentMap() {
+        return indictmentMap;
+    }
+
+    /**
+     * @return never null, sorted from the heaviest score
+     */
+    public List<Indictment> getIndictmentList() {
+        return indictmentList;
+    }
+
+    /**
+     * @param pageIndex {@code >= 0}
+     * @param pageSize {@code >= 1}
+     * @return never null, empty if the pageIndex is beyond the last page
+     */
+    public List<Indictment> getIndictmentPage(int pageIndex, int pageSize) {
+        return page(indictmentList, pageIndex, pageSize);
+    }
+
+    private static <T> List<T> page(List<T> list, int pageIndex, int pageSize) {
+        if (pageIndex < 0) {
+            throw new IllegalArgumentException("The pageIndex (" + pageIndex + ") cannot be negative.");
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The pageSize (" + pageSize + ") must be at least 1.");
+        }
+        long fromIndex = (long) pageIndex * pageSize;
+        if (fromIndex >= list.size()) {
+            return Collections.emptyList();
+        }
+        return list.subList((int) fromIndex, (int) Math.min(fromIndex + pageSize, list.size()));
+    }
+
+    @Override
+    public String toString() {
+        return "Explanation of score (" + score + ") with " + constraintMatchTotalList.size()
+                + " constraints and " + indictmentList.size() + " indictments";
+    }
+
+}
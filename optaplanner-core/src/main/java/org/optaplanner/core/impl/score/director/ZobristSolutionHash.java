@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+
+/**
+ * A 64-bit Zobrist hash of the genuine planning variables of a working solution,
+ * maintained incrementally in O(1) per variable change.
+ * <p>
+ * Every (entity, variable, value) combination gets a pseudo random key
+ * and the hash is the XOR of the keys of the current value of every genuine variable of every entity.
+ * So changing a variable only XORs out the key of the old value and XORs in the key of the new value,
+ * and a solution that returns to an earlier state returns to the same hash.
+ * Shadow variables are ignored, because they are derived from the genuine variables.
+ * <p>
+ * Different solution states can have the same hash, but the chance is negligible (about 1 in 2^64 per pair).
+ * The keys are deterministic, so the hashes are reproducible.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see ScoreDirector#getWorkingSolutionHash()
+ */
+public class ZobristSolutionHash<Solution_> {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+
+    private final Map<Object, Long> entityKeyMap = new IdentityHashMap<>();
+    private final Map<Object, Long> valueKeyMap = new HashMap<>();
+    private final Map<VariableDescriptor<Solution_>, Long> variableKeyMap = new HashMap<>();
+    private long keySequence = 0L;
+
+    private long hash = 0L;
+
+    public ZobristSolutionHash(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+    }
+
+    /**
+     * @return the hash of the current state of the genuine variables
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    /**
+     * Recalculates the hash from scratch.
+     * The keys are retained, so the same state of the same entities and values keeps the same hash.
+     * @param workingSolution never null
+     */
+    public void resetWorkingSolution(Solution_ workingSolution) {
+        hash = 0L;
+        for (Object entity : solutionDescriptor.getEntityList(workingSolution)) {
+            toggleEntity(solutionDescriptor.findEntityDescriptorOrFail(entity.getClass()), entity);
+        }
+    }
+
+    public void afterEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        toggleEntity(entityDescriptor, entity);
+    }
+
+    public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        if (variableDescriptor instanceof GenuineVariableDescriptor) {
+            hash ^= buildKey(entity, variableDescriptor, variableDescriptor.getValue(entity));
+        }
+    }
+
+    public void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        if (variableDescriptor instanceof GenuineVariableDescriptor) {
+            hash ^= buildKey(entity, variableDescriptor, variableDescriptor.getValue(entity));
+        }
+    }
+
+    public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        toggleEntity(entityDescriptor, entity);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    private void toggleEntity(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor
+                : entityDescriptor.getGenuineVariableDescriptorList()) {
+            hash ^= buildKey(entity, variableDescriptor, variableDescriptor.getValue(entity));
+        }
+    }
+
+    private long buildKey(Object entity, VariableDescriptor<Solution_> variableDescriptor, Object value) {
+        long entityKey = entityKeyMap.computeIfAbsent(entity, k -> nextKey());
+        long variableKey = variableKeyMap.computeIfAbsent(variableDescriptor, k -> nextKey());
+        long valueKey = value == null ? 0L : valueKeyMap.computeIfAbsent(value, k -> nextKey());
+        return mix(entityKey ^ variableKey ^ mix(valueKey));
+    }
+
+    private long nextKey() {
+        keySequence += GOLDEN_GAMMA;
+        return mix(keySequence);
+    }
+
+    /**
+     * The finalizer of SplitMix64: a bijection that spreads every input bit over every output bit.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -49,6 +49,7 @@ public class DroolsScoreDirector<Solution_>
 
     protected KieSession kieSession;
     protected ScoreHolder workingScoreHolder;
+    private final RuleEventListener ruleEventListener = new OptaplannerRuleEventListener();
 
     public DroolsScoreDirector(DroolsScoreDirectorFactory<Solution_> scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
@@ -70,11 +71,9 @@ public class DroolsScoreDirector<Solution_>
     }
 
     private void resetKieSession() {
-        if (kieSession != null) {
-            kieSession.dispose();
-        }
-        kieSession = scoreDirectorFactory.newKieSession();
-        ((RuleEventManager) kieSession).addEventListener(new OptaplannerRuleEventListener());
+        releaseKieSession();
+        kieSession = scoreDirectorFactory.borrowKieSession();
+        ((RuleEventManager) kieSession).addEventListener(ruleEventListener);
         workingScoreHolder = getScoreDefinition().buildScoreHolder(constraintMatchEnabledPreference);
         kieSession.setGlobal(GLOBAL_SCORE_HOLDER_KEY, workingScoreHolder);
         // TODO Adjust when uninitialized entities from getWorkingFacts get added automatically too (and call afterEntityAdded)
@@ -84,6 +83,15 @@ public class DroolsScoreDirector<Solution_>
         }
     }
 
+    private void releaseKieSession() {
+        if (kieSession != null) {
+            // A pooled KieSession is reused by another score director, which adds its own listener
+            ((RuleEventManager) kieSession).removeEventListener(ruleEventListener);
+            scoreDirectorFactory.releaseKieSession(kieSession);
+            kieSession = null;
+        }
+    }
+
     private static final class OptaplannerRuleEventListener implements RuleEventListener {
 
         @Override
@@ -148,10 +156,7 @@ public class DroolsScoreDirector<Solution_>
     @Override
     public void close() {
         super.close();
-        if (kieSession != null) {
-            kieSession.dispose();
-            kieSession = null;
-        }
+        releaseKieSession();
     }
 
     // ************************************************************************
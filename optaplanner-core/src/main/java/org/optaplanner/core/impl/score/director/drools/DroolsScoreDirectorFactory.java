@@ -38,6 +38,8 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
     protected final KieContainer kieContainer;
     protected final String ksessionName;
 
+    protected KieSessionPool kieSessionPool = null;
+
     /**
      * For {@link LegacyDroolsScoreDirectorFactory} only. Do not use.
      * @param kieBase never null
@@ -116,6 +118,20 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
         return ksessionName;
     }
 
+    /**
+     * @return null if every {@link DroolsScoreDirector} creates and disposes its own {@link KieSession}
+     */
+    public KieSessionPool getKieSessionPool() {
+        return kieSessionPool;
+    }
+
+    /**
+     * @param kieSessionPool null if every {@link DroolsScoreDirector} should create and dispose its own {@link KieSession}
+     */
+    public void setKieSessionPool(KieSessionPool kieSessionPool) {
+        this.kieSessionPool = kieSessionPool;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -130,4 +146,34 @@ public class DroolsScoreDirectorFactory<Solution_> extends AbstractScoreDirector
         return kieContainer.newKieSession(ksessionName);
     }
 
+    /**
+     * @return never null, an empty {@link KieSession}, from the {@link KieSessionPool} if there is one
+     * @see #releaseKieSession(KieSession)
+     */
+    public KieSession borrowKieSession() {
+        if (kieSessionPool == null) {
+            return newKieSession();
+        }
+        return kieSessionPool.borrowKieSession();
+    }
+
+    /**
+     * @param kieSession never null, returned by {@link #borrowKieSession()}
+     */
+    public void releaseKieSession(KieSession kieSession) {
+        if (kieSessionPool == null) {
+            kieSession.dispose();
+        } else {
+            kieSessionPool.returnKieSession(kieSession);
+        }
+    }
+
+    @Override
+    public void disposeIdleResources() {
+        super.disposeIdleResources();
+        if (kieSessionPool != null) {
+            kieSessionPool.disposeIdleKieSessions();
+        }
+    }
+
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.drools;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+import org.drools.core.impl.StatefulKnowledgeSessionImpl;
+import org.kie.api.runtime.KieSession;
+import org.optaplanner.core.api.solver.Solver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reuses the {@link KieSession}s of a {@link DroolsScoreDirectorFactory}, because creating a new one is expensive.
+ * A returned {@link KieSession} is {@link StatefulKnowledgeSessionImpl#reset() reset},
+ * which removes all its facts, matches and globals, so another {@link DroolsScoreDirector} can borrow it.
+ * <p>
+ * The pool belongs to the {@link DroolsScoreDirectorFactory} of a {@link Solver},
+ * which disposes the idle {@link KieSession}s at the end of every {@link Solver#solve(Object)}:
+ * it pays off when the {@link Solver} uses move threads or partitioned search,
+ * or when it restarts for real-time planning.
+ * <p>
+ * This class is thread-safe.
+ */
+public class KieSessionPool {
+
+    protected final transient Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Supplier<KieSession> kieSessionSupplier;
+    private final int maximumIdleSize;
+
+    private final Deque<KieSession> idleKieSessionDeque;
+    private int createdCount = 0;
+    private int reusedCount = 0;
+
+    /**
+     * @param kieSessionSupplier never null, creates a new {@link KieSession}
+     * @param maximumIdleSize at least 1, the maximum number of returned {@link KieSession}s to keep for reuse
+     */
+    public KieSessionPool(Supplier<KieSession> kieSessionSupplier, int maximumIdleSize) {
+        if (maximumIdleSize < 1) {
+            throw new IllegalArgumentException("The kieSessionPoolSize (" + maximumIdleSize
+                    + ") must be at least 1.");
+        }
+        this.kieSessionSupplier = kieSessionSupplier;
+        this.maximumIdleSize = maximumIdleSize;
+        idleKieSessionDeque = new ArrayDeque<>(maximumIdleSize);
+    }
+
+    public int getMaximumIdleSize() {
+        return maximumIdleSize;
+    }
+
+    public synchronized int getIdleSize() {
+        return idleKieSessionDeque.size();
+    }
+
+    /**
+     * @return the number of {@link KieSession}s created by this pool, including those of the warm up
+     */
+    public synchronized int getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * @return the number of times that {@link #borrowKieSession()} returned a reused {@link KieSession}
+     */
+    public synchronized int getReusedCount() {
+        return reusedCount;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @return never null, an empty {@link KieSession} without globals
+     */
+    public KieSession borrowKieSession() {
+        synchronized (this) {
+            KieSession kieSession = idleKieSessionDeque.pollFirst();
+            if (kieSession != null) {
+                reusedCount++;
+                return kieSession;
+            }
+            createdCount++;
+        }
+        return kieSessionSupplier.get();
+    }
+
+    /**
+     * Resets the {@link KieSession} and keeps it for reuse,
+     * or disposes it if it cannot be reset or if the pool is full.
+     * @param kieSession never null, must no longer be used by the caller
+     */
+    public void returnKieSession(KieSession kieSession) {
+        if (!(kieSession instanceof StatefulKnowledgeSessionImpl)) {
+            kieSession.dispose();
+            return;
+        }
+        ((StatefulKnowledgeSessionImpl) kieSession).reset();
+        synchronized (this) {
+            if (idleKieSessionDeque.size() < maximumIdleSize) {
+                idleKieSessionDeque.addFirst(kieSession);
+                return;
+            }
+        }
+        kieSession.dispose();
+    }
+
+    /**
+     * Fills the pool up to its {@link #getMaximumIdleSize()} in a daemon thread,
+     * so the first {@link DroolsScoreDirector}s don't wait for their {@link KieSession} to be created.
+     */
+    public void warmUpInBackground() {
+        Thread thread = new Thread(this::warmUp, "OptaPool-KieSessionWarmUp");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    protected void warmUp() {
+        while (true) {
+            synchronized (this) {
+                if (createdCount >= maximumIdleSize) {
+                    break;
+                }
+                createdCount++;
+            }
+            KieSession kieSession;
+            try {
+                kieSession = kieSessionSupplier.get();
+            } catch (RuntimeException e) {
+                // The DroolsScoreDirector will fail fast with the same exception, in the solver thread
+                logger.warn("Warming up the KieSession pool failed.", e);
+                return;
+            }
+            boolean kept;
+            synchronized (this) {
+                kept = idleKieSessionDeque.size() < maximumIdleSize;
+                if (kept) {
+                    idleKieSessionDeque.addLast(kieSession);
+                }
+            }
+            if (!kept) {
+                kieSession.dispose();
+                break;
+            }
+        }
+        logger.debug("Warmed up the KieSession pool with {} sessions.", getIdleSize());
+    }
+
+    /**
+     * Disposes every idle {@link KieSession}.
+     * Borrowed {@link KieSession}s are still disposed or kept when they are returned.
+     */
+    public void disposeIdleKieSessions() {
+        synchronized (this) {
+            for (KieSession kieSession : idleKieSessionDeque) {
+                kieSession.dispose();
+            }
+            idleKieSessionDeque.clear();
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.easy;
+
+import java.util.Collection;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreCalculator;
+
+/**
+ * Used for easy java {@link Score} calculation that only recalculates the part of the {@link Score}
+ * affected by the planning variables that changed since the last calculation.
+ * It sits between an {@link EasyScoreCalculator} (which recalculates everything)
+ * and an {@link IncrementalScoreCalculator} (which implements the full before/after protocol).
+ * <p>
+ * For example, when a process moves from one computer to another, only the score of those 2 computers changes:
+ * the new score is the last score minus the old score of those computers plus their new score.
+ * <p>
+ * An implementation must be stateless, just like an {@link EasyScoreCalculator}.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see EasyScoreDirector
+ */
+public interface DeltaEasyScoreCalculator<Solution_> extends EasyScoreCalculator<Solution_> {
+
+    /**
+     * This method is only called if the {@link Score} cannot be predicted,
+     * if the score has been calculated before on this working solution
+     * and if no entity or problem fact has been added, changed or removed since then.
+     * Otherwise {@link #calculateScore(Object)} is called instead.
+     * The {@link Score} can be predicted for example after an undo {@link Move}.
+     * @param solution never null
+     * @param lastScore never null, the score returned by the last call to either calculateScore method,
+     * for the state of the solution described by the {@link EntityDelta#getOldValue(String) old values}
+     * @param entityDeltas never null, never empty, every entity that had a planning variable changed
+     * since the last calculation, in the order of the first change
+     * @return never null
+     */
+    Score calculateScore(Solution_ solution, Score lastScore, Collection<EntityDelta> entityDeltas);
+
+}
@@ -16,7 +16,11 @@
 
 package org.optaplanner.core.impl.score.director.easy;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -24,12 +28,16 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
 import org.optaplanner.core.impl.score.director.ScoreDirector;
 
 /**
  * Easy java implementation of {@link ScoreDirector}, which recalculates the {@link Score}
  * of the {@link PlanningSolution working solution} every time. This is non-incremental calculation, which is slow.
+ * If the calculator is a {@link DeltaEasyScoreCalculator}, this score director also tracks
+ * which planning variables changed since the last calculation, so only the affected part is recalculated.
  * This score director implementation does not support {@link ScoreDirector#getConstraintMatchTotals()}.
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  * @see ScoreDirector
@@ -38,25 +46,65 @@ public class EasyScoreDirector<Solution_>
         extends AbstractScoreDirector<Solution_, EasyScoreDirectorFactory<Solution_>> {
 
     private final EasyScoreCalculator<Solution_> easyScoreCalculator;
+    private final DeltaEasyScoreCalculator<Solution_> deltaEasyScoreCalculator;
+    private final Map<Object, EntityDelta> entityDeltaMap;
+    private final List<EntityDelta> entityDeltaList;
+    /** Null if the next calculation must be from scratch. Without the init score. */
+    private Score lastScore = null;
 
     public EasyScoreDirector(EasyScoreDirectorFactory<Solution_> scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference,
             EasyScoreCalculator<Solution_> easyScoreCalculator) {
         super(scoreDirectorFactory, lookUpEnabled, constraintMatchEnabledPreference);
         this.easyScoreCalculator = easyScoreCalculator;
+        if (easyScoreCalculator instanceof DeltaEasyScoreCalculator) {
+            deltaEasyScoreCalculator = (DeltaEasyScoreCalculator<Solution_>) easyScoreCalculator;
+            entityDeltaMap = new IdentityHashMap<>();
+            entityDeltaList = new ArrayList<>();
+        } else {
+            deltaEasyScoreCalculator = null;
+            entityDeltaMap = null;
+            entityDeltaList = null;
+        }
     }
 
     // ************************************************************************
     // Complex methods
     // ************************************************************************
 
+    @Override
+    public void setWorkingSolution(Solution_ workingSolution) {
+        super.setWorkingSolution(workingSolution);
+        resetDelta();
+    }
+
     @Override
     public Score calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
-        Score score = easyScoreCalculator.calculateScore(workingSolution);
-        if (score == null) {
-            throw new IllegalStateException("The easyScoreCalculator (" + easyScoreCalculator.getClass()
-                    + ") must return a non-null score (" + score + ") in the method calculateScore().");
+        Score score;
+        if (deltaEasyScoreCalculator != null && lastScore != null) {
+            if (entityDeltaList.isEmpty()) {
+                score = lastScore;
+            } else {
+                score = deltaEasyScoreCalculator.calculateScore(workingSolution, lastScore,
+                        Collections.unmodifiableList(entityDeltaList));
+                if (score == null) {
+                    throw new IllegalStateException("The deltaEasyScoreCalculator ("
+                            + deltaEasyScoreCalculator.getClass() + ") must return a non-null score (" + score
+                            + ") in the method calculateScore(solution, lastScore, entityDeltas).");
+                }
+                entityDeltaMap.clear();
+                entityDeltaList.clear();
+            }
+        } else {
+            score = easyScoreCalculator.calculateScore(workingSolution);
+            if (score == null) {
+                throw new IllegalStateException("The easyScoreCalculator (" + easyScoreCalculator.getClass()
+                        + ") must return a non-null score (" + score + ") in the method calculateScore().");
+            }
+        }
+        if (deltaEasyScoreCalculator != null) {
+            lastScore = score;
         }
         if (workingInitScore != 0) {
             score = score.withInitScore(workingInitScore);
@@ -65,6 +113,76 @@ public class EasyScoreDirector<Solution_>
         return score;
     }
 
+    private void resetDelta() {
+        if (deltaEasyScoreCalculator != null) {
+            lastScore = null;
+            entityDeltaMap.clear();
+            entityDeltaList.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        resetDelta();
+    }
+
+    // ************************************************************************
+    // Entity/variable add/change/remove methods
+    // ************************************************************************
+
+    @Override
+    public void afterEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        resetDelta();
+        super.afterEntityAdded(entityDescriptor, entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(VariableDescriptor variableDescriptor, Object entity) {
+        if (deltaEasyScoreCalculator != null && lastScore != null) {
+            EntityDelta entityDelta = entityDeltaMap.get(entity);
+            if (entityDelta == null) {
+                entityDelta = new EntityDelta(entity);
+                entityDeltaMap.put(entity, entityDelta);
+                entityDeltaList.add(entityDelta);
+            }
+            entityDelta.registerOldValue(variableDescriptor.getVariableName(), variableDescriptor.getValue(entity));
+        }
+        super.beforeVariableChanged(variableDescriptor, entity);
+    }
+
+    @Override
+    public void afterEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        resetDelta();
+        super.afterEntityRemoved(entityDescriptor, entity);
+    }
+
+    // ************************************************************************
+    // Problem fact add/change/remove methods
+    // ************************************************************************
+
+    @Override
+    public void afterProblemFactAdded(Object problemFact) {
+        resetDelta();
+        super.afterProblemFactAdded(problemFact);
+    }
+
+    @Override
+    public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        resetDelta();
+        super.afterProblemPropertyChanged(problemFactOrEntity);
+    }
+
+    @Override
+    public void afterProblemFactRemoved(Object problemFact) {
+        resetDelta();
+        super.afterProblemFactRemoved(problemFact);
+    }
+
+    // ************************************************************************
+    // Constraint match methods
+    // ************************************************************************
+
     /**
      * Always false, {@link ConstraintMatchTotal}s are not supported by this {@link ScoreDirector} implementation.
      * @return false
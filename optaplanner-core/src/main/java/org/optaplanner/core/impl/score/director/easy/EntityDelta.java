@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.easy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+
+/**
+ * The planning variables of one {@link PlanningEntity} that changed since the last score calculation,
+ * with the value they had at that last calculation.
+ * A variable that was changed and then changed back is still included.
+ * @see DeltaEasyScoreCalculator
+ */
+public final class EntityDelta {
+
+    private final Object entity;
+    private final Map<String, Object> oldValueMap = new LinkedHashMap<>(4);
+
+    EntityDelta(Object entity) {
+        this.entity = entity;
+    }
+
+    /**
+     * @return never null, a {@link PlanningEntity}
+     */
+    public Object getEntity() {
+        return entity;
+    }
+
+    /**
+     * @return never null, never empty, the names of the genuine and shadow variables that changed
+     */
+    public Set<String> getVariableNames() {
+        return oldValueMap.keySet();
+    }
+
+    /**
+     * @param variableName never null
+     * @return true if that variable changed since the last score calculation
+     */
+    public boolean isVariableChanged(String variableName) {
+        return oldValueMap.containsKey(variableName);
+    }
+
+    /**
+     * @param variableName never null, a {@link PlanningVariable} or shadow variable name
+     * for which {@link #isVariableChanged(String)} returns true
+     * @return sometimes null, the value of that variable at the last score calculation
+     * @throws IllegalArgumentException if that variable did not change
+     */
+    public Object getOldValue(String variableName) {
+        if (!oldValueMap.containsKey(variableName)) {
+            throw new IllegalArgumentException("The variableName (" + variableName
+                    + ") of entity (" + entity + ") did not change since the last score calculation.\n"
+                    + "Maybe check isVariableChanged() first.");
+        }
+        return oldValueMap.get(variableName);
+    }
+
+    void registerOldValue(String variableName, Object oldValue) {
+        if (!oldValueMap.containsKey(variableName)) {
+            oldValueMap.put(variableName, oldValue);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return entity + " " + oldValueMap.keySet();
+    }
+
+}
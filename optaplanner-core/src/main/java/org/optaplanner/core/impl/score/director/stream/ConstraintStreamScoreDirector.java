@@ -0,0 +1,209 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.stream;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+
+/**
+ * Constraint stream implementation of {@link ScoreDirector}, which directs a {@link ConstraintSession}
+ * to calculate the {@link Score} of the {@link PlanningSolution working solution} incrementally.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see ScoreDirector
+ */
+public class ConstraintStreamScoreDirector<Solution_>
+        extends AbstractScoreDirector<Solution_, ConstraintStreamScoreDirectorFactory<Solution_>> {
+
+    protected ConstraintSession<Solution_> session;
+
+    public ConstraintStreamScoreDirector(ConstraintStreamScoreDirectorFactory<Solution_> scoreDirectorFactory,
+            boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
+        super(scoreDirectorFactory, lookUpEnabled, constraintMatchEnabledPreference);
+    }
+
+    public ConstraintSession<Solution_> getSession() {
+        return session;
+    }
+
+    // ************************************************************************
+    // Complex methods
+    // ************************************************************************
+
+    @Override
+    public void setWorkingSolution(Solution_ workingSolution) {
+        super.setWorkingSolution(workingSolution);
+        resetSession();
+    }
+
+    private void resetSession() {
+        session = scoreDirectorFactory.newConstraintSession(constraintMatchEnabledPreference);
+        for (Object fact : getSolutionDescriptor().getAllFacts(workingSolution)) {
+            session.insert(fact);
+        }
+    }
+
+    @Override
+    public Score calculateScore() {
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        Score score = session.calculateScore(workingInitScore);
+        setCalculatedScore(score);
+        return score;
+    }
+
+    @Override
+    public boolean isConstraintMatchEnabled() {
+        return constraintMatchEnabledPreference;
+    }
+
+    @Override
+    public Collection<ConstraintMatchTotal> getConstraintMatchTotals() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getConstraintMatchTotals().");
+        }
+        return session.getConstraintMatchTotals();
+    }
+
+    @Override
+    public Map<Object, Indictment> getIndictmentMap() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getIndictmentMap().");
+        }
+        return session.getIndictmentMap();
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        session = null;
+    }
+
+    // ************************************************************************
+    // Entity/variable add/change/remove methods
+    // ************************************************************************
+
+    // public void beforeEntityAdded(EntityDescriptor entityDescriptor, Object entity) // Do nothing
+
+    @Override
+    public void afterEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("The entity (" + entity + ") cannot be added to the ScoreDirector.");
+        }
+        if (!getSolutionDescriptor().hasEntityDescriptor(entity.getClass())) {
+            throw new IllegalArgumentException("The entity (" + entity + ") of class (" + entity.getClass()
+                    + ") is not a configured @PlanningEntity.");
+        }
+        if (session.containsFact(entity)) {
+            throw new IllegalArgumentException("The entity (" + entity
+                    + ") was already added to this ScoreDirector."
+                    + " Usually the cause is that that specific instance was already in your Solution's entities" +
+                    " and you probably want to use before/afterVariableChanged() instead.");
+        }
+        session.insert(entity);
+        super.afterEntityAdded(entityDescriptor, entity);
+    }
+
+    // public void beforeVariableChanged(VariableDescriptor variableDescriptor, Object entity) // Do nothing
+
+    @Override
+    public void afterVariableChanged(VariableDescriptor variableDescriptor, Object entity) {
+        assertEntityAdded(entity);
+        session.update(entity);
+        super.afterVariableChanged(variableDescriptor, entity);
+    }
+
+    // public void beforeEntityRemoved(EntityDescriptor entityDescriptor, Object entity) // Do nothing
+
+    @Override
+    public void afterEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        assertEntityAdded(entity);
+        session.retract(entity);
+        super.afterEntityRemoved(entityDescriptor, entity);
+    }
+
+    private void assertEntityAdded(Object entity) {
+        if (!session.containsFact(entity)) {
+            throw new IllegalArgumentException("The entity (" + entity
+                    + ") was never added to this ScoreDirector.\n"
+                    + "Maybe that specific instance is not in the return values of the "
+                    + PlanningSolution.class.getSimpleName() + "'s entity members ("
+                    + getSolutionDescriptor().getEntityMemberAndEntityCollectionMemberNames() + ").");
+        }
+    }
+
+    // ************************************************************************
+    // Problem fact add/change/remove methods
+    // ************************************************************************
+
+    // public void beforeProblemFactAdded(Object problemFact) // Do nothing
+
+    @Override
+    public void afterProblemFactAdded(Object problemFact) {
+        if (session.containsFact(problemFact)) {
+            throw new IllegalArgumentException("The problemFact (" + problemFact
+                    + ") was already added to this ScoreDirector.\n"
+                    + "Maybe that specific instance is already in the "
+                    + PlanningSolution.class.getSimpleName() + "'s problem fact members ("
+                    + getSolutionDescriptor().getProblemFactMemberAndProblemFactCollectionMemberNames() + ").\n"
+                    + "Maybe use before/afterProblemPropertyChanged() instead of before/afterProblemFactAdded().");
+        }
+        session.insert(problemFact);
+        super.afterProblemFactAdded(problemFact);
+    }
+
+    // public void beforeProblemPropertyChanged(Object problemFactOrEntity) // Do nothing
+
+    @Override
+    public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        assertProblemFactAdded(problemFactOrEntity);
+        session.update(problemFactOrEntity);
+        super.afterProblemPropertyChanged(problemFactOrEntity);
+    }
+
+    // public void beforeProblemFactRemoved(Object problemFact) // Do nothing
+
+    @Override
+    public void afterProblemFactRemoved(Object problemFact) {
+        assertProblemFactAdded(problemFact);
+        session.retract(problemFact);
+        super.afterProblemFactRemoved(problemFact);
+    }
+
+    private void assertProblemFactAdded(Object problemFact) {
+        if (!session.containsFact(problemFact)) {
+            throw new IllegalArgumentException("The problemFact (" + problemFact
+                    + ") was never added to this ScoreDirector.\n"
+                    + "Maybe that specific instance is not in the "
+                    + PlanningSolution.class.getSimpleName() + "'s problem fact members ("
+                    + getSolutionDescriptor().getProblemFactMemberAndProblemFactCollectionMemberNames() + ").\n"
+                    + "Maybe first translate that external instance to the workingSolution's instance"
+                    + " with " + ScoreDirector.class.getSimpleName() + ".lookUpWorkingObject().");
+        }
+    }
+
+}
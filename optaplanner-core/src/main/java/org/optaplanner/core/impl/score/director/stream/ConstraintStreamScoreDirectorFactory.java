@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.stream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.impl.score.director.AbstractScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+import org.optaplanner.core.impl.score.stream.ConstraintStreamFactory;
+import org.optaplanner.core.impl.score.stream.ScoringConstraintStream;
+
+/**
+ * Constraint stream implementation of {@link ScoreDirectorFactory}.
+ * The {@link ConstraintProvider} is called once, in the constructor.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see ConstraintStreamScoreDirector
+ * @see ScoreDirectorFactory
+ */
+public class ConstraintStreamScoreDirectorFactory<Solution_> extends AbstractScoreDirectorFactory<Solution_> {
+
+    private final ConstraintStreamFactory<Solution_> constraintFactory;
+    private final List<ScoringConstraintStream<Solution_>> constraintList;
+
+    public ConstraintStreamScoreDirectorFactory(ConstraintProvider constraintProvider) {
+        Package constraintProviderPackage = constraintProvider.getClass().getPackage();
+        constraintFactory = new ConstraintStreamFactory<>(
+                constraintProviderPackage == null ? "" : constraintProviderPackage.getName());
+        Constraint[] constraints = constraintProvider.defineConstraints(constraintFactory);
+        if (constraints == null) {
+            throw new IllegalStateException("The constraintProvider class (" + constraintProvider.getClass()
+                    + ")'s defineConstraints() must not return null.");
+        }
+        constraintList = new ArrayList<>(constraints.length);
+        Set<String> constraintIdSet = new HashSet<>(constraints.length);
+        for (Constraint constraint : constraints) {
+            if (!(constraint instanceof ScoringConstraintStream)
+                    || ((ScoringConstraintStream) constraint).getConstraintFactory() != constraintFactory) {
+                throw new IllegalStateException("The constraintProvider class (" + constraintProvider.getClass()
+                        + ")'s defineConstraints() returned a constraint (" + constraint
+                        + ") that was not built by its constraintFactory.");
+            }
+            if (!constraintIdSet.add(constraint.getConstraintId())) {
+                throw new IllegalStateException("The constraintProvider class (" + constraintProvider.getClass()
+                        + ")'s defineConstraints() returned multiple constraints with the same constraintId ("
+                        + constraint.getConstraintId() + ").");
+            }
+            constraintList.add((ScoringConstraintStream<Solution_>) constraint);
+        }
+    }
+
+    public List<ScoringConstraintStream<Solution_>> getConstraintList() {
+        return Collections.unmodifiableList(constraintList);
+    }
+
+    // ************************************************************************
+    // Complex methods
+    // ************************************************************************
+
+    @Override
+    public ConstraintStreamScoreDirector<Solution_> buildScoreDirector(
+            boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
+        return new ConstraintStreamScoreDirector<>(this, lookUpEnabled, constraintMatchEnabledPreference);
+    }
+
+    public ConstraintSession<Solution_> newConstraintSession(boolean constraintMatchEnabled) {
+        Class<? extends Score> scoreClass = getScoreDefinition().getScoreClass();
+        for (ScoringConstraintStream<Solution_> constraint : constraintList) {
+            if (constraint.getConstraintWeight().getClass() != scoreClass) {
+                throw new IllegalStateException("The constraintWeight (" + constraint.getConstraintWeight()
+                        + ") of the constraint (" + constraint.getConstraintId()
+                        + ") must be of the planning solution's score class (" + scoreClass + ").");
+            }
+        }
+        return new ConstraintSession<>(getSolutionDescriptor(), constraintFactory, constraintList,
+                constraintMatchEnabled);
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.node.FanOutTupleNode;
+import org.optaplanner.core.impl.score.stream.node.TupleNode;
+
+/**
+ * A constraint stream is a blueprint of a part of the node network:
+ * it is built once per {@link ConstraintStreamFactory} and instantiated as nodes for every {@link ConstraintSession}.
+ * @param <Solution_> the solution type
+ */
+public abstract class AbstractConstraintStream<Solution_> {
+
+    protected final ConstraintStreamFactory<Solution_> constraintFactory;
+    private final List<AbstractConstraintStream<Solution_>> childStreamList = new ArrayList<>(2);
+
+    protected AbstractConstraintStream(ConstraintStreamFactory<Solution_> constraintFactory) {
+        this.constraintFactory = constraintFactory;
+    }
+
+    public ConstraintStreamFactory<Solution_> getConstraintFactory() {
+        return constraintFactory;
+    }
+
+    public void addChildStream(AbstractConstraintStream<Solution_> childStream) {
+        childStreamList.add(childStream);
+    }
+
+    protected <T extends AbstractConstraintStream<Solution_>> T assertSameFactory(T otherStream) {
+        if (otherStream.getConstraintFactory() != constraintFactory) {
+            throw new IllegalArgumentException("The otherStream (" + otherStream
+                    + ") must be built by the same constraintFactory (" + constraintFactory + ").");
+        }
+        return otherStream;
+    }
+
+    /**
+     * @param session never null
+     * @return null if no active constraint is downstream of this stream
+     */
+    public abstract TupleNode buildNode(ConstraintSession<Solution_> session);
+
+    /**
+     * @param session never null
+     * @return null if no active constraint is downstream of this stream
+     */
+    protected TupleNode buildChildNodes(ConstraintSession<Solution_> session) {
+        List<TupleNode> childNodeList = new ArrayList<>(childStreamList.size());
+        for (AbstractConstraintStream<Solution_> childStream : childStreamList) {
+            TupleNode childNode = childStream.buildNode(session);
+            if (childNode != null) {
+                childNodeList.add(childNode);
+            }
+        }
+        switch (childNodeList.size()) {
+            case 0:
+                return null;
+            case 1:
+                return childNodeList.get(0);
+            default:
+                return new FanOutTupleNode(childNodeList);
+        }
+    }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.stream.node.SourceNode;
+import org.optaplanner.core.impl.score.stream.uni.FromUniConstraintStream;
+
+/**
+ * The node network of the constraints for 1 working solution.
+ * It keeps the {@link Score} up to date while facts are inserted, updated and retracted.
+ * @param <Solution_> the solution type
+ */
+public class ConstraintSession<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final Set<ScoringConstraintStream<Solution_>> activeConstraintSet;
+    private final boolean constraintMatchEnabled;
+
+    private final List<SourceNode<?>> sourceNodeList = new ArrayList<>();
+    private final Map<Class<?>, SourceNode<?>[]> factClassToSourceNodesMap = new HashMap<>();
+    private final Map<Class<?>, EntityDescriptor<Solution_>> factClassToEntityDescriptorMap = new HashMap<>();
+    private final Set<Object> factSet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Object, Object> buildNodeMap = new HashMap<>();
+
+    private final Map<String, ConstraintMatchTotal> constraintMatchTotalMap;
+    private final Map<Object, Indictment> indictmentMap;
+    private final Score zeroScore;
+    private Score score;
+
+    public ConstraintSession(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintStreamFactory<Solution_> constraintFactory,
+            Collection<ScoringConstraintStream<Solution_>> constraints, boolean constraintMatchEnabled) {
+        this.solutionDescriptor = solutionDescriptor;
+        this.activeConstraintSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        activeConstraintSet.addAll(constraints);
+        this.constraintMatchEnabled = constraintMatchEnabled;
+        zeroScore = solutionDescriptor.getScoreDefinition().getZeroScore();
+        score = zeroScore;
+        constraintMatchTotalMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
+        indictmentMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
+        if (constraintMatchEnabled) {
+            // Like Drools, a constraint without matches still has a ConstraintMatchTotal
+            for (ScoringConstraintStream<Solution_> constraint : constraints) {
+                constraintMatchTotalMap.put(constraint.getConstraintId(), new ConstraintMatchTotal(
+                        constraint.getConstraintPackage(), constraint.getConstraintName(), zeroScore));
+            }
+        }
+        for (FromUniConstraintStream<Solution_, ?> fromStream : constraintFactory.getFromStreams()) {
+            SourceNode<?> sourceNode = fromStream.buildSourceNode(this);
+            if (sourceNode != null) {
+                sourceNodeList.add(sourceNode);
+            }
+        }
+        buildNodeMap.clear();
+    }
+
+    // ************************************************************************
+    // Node network building methods
+    // ************************************************************************
+
+    public boolean isActiveConstraint(ScoringConstraintStream<Solution_> constraint) {
+        return activeConstraintSet.contains(constraint);
+    }
+
+    /**
+     * For a stream with multiple parents, such as a join, which must only build its node once.
+     * @param stream never null
+     * @return sometimes null
+     */
+    public Object getBuiltNode(Object stream) {
+        return buildNodeMap.get(stream);
+    }
+
+    public void putBuiltNode(Object stream, Object node) {
+        buildNodeMap.put(stream, node);
+    }
+
+    // ************************************************************************
+    // Fact methods
+    // ************************************************************************
+
+    public boolean containsFact(Object fact) {
+        return factSet.contains(fact);
+    }
+
+    /**
+     * @param fact never null, not yet inserted
+     */
+    public void insert(Object fact) {
+        factSet.add(fact);
+        if (isInitialized(fact)) {
+            for (SourceNode<?> sourceNode : findSourceNodes(fact.getClass())) {
+                sourceNode.insert(fact);
+            }
+        }
+    }
+
+    /**
+     * Must be called after the fact changed.
+     * @param fact never null, inserted earlier
+     */
+    public void update(Object fact) {
+        SourceNode<?>[] sourceNodes = findSourceNodes(fact.getClass());
+        if (sourceNodes.length == 0) {
+            return;
+        }
+        for (SourceNode<?> sourceNode : sourceNodes) {
+            sourceNode.retract(fact);
+        }
+        if (isInitialized(fact)) {
+            for (SourceNode<?> sourceNode : sourceNodes) {
+                sourceNode.insert(fact);
+            }
+        }
+    }
+
+    /**
+     * @param fact never null, inserted earlier
+     */
+    public void retract(Object fact) {
+        factSet.remove(fact);
+        for (SourceNode<?> sourceNode : findSourceNodes(fact.getClass())) {
+            sourceNode.retract(fact);
+        }
+    }
+
+    private SourceNode<?>[] findSourceNodes(Class<?> factClass) {
+        SourceNode<?>[] sourceNodes = factClassToSourceNodesMap.get(factClass);
+        if (sourceNodes == null) {
+            sourceNodes = sourceNodeList.stream()
+                    .filter(sourceNode -> sourceNode.getFromClass().isAssignableFrom(factClass))
+                    .toArray(SourceNode<?>[]::new);
+            factClassToSourceNodesMap.put(factClass, sourceNodes);
+        }
+        return sourceNodes;
+    }
+
+    private boolean isInitialized(Object fact) {
+        Class<?> factClass = fact.getClass();
+        EntityDescriptor<Solution_> entityDescriptor = factClassToEntityDescriptorMap.get(factClass);
+        if (entityDescriptor == null) {
+            if (factClassToEntityDescriptorMap.containsKey(factClass)) {
+                return true;
+            }
+            entityDescriptor = solutionDescriptor.findEntityDescriptor(factClass);
+            factClassToEntityDescriptorMap.put(factClass, entityDescriptor);
+            if (entityDescriptor == null) {
+                return true;
+            }
+        }
+        return entityDescriptor.isInitialized(fact);
+    }
+
+    // ************************************************************************
+    // Score methods
+    // ************************************************************************
+
+    public void addImpact(Score impact) {
+        score = score.add(impact);
+    }
+
+    public void subtractImpact(Score impact) {
+        score = score.subtract(impact);
+    }
+
+    /**
+     * @param initScore {@code <= 0}
+     * @return never null
+     */
+    public Score calculateScore(int initScore) {
+        return score.withInitScore(initScore);
+    }
+
+    public boolean isConstraintMatchEnabled() {
+        return constraintMatchEnabled;
+    }
+
+    public Collection<ConstraintMatchTotal> getConstraintMatchTotals() {
+        if (!constraintMatchEnabled) {
+            throw new IllegalStateException("When constraintMatchEnabled (" + constraintMatchEnabled
+                    + ") is disabled in the constructor, this method should not be called.");
+        }
+        return constraintMatchTotalMap.values();
+    }
+
+    public Map<Object, Indictment> getIndictmentMap() {
+        if (!constraintMatchEnabled) {
+            throw new IllegalStateException("When constraintMatchEnabled (" + constraintMatchEnabled
+                    + ") is disabled in the constructor, this method should not be called.");
+        }
+        return indictmentMap;
+    }
+
+    public ConstraintMatchHandle registerConstraintMatch(ScoringConstraintStream<?> constraint,
+            List<Object> justificationList, Score impact) {
+        ConstraintMatchTotal constraintMatchTotal = constraintMatchTotalMap.get(constraint.getConstraintId());
+        ConstraintMatch constraintMatch = constraintMatchTotal.addConstraintMatch(justificationList, impact);
+        List<Indictment> indictmentList = justificationList.stream()
+                .distinct() // One match might have the same justification twice
+                .map(justification -> {
+                    Indictment indictment = indictmentMap.computeIfAbsent(justification,
+                            k -> new Indictment(justification, zeroScore));
+                    indictment.addConstraintMatch(constraintMatch);
+                    return indictment;
+                }).collect(Collectors.toList());
+        return new ConstraintMatchHandle(impact, constraintMatchTotal, constraintMatch, indictmentList);
+    }
+
+    public void unregisterConstraintMatch(ConstraintMatchHandle constraintMatchHandle) {
+        ConstraintMatch constraintMatch = constraintMatchHandle.constraintMatch;
+        constraintMatchHandle.constraintMatchTotal.removeConstraintMatch(constraintMatch);
+        for (Indictment indictment : constraintMatchHandle.indictmentList) {
+            indictment.removeConstraintMatch(constraintMatch);
+            if (indictment.getConstraintMatchSet().isEmpty()) {
+                indictmentMap.remove(indictment.getJustification());
+            }
+        }
+    }
+
+    public static final class ConstraintMatchHandle {
+
+        private final Score impact;
+        private final ConstraintMatchTotal constraintMatchTotal;
+        private final ConstraintMatch constraintMatch;
+        private final List<Indictment> indictmentList;
+
+        private ConstraintMatchHandle(Score impact, ConstraintMatchTotal constraintMatchTotal,
+                ConstraintMatch constraintMatch, List<Indictment> indictmentList) {
+            this.impact = impact;
+            this.constraintMatchTotal = constraintMatchTotal;
+            this.constraintMatch = constraintMatch;
+            this.indictmentList = indictmentList;
+        }
+
+        public Score getImpact() {
+            return impact;
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+import org.optaplanner.core.impl.score.stream.uni.FromUniConstraintStream;
+
+/**
+ * Builds the constraint stream blueprints. There is only 1 {@link FromUniConstraintStream} per class,
+ * so every constraint on the same class shares the same {@link org.optaplanner.core.impl.score.stream.node.SourceNode}.
+ * @param <Solution_> the solution type
+ */
+public class ConstraintStreamFactory<Solution_> implements ConstraintFactory {
+
+    private final String defaultConstraintPackage;
+    private final Map<Class<?>, FromUniConstraintStream<Solution_, ?>> fromStreamMap = new LinkedHashMap<>();
+
+    public ConstraintStreamFactory(String defaultConstraintPackage) {
+        this.defaultConstraintPackage = defaultConstraintPackage;
+    }
+
+    @Override
+    public String getDefaultConstraintPackage() {
+        return defaultConstraintPackage;
+    }
+
+    @Override
+    public <A> UniConstraintStream<A> from(Class<A> fromClass) {
+        if (fromClass == null) {
+            throw new IllegalArgumentException("The fromClass (" + fromClass + ") cannot be null.");
+        }
+        return (UniConstraintStream<A>) fromStreamMap.computeIfAbsent(fromClass,
+                k -> new FromUniConstraintStream<>(this, fromClass));
+    }
+
+    public Collection<FromUniConstraintStream<Solution_, ?>> getFromStreams() {
+        return fromStreamMap.values();
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream;
+
+import java.util.function.ToIntFunction;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.stream.node.ScoringNode;
+import org.optaplanner.core.impl.score.stream.node.Tuple;
+import org.optaplanner.core.impl.score.stream.node.TupleNode;
+
+/**
+ * The terminal stream of a constraint, created by {@code penalize(...)} or {@code reward(...)}.
+ * @param <Solution_> the solution type
+ */
+public class ScoringConstraintStream<Solution_> extends AbstractConstraintStream<Solution_> implements Constraint {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final Score constraintWeight;
+    private final boolean positive;
+    private final ToIntFunction<? extends Tuple> matchWeigher;
+
+    public ScoringConstraintStream(ConstraintStreamFactory<Solution_> constraintFactory,
+            String constraintName, Score constraintWeight, boolean positive,
+            ToIntFunction<? extends Tuple> matchWeigher) {
+        super(constraintFactory);
+        if (constraintName == null) {
+            throw new IllegalArgumentException("The constraintName (" + constraintName + ") cannot be null.");
+        }
+        if (constraintWeight == null) {
+            throw new IllegalArgumentException("The constraintWeight (" + constraintWeight
+                    + ") of the constraint (" + constraintName + ") cannot be null.");
+        }
+        this.constraintPackage = constraintFactory.getDefaultConstraintPackage();
+        this.constraintName = constraintName;
+        this.constraintWeight = constraintWeight;
+        this.positive = positive;
+        this.matchWeigher = matchWeigher;
+    }
+
+    @Override
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    @Override
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    public Score getConstraintWeight() {
+        return constraintWeight;
+    }
+
+    /**
+     * @return never null, the constraintWeight, negated for a penalty
+     */
+    public Score getImpactWeight() {
+        return positive ? constraintWeight : constraintWeight.negate();
+    }
+
+    @Override
+    public TupleNode buildNode(ConstraintSession<Solution_> session) {
+        if (!session.isActiveConstraint(this)) {
+            return null;
+        }
+        return new ScoringNode(session, this, matchWeigher);
+    }
+
+    @Override
+    public String toString() {
+        return getConstraintId() + " (" + (positive ? "reward " : "penalize ") + constraintWeight + ")";
+    }
+
+}
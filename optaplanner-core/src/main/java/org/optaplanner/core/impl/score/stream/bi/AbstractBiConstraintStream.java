@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bi;
+
+import java.util.function.BiPredicate;
+import java.util.function.ToIntBiFunction;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.impl.score.stream.AbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.ConstraintStreamFactory;
+import org.optaplanner.core.impl.score.stream.ScoringConstraintStream;
+import org.optaplanner.core.impl.score.stream.node.BiTuple;
+
+public abstract class AbstractBiConstraintStream<Solution_, A, B> extends AbstractConstraintStream<Solution_>
+        implements BiConstraintStream<A, B> {
+
+    protected AbstractBiConstraintStream(ConstraintStreamFactory<Solution_> constraintFactory) {
+        super(constraintFactory);
+    }
+
+    @Override
+    public BiConstraintStream<A, B> filter(BiPredicate<A, B> predicate) {
+        FilterBiConstraintStream<Solution_, A, B> stream = new FilterBiConstraintStream<>(
+                constraintFactory, predicate);
+        addChildStream(stream);
+        return stream;
+    }
+
+    @Override
+    public Constraint penalize(String constraintName, Score<?> constraintWeight,
+            ToIntBiFunction<A, B> matchWeigher) {
+        return score(constraintName, constraintWeight, false, matchWeigher);
+    }
+
+    @Override
+    public Constraint reward(String constraintName, Score<?> constraintWeight, ToIntBiFunction<A, B> matchWeigher) {
+        return score(constraintName, constraintWeight, true, matchWeigher);
+    }
+
+    private Constraint score(String constraintName, Score<?> constraintWeight, boolean positive,
+            ToIntBiFunction<A, B> matchWeigher) {
+        ScoringConstraintStream<Solution_> stream = new ScoringConstraintStream<>(constraintFactory,
+                constraintName, constraintWeight, positive,
+                (BiTuple<A, B> tuple) -> matchWeigher.applyAsInt(tuple.a, tuple.b));
+        addChildStream(stream);
+        return stream;
+    }
+
+}
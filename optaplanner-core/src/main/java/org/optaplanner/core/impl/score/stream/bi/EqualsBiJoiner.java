@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.score.stream.bi.BiJoiner;
+
+/**
+ * Joins every A and B for which all left keys equal the right keys.
+ * @param <A> the type of the left fact
+ * @param <B> the type of the right fact
+ */
+public final class EqualsBiJoiner<A, B> implements BiJoiner<A, B> {
+
+    private static final Object CARTESIAN_KEY = new Object();
+
+    /**
+     * @param <A> the type of the left fact
+     * @param <B> the type of the right fact
+     * @return never null, a joiner that joins every A with every B
+     */
+    public static <A, B> EqualsBiJoiner<A, B> cartesian() {
+        return new EqualsBiJoiner<>(Collections.emptyList(), Collections.emptyList());
+    }
+
+    private final List<Function<A, ?>> leftMappingList;
+    private final List<Function<B, ?>> rightMappingList;
+
+    public EqualsBiJoiner(Function<A, ?> leftMapping, Function<B, ?> rightMapping) {
+        this(Collections.singletonList(leftMapping), Collections.singletonList(rightMapping));
+        if (leftMapping == null || rightMapping == null) {
+            throw new IllegalArgumentException("The leftMapping (" + leftMapping
+                    + ") and the rightMapping (" + rightMapping + ") cannot be null.");
+        }
+    }
+
+    private EqualsBiJoiner(List<Function<A, ?>> leftMappingList, List<Function<B, ?>> rightMappingList) {
+        this.leftMappingList = leftMappingList;
+        this.rightMappingList = rightMappingList;
+    }
+
+    @Override
+    public BiJoiner<A, B> and(BiJoiner<A, B> otherJoiner) {
+        if (!(otherJoiner instanceof EqualsBiJoiner)) {
+            throw new IllegalArgumentException("The otherJoiner (" + otherJoiner + ") must be created by Joiners.");
+        }
+        EqualsBiJoiner<A, B> other = (EqualsBiJoiner<A, B>) otherJoiner;
+        List<Function<A, ?>> mergedLeftMappingList = new ArrayList<>(leftMappingList);
+        mergedLeftMappingList.addAll(other.leftMappingList);
+        List<Function<B, ?>> mergedRightMappingList = new ArrayList<>(rightMappingList);
+        mergedRightMappingList.addAll(other.rightMappingList);
+        return new EqualsBiJoiner<>(mergedLeftMappingList, mergedRightMappingList);
+    }
+
+    public Function<A, Object> getLeftKeyMapping() {
+        return buildKeyMapping(leftMappingList);
+    }
+
+    public Function<B, Object> getRightKeyMapping() {
+        return buildKeyMapping(rightMappingList);
+    }
+
+    private static <X> Function<X, Object> buildKeyMapping(List<Function<X, ?>> mappingList) {
+        switch (mappingList.size()) {
+            case 0:
+                return x -> CARTESIAN_KEY;
+            case 1:
+                Function<X, ?> mapping = mappingList.get(0);
+                return mapping::apply;
+            default:
+                Function<X, ?>[] mappings = mappingList.toArray(new Function[0]);
+                return x -> {
+                    List<Object> key = new ArrayList<>(mappings.length);
+                    for (Function<X, ?> m : mappings) {
+                        key.add(m.apply(x));
+                    }
+                    return key;
+                };
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bi;
+
+import java.util.function.BiPredicate;
+
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+import org.optaplanner.core.impl.score.stream.ConstraintStreamFactory;
+import org.optaplanner.core.impl.score.stream.node.BiTuple;
+import org.optaplanner.core.impl.score.stream.node.FilterTupleNode;
+import org.optaplanner.core.impl.score.stream.node.TupleNode;
+
+public class FilterBiConstraintStream<Solution_, A, B> extends AbstractBiConstraintStream<Solution_, A, B> {
+
+    private final BiPredicate<A, B> predicate;
+
+    public FilterBiConstraintStream(ConstraintStreamFactory<Solution_> constraintFactory,
+            BiPredicate<A, B> predicate) {
+        super(constraintFactory);
+        if (predicate == null) {
+            throw new IllegalArgumentException("The predicate (" + predicate + ") cannot be null.");
+        }
+        this.predicate = predicate;
+    }
+
+    @Override
+    public TupleNode buildNode(ConstraintSession<Solution_> session) {
+        TupleNode<BiTuple<A, B>> childNode = buildChildNodes(session);
+        if (childNode == null) {
+            return null;
+        }
+        return new FilterTupleNode<BiTuple<A, B>>(tuple -> predicate.test(tuple.a, tuple.b), childNode);
+    }
+
+    @Override
+    public String toString() {
+        return "BiFilter()";
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bi;
+
+import java.util.function.Function;
+
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+import org.optaplanner.core.impl.score.stream.ConstraintStreamFactory;
+import org.optaplanner.core.impl.score.stream.node.BiTuple;
+import org.optaplanner.core.impl.score.stream.node.GroupByNode;
+import org.optaplanner.core.impl.score.stream.node.TupleNode;
+
+public class GroupByBiConstraintStream<Solution_, A, GroupKey_, Result_>
+        extends AbstractBiConstraintStream<Solution_, GroupKey_, Result_> {
+
+    private final Function<A, GroupKey_> groupKeyMapping;
+    private final UniConstraintCollector<A, ?, Result_> collector;
+
+    public GroupByBiConstraintStream(ConstraintStreamFactory<Solution_> constraintFactory,
+            Function<A, GroupKey_> groupKeyMapping, UniConstraintCollector<A, ?, Result_> collector) {
+        super(constraintFactory);
+        if (groupKeyMapping == null) {
+            throw new IllegalArgumentException("The groupKeyMapping (" + groupKeyMapping + ") cannot be null.");
+        }
+        if (collector == null) {
+            throw new IllegalArgumentException("The collector (" + collector + ") cannot be null.");
+        }
+        this.groupKeyMapping = groupKeyMapping;
+        this.collector = collector;
+    }
+
+    @Override
+    public TupleNode buildNode(ConstraintSession<Solution_> session) {
+        TupleNode<BiTuple<GroupKey_, Result_>> childNode = buildChildNodes(session);
+        if (childNode == null) {
+            return null;
+        }
+        return new GroupByNode<>(groupKeyMapping, collector, childNode);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBy()";
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bi;
+
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+import org.optaplanner.core.impl.score.stream.ConstraintStreamFactory;
+import org.optaplanner.core.impl.score.stream.node.BiTuple;
+import org.optaplanner.core.impl.score.stream.node.JoinNode;
+import org.optaplanner.core.impl.score.stream.node.TupleNode;
+import org.optaplanner.core.impl.score.stream.uni.AbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.uni.JoinBridgeUniConstraintStream;
+
+public class JoinBiConstraintStream<Solution_, A, B> extends AbstractBiConstraintStream<Solution_, A, B> {
+
+    private final EqualsBiJoiner<A, B> joiner;
+
+    public JoinBiConstraintStream(ConstraintStreamFactory<Solution_> constraintFactory,
+            AbstractUniConstraintStream<Solution_, A> leftParent, AbstractUniConstraintStream<Solution_, B> rightParent,
+            EqualsBiJoiner<A, B> joiner) {
+        super(constraintFactory);
+        this.joiner = joiner;
+        leftParent.addChildStream(new JoinBridgeUniConstraintStream<>(constraintFactory, this, true));
+        rightParent.addChildStream(new JoinBridgeUniConstraintStream<>(constraintFactory, this, false));
+    }
+
+    /**
+     * Called by both the left and the right {@link JoinBridgeUniConstraintStream}, but builds only 1 node.
+     * @param session never null
+     * @return null if no active constraint is downstream of this stream
+     */
+    public JoinNode<A, B> buildJoinNode(ConstraintSession<Solution_> session) {
+        JoinNode<A, B> joinNode = (JoinNode<A, B>) session.getBuiltNode(this);
+        if (joinNode == null) {
+            TupleNode<BiTuple<A, B>> childNode = buildChildNodes(session);
+            if (childNode == null) {
+                return null;
+            }
+            joinNode = new JoinNode<>(joiner.getLeftKeyMapping(), joiner.getRightKeyMapping(), childNode);
+            session.putBuiltNode(this, joinNode);
+        }
+        return joinNode;
+    }
+
+    @Override
+    public TupleNode buildNode(ConstraintSession<Solution_> session) {
+        throw new IllegalStateException("Impossible state: the stream (" + this
+                + ") is built through its join bridges.");
+    }
+
+    @Override
+    public String toString() {
+        return "Join()";
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.node;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class BiTuple<A, B> implements Tuple {
+
+    public final A a;
+    public final B b;
+    private final List<Object> facts;
+
+    public BiTuple(A a, B b) {
+        this(a, b, null);
+    }
+
+    /**
+     * @param a sometimes null
+     * @param b sometimes null
+     * @param facts null if the justification is {@code a} and {@code b}
+     */
+    public BiTuple(A a, B b, List<Object> facts) {
+        this.a = a;
+        this.b = b;
+        this.facts = facts;
+    }
+
+    @Override
+    public List<Object> getFacts() {
+        return facts != null ? facts : Arrays.asList(a, b);
+    }
+
+    @Override
+    public String toString() {
+        return "{" + a + ", " + b + "}";
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.node;
+
+import java.util.List;
+
+public final class FanOutTupleNode<T extends Tuple> implements TupleNode<T> {
+
+    private final TupleNode<T>[] downstreamNodes;
+
+    public FanOutTupleNode(List<TupleNode<T>> downstreamNodeList) {
+        downstreamNodes = downstreamNodeList.toArray(new TupleNode[0]);
+    }
+
+    @Override
+    public void insert(T tuple) {
+        for (TupleNode<T> downstreamNode : downstreamNodes) {
+            downstreamNode.insert(tuple);
+        }
+    }
+
+    @Override
+    public void retract(T tuple) {
+        for (TupleNode<T> downstreamNode : downstreamNodes) {
+            downstreamNode.retract(tuple);
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.node;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public final class FilterTupleNode<T extends Tuple> implements TupleNode<T> {
+
+    private final Predicate<T> predicate;
+    private final TupleNode<T> downstreamNode;
+
+    private final Set<T> passedTupleSet = new HashSet<>();
+
+    public FilterTupleNode(Predicate<T> predicate, TupleNode<T> downstreamNode) {
+        this.predicate = predicate;
+        this.downstreamNode = downstreamNode;
+    }
+
+    @Override
+    public void insert(T tuple) {
+        if (predicate.test(tuple)) {
+            passedTupleSet.add(tuple);
+            downstreamNode.insert(tuple);
+        }
+    }
+
+    @Override
+    public void retract(T tuple) {
+        if (passedTupleSet.remove(tuple)) {
+            downstreamNode.retract(tuple);
+        }
+    }
+
+}
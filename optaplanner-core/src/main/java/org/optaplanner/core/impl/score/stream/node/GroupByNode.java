@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.node;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+
+/**
+ * Groups {@link UniTuple}s by key and aggregates every group incrementally,
+ * with the undo {@link Runnable} returned by the {@link UniConstraintCollector}'s accumulator.
+ * @param <A> the type of the grouped facts
+ * @param <GroupKey_> the type of the group key
+ * @param <ResultContainer_> the type of the accumulation state of a group
+ * @param <Result_> the type of the aggregated result
+ */
+public final class GroupByNode<A, GroupKey_, ResultContainer_, Result_> implements TupleNode<UniTuple<A>> {
+
+    private final Function<A, GroupKey_> groupKeyMapping;
+    private final Supplier<ResultContainer_> supplier;
+    private final BiFunction<ResultContainer_, ? super A, Runnable> accumulator;
+    private final Function<ResultContainer_, Result_> finisher;
+    private final TupleNode<BiTuple<GroupKey_, Result_>> downstreamNode;
+
+    private final Map<GroupKey_, Group> groupMap = new HashMap<>();
+    private final Map<UniTuple<A>, GroupMember> groupMemberMap = new HashMap<>();
+
+    public GroupByNode(Function<A, GroupKey_> groupKeyMapping,
+            UniConstraintCollector<A, ResultContainer_, Result_> collector,
+            TupleNode<BiTuple<GroupKey_, Result_>> downstreamNode) {
+        this.groupKeyMapping = groupKeyMapping;
+        supplier = collector.getSupplier();
+        accumulator = collector.getAccumulator();
+        finisher = collector.getFinisher();
+        this.downstreamNode = downstreamNode;
+    }
+
+    @Override
+    public void insert(UniTuple<A> tuple) {
+        GroupKey_ groupKey = groupKeyMapping.apply(tuple.a);
+        if (groupKey == null) {
+            throw new IllegalStateException("The groupKeyMapping (" + groupKeyMapping
+                    + ") must not return a null groupKey for the fact (" + tuple.a + ").");
+        }
+        Group group = groupMap.computeIfAbsent(groupKey, Group::new);
+        Runnable undoAccumulator = accumulator.apply(group.resultContainer, tuple.a);
+        group.size++;
+        groupMemberMap.put(tuple, new GroupMember(group, undoAccumulator));
+        refresh(group);
+    }
+
+    @Override
+    public void retract(UniTuple<A> tuple) {
+        GroupMember groupMember = groupMemberMap.remove(tuple);
+        Group group = groupMember.group;
+        groupMember.undoAccumulator.run();
+        group.size--;
+        if (group.size == 0) {
+            groupMap.remove(group.groupKey);
+            downstreamNode.retract(group.outTuple);
+        } else {
+            refresh(group);
+        }
+    }
+
+    private void refresh(Group group) {
+        Result_ result = finisher.apply(group.resultContainer);
+        BiTuple<GroupKey_, Result_> oldOutTuple = group.outTuple;
+        if (oldOutTuple != null) {
+            if (Objects.equals(oldOutTuple.b, result)) {
+                return;
+            }
+            downstreamNode.retract(oldOutTuple);
+        }
+        group.outTuple = new BiTuple<>(group.groupKey, result, Collections.singletonList(group.groupKey));
+        downstreamNode.insert(group.outTuple);
+    }
+
+    private final class Group {
+
+        private final GroupKey_ groupKey;
+        private final ResultContainer_ resultContainer;
+        private int size = 0;
+        private BiTuple<GroupKey_, Result_> outTuple = null;
+
+        private Group(GroupKey_ groupKey) {
+            this.groupKey = groupKey;
+            resultContainer = supplier.get();
+        }
+
+    }
+
+    private final class GroupMember {
+
+        private final Group group;
+        private final Runnable undoAccumulator;
+
+        private GroupMember(Group group, Runnable undoAccumulator) {
+            this.group = group;
+            this.undoAccumulator = undoAccumulator;
+        }
+
+    }
+
+}
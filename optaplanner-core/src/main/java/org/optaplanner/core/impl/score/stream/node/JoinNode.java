@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.node;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Joins every left {@link UniTuple} with every right {@link UniTuple} that has an equal key,
+ * with a hash index on both sides.
+ * @param <A> the type of the left facts
+ * @param <B> the type of the right facts
+ */
+public final class JoinNode<A, B> {
+
+    private final Function<A, Object> leftKeyMapping;
+    private final Function<B, Object> rightKeyMapping;
+    private final TupleNode<BiTuple<A, B>> downstreamNode;
+
+    // The tuple sets are linked for reproducibility: their order determines the propagation order
+    private final Map<Object, Set<UniTuple<A>>> leftIndex = new HashMap<>();
+    private final Map<Object, Set<UniTuple<B>>> rightIndex = new HashMap<>();
+    private final Map<UniTuple<A>, Object> leftKeyMap = new HashMap<>();
+    private final Map<UniTuple<B>, Object> rightKeyMap = new HashMap<>();
+    private final Map<UniTuple<A>, Map<UniTuple<B>, BiTuple<A, B>>> outTupleMap = new HashMap<>();
+
+    private final TupleNode<UniTuple<A>> leftInputNode = new TupleNode<UniTuple<A>>() {
+        @Override
+        public void insert(UniTuple<A> tuple) {
+            insertLeft(tuple);
+        }
+
+        @Override
+        public void retract(UniTuple<A> tuple) {
+            retractLeft(tuple);
+        }
+    };
+
+    private final TupleNode<UniTuple<B>> rightInputNode = new TupleNode<UniTuple<B>>() {
+        @Override
+        public void insert(UniTuple<B> tuple) {
+            insertRight(tuple);
+        }
+
+        @Override
+        public void retract(UniTuple<B> tuple) {
+            retractRight(tuple);
+        }
+    };
+
+    public JoinNode(Function<A, Object> leftKeyMapping, Function<B, Object> rightKeyMapping,
+            TupleNode<BiTuple<A, B>> downstreamNode) {
+        this.leftKeyMapping = leftKeyMapping;
+        this.rightKeyMapping = rightKeyMapping;
+        this.downstreamNode = downstreamNode;
+    }
+
+    public TupleNode<UniTuple<A>> getLeftInputNode() {
+        return leftInputNode;
+    }
+
+    public TupleNode<UniTuple<B>> getRightInputNode() {
+        return rightInputNode;
+    }
+
+    private void insertLeft(UniTuple<A> leftTuple) {
+        Object key = leftKeyMapping.apply(leftTuple.a);
+        leftKeyMap.put(leftTuple, key);
+        leftIndex.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(leftTuple);
+        Set<UniTuple<B>> rightTupleSet = rightIndex.get(key);
+        Map<UniTuple<B>, BiTuple<A, B>> outTuples = new LinkedHashMap<>(
+                rightTupleSet == null ? 0 : rightTupleSet.size() * 2);
+        outTupleMap.put(leftTuple, outTuples);
+        if (rightTupleSet != null) {
+            for (UniTuple<B> rightTuple : rightTupleSet) {
+                BiTuple<A, B> outTuple = new BiTuple<>(leftTuple.a, rightTuple.a);
+                outTuples.put(rightTuple, outTuple);
+                downstreamNode.insert(outTuple);
+            }
+        }
+    }
+
+    private void retractLeft(UniTuple<A> leftTuple) {
+        Object key = leftKeyMap.remove(leftTuple);
+        removeFromIndex(leftIndex, key, leftTuple);
+        Map<UniTuple<B>, BiTuple<A, B>> outTuples = outTupleMap.remove(leftTuple);
+        for (BiTuple<A, B> outTuple : outTuples.values()) {
+            downstreamNode.retract(outTuple);
+        }
+    }
+
+    private void insertRight(UniTuple<B> rightTuple) {
+        Object key = rightKeyMapping.apply(rightTuple.a);
+        rightKeyMap.put(rightTuple, key);
+        rightIndex.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(rightTuple);
+        Set<UniTuple<A>> leftTupleSet = leftIndex.get(key);
+        if (leftTupleSet != null) {
+            for (UniTuple<A> leftTuple : leftTupleSet) {
+                BiTuple<A, B> outTuple = new BiTuple<>(leftTuple.a, rightTuple.a);
+                outTupleMap.get(leftTuple).put(rightTuple, outTuple);
+                downstreamNode.insert(outTuple);
+            }
+        }
+    }
+
+    private void retractRight(UniTuple<B> rightTuple) {
+        Object key = rightKeyMap.remove(rightTuple);
+        removeFromIndex(rightIndex, key, rightTuple);
+        Set<UniTuple<A>> leftTupleSet = leftIndex.get(key);
+        if (leftTupleSet != null) {
+            for (UniTuple<A> leftTuple : leftTupleSet) {
+                BiTuple<A, B> outTuple = outTupleMap.get(leftTuple).remove(rightTuple);
+                if (outTuple != null) {
+                    downstreamNode.retract(outTuple);
+                }
+            }
+        }
+    }
+
+    private static <T> void removeFromIndex(Map<Object, Set<T>> index, Object key, T tuple) {
+        Set<T> tupleSet = index.get(key);
+        tupleSet.remove(tuple);
+        if (tupleSet.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.node;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+import org.optaplanner.core.impl.score.stream.ConstraintSession.ConstraintMatchHandle;
+import org.optaplanner.core.impl.score.stream.ScoringConstraintStream;
+
+/**
+ * The terminal node of a constraint: adds the impact of every tuple to the {@link ConstraintSession}'s score.
+ * @param <T> the type of the incoming tuples
+ */
+public final class ScoringNode<T extends Tuple> implements TupleNode<T> {
+
+    private final ConstraintSession<?> session;
+    private final ScoringConstraintStream<?> constraint;
+    private final Score impactWeight;
+    private final ToIntFunction<T> matchWeigher;
+
+    // The value is a Score or a ConstraintMatchHandle, depending on constraintMatchEnabled
+    private final Map<T, Object> impactMap = new HashMap<>();
+
+    public ScoringNode(ConstraintSession<?> session, ScoringConstraintStream<?> constraint,
+            ToIntFunction<T> matchWeigher) {
+        this.session = session;
+        this.constraint = constraint;
+        this.impactWeight = constraint.getImpactWeight();
+        this.matchWeigher = matchWeigher;
+    }
+
+    @Override
+    public void insert(T tuple) {
+        int matchWeight = matchWeigher.applyAsInt(tuple);
+        Score impact = matchWeight == 1 ? impactWeight : impactWeight.multiply(matchWeight);
+        session.addImpact(impact);
+        if (session.isConstraintMatchEnabled()) {
+            impactMap.put(tuple, session.registerConstraintMatch(constraint, tuple.getFacts(), impact));
+        } else {
+            impactMap.put(tuple, impact);
+        }
+    }
+
+    @Override
+    public void retract(T tuple) {
+        Object impact = impactMap.remove(tuple);
+        if (session.isConstraintMatchEnabled()) {
+            ConstraintMatchHandle constraintMatchHandle = (ConstraintMatchHandle) impact;
+            session.subtractImpact(constraintMatchHandle.getImpact());
+            session.unregisterConstraintMatch(constraintMatchHandle);
+        } else {
+            session.subtractImpact((Score) impact);
+        }
+    }
+
+}
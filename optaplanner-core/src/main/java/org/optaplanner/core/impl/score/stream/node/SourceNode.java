@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.node;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The root of the node network for every fact that is an instance of a specific class.
+ * @param <A> the type of the facts
+ */
+public final class SourceNode<A> {
+
+    private final Class<A> fromClass;
+    private final TupleNode<UniTuple<A>> downstreamNode;
+
+    private final Map<A, UniTuple<A>> tupleMap = new IdentityHashMap<>();
+
+    public SourceNode(Class<A> fromClass, TupleNode<UniTuple<A>> downstreamNode) {
+        this.fromClass = fromClass;
+        this.downstreamNode = downstreamNode;
+    }
+
+    public Class<A> getFromClass() {
+        return fromClass;
+    }
+
+    public void insert(Object fact) {
+        A a = fromClass.cast(fact);
+        UniTuple<A> tuple = new UniTuple<>(a);
+        tupleMap.put(a, tuple);
+        downstreamNode.insert(tuple);
+    }
+
+    /**
+     * @param fact never null, ignored if it was never inserted (for example because it was uninitialized)
+     */
+    public void retract(Object fact) {
+        UniTuple<A> tuple = tupleMap.remove(fact);
+        if (tuple != null) {
+            downstreamNode.retract(tuple);
+        }
+    }
+
+}
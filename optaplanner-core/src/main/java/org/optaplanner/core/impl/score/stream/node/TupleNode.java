@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.node;
+
+/**
+ * A node of the incremental node network of a {@link org.optaplanner.core.impl.score.stream.ConstraintSession}.
+ * <p>
+ * A changed fact is first retracted and then inserted again,
+ * so a node must retract a tuple based on the state it remembered when that tuple was inserted,
+ * never by reevaluating a (now changed) fact.
+ * @param <T> the type of the incoming tuples
+ */
+public interface TupleNode<T extends Tuple> {
+
+    /**
+     * @param tuple never null, not yet inserted
+     */
+    void insert(T tuple);
+
+    /**
+     * @param tuple never null, inserted earlier
+     */
+    void retract(T tuple);
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.uni;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.api.score.stream.bi.BiJoiner;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+import org.optaplanner.core.impl.score.stream.AbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.ConstraintStreamFactory;
+import org.optaplanner.core.impl.score.stream.ScoringConstraintStream;
+import org.optaplanner.core.impl.score.stream.bi.EqualsBiJoiner;
+import org.optaplanner.core.impl.score.stream.bi.GroupByBiConstraintStream;
+import org.optaplanner.core.impl.score.stream.bi.JoinBiConstraintStream;
+import org.optaplanner.core.impl.score.stream.node.UniTuple;
+
+public abstract class AbstractUniConstraintStream<Solution_, A> extends AbstractConstraintStream<Solution_>
+        implements UniConstraintStream<A> {
+
+    protected AbstractUniConstraintStream(ConstraintStreamFactory<Solution_> constraintFactory) {
+        super(constraintFactory);
+    }
+
+    @Override
+    public UniConstraintStream<A> filter(Predicate<A> predicate) {
+        FilterUniConstraintStream<Solution_, A> stream = new FilterUniConstraintStream<>(constraintFactory, predicate);
+        addChildStream(stream);
+        return stream;
+    }
+
+    @Override
+    public <B> BiConstraintStream<A, B> join(Class<B> otherClass) {
+        return join(constraintFactory.from(otherClass), EqualsBiJoiner.cartesian());
+    }
+
+    @Override
+    public <B> BiConstraintStream<A, B> join(Class<B> otherClass, BiJoiner<A, B> joiner) {
+        return join(constraintFactory.from(otherClass), joiner);
+    }
+
+    @Override
+    public <B> BiConstraintStream<A, B> join(UniConstraintStream<B> otherStream, BiJoiner<A, B> joiner) {
+        if (!(otherStream instanceof AbstractUniConstraintStream)) {
+            throw new IllegalArgumentException("The otherStream (" + otherStream + ") must be a "
+                    + AbstractUniConstraintStream.class.getSimpleName() + ".");
+        }
+        if (!(joiner instanceof EqualsBiJoiner)) {
+            throw new IllegalArgumentException("The joiner (" + joiner + ") must be created by Joiners.");
+        }
+        AbstractUniConstraintStream<Solution_, B> rightParent = assertSameFactory(
+                (AbstractUniConstraintStream<Solution_, B>) otherStream);
+        return new JoinBiConstraintStream<>(constraintFactory, this, rightParent, (EqualsBiJoiner<A, B>) joiner);
+    }
+
+    @Override
+    public <GroupKey_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
+            Function<A, GroupKey_> groupKeyMapping, UniConstraintCollector<A, ?, Result_> collector) {
+        GroupByBiConstraintStream<Solution_, A, GroupKey_, Result_> stream = new GroupByBiConstraintStream<>(
+                constraintFactory, groupKeyMapping, collector);
+        addChildStream(stream);
+        return stream;
+    }
+
+    @Override
+    public Constraint penalize(String constraintName, Score<?> constraintWeight, ToIntFunction<A> matchWeigher) {
+        return score(constraintName, constraintWeight, false, matchWeigher);
+    }
+
+    @Override
+    public Constraint reward(String constraintName, Score<?> constraintWeight, ToIntFunction<A> matchWeigher) {
+        return score(constraintName, constraintWeight, true, matchWeigher);
+    }
+
+    private Constraint score(String constraintName, Score<?> constraintWeight, boolean positive,
+            ToIntFunction<A> matchWeigher) {
+        ScoringConstraintStream<Solution_> stream = new ScoringConstraintStream<>(constraintFactory,
+                constraintName, constraintWeight, positive,
+                (UniTuple<A> tuple) -> matchWeigher.applyAsInt(tuple.a));
+        addChildStream(stream);
+        return stream;
+    }
+
+}
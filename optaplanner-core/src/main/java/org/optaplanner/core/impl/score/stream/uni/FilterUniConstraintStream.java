@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.uni;
+
+import java.util.function.Predicate;
+
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+import org.optaplanner.core.impl.score.stream.ConstraintStreamFactory;
+import org.optaplanner.core.impl.score.stream.node.FilterTupleNode;
+import org.optaplanner.core.impl.score.stream.node.TupleNode;
+import org.optaplanner.core.impl.score.stream.node.UniTuple;
+
+public class FilterUniConstraintStream<Solution_, A> extends AbstractUniConstraintStream<Solution_, A> {
+
+    private final Predicate<A> predicate;
+
+    public FilterUniConstraintStream(ConstraintStreamFactory<Solution_> constraintFactory, Predicate<A> predicate) {
+        super(constraintFactory);
+        if (predicate == null) {
+            throw new IllegalArgumentException("The predicate (" + predicate + ") cannot be null.");
+        }
+        this.predicate = predicate;
+    }
+
+    @Override
+    public TupleNode buildNode(ConstraintSession<Solution_> session) {
+        TupleNode<UniTuple<A>> childNode = buildChildNodes(session);
+        if (childNode == null) {
+            return null;
+        }
+        return new FilterTupleNode<UniTuple<A>>(tuple -> predicate.test(tuple.a), childNode);
+    }
+
+    @Override
+    public String toString() {
+        return "Filter()";
+    }
+
+}
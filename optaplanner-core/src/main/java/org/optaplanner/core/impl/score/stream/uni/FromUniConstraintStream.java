@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.uni;
+
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+import org.optaplanner.core.impl.score.stream.ConstraintStreamFactory;
+import org.optaplanner.core.impl.score.stream.node.SourceNode;
+import org.optaplanner.core.impl.score.stream.node.TupleNode;
+
+public class FromUniConstraintStream<Solution_, A> extends AbstractUniConstraintStream<Solution_, A> {
+
+    private final Class<A> fromClass;
+
+    public FromUniConstraintStream(ConstraintStreamFactory<Solution_> constraintFactory, Class<A> fromClass) {
+        super(constraintFactory);
+        this.fromClass = fromClass;
+    }
+
+    /**
+     * @param session never null
+     * @return null if no active constraint uses this stream
+     */
+    public SourceNode<A> buildSourceNode(ConstraintSession<Solution_> session) {
+        TupleNode childNode = buildChildNodes(session);
+        return childNode == null ? null : new SourceNode<>(fromClass, childNode);
+    }
+
+    @Override
+    public TupleNode buildNode(ConstraintSession<Solution_> session) {
+        throw new IllegalStateException("Impossible state: the stream (" + this + ") has no parent.");
+    }
+
+    @Override
+    public String toString() {
+        return "From(" + fromClass.getSimpleName() + ")";
+    }
+
+}
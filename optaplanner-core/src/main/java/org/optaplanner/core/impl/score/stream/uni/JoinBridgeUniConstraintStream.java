@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.uni;
+
+import org.optaplanner.core.impl.score.stream.AbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+import org.optaplanner.core.impl.score.stream.ConstraintStreamFactory;
+import org.optaplanner.core.impl.score.stream.bi.JoinBiConstraintStream;
+import org.optaplanner.core.impl.score.stream.node.JoinNode;
+import org.optaplanner.core.impl.score.stream.node.TupleNode;
+
+/**
+ * Connects 1 parent of a {@link JoinBiConstraintStream} to the left or right input of its {@link JoinNode}.
+ * @param <Solution_> the solution type
+ */
+public class JoinBridgeUniConstraintStream<Solution_> extends AbstractConstraintStream<Solution_> {
+
+    private final JoinBiConstraintStream<Solution_, ?, ?> joinStream;
+    private final boolean left;
+
+    public JoinBridgeUniConstraintStream(ConstraintStreamFactory<Solution_> constraintFactory,
+            JoinBiConstraintStream<Solution_, ?, ?> joinStream, boolean left) {
+        super(constraintFactory);
+        this.joinStream = joinStream;
+        this.left = left;
+    }
+
+    @Override
+    public TupleNode buildNode(ConstraintSession<Solution_> session) {
+        JoinNode<?, ?> joinNode = joinStream.buildJoinNode(session);
+        if (joinNode == null) {
+            return null;
+        }
+        return left ? joinNode.getLeftInputNode() : joinNode.getRightInputNode();
+    }
+
+}
@@ -16,14 +16,21 @@
 
 package org.optaplanner.core.impl.solver.scope;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Semaphore;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilterRejectionCounter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
@@ -50,6 +57,15 @@ public class DefaultSolverScope<Solution_> {
     protected volatile Long startingSystemTimeMillis;
     protected volatile Long endingSystemTimeMillis;
     protected long childThreadsScoreCalculationCount = 0;
+    /**
+     * The thread ids of the move threads of the current phase, registered by the multithreaded deciders.
+     */
+    protected final Set<Long> moveThreadIdSet = ConcurrentHashMap.newKeySet();
+    /**
+     * The move thread runners of the current phase, which haven't been added to
+     * {@link #childThreadsScoreCalculationCount} yet.
+     */
+    protected final List<MoveThreadRunner<Solution_>> moveThreadRunnerList = new CopyOnWriteArrayList<>();
 
     protected Score startingInitializedScore;
 
@@ -57,6 +73,8 @@ public class DefaultSolverScope<Solution_> {
     protected volatile Score bestScore;
     protected Long bestSolutionTimeMillis;
 
+    protected final List<SelectionFilterRejectionCounter> selectionFilterRejectionCounterList = new ArrayList<>();
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -153,8 +171,57 @@ public class DefaultSolverScope<Solution_> {
         childThreadsScoreCalculationCount += addition;
     }
 
+    public void addMoveThreadId(long moveThreadId) {
+        moveThreadIdSet.add(moveThreadId);
+    }
+
+    public void addMoveThreadRunner(MoveThreadRunner<Solution_> moveThreadRunner) {
+        moveThreadRunnerList.add(moveThreadRunner);
+    }
+
+    /**
+     * Call this after the score calculation count of the move thread runners
+     * has been added with {@link #addChildThreadsScoreCalculationCount(long)}.
+     */
+    public void clearMoveThreads() {
+        moveThreadIdSet.clear();
+        moveThreadRunnerList.clear();
+    }
+
+    /**
+     * Thread-safe: called by the solver thread and by listeners that measure the move threads.
+     * @return never null, unmodifiable, empty if the current phase does not use move threads
+     */
+    public Set<Long> getMoveThreadIdSet() {
+        return Collections.unmodifiableSet(moveThreadIdSet);
+    }
+
+    /**
+     * Includes the score calculations that the move threads of the current phase have done so far.
+     * @return at least 0
+     */
     public long getScoreCalculationCount() {
-        return scoreDirector.getCalculationCount() + childThreadsScoreCalculationCount;
+        long scoreCalculationCount = scoreDirector.getCalculationCount() + childThreadsScoreCalculationCount;
+        for (MoveThreadRunner<Solution_> moveThreadRunner : moveThreadRunnerList) {
+            scoreCalculationCount += moveThreadRunner.getCalculationCount();
+        }
+        return scoreCalculationCount;
+    }
+
+    public void addSelectionFilterRejectionCounter(SelectionFilterRejectionCounter selectionFilterRejectionCounter) {
+        selectionFilterRejectionCounterList.add(selectionFilterRejectionCounter);
+    }
+
+    public void removeSelectionFilterRejectionCounter(
+            SelectionFilterRejectionCounter selectionFilterRejectionCounter) {
+        selectionFilterRejectionCounterList.remove(selectionFilterRejectionCounter);
+    }
+
+    /**
+     * @return never null, one for every filtering selector that is used while solving
+     */
+    public List<SelectionFilterRejectionCounter> getSelectionFilterRejectionCounterList() {
+        return selectionFilterRejectionCounterList;
     }
 
     public Solution_ getBestSolution() {
@@ -22,7 +22,10 @@ import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.decorator.CachingEntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.decorator.FilteringEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.decorator.ShufflingEntitySelector;
+import org.optaplanner.core.impl.testdata.domain.immovable.TestdataImmovableSolution;
 
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
 
@@ -106,6 +109,32 @@ public class EntitySelectorConfigTest extends AbstractSelectorConfigTest {
         // assertEquals(SelectionCacheType.JUST_IN_TIME, entitySelector.getCacheType());
     }
 
+    @Test
+    public void justInTimeRandomWithMovableEntitySelectionFilter() {
+        EntitySelectorConfig entitySelectorConfig = new EntitySelectorConfig();
+        entitySelectorConfig.setCacheType(SelectionCacheType.JUST_IN_TIME);
+        entitySelectorConfig.setSelectionOrder(SelectionOrder.RANDOM);
+        EntitySelector entitySelector = entitySelectorConfig.buildEntitySelector(
+                buildHeuristicConfigPolicy(TestdataImmovableSolution.buildSolutionDescriptor()),
+                SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM);
+        // The immovable entities are filtered out by the FromSolutionEntitySelector itself
+        assertInstanceOf(FromSolutionEntitySelector.class, entitySelector);
+        assertNotInstanceOf(FilteringEntitySelector.class, entitySelector);
+    }
+
+    @Test
+    public void phaseRandomWithMovableEntitySelectionFilter() {
+        EntitySelectorConfig entitySelectorConfig = new EntitySelectorConfig();
+        entitySelectorConfig.setCacheType(SelectionCacheType.PHASE);
+        entitySelectorConfig.setSelectionOrder(SelectionOrder.RANDOM);
+        EntitySelector entitySelector = entitySelectorConfig.buildEntitySelector(
+                buildHeuristicConfigPolicy(TestdataImmovableSolution.buildSolutionDescriptor()),
+                SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM);
+        assertInstanceOf(CachingEntitySelector.class, entitySelector);
+        assertInstanceOf(FilteringEntitySelector.class,
+                ((CachingEntitySelector) entitySelector).getChildEntitySelector());
+    }
+
     @Test
     public void phaseShuffled() {
         EntitySelectorConfig entitySelectorConfig = new EntitySelectorConfig();
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.valuerange.index;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.optaplanner.core.api.domain.valuerange.CountableValueRange;
+import org.optaplanner.core.api.domain.valuerange.ValueRange;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.valuerange.entityproviding.TestdataEntityProvidingEntity;
+import org.optaplanner.core.impl.testdata.domain.valuerange.entityproviding.TestdataEntityProvidingSolution;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ExternalizedValueRangeIndexSupplyTest {
+
+    @Test
+    public void contains() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntityProvidingEntity.buildVariableDescriptorForValue();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        ExternalizedValueRangeIndexSupply supply = new ExternalizedValueRangeIndexSupply(variableDescriptor);
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataEntityProvidingEntity a = new TestdataEntityProvidingEntity("a", Arrays.asList(v1, v2), v1);
+        TestdataEntityProvidingEntity b = new TestdataEntityProvidingEntity("b", Arrays.asList(v2, v3), v3);
+        TestdataEntityProvidingSolution solution = new TestdataEntityProvidingSolution("solution");
+        solution.setEntityList(Arrays.asList(a, b));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        assertTrue(supply.contains(a, v1));
+        assertTrue(supply.contains(a, v2));
+        assertFalse(supply.contains(a, v3));
+        assertFalse(supply.contains(b, v1));
+        assertTrue(supply.contains(b, v2));
+        assertTrue(supply.contains(b, v3));
+        // The variable is nullable
+        assertTrue(supply.contains(a, null));
+        assertFalse(supply.contains(a, new TestdataValue("unknown")));
+        // The same value range instance is reused
+        ValueRange<?> valueRange = supply.getValueRange(a);
+        assertSame(valueRange, supply.getValueRange(a));
+        assertEquals(3L, ((CountableValueRange<?>) valueRange).getSize());
+
+        TestdataValue v4 = new TestdataValue("v4");
+        TestdataEntityProvidingEntity c = new TestdataEntityProvidingEntity("c", Arrays.asList(v1, v4));
+        supply.beforeEntityAdded(scoreDirector, c);
+        supply.afterEntityAdded(scoreDirector, c);
+        assertTrue(supply.contains(c, v1));
+        assertTrue(supply.contains(c, v4));
+        assertFalse(supply.contains(c, v2));
+        assertFalse(supply.contains(a, v4));
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
+}
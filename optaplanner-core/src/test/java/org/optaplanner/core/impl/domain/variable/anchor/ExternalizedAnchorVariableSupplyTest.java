@@ -74,4 +74,56 @@ public class ExternalizedAnchorVariableSupplyTest {
         supply.clearWorkingSolution(scoreDirector);
     }
 
+
+    @Test
+    public void entityAddedAndRemoved() {
+        GenuineVariableDescriptor variableDescriptor = TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        ExternalizedSingletonInverseVariableSupply nextVariableSupply = new ExternalizedSingletonInverseVariableSupply(variableDescriptor);
+        ExternalizedAnchorVariableSupply supply = new ExternalizedAnchorVariableSupply(variableDescriptor, nextVariableSupply);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0));
+        solution.setChainedEntityList(Arrays.asList(a1));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        nextVariableSupply.resetWorkingSolution(scoreDirector);
+        supply.resetWorkingSolution(scoreDirector);
+
+        // a2 is unknown at resetWorkingSolution() time, so it is not an ordinal key
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        nextVariableSupply.beforeEntityAdded(scoreDirector, a2);
+        supply.beforeEntityAdded(scoreDirector, a2);
+        nextVariableSupply.afterEntityAdded(scoreDirector, a2);
+        supply.afterEntityAdded(scoreDirector, a2);
+
+        assertSame(a0, supply.getAnchor(a1));
+        assertSame(a0, supply.getAnchor(a2));
+
+        // Moving a1 to b0 also moves its trailing entity a2
+        nextVariableSupply.beforeVariableChanged(scoreDirector, a1);
+        supply.beforeVariableChanged(scoreDirector, a1);
+        a1.setChainedObject(b0);
+        nextVariableSupply.afterVariableChanged(scoreDirector, a1);
+        supply.afterVariableChanged(scoreDirector, a1);
+
+        assertSame(b0, supply.getAnchor(a1));
+        assertSame(b0, supply.getAnchor(a2));
+
+        nextVariableSupply.beforeEntityRemoved(scoreDirector, a2);
+        supply.beforeEntityRemoved(scoreDirector, a2);
+        nextVariableSupply.afterEntityRemoved(scoreDirector, a2);
+        supply.afterEntityRemoved(scoreDirector, a2);
+
+        assertSame(b0, supply.getAnchor(a1));
+        assertSame(null, supply.getAnchor(a2));
+
+        nextVariableSupply.clearWorkingSolution(scoreDirector);
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
 }
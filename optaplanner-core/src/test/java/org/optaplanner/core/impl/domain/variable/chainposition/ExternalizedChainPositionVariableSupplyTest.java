@@ -0,0 +1,186 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.chainposition;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ExternalizedChainPositionVariableSupplyTest {
+
+    @Test
+    public void chainedEntity() {
+        GenuineVariableDescriptor variableDescriptor = TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        ExternalizedChainPositionVariableSupply supply = new ExternalizedChainPositionVariableSupply(variableDescriptor);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+
+        TestdataChainedAnchor c0 = new TestdataChainedAnchor("c0");
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0, c0));
+        // Deliberately not in chain order
+        solution.setChainedEntityList(Arrays.asList(a3, b1, a1, a2));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        assertSame(a0, supply.getAnchor(a1));
+        assertSame(a0, supply.getAnchor(a3));
+        assertSame(b0, supply.getAnchor(b1));
+        assertEquals(0, supply.getIndex(a0));
+        assertEquals(1, supply.getIndex(a1));
+        assertEquals(2, supply.getIndex(a2));
+        assertEquals(3, supply.getIndex(a3));
+        assertEquals(1, supply.getIndex(b1));
+        assertEquals(0, supply.getIndex(c0));
+        assertEquals(3, supply.getChainLength(a0));
+        assertEquals(1, supply.getChainLength(b0));
+        assertEquals(0, supply.getChainLength(c0));
+        assertSame(a2, supply.getPlanningValue(a0, 2));
+        assertSame(c0, supply.getPlanningValue(c0, 0));
+        assertEquals(true, supply.isBefore(a1, a3));
+        assertEquals(false, supply.isBefore(a3, a1));
+        assertEquals(false, supply.isBefore(a1, b1));
+        assertEquals(Arrays.asList(a1, a2, a3), supply.getSubChainEntityList(a1, a3));
+
+        // Move a3 after b1
+        supply.beforeVariableChanged(scoreDirector, a3);
+        a3.setChainedObject(b1);
+        supply.afterVariableChanged(scoreDirector, a3);
+
+        assertSame(b0, supply.getAnchor(a3));
+        assertEquals(2, supply.getIndex(a3));
+        assertEquals(2, supply.getChainLength(a0));
+        assertEquals(2, supply.getChainLength(b0));
+        assertSame(a3, supply.getPlanningValue(b0, 2));
+        assertEquals(Arrays.asList(b1, a3), supply.getSubChainEntityList(b1, a3));
+
+        // Swap a2 and b1, both with their trailing entities, and move a1 to c0
+        supply.beforeVariableChanged(scoreDirector, a2);
+        supply.beforeVariableChanged(scoreDirector, b1);
+        supply.beforeVariableChanged(scoreDirector, a1);
+        a2.setChainedObject(b0);
+        b1.setChainedObject(a0);
+        a1.setChainedObject(c0);
+        supply.afterVariableChanged(scoreDirector, a2);
+        supply.afterVariableChanged(scoreDirector, b1);
+        supply.afterVariableChanged(scoreDirector, a1);
+
+        assertSame(a0, supply.getAnchor(b1));
+        assertSame(a0, supply.getAnchor(a3));
+        assertSame(b0, supply.getAnchor(a2));
+        assertSame(c0, supply.getAnchor(a1));
+        assertSame(b1, supply.getPlanningValue(a0, 1));
+        assertSame(a3, supply.getPlanningValue(a0, 2));
+        assertEquals(Arrays.asList(b1, a3), supply.getSubChainEntityList(b1, a3));
+        assertEquals(1, supply.getChainLength(b0));
+        assertEquals(1, supply.getChainLength(c0));
+        assertEquals(true, supply.isBefore(c0, a1));
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
+    @Test
+    public void entityRemovedAndAdded() {
+        GenuineVariableDescriptor variableDescriptor = TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        ExternalizedChainPositionVariableSupply supply = new ExternalizedChainPositionVariableSupply(variableDescriptor);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0));
+        solution.setChainedEntityList(Arrays.asList(a1, a2, a3));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        supply.beforeEntityRemoved(scoreDirector, a2);
+        supply.beforeVariableChanged(scoreDirector, a3);
+        a3.setChainedObject(a1);
+        supply.afterEntityRemoved(scoreDirector, a2);
+        supply.afterVariableChanged(scoreDirector, a3);
+
+        assertEquals(2, supply.getChainLength(a0));
+        assertEquals(2, supply.getIndex(a3));
+        assertEquals(-1, supply.getIndex(a2));
+
+        TestdataChainedEntity a4 = new TestdataChainedEntity("a4", a3);
+        supply.beforeEntityAdded(scoreDirector, a4);
+        supply.afterEntityAdded(scoreDirector, a4);
+
+        assertSame(a0, supply.getAnchor(a4));
+        assertEquals(3, supply.getIndex(a4));
+        assertSame(a3, supply.getPlanningValue(a0, 2));
+        assertEquals(Arrays.asList(a1, a3, a4), supply.getSubChainEntityList(a1, a4));
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
+    @Test
+    public void entityRemovedWhileChangesAreQueued() {
+        GenuineVariableDescriptor variableDescriptor = TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        ExternalizedChainPositionVariableSupply supply = new ExternalizedChainPositionVariableSupply(variableDescriptor);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0));
+        solution.setChainedEntityList(Arrays.asList(a1, a2, a3));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        // In the middle of this change, both a2 and a3 have a1 as previous value
+        supply.beforeVariableChanged(scoreDirector, a3);
+        a3.setChainedObject(a1);
+        supply.afterVariableChanged(scoreDirector, a3);
+        supply.beforeEntityRemoved(scoreDirector, a2);
+        supply.afterEntityRemoved(scoreDirector, a2);
+
+        assertEquals(2, supply.getChainLength(a0));
+        assertEquals(2, supply.getIndex(a3));
+        assertEquals(-1, supply.getIndex(a2));
+        assertSame(a3, supply.getPlanningValue(a0, 2));
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
+}
@@ -67,4 +67,45 @@ public class ExternalizedCollectionInverseVariableSupplyTest {
         supply.clearWorkingSolution(scoreDirector);
     }
 
+
+    @Test
+    public void entityAndValueAdded() {
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        ExternalizedCollectionInverseVariableSupply supply = new ExternalizedCollectionInverseVariableSupply(variableDescriptor);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataEntity a = new TestdataEntity("a", val1);
+
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setEntityList(Arrays.asList(a));
+        solution.setValueList(Arrays.asList(val1));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        // val2 is unknown at resetWorkingSolution() time, so it is not an ordinal key
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity b = new TestdataEntity("b", val2);
+        supply.beforeEntityAdded(scoreDirector, b);
+        supply.afterEntityAdded(scoreDirector, b);
+
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val1), a);
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val2), b);
+
+        supply.beforeVariableChanged(scoreDirector, a);
+        a.setValue(val2);
+        supply.afterVariableChanged(scoreDirector, a);
+
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val1));
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val2), a, b);
+
+        supply.beforeEntityRemoved(scoreDirector, b);
+        supply.afterEntityRemoved(scoreDirector, b);
+
+        assertCollectionContainsExactly((Collection<Object>) supply.getInverseCollection(val2), a);
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
 }
@@ -68,4 +68,42 @@ public class ExternalizedSingletonInverseVariableSupplyTest {
         supply.clearWorkingSolution(scoreDirector);
     }
 
+
+    @Test
+    public void entityAddedAndRemoved() {
+        GenuineVariableDescriptor variableDescriptor = TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        ScoreDirector scoreDirector = mock(ScoreDirector.class);
+        ExternalizedSingletonInverseVariableSupply supply = new ExternalizedSingletonInverseVariableSupply(variableDescriptor);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0));
+        solution.setChainedEntityList(Arrays.asList(a1));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        supply.beforeEntityAdded(scoreDirector, a2);
+        supply.afterEntityAdded(scoreDirector, a2);
+        // a2 is unknown at resetWorkingSolution() time, so it is not an ordinal key
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+        supply.beforeEntityAdded(scoreDirector, a3);
+        supply.afterEntityAdded(scoreDirector, a3);
+
+        assertSame(a2, supply.getInverseSingleton(a1));
+        assertSame(a3, supply.getInverseSingleton(a2));
+        assertSame(null, supply.getInverseSingleton(a3));
+
+        supply.beforeEntityRemoved(scoreDirector, a3);
+        supply.afterEntityRemoved(scoreDirector, a3);
+
+        assertSame(a2, supply.getInverseSingleton(a1));
+        assertSame(null, supply.getInverseSingleton(a2));
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.list;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListSwapMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreCalculator;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ExternalizedListVariableSupplyTest {
+
+    @Test
+    public void inverseAndIndex() {
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor
+                = TestdataListEntity.buildVariableDescriptorForValueList();
+        ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedListVariableSupply supply = new ExternalizedListVariableSupply(variableDescriptor);
+
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataValue v4 = new TestdataValue("4");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b", v3);
+
+        TestdataListSolution solution = new TestdataListSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        solution.setEntityList(Arrays.asList(a, b));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        assertSame(a, supply.getInverseSingleton(v1));
+        assertEquals(0, supply.getIndex(v1));
+        assertSame(a, supply.getInverseSingleton(v2));
+        assertEquals(1, supply.getIndex(v2));
+        assertSame(b, supply.getInverseSingleton(v3));
+        assertEquals(0, supply.getIndex(v3));
+        assertSame(null, supply.getInverseSingleton(v4));
+        assertEquals(-1, supply.getIndex(v4));
+
+        supply.beforeVariableChanged(scoreDirector, a);
+        supply.beforeVariableChanged(scoreDirector, b);
+        a.getValueList().remove(0);
+        b.getValueList().add(0, v1);
+        supply.afterVariableChanged(scoreDirector, a);
+        supply.afterVariableChanged(scoreDirector, b);
+
+        assertSame(b, supply.getInverseSingleton(v1));
+        assertEquals(0, supply.getIndex(v1));
+        assertSame(a, supply.getInverseSingleton(v2));
+        assertEquals(0, supply.getIndex(v2));
+        assertSame(b, supply.getInverseSingleton(v3));
+        assertEquals(1, supply.getIndex(v3));
+
+        // Removed from every list
+        supply.beforeVariableChanged(scoreDirector, a);
+        a.getValueList().remove(v2);
+        supply.afterVariableChanged(scoreDirector, a);
+        assertSame(null, supply.getInverseSingleton(v2));
+        assertEquals(-1, supply.getIndex(v2));
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
+    @Test
+    public void entityAddedAndRemoved() {
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor
+                = TestdataListEntity.buildVariableDescriptorForValueList();
+        ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedListVariableSupply supply = new ExternalizedListVariableSupply(variableDescriptor);
+
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataListEntity a = new TestdataListEntity("a", v1);
+
+        TestdataListSolution solution = new TestdataListSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(a));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        TestdataListEntity b = new TestdataListEntity("b", v2);
+        supply.beforeEntityAdded(scoreDirector, b);
+        supply.afterEntityAdded(scoreDirector, b);
+        assertSame(b, supply.getInverseSingleton(v2));
+        assertEquals(0, supply.getIndex(v2));
+
+        supply.beforeEntityRemoved(scoreDirector, a);
+        supply.afterEntityRemoved(scoreDirector, a);
+        assertSame(null, supply.getInverseSingleton(v1));
+        assertEquals(-1, supply.getIndex(v1));
+        assertSame(b, supply.getInverseSingleton(v2));
+
+        supply.clearWorkingSolution(scoreDirector);
+    }
+
+    @Test
+    public void demandedFromScoreDirector() {
+        EasyScoreDirectorFactory<TestdataListSolution> scoreDirectorFactory = new EasyScoreDirectorFactory<>(
+                (EasyScoreCalculator<TestdataListSolution>) (solution_) -> SimpleScore.valueOf(0));
+        scoreDirectorFactory.setSolutionDescriptor(TestdataListSolution.buildSolutionDescriptor());
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor = scoreDirectorFactory.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataListEntity.class).getListVariableDescriptorMap().get("valueList");
+
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2);
+        TestdataListEntity b = new TestdataListEntity("b", v3);
+        TestdataListSolution solution = new TestdataListSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(a, b));
+
+        InnerScoreDirector<TestdataListSolution> scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        ListVariableSupply supply = scoreDirector.getSupplyManager().demand(new ListVariableDemand(variableDescriptor));
+        assertSame(a, supply.getInverseSingleton(v2));
+        assertEquals(1, supply.getIndex(v2));
+
+        new ListChangeMove<>(variableDescriptor, a, 1, b, 0).doMove(scoreDirector);
+        scoreDirector.triggerVariableListeners();
+        assertSame(b, supply.getInverseSingleton(v2));
+        assertEquals(0, supply.getIndex(v2));
+        assertEquals(1, supply.getIndex(v3));
+
+        new ListSwapMove<>(variableDescriptor, a, 0, b, 1).doMove(scoreDirector);
+        scoreDirector.triggerVariableListeners();
+        assertSame(b, supply.getInverseSingleton(v1));
+        assertEquals(1, supply.getIndex(v1));
+        assertSame(a, supply.getInverseSingleton(v3));
+        assertEquals(0, supply.getIndex(v3));
+        scoreDirector.close();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.heuristic.selector;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -29,6 +30,7 @@ import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableSupply;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
@@ -201,6 +203,47 @@ public class SelectorTestUtils {
         }
     }
 
+    /**
+     * @param inverseVariableSupply never null
+     * @param anchor never null
+     * @return never null, the anchor followed by the entities of its chain, in chain order
+     */
+    public static List<Object> extractChain(SingletonInverseVariableSupply inverseVariableSupply, Object anchor) {
+        List<Object> chain = new ArrayList<>();
+        Object value = anchor;
+        while (value != null) {
+            if (chain.contains(value)) {
+                fail("The chain (" + chain + ") of anchor (" + anchor + ") loops back to value (" + value + ").");
+            }
+            chain.add(value);
+            value = inverseVariableSupply.getInverseSingleton(value);
+        }
+        return chain;
+    }
+
+    /**
+     * @param chainPositionVariableSupply never null
+     * @param chain never null, the anchor followed by the entities of its chain, in chain order
+     */
+    public static void assertChainPositions(ChainPositionVariableSupply chainPositionVariableSupply,
+            List<Object> chain) {
+        Object anchor = chain.get(0);
+        int chainLength = chain.size() - 1;
+        assertEquals(chainLength, chainPositionVariableSupply.getChainLength(anchor));
+        for (int i = 0; i < chain.size(); i++) {
+            Object value = chain.get(i);
+            assertEquals(i, chainPositionVariableSupply.getIndex(value));
+            assertSame(value, chainPositionVariableSupply.getPlanningValue(anchor, i));
+            if (i > 0) {
+                assertSame(anchor, chainPositionVariableSupply.getAnchor(value));
+            }
+        }
+        if (chainLength > 0) {
+            assertEquals(chain.subList(1, chain.size()),
+                    chainPositionVariableSupply.getSubChainEntityList(chain.get(1), chain.get(chainLength)));
+        }
+    }
+
     private SelectorTestUtils() {
     }
 
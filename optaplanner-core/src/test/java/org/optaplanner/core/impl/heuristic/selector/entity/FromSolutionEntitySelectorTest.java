@@ -17,18 +17,22 @@
 package org.optaplanner.core.impl.heuristic.selector.entity;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 import org.junit.Test;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 
 import static org.mockito.Mockito.*;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
@@ -373,6 +377,96 @@ public class FromSolutionEntitySelectorTest {
         verify(entityDescriptor, times(4)).extractEntities(workingSolution);
     }
 
+    @Test
+    public void randomWithMovableEntitySelectionFilter() {
+        TestdataSolution workingSolution = new TestdataSolution();
+        EntityDescriptor entityDescriptor = mock(EntityDescriptor.class);
+        when(entityDescriptor.extractEntities(workingSolution)).thenReturn(Arrays.<Object>asList(
+                new TestdataEntity("e1"), new TestdataEntity("e2"), new TestdataEntity("e3"),
+                new TestdataEntity("e4")));
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getWorkingSolution()).thenReturn(workingSolution);
+        when(scoreDirector.getWorkingEntityListRevision()).thenReturn(7L);
+        when(scoreDirector.isWorkingEntityListDirty(7L)).thenReturn(false);
+        Set<String> immovableCodeSet = new HashSet<>(Arrays.asList("e2", "e4"));
+        SelectionFilter<TestdataSolution, TestdataEntity> movableEntitySelectionFilter
+                = (scoreDirector1, entity) -> !immovableCodeSet.contains(entity.getCode());
+        FromSolutionEntitySelector entitySelector = new FromSolutionEntitySelector(entityDescriptor,
+                SelectionCacheType.JUST_IN_TIME, true, movableEntitySelectionFilter, false);
+
+        Random workingRandom = mock(Random.class);
+        when(workingRandom.nextInt(2)).thenReturn(1, 0, 0, 1);
+        when(workingRandom.nextInt(3)).thenReturn(2, 0);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        entitySelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        when(phaseScopeA.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        when(stepScopeA1.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.stepStarted(stepScopeA1);
+        assertCodesOfNeverEndingOfEntitySelector(entitySelector, 2L, "e3", "e1", "e1", "e3");
+        entitySelector.stepEnded(stepScopeA1);
+
+        // Another entity becomes movable, for example by a ProblemFactChange
+        immovableCodeSet.remove("e4");
+        when(scoreDirector.getWorkingEntityListRevision()).thenReturn(8L);
+        when(scoreDirector.isWorkingEntityListDirty(7L)).thenReturn(true);
+        when(scoreDirector.isWorkingEntityListDirty(8L)).thenReturn(false);
+
+        AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        when(stepScopeA2.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.stepStarted(stepScopeA2);
+        assertCodesOfNeverEndingOfEntitySelector(entitySelector, 3L, "e4", "e1");
+        entitySelector.stepEnded(stepScopeA2);
+
+        entitySelector.phaseEnded(phaseScopeA);
+        entitySelector.solvingEnded(solverScope);
+
+        verify(entityDescriptor, times(2)).extractEntities(workingSolution);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void assertMovableEntityListWithPlanningVariableDependentFilter() {
+        TestdataSolution workingSolution = new TestdataSolution();
+        EntityDescriptor entityDescriptor = mock(EntityDescriptor.class);
+        when(entityDescriptor.getEntityClass()).thenReturn((Class) TestdataEntity.class);
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        when(entityDescriptor.extractEntities(workingSolution)).thenReturn(Arrays.<Object>asList(
+                e1, new TestdataEntity("e2")));
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getWorkingSolution()).thenReturn(workingSolution);
+        when(scoreDirector.getWorkingEntityListRevision()).thenReturn(7L);
+        when(scoreDirector.isWorkingEntityListDirty(7L)).thenReturn(false);
+        // Depends on a planning variable, which doesn't make the working entity list dirty when it changes
+        SelectionFilter<TestdataSolution, TestdataEntity> movableEntitySelectionFilter
+                = (scoreDirector1, entity) -> entity.getValue() == null;
+        FromSolutionEntitySelector entitySelector = new FromSolutionEntitySelector(entityDescriptor,
+                SelectionCacheType.JUST_IN_TIME, true, movableEntitySelectionFilter, true);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(mock(Random.class));
+        entitySelector.solvingStarted(solverScope);
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        when(phaseScope.getScoreDirector()).thenReturn(scoreDirector);
+        entitySelector.phaseStarted(phaseScope);
+
+        AbstractStepScope stepScope = mock(AbstractStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        when(stepScope.getScoreDirector()).thenReturn(scoreDirector);
+        e1.setValue(null);
+        entitySelector.stepStarted(stepScope);
+    }
+
     @Test(expected = IllegalStateException.class)
     public void listIteratorWithRandomSelection() {
         EntityDescriptor entityDescriptor = mock(EntityDescriptor.class);
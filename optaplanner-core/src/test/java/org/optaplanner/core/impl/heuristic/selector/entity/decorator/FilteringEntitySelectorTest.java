@@ -23,6 +23,7 @@ import org.junit.Test;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilterRejectionCounter;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
@@ -62,7 +63,8 @@ public class FilteringEntitySelectorTest {
         SelectionFilter<TestdataSolution, TestdataEntity> filter
                 = (scoreDirector, entity) -> !entity.getCode().equals("e3");
         List<SelectionFilter> filterList = Arrays.asList(filter);
-        EntitySelector entitySelector = new FilteringEntitySelector(childEntitySelector, filterList);
+        FilteringEntitySelector filteringEntitySelector = new FilteringEntitySelector(childEntitySelector, filterList);
+        EntitySelector entitySelector = filteringEntitySelector;
         if (cacheType.isCached()) {
             entitySelector = new CachingEntitySelector(entitySelector, cacheType, false);
         }
@@ -117,6 +119,12 @@ public class FilteringEntitySelectorTest {
         verifyPhaseLifecycle(childEntitySelector, 1, 2, 5);
         verify(childEntitySelector, times(timesCalled)).iterator();
         verify(childEntitySelector, times(timesCalled)).getSize();
+        SelectionFilterRejectionCounter rejectionCounter = filteringEntitySelector.getRejectionCounter();
+        assertEquals(4L * timesCalled, rejectionCounter.getSelectionCount());
+        assertEquals((long) timesCalled, rejectionCounter.getRejectionCount());
+        assertEquals(0.25, rejectionCounter.getRejectionRatio(), 0.0);
+        verify(solverScope).addSelectionFilterRejectionCounter(rejectionCounter);
+        verify(solverScope).removeSelectionFilterRejectionCounter(rejectionCounter);
     }
 
     @Test(expected = UnsupportedOperationException.class)
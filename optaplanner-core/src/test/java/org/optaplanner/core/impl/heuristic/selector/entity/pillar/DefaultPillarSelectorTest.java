@@ -16,20 +16,28 @@
 
 package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Executors;
 
 import org.junit.Test;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
 
@@ -376,6 +384,234 @@ public class DefaultPillarSelectorTest {
         verifyPhaseLifecycle(entitySelector, 1, 2, 3);
     }
 
+    @Test
+    public void originalNoSubsIncrementalAfterLocalSearchStep() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val3);
+        final TestdataEntity d = new TestdataEntity("d", val2);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                a, b, c, d);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
+                entitySelector, Arrays.asList(variableDescriptor), false, false, 1, Integer.MAX_VALUE);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        pillarSelector.solvingStarted(solverScope);
+
+        LocalSearchPhaseScope phaseScopeA = mock(LocalSearchPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        LocalSearchStepScope stepScopeA1 = mock(LocalSearchStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c]");
+        List<Object> bdPillar = pillarSelector.listIterator(1).next();
+        Move step = mock(Move.class);
+        when(step.getPlanningEntities()).thenReturn((Collection) Collections.singletonList(b));
+        when(stepScopeA1.getStep()).thenReturn(step);
+        b.setValue(val1);
+        pillarSelector.stepEnded(stepScopeA1);
+
+        LocalSearchStepScope stepScopeA2 = mock(LocalSearchStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, b]", "[c]", "[d]");
+        // A selected pillar must not change, because a move might hold on to it
+        assertAllCodesOfIterator(bdPillar.iterator(), "b", "d");
+        pillarSelector.stepEnded(stepScopeA2);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+        pillarSelector.solvingEnded(solverScope);
+    }
+
+    @Test
+    public void originalNoSubsRebuildAfterStepWithoutPlanningEntities() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val3);
+        final TestdataEntity d = new TestdataEntity("d", val2);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                a, b, c, d);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
+                entitySelector, Arrays.asList(variableDescriptor), false, false, 1, Integer.MAX_VALUE);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        pillarSelector.solvingStarted(solverScope);
+
+        LocalSearchPhaseScope phaseScopeA = mock(LocalSearchPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        LocalSearchStepScope stepScopeA1 = mock(LocalSearchStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c]");
+        // A custom move that doesn't declare its entities
+        Move step = mock(Move.class);
+        when(step.getPlanningEntities()).thenReturn(Collections.emptyList());
+        when(stepScopeA1.getStep()).thenReturn(step);
+        b.setValue(val1);
+        c.setValue(val2);
+        pillarSelector.stepEnded(stepScopeA1);
+
+        LocalSearchStepScope stepScopeA2 = mock(LocalSearchStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, b]", "[c, d]");
+        pillarSelector.stepEnded(stepScopeA2);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+        pillarSelector.solvingEnded(solverScope);
+    }
+
+    @Test
+    public void originalNoSubsRebuildWithIncrementalUpdateDisabled() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val3);
+        final TestdataEntity d = new TestdataEntity("d", val2);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                a, b, c, d);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
+                entitySelector, Arrays.asList(variableDescriptor), false, false, 1, Integer.MAX_VALUE,
+                false, false, 1, null);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        pillarSelector.solvingStarted(solverScope);
+
+        LocalSearchPhaseScope phaseScopeA = mock(LocalSearchPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        LocalSearchStepScope stepScopeA1 = mock(LocalSearchStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c]");
+        Move step = mock(Move.class);
+        when(step.getPlanningEntities()).thenReturn((Collection) Collections.singletonList(b));
+        when(stepScopeA1.getStep()).thenReturn(step);
+        b.setValue(val1);
+        // Not declared by the step, but the pillars are rebuilt anyway
+        c.setValue(val2);
+        pillarSelector.stepEnded(stepScopeA1);
+
+        LocalSearchStepScope stepScopeA2 = mock(LocalSearchStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, b]", "[c, d]");
+        pillarSelector.stepEnded(stepScopeA2);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+        pillarSelector.solvingEnded(solverScope);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void assertIncrementalUpdateWithUndeclaredEntity() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val3);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                a, b, c);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
+                entitySelector, Arrays.asList(variableDescriptor), false, false, 1, Integer.MAX_VALUE,
+                true, true, 1, null);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        pillarSelector.solvingStarted(solverScope);
+
+        LocalSearchPhaseScope phaseScopeA = mock(LocalSearchPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        LocalSearchStepScope stepScopeA1 = mock(LocalSearchStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        Move step = mock(Move.class);
+        when(step.getPlanningEntities()).thenReturn((Collection) Collections.singletonList(b));
+        when(stepScopeA1.getStep()).thenReturn(step);
+        b.setValue(val1);
+        c.setValue(val1);
+        pillarSelector.stepEnded(stepScopeA1);
+
+        LocalSearchStepScope stepScopeA2 = mock(LocalSearchStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+    }
+
+    @Test
+    public void originalNoSubsParallelBuild() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+        TestdataValue[] values = {val1, val2, val3};
+        int entitySize = DefaultPillarSelector.PARALLEL_BUILD_ENTITY_SIZE_THRESHOLD + 2;
+        List<TestdataEntity> entityList = new ArrayList<>(entitySize);
+        for (int i = 0; i < entitySize; i++) {
+            entityList.add(new TestdataEntity("e" + i, values[i % values.length]));
+        }
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                entityList.toArray());
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
+                entitySelector, Arrays.asList(variableDescriptor), false, false, 1, Integer.MAX_VALUE,
+                true, false, 3, Executors.defaultThreadFactory());
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        pillarSelector.solvingStarted(solverScope);
+
+        LocalSearchPhaseScope phaseScopeA = mock(LocalSearchPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        LocalSearchStepScope stepScopeA1 = mock(LocalSearchStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertEquals(3L, pillarSelector.getSize());
+        for (int pillarIndex = 0; pillarIndex < 3; pillarIndex++) {
+            List<Object> pillar = pillarSelector.listIterator(pillarIndex).next();
+            assertEquals((entitySize - pillarIndex + 2) / 3, pillar.size());
+            for (int i = 0; i < pillar.size(); i++) {
+                assertSame(entityList.get(pillarIndex + i * 3), pillar.get(i));
+            }
+        }
+        pillarSelector.stepEnded(stepScopeA1);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+        assertNull(pillarSelector.buildExecutor);
+        pillarSelector.solvingEnded(solverScope);
+    }
+
     private void assertAllCodesOfPillarSelector(PillarSelector pillarSelector, String... codes) {
         assertAllCodesOfIterator(pillarSelector.iterator(), codes);
         assertEquals(true, pillarSelector.isCountable());
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.composite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
+
+public class AdaptiveUnionMoveSelectorTest {
+
+    private final AtomicLong nanoTime = new AtomicLong(0L);
+
+    @Test
+    public void learnFromImprovingStep() {
+        ArrayList<MoveSelector> childMoveSelectorList = new ArrayList<>();
+        DummyMove a1 = new DummyMove("a1");
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                a1, new DummyMove("a2"), new DummyMove("a3")));
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                new DummyMove("b1"), new DummyMove("b2")));
+        AdaptiveUnionMoveSelector moveSelector = buildMoveSelector(childMoveSelectorList);
+        Map<MoveSelector, Double> probabilityWeightMap = moveSelector.getProbabilityWeightMap();
+        assertEquals(0.5, probabilityWeightMap.get(childMoveSelectorList.get(0)), 0.0);
+        assertEquals(0.5, probabilityWeightMap.get(childMoveSelectorList.get(1)), 0.0);
+
+        Random workingRandom = mock(Random.class);
+        when(workingRandom.nextDouble()).thenReturn(0.0, 0.99);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.solvingStarted(solverScope);
+        LocalSearchPhaseScope phaseScopeA = mock(LocalSearchPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        when(phaseScopeA.getWorkingRandom()).thenReturn(workingRandom);
+        LocalSearchStepScope lastCompletedStepScope = mock(LocalSearchStepScope.class);
+        when(lastCompletedStepScope.getScore()).thenReturn(SimpleScore.valueOf(0));
+        when(phaseScopeA.getLastCompletedStepScope()).thenReturn(lastCompletedStepScope);
+        moveSelector.phaseStarted(phaseScopeA);
+        LocalSearchStepScope stepScopeA1 = mock(LocalSearchStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        when(stepScopeA1.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.stepStarted(stepScopeA1);
+
+        Iterator<Move> moveIterator = moveSelector.iterator();
+        assertCode("a1", moveIterator.next());
+        nanoTime.set(1_000_000L);
+        assertCode("b1", moveIterator.next());
+        nanoTime.set(3_000_000L);
+        when(stepScopeA1.getStep()).thenReturn(a1);
+        when(stepScopeA1.getStepMoveIndex()).thenReturn(null);
+        when(stepScopeA1.getScore()).thenReturn(SimpleScore.valueOf(1));
+        moveSelector.stepEnded(stepScopeA1);
+
+        // a: 1 / 1 ms = 1.0, b: 0 / 2 ms = 0.0
+        probabilityWeightMap = moveSelector.getProbabilityWeightMap();
+        assertEquals(0.05 + 0.9, probabilityWeightMap.get(childMoveSelectorList.get(0)), 1e-9);
+        assertEquals(0.05, probabilityWeightMap.get(childMoveSelectorList.get(1)), 1e-9);
+        assertEquals(1L, moveSelector.getEvaluatedCount(0));
+        assertEquals(1L, moveSelector.getEvaluatedCount(1));
+        // Without a stepMoveIndex, only the step is known to be accepted
+        assertEquals(1L, moveSelector.getAcceptedCount(0));
+        assertEquals(0L, moveSelector.getAcceptedCount(1));
+
+        moveSelector.phaseEnded(phaseScopeA);
+        moveSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(childMoveSelectorList.get(0), 1, 1, 1);
+        verifyPhaseLifecycle(childMoveSelectorList.get(1), 1, 1, 1);
+    }
+
+    @Test
+    public void learnFromStepMoveIndex() {
+        ArrayList<MoveSelector> childMoveSelectorList = new ArrayList<>();
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                new DummyMove("a1"), new DummyMove("a2")));
+        DummyMove b1 = new DummyMove("b1");
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                b1, new DummyMove("b2")));
+        AdaptiveUnionMoveSelector moveSelector = buildMoveSelector(childMoveSelectorList);
+        LocalSearchStepScope stepScope = startStep(moveSelector, 0.0, 0.99);
+        Iterator<Move> moveIterator = moveSelector.iterator();
+        assertCode("a1", moveIterator.next());
+        nanoTime.set(2_000_000L);
+        assertCode("b1", moveIterator.next());
+        nanoTime.set(3_000_000L);
+        when(stepScope.getStep()).thenReturn(b1);
+        when(stepScope.getStepMoveIndex()).thenReturn(1);
+        when(stepScope.isMoveIndexAccepted(0)).thenReturn(true);
+        when(stepScope.isMoveIndexAccepted(1)).thenReturn(true);
+        when(stepScope.getScore()).thenReturn(SimpleScore.valueOf(3));
+        moveSelector.stepEnded(stepScope);
+
+        // a: 0 / 2 ms = 0.0, b: 3 / 1 ms = 3.0
+        assertEquals(0.05, moveSelector.getProbabilityWeight(0), 1e-9);
+        assertEquals(0.05 + 0.9, moveSelector.getProbabilityWeight(1), 1e-9);
+        assertEquals(1L, moveSelector.getEvaluatedCount(0));
+        assertEquals(1L, moveSelector.getEvaluatedCount(1));
+        assertEquals(1L, moveSelector.getAcceptedCount(0));
+        assertEquals(1L, moveSelector.getAcceptedCount(1));
+    }
+
+    @Test
+    public void rewardPerEvaluationTime() {
+        ArrayList<MoveSelector> childMoveSelectorList = new ArrayList<>();
+        DummyMove a1 = new DummyMove("a1");
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                a1, new DummyMove("a2")));
+        DummyMove b1 = new DummyMove("b1");
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                b1, new DummyMove("b2")));
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                new DummyMove("c1"), new DummyMove("c2")));
+        AdaptiveUnionMoveSelector moveSelector = buildMoveSelector(childMoveSelectorList);
+        LocalSearchStepScope stepScope1 = startStep(moveSelector, 0.0, 0.5);
+        assertCode("a1", moveSelector.iterator().next());
+        nanoTime.set(2_000_000L);
+        when(stepScope1.getStep()).thenReturn(a1);
+        when(stepScope1.getStepMoveIndex()).thenReturn(0);
+        when(stepScope1.isMoveIndexAccepted(0)).thenReturn(true);
+        when(stepScope1.getScore()).thenReturn(SimpleScore.valueOf(2));
+        moveSelector.stepEnded(stepScope1);
+
+        // a: 2 / 2 ms = 1.0, b and c haven't been tried yet, so they get the highest reward rate
+        assertEquals(1.0 / 3.0, moveSelector.getProbabilityWeight(0), 1e-9);
+        assertEquals(1.0 / 3.0, moveSelector.getProbabilityWeight(1), 1e-9);
+        assertEquals(1.0 / 3.0, moveSelector.getProbabilityWeight(2), 1e-9);
+
+        LocalSearchPhaseScope phaseScope = stepScope1.getPhaseScope();
+        when(phaseScope.getLastCompletedStepScope().getScore()).thenReturn(SimpleScore.valueOf(2));
+        LocalSearchStepScope stepScope2 = mock(LocalSearchStepScope.class);
+        when(stepScope2.getPhaseScope()).thenReturn(phaseScope);
+        moveSelector.stepStarted(stepScope2);
+        nanoTime.set(10_000_000L);
+        assertCode("b1", moveSelector.iterator().next());
+        nanoTime.set(10_500_000L);
+        when(stepScope2.getStep()).thenReturn(b1);
+        when(stepScope2.getStepMoveIndex()).thenReturn(0);
+        when(stepScope2.isMoveIndexAccepted(0)).thenReturn(true);
+        when(stepScope2.getScore()).thenReturn(SimpleScore.valueOf(3));
+        moveSelector.stepEnded(stepScope2);
+
+        // a: 2 / 2 ms = 1.0, b: 1 / 0.5 ms = 2.0, c hasn't been tried yet: 2.0
+        double minimumProbability = 0.1 / 3.0;
+        assertEquals(minimumProbability + 0.9 * (1.0 / 5.0), moveSelector.getProbabilityWeight(0), 1e-9);
+        assertEquals(minimumProbability + 0.9 * (2.0 / 5.0), moveSelector.getProbabilityWeight(1), 1e-9);
+        assertEquals(minimumProbability + 0.9 * (2.0 / 5.0), moveSelector.getProbabilityWeight(2), 1e-9);
+        assertEquals(0L, moveSelector.getEvaluatedCount(2));
+    }
+
+    @Test
+    public void worseningStepIsNotRewarded() {
+        ArrayList<MoveSelector> childMoveSelectorList = new ArrayList<>();
+        DummyMove a1 = new DummyMove("a1");
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                a1, new DummyMove("a2")));
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                new DummyMove("b1"), new DummyMove("b2")));
+        AdaptiveUnionMoveSelector moveSelector = buildMoveSelector(childMoveSelectorList);
+        LocalSearchStepScope stepScope = startStep(moveSelector, 0.0, 0.99);
+        Iterator<Move> moveIterator = moveSelector.iterator();
+        assertCode("a1", moveIterator.next());
+        nanoTime.set(1_000_000L);
+        assertCode("b1", moveIterator.next());
+        nanoTime.set(2_000_000L);
+        when(stepScope.getStep()).thenReturn(a1);
+        when(stepScope.getStepMoveIndex()).thenReturn(0);
+        when(stepScope.isMoveIndexAccepted(0)).thenReturn(true);
+        when(stepScope.getScore()).thenReturn(SimpleScore.valueOf(-5));
+        moveSelector.stepEnded(stepScope);
+
+        assertEquals(0.5, moveSelector.getProbabilityWeight(0), 1e-9);
+        assertEquals(0.5, moveSelector.getProbabilityWeight(1), 1e-9);
+        assertEquals(1L, moveSelector.getAcceptedCount(0));
+        assertEquals(0L, moveSelector.getAcceptedCount(1));
+    }
+
+    @Test
+    public void rebasedStepIsNotRewarded() {
+        ArrayList<MoveSelector> childMoveSelectorList = new ArrayList<>();
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                new DummyMove("a1"), new DummyMove("a2")));
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                new DummyMove("b1"), new DummyMove("b2")));
+        AdaptiveUnionMoveSelector moveSelector = buildMoveSelector(childMoveSelectorList);
+        LocalSearchStepScope stepScope = startStep(moveSelector, 0.0, 0.99);
+        Iterator<Move> moveIterator = moveSelector.iterator();
+        assertCode("a1", moveIterator.next());
+        nanoTime.set(1_000_000L);
+        assertCode("b1", moveIterator.next());
+        nanoTime.set(2_000_000L);
+        // A move thread returns another instance of the selected move
+        when(stepScope.getStep()).thenReturn(new DummyMove("b1"));
+        when(stepScope.getStepMoveIndex()).thenReturn(1);
+        when(stepScope.getScore()).thenReturn(SimpleScore.valueOf(1));
+        moveSelector.stepEnded(stepScope);
+
+        assertEquals(0.5, moveSelector.getProbabilityWeight(0), 1e-9);
+        assertEquals(0.5, moveSelector.getProbabilityWeight(1), 1e-9);
+        assertEquals(1L, moveSelector.getEvaluatedCount(1));
+        assertEquals(0L, moveSelector.getAcceptedCount(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void originSelectionUnsupported() {
+        ArrayList<MoveSelector> childMoveSelectorList = new ArrayList<>();
+        childMoveSelectorList.add(SelectorTestUtils.mockMoveSelector(DummyMove.class, new DummyMove("a1")));
+        new AdaptiveUnionMoveSelector(childMoveSelectorList, false);
+    }
+
+    private AdaptiveUnionMoveSelector buildMoveSelector(ArrayList<MoveSelector> childMoveSelectorList) {
+        return new AdaptiveUnionMoveSelector(childMoveSelectorList, true, 10, 0.1) {
+            @Override
+            protected long currentNanoTime() {
+                return nanoTime.get();
+            }
+        };
+    }
+
+    private static LocalSearchStepScope startStep(AdaptiveUnionMoveSelector moveSelector,
+            double randomDouble, double... randomDoubles) {
+        Random workingRandom = mock(Random.class);
+        when(workingRandom.nextDouble()).thenReturn(randomDouble, Arrays.stream(randomDoubles).boxed()
+                .toArray(Double[]::new));
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.solvingStarted(solverScope);
+        LocalSearchPhaseScope phaseScope = mock(LocalSearchPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        when(phaseScope.getWorkingRandom()).thenReturn(workingRandom);
+        LocalSearchStepScope lastCompletedStepScope = mock(LocalSearchStepScope.class);
+        when(lastCompletedStepScope.getScore()).thenReturn(SimpleScore.valueOf(0));
+        when(phaseScope.getLastCompletedStepScope()).thenReturn(lastCompletedStepScope);
+        moveSelector.phaseStarted(phaseScope);
+        LocalSearchStepScope stepScope = mock(LocalSearchStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        when(stepScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.stepStarted(stepScope);
+        return stepScope;
+    }
+
+}
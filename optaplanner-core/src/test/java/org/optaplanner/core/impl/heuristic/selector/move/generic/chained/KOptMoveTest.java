@@ -16,13 +16,17 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.generic.chained;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Ignore;
 import org.junit.Test;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableDemand;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableDemand;
+import org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
@@ -244,6 +248,88 @@ public class KOptMoveTest {
         // TODO
     }
 
+    @Test
+    public void doMove3OptWithChainPositionVariableSupplyMatchesChainWalking() {
+        for (int entityIndex = 0; entityIndex < 7; entityIndex++) {
+            for (int firstValueIndex = 0; firstValueIndex < 10; firstValueIndex++) {
+                for (int secondValueIndex = 0; secondValueIndex < 10; secondValueIndex++) {
+                    assertEquals("entityIndex (" + entityIndex + "), firstValueIndex (" + firstValueIndex
+                                    + "), secondValueIndex (" + secondValueIndex + ")",
+                            doMove3OptOnFreshChains(entityIndex, firstValueIndex, secondValueIndex, false),
+                            doMove3OptOnFreshChains(entityIndex, firstValueIndex, secondValueIndex, true));
+                }
+            }
+        }
+    }
+
+    private List<String> doMove3OptOnFreshChains(int entityIndex, int firstValueIndex, int secondValueIndex,
+            boolean withChainPositionVariableSupply) {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor = TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        SolutionDescriptor<TestdataChainedSolution> solutionDescriptor = variableDescriptor.getEntityDescriptor().getSolutionDescriptor();
+        InnerScoreDirector<TestdataChainedSolution> scoreDirector = PlannerTestUtils.mockScoreDirector(solutionDescriptor);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+        TestdataChainedEntity b2 = new TestdataChainedEntity("b2", b1);
+
+        TestdataChainedAnchor c0 = new TestdataChainedAnchor("c0");
+        TestdataChainedEntity c1 = new TestdataChainedEntity("c1", c0);
+        TestdataChainedEntity c2 = new TestdataChainedEntity("c2", c1);
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0, c0));
+        solution.setChainedEntityList(Arrays.asList(a1, a2, a3, b1, b2, c1, c2));
+        List<Object> valueList = Arrays.asList(a0, a1, a2, a3, b0, b1, b2, c0, c1, c2);
+
+        scoreDirector.setWorkingSolution(solution);
+        SingletonInverseVariableSupply inverseVariableSupply = scoreDirector.getSupplyManager()
+                .demand(new SingletonInverseVariableDemand(variableDescriptor));
+        AnchorVariableSupply anchorVariableSupply = scoreDirector.getSupplyManager()
+                .demand(new AnchorVariableDemand(variableDescriptor));
+        ChainPositionVariableSupply chainPositionVariableSupply = withChainPositionVariableSupply
+                ? scoreDirector.getSupplyManager().demand(new ChainPositionVariableDemand(variableDescriptor))
+                : null;
+
+        Object entity = solution.getChainedEntityList().get(entityIndex);
+        Object firstValue = valueList.get(firstValueIndex);
+        Object secondValue = valueList.get(secondValueIndex);
+        KOptMove<TestdataChainedSolution> move = new KOptMove<>(variableDescriptor,
+                inverseVariableSupply, anchorVariableSupply, chainPositionVariableSupply,
+                entity, new Object[]{firstValue, secondValue});
+        List<String> result = new ArrayList<>();
+        result.add("compare: " + move.compareValuesInSameChain(firstValue, secondValue));
+        boolean moveDoable = move.isMoveDoable(scoreDirector);
+        result.add("doable: " + moveDoable);
+        Object entityAnchor = anchorVariableSupply.getAnchor(entity);
+        Object firstAnchor = variableDescriptor.isValuePotentialAnchor(firstValue)
+                ? firstValue : anchorVariableSupply.getAnchor(firstValue);
+        Object secondAnchor = variableDescriptor.isValuePotentialAnchor(secondValue)
+                ? secondValue : anchorVariableSupply.getAnchor(secondValue);
+        // Only 3 chain moves, because moves with fewer chains can create a loop
+        if (!moveDoable || entityAnchor == firstAnchor || entityAnchor == secondAnchor || firstAnchor == secondAnchor) {
+            return result;
+        }
+        KOptMove<TestdataChainedSolution> undoMove = move.createUndoMove(scoreDirector);
+        move.doMove(scoreDirector);
+        for (TestdataChainedAnchor anchor : solution.getChainedAnchorList()) {
+            List<Object> chain = SelectorTestUtils.extractChain(inverseVariableSupply, anchor);
+            if (chainPositionVariableSupply != null) {
+                SelectorTestUtils.assertChainPositions(chainPositionVariableSupply, chain);
+            }
+            result.add(chain.toString());
+        }
+        undoMove.doMove(scoreDirector);
+        SelectorTestUtils.assertChain(a0, a1, a2, a3);
+        SelectorTestUtils.assertChain(b0, b1, b2);
+        SelectorTestUtils.assertChain(c0, c1, c2);
+        return result;
+    }
+
     @Test
     public void rebase() {
         GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor = TestdataChainedEntity.buildVariableDescriptorForChainedObject();
@@ -16,12 +16,16 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.generic.chained;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableDemand;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableDemand;
+import org.optaplanner.core.impl.domain.variable.chainposition.ChainPositionVariableSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
@@ -198,6 +202,80 @@ public class TailChainSwapMoveTest {
 //        SelectorTestUtils.assertChain(a0, a1, a2, a3, a4, a5, a6, a7);
     }
 
+    @Test
+    public void doMoveWithChainPositionVariableSupplyMatchesChainWalking() {
+        for (int leftEntityIndex = 0; leftEntityIndex < 7; leftEntityIndex++) {
+            for (int rightValueIndex = 0; rightValueIndex < 9; rightValueIndex++) {
+                assertEquals("leftEntityIndex (" + leftEntityIndex + "), rightValueIndex (" + rightValueIndex + ")",
+                        doMoveOnFreshChains(leftEntityIndex, rightValueIndex, false),
+                        doMoveOnFreshChains(leftEntityIndex, rightValueIndex, true));
+            }
+        }
+    }
+
+    private List<String> doMoveOnFreshChains(int leftEntityIndex, int rightValueIndex,
+            boolean withChainPositionVariableSupply) {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor = TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        SolutionDescriptor<TestdataChainedSolution> solutionDescriptor = variableDescriptor.getEntityDescriptor().getSolutionDescriptor();
+        InnerScoreDirector<TestdataChainedSolution> scoreDirector = PlannerTestUtils.mockScoreDirector(solutionDescriptor);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+        TestdataChainedEntity a4 = new TestdataChainedEntity("a4", a3);
+        TestdataChainedEntity a5 = new TestdataChainedEntity("a5", a4);
+
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+        TestdataChainedEntity b2 = new TestdataChainedEntity("b2", b1);
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0));
+        solution.setChainedEntityList(Arrays.asList(a1, a2, a3, a4, a5, b1, b2));
+        List<Object> valueList = Arrays.asList(a0, a1, a2, a3, a4, a5, b0, b1, b2);
+
+        scoreDirector.setWorkingSolution(solution);
+        SingletonInverseVariableSupply inverseVariableSupply = scoreDirector.getSupplyManager()
+                .demand(new SingletonInverseVariableDemand(variableDescriptor));
+        AnchorVariableSupply anchorVariableSupply = scoreDirector.getSupplyManager()
+                .demand(new AnchorVariableDemand(variableDescriptor));
+        ChainPositionVariableSupply chainPositionVariableSupply = withChainPositionVariableSupply
+                ? scoreDirector.getSupplyManager().demand(new ChainPositionVariableDemand(variableDescriptor))
+                : null;
+
+        Object leftEntity = solution.getChainedEntityList().get(leftEntityIndex);
+        Object rightValue = valueList.get(rightValueIndex);
+        TailChainSwapMove<TestdataChainedSolution> move = new TailChainSwapMove<>(variableDescriptor,
+                inverseVariableSupply, anchorVariableSupply, chainPositionVariableSupply, leftEntity, rightValue);
+        List<String> result = new ArrayList<>();
+        boolean moveDoable = move.isMoveDoable(scoreDirector);
+        result.add("doable: " + moveDoable);
+        if (!moveDoable) {
+            return result;
+        }
+        if (anchorVariableSupply.getAnchor(leftEntity) == move.determineRightAnchor()) {
+            result.add("last: " + move.findLastEntityInChainOrLeftEntity());
+        }
+        TailChainSwapMove<TestdataChainedSolution> undoMove = move.createUndoMove(scoreDirector);
+        move.doMove(scoreDirector);
+        for (TestdataChainedAnchor anchor : solution.getChainedAnchorList()) {
+            List<Object> chain = SelectorTestUtils.extractChain(inverseVariableSupply, anchor);
+            if (chainPositionVariableSupply != null) {
+                SelectorTestUtils.assertChainPositions(chainPositionVariableSupply, chain);
+            }
+            result.add(chain.toString());
+        }
+        undoMove.doMove(scoreDirector);
+        SelectorTestUtils.assertChain(a0, a1, a2, a3, a4, a5);
+        SelectorTestUtils.assertChain(b0, b1, b2);
+        if (chainPositionVariableSupply != null) {
+            SelectorTestUtils.assertChainPositions(chainPositionVariableSupply, Arrays.asList(a0, a1, a2, a3, a4, a5));
+            SelectorTestUtils.assertChainPositions(chainPositionVariableSupply, Arrays.asList(b0, b1, b2));
+        }
+        return result;
+    }
+
     @Test
     public void rebase() {
         GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor = TestdataChainedEntity.buildVariableDescriptorForChainedObject();
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+
+import static org.mockito.Mockito.*;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
+
+public class ListSwapMoveSelectorTest {
+
+    @Test
+    public void original() {
+        EntityDescriptor<TestdataListSolution> entityDescriptor = TestdataListEntity.buildEntityDescriptor();
+        TestdataListEntity a = new TestdataListEntity("a", new TestdataValue("1"), new TestdataValue("2"));
+        TestdataListEntity b = new TestdataListEntity("b", new TestdataValue("3"));
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(entityDescriptor, a, b);
+
+        ListSwapMoveSelector moveSelector = new ListSwapMoveSelector(entitySelector,
+                entityDescriptor.getListVariableDescriptor("valueList"), false);
+
+        DefaultSolverScope solverScope = mock(DefaultSolverScope.class);
+        moveSelector.solvingStarted(solverScope);
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        moveSelector.phaseStarted(phaseScope);
+        AbstractStepScope stepScope = mock(AbstractStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        moveSelector.stepStarted(stepScope);
+        assertAllCodesOfMoveSelector(moveSelector,
+                "a[0]<->a[1]", "a[0]<->b[0]", "a[1]<->b[0]");
+        moveSelector.stepEnded(stepScope);
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(entitySelector, 1, 1, 1);
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic.list;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import org.optaplanner.core.impl.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class TailListSwapMoveTest {
+
+    @Test
+    public void doMove() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataValue v4 = new TestdataValue("4");
+        TestdataValue v5 = new TestdataValue("5");
+        TestdataListEntity a = new TestdataListEntity("a", v1, v2, v3);
+        TestdataListEntity b = new TestdataListEntity("b", v4, v5);
+
+        ScoreDirector<TestdataListSolution> scoreDirector = mock(ScoreDirector.class);
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor
+                = TestdataListEntity.buildVariableDescriptorForValueList();
+
+        TailListSwapMove<TestdataListSolution> move = new TailListSwapMove<>(variableDescriptor, a, 1, b, 2);
+        assertTrue(move.isMoveDoable(scoreDirector));
+        TailListSwapMove<TestdataListSolution> undoMove = move.createUndoMove(scoreDirector);
+        move.doMove(scoreDirector);
+        assertEquals(Collections.singletonList(v1), a.getValueList());
+        assertEquals(Arrays.asList(v4, v5, v2, v3), b.getValueList());
+        undoMove.doMove(scoreDirector);
+        assertEquals(Arrays.asList(v1, v2, v3), a.getValueList());
+        assertEquals(Arrays.asList(v4, v5), b.getValueList());
+
+        assertFalse(new TailListSwapMove<>(variableDescriptor, a, 3, b, 2).isMoveDoable(scoreDirector));
+        assertFalse(new TailListSwapMove<>(variableDescriptor, a, 0, a, 1).isMoveDoable(scoreDirector));
+    }
+
+}
@@ -16,12 +16,21 @@
 
 package org.optaplanner.core.impl.localsearch;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 
 import org.junit.Test;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListSwapMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.list.ListTwoOptMoveSelectorConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
@@ -30,6 +39,8 @@ import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.immovable.TestdataImmovableEntity;
 import org.optaplanner.core.impl.testdata.domain.immovable.TestdataImmovableSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
 import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 import static org.junit.Assert.assertEquals;
@@ -126,6 +137,56 @@ public class DefaultLocalSearchPhaseTest {
         assertEquals(0, solution.getEntityList().size());
     }
 
+    @Test
+    public void solveWithListVariableRandomSelection() {
+        solveWithListVariable(SelectionOrder.RANDOM);
+    }
+
+    @Test
+    public void solveWithListVariableOriginalSelection() {
+        solveWithListVariable(SelectionOrder.ORIGINAL);
+    }
+
+    private void solveWithListVariable(SelectionOrder selectionOrder) {
+        SolverFactory<TestdataListSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
+                TestdataListSolution.class, TestdataListEntity.class);
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig();
+        List<MoveSelectorConfig> moveSelectorConfigList = new ArrayList<>(3);
+        moveSelectorConfigList.add(new ListChangeMoveSelectorConfig());
+        moveSelectorConfigList.add(new ListSwapMoveSelectorConfig());
+        moveSelectorConfigList.add(new ListTwoOptMoveSelectorConfig());
+        UnionMoveSelectorConfig moveSelectorConfig = new UnionMoveSelectorConfig(moveSelectorConfigList);
+        moveSelectorConfig.setSelectionOrder(selectionOrder);
+        phaseConfig.setMoveSelectorConfig(moveSelectorConfig);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withScoreCalculationCountLimit(100L));
+        solverFactory.getSolverConfig().setPhaseConfigList(Collections.singletonList(
+                phaseConfig));
+        Solver<TestdataListSolution> solver = solverFactory.buildSolver();
+
+        TestdataListSolution solution = new TestdataListSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataValue v4 = new TestdataValue("v4");
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        solution.setEntityList(Arrays.asList(
+                new TestdataListEntity("e1", v1, v2),
+                new TestdataListEntity("e2", v3),
+                new TestdataListEntity("e3", v4),
+                new TestdataListEntity("e4")));
+
+        solution = solver.solve(solution);
+        assertNotNull(solution);
+        assertEquals(4, solution.getEntityList().size());
+        List<TestdataValue> assignedValueList = new ArrayList<>();
+        for (TestdataListEntity entity : solution.getEntityList()) {
+            assignedValueList.addAll(entity.getValueList());
+        }
+        // Every value is still assigned exactly once
+        assertEquals(4, assignedValueList.size());
+        assertEquals(4, new HashSet<>(assignedValueList).size());
+    }
+
     @Test
     public void solveTabuSearchWithInitializedEntities() {
         SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactory(
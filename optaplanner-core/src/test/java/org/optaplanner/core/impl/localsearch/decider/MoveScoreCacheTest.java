@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class MoveScoreCacheTest {
+
+    @Test
+    public void getAndPut() {
+        MoveScoreCache<TestdataSolution> moveScoreCache = new MoveScoreCache<>(10);
+        Move<TestdataSolution> move1 = mock(Move.class);
+        Move<TestdataSolution> move2 = mock(Move.class);
+        assertNull(moveScoreCache.get(1L, move1));
+        moveScoreCache.put(1L, move1, SimpleScore.valueOf(-1));
+        assertEquals(SimpleScore.valueOf(-1), moveScoreCache.get(1L, move1));
+        // Same move on another solution state
+        assertNull(moveScoreCache.get(2L, move1));
+        // Another move on the same solution state
+        assertNull(moveScoreCache.get(1L, move2));
+        assertEquals(1L, moveScoreCache.getHitCount());
+        assertEquals(3L, moveScoreCache.getMissCount());
+        assertEquals(0.25, moveScoreCache.getHitRatio(), 0.0);
+
+        moveScoreCache.clear();
+        assertEquals(0, moveScoreCache.getSize());
+        moveScoreCache.resetStatistics();
+        assertEquals(0.0, moveScoreCache.getHitRatio(), 0.0);
+    }
+
+    @Test
+    public void leastRecentlyUsedEviction() {
+        MoveScoreCache<TestdataSolution> moveScoreCache = new MoveScoreCache<>(2);
+        Move<TestdataSolution> move = mock(Move.class);
+        moveScoreCache.put(1L, move, SimpleScore.valueOf(-1));
+        moveScoreCache.put(2L, move, SimpleScore.valueOf(-2));
+        // Touch the eldest entry, so the other one becomes the least recently used
+        assertEquals(SimpleScore.valueOf(-1), moveScoreCache.get(1L, move));
+        moveScoreCache.put(3L, move, SimpleScore.valueOf(-3));
+        assertEquals(2, moveScoreCache.getSize());
+        assertEquals(SimpleScore.valueOf(-1), moveScoreCache.get(1L, move));
+        assertNull(moveScoreCache.get(2L, move));
+        assertEquals(SimpleScore.valueOf(-3), moveScoreCache.get(3L, move));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveMaximumSize() {
+        new MoveScoreCache<TestdataSolution>(0);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider.acceptor;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.bendablelong.BendableLongScore;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
+
+import static org.junit.Assert.*;
+
+public class ScoreArrayTest {
+
+    @Test
+    public void hardSoftScore() {
+        ScoreArray scoreArray = ScoreArray.build(3, HardSoftScore.valueOf(-1, -100));
+        assertEquals(3, scoreArray.size());
+        assertEquals(0, scoreArray.compareTo(HardSoftScore.valueOf(-1, -100), 2));
+        scoreArray.set(1, HardSoftScore.valueOf(0, -500));
+        scoreArray.set(2, HardSoftScore.valueOfUninitialized(-1, 0, 0));
+        assertCompareToMatchesScore(scoreArray,
+                HardSoftScore.valueOf(-1, -100), HardSoftScore.valueOf(0, -500),
+                HardSoftScore.valueOfUninitialized(-1, 0, 0));
+        assertTrue(scoreArray.compare(0, 1) < 0);
+        assertTrue(scoreArray.compare(1, 2) > 0);
+        scoreArray.copy(1, 0);
+        assertEquals(0, scoreArray.compare(0, 1));
+    }
+
+    @Test
+    public void bendableLongScore() {
+        ScoreArray scoreArray = ScoreArray.build(2, BendableLongScore.valueOf(new long[]{-1L}, new long[]{-2L, -3L}));
+        scoreArray.set(1, BendableLongScore.valueOf(new long[]{-1L}, new long[]{-2L, Long.MAX_VALUE}));
+        assertCompareToMatchesScore(scoreArray,
+                BendableLongScore.valueOf(new long[]{-1L}, new long[]{-2L, -3L}),
+                BendableLongScore.valueOf(new long[]{-1L}, new long[]{-2L, Long.MAX_VALUE}));
+        assertTrue(scoreArray.compare(0, 1) < 0);
+    }
+
+    @Test
+    public void bigDecimalScoreFallback() {
+        ScoreArray scoreArray = ScoreArray.build(2, SimpleBigDecimalScore.valueOf(new BigDecimal("-1.5")));
+        scoreArray.set(1, SimpleBigDecimalScore.valueOf(new BigDecimal("2.25")));
+        assertCompareToMatchesScore(scoreArray,
+                SimpleBigDecimalScore.valueOf(new BigDecimal("-1.5")),
+                SimpleBigDecimalScore.valueOf(new BigDecimal("2.25")));
+        assertTrue(scoreArray.compare(0, 1) < 0);
+    }
+
+    private void assertCompareToMatchesScore(ScoreArray scoreArray, Score... elements) {
+        for (Score element : elements) {
+            for (int i = 0; i < elements.length; i++) {
+                assertEquals(Integer.signum(element.compareTo(elements[i])),
+                        Integer.signum(scoreArray.compareTo(element, i)));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroSize() {
+        ScoreArray.build(0, HardSoftScore.valueOf(0, 0));
+    }
+
+}
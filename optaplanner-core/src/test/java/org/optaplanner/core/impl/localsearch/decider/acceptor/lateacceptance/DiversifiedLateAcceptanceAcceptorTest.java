@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptorTest;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+import static org.junit.Assert.*;
+
+public class DiversifiedLateAcceptanceAcceptorTest extends AbstractAcceptorTest {
+
+    @Test
+    public void lateAcceptanceSize() {
+        DiversifiedLateAcceptanceAcceptor acceptor = new DiversifiedLateAcceptanceAcceptor();
+        acceptor.setLateAcceptanceSize(3);
+
+        DefaultSolverScope<TestdataSolution> solverScope = new DefaultSolverScope<>();
+        solverScope.setBestScore(SimpleScore.valueOf(-1000));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(SimpleScore.valueOf(-1000));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // previousScores = [-1000, -1000, -1000], lowest = -1000
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope0, -900)));
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope0, -1000))); // Equal to the last step score
+        assertEquals(false, acceptor.isAccepted(buildMoveScope(stepScope0, -1001)));
+        // Improves the late score and the last step score: replaces the late score
+        completeStep(acceptor, phaseScope, stepScope0, -900);
+
+        // previousScores = [-900, -1000, -1000], lowest = -1000
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope1, -900)));
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope1, -950)));
+        assertEquals(false, acceptor.isAccepted(buildMoveScope(stepScope1, -1000)));
+        // Improves the late score, but not the last step score: keeps the late score
+        completeStep(acceptor, phaseScope, stepScope1, -950);
+
+        // previousScores = [-900, -1000, -1000], lowest = -1000
+        LocalSearchStepScope<TestdataSolution> stepScope2 = new LocalSearchStepScope<>(phaseScope);
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope2, -999)));
+        assertEquals(false, acceptor.isAccepted(buildMoveScope(stepScope2, -1000)));
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope2, -950)));
+        completeStep(acceptor, phaseScope, stepScope2, -800);
+
+        // previousScores = [-900, -1000, -800], lowest = -1000
+        LocalSearchStepScope<TestdataSolution> stepScope3 = new LocalSearchStepScope<>(phaseScope);
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope3, -999)));
+        assertEquals(false, acceptor.isAccepted(buildMoveScope(stepScope3, -1000)));
+        completeStep(acceptor, phaseScope, stepScope3, -850);
+
+        // previousScores = [-900, -1000, -800], lowest = -1000
+        LocalSearchStepScope<TestdataSolution> stepScope4 = new LocalSearchStepScope<>(phaseScope);
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope4, -999)));
+        // Replaces the only lowest score
+        completeStep(acceptor, phaseScope, stepScope4, -700);
+
+        // previousScores = [-900, -700, -800], lowest = -900
+        LocalSearchStepScope<TestdataSolution> stepScope5 = new LocalSearchStepScope<>(phaseScope);
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope5, -899)));
+        assertEquals(false, acceptor.isAccepted(buildMoveScope(stepScope5, -900)));
+        assertEquals(false, acceptor.isAccepted(buildMoveScope(stepScope5, -999)));
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope5, -700)));
+        // Worsens the late score: replaces the late score
+        completeStep(acceptor, phaseScope, stepScope5, -1100);
+
+        // previousScores = [-900, -700, -1100], lowest = -1100
+        LocalSearchStepScope<TestdataSolution> stepScope6 = new LocalSearchStepScope<>(phaseScope);
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope6, -1099)));
+        assertEquals(true, acceptor.isAccepted(buildMoveScope(stepScope6, -1100)));
+        assertEquals(false, acceptor.isAccepted(buildMoveScope(stepScope6, -1101)));
+        completeStep(acceptor, phaseScope, stepScope6, -1100);
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    private void completeStep(DiversifiedLateAcceptanceAcceptor acceptor,
+            LocalSearchPhaseScope<TestdataSolution> phaseScope, LocalSearchStepScope<TestdataSolution> stepScope,
+            int stepScore) {
+        LocalSearchMoveScope<TestdataSolution> moveScope = buildMoveScope(stepScope, stepScore);
+        stepScope.setStep(moveScope.getMove());
+        stepScope.setScore(moveScope.getScore());
+        acceptor.stepEnded(stepScope);
+        phaseScope.setLastCompletedStepScope(stepScope);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroLateAcceptanceSize() {
+        DiversifiedLateAcceptanceAcceptor acceptor = new DiversifiedLateAcceptanceAcceptor();
+        acceptor.setLateAcceptanceSize(0);
+        acceptor.phaseStarted(null);
+    }
+
+}
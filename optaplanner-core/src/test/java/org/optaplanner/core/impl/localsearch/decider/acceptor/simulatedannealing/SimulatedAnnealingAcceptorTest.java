@@ -20,7 +20,9 @@ import java.util.Random;
 
 import org.junit.Test;
 import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptorTest;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
@@ -102,6 +104,46 @@ public class SimulatedAnnealingAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    public void multiLevelAcceptanceEqualsExpPerLevel() {
+        SimulatedAnnealingAcceptor acceptor = new SimulatedAnnealingAcceptor();
+        acceptor.setStartingTemperature(HardSoftScore.valueOf(2, 400));
+
+        DefaultSolverScope<TestdataSolution> solverScope = new DefaultSolverScope<>();
+        solverScope.setBestScore(HardSoftScore.valueOf(-10, -1000));
+        Random workingRandom = mock(Random.class);
+        solverScope.setWorkingRandom(workingRandom);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(HardSoftScore.valueOf(-10, -1000));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        stepScope.setTimeGradient(0.5);
+        acceptor.stepStarted(stepScope);
+        double[] randoms = {0.001, 0.05, 0.2, 0.5, 0.9, 0.999};
+        HardSoftScore[] moveScores = {
+                HardSoftScore.valueOf(-10, -1100), HardSoftScore.valueOf(-11, -1000),
+                HardSoftScore.valueOf(-11, -900), HardSoftScore.valueOf(-12, -1300),
+                HardSoftScore.valueOf(-10, -1001), HardSoftScore.valueOf(-13, -500)};
+        for (HardSoftScore moveScore : moveScores) {
+            // The classic formulation: the product of an exp per worse level, with the temperature (1, 200)
+            double hardDifference = Math.max(0.0, -10.0 - moveScore.getHardScore());
+            double softDifference = Math.max(0.0, -1000.0 - moveScore.getSoftScore());
+            double acceptChance = Math.exp(-hardDifference / 1.0) * Math.exp(-softDifference / 200.0);
+            for (double random : randoms) {
+                LocalSearchMoveScope<TestdataSolution> moveScope = new LocalSearchMoveScope<>(
+                        stepScope, 0, mock(Move.class));
+                moveScope.setScore(moveScore);
+                when(workingRandom.nextDouble()).thenReturn(random);
+                assertEquals("The moveScore (" + moveScore + ") with random (" + random + ").",
+                        random < acceptChance, acceptor.isAccepted(moveScope));
+            }
+        }
+        acceptor.phaseEnded(phaseScope);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void negativeSimulatedAnnealingSize() {
         SimulatedAnnealingAcceptor acceptor = new SimulatedAnnealingAcceptor();
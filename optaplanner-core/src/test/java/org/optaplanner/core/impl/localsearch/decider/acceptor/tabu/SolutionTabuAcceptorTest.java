@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.FixedTabuSizeStrategy;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.DefaultSolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class SolutionTabuAcceptorTest {
+
+    @Test
+    public void tabuSize() {
+        SolutionTabuAcceptor acceptor = new SolutionTabuAcceptor("");
+        acceptor.setTabuSizeStrategy(new FixedTabuSizeStrategy(2));
+
+        InnerScoreDirector<TestdataSolution> scoreDirector = mock(InnerScoreDirector.class);
+        DefaultSolverScope<TestdataSolution> solverScope = new DefaultSolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setBestScore(SimpleScore.valueOf(0));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        when(scoreDirector.getWorkingSolutionHash()).thenReturn(0L);
+        acceptor.phaseStarted(phaseScope);
+
+        // Step 0 goes from state 0 to state 1
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        assertEquals(false, isAccepted(acceptor, scoreDirector, stepScope0, 0L));
+        assertEquals(true, isAccepted(acceptor, scoreDirector, stepScope0, 1L));
+        assertEquals(true, isAccepted(acceptor, scoreDirector, stepScope0, 2L));
+        endStep(acceptor, scoreDirector, phaseScope, stepScope0, 1L);
+
+        // Step 1 goes from state 1 to state 2
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        assertEquals(false, isAccepted(acceptor, scoreDirector, stepScope1, 0L));
+        assertEquals(false, isAccepted(acceptor, scoreDirector, stepScope1, 1L));
+        assertEquals(true, isAccepted(acceptor, scoreDirector, stepScope1, 2L));
+        endStep(acceptor, scoreDirector, phaseScope, stepScope1, 2L);
+
+        // Step 2 goes from state 2 to state 3
+        LocalSearchStepScope<TestdataSolution> stepScope2 = new LocalSearchStepScope<>(phaseScope);
+        assertEquals(false, isAccepted(acceptor, scoreDirector, stepScope2, 0L));
+        assertEquals(false, isAccepted(acceptor, scoreDirector, stepScope2, 1L));
+        assertEquals(false, isAccepted(acceptor, scoreDirector, stepScope2, 2L));
+        assertEquals(true, isAccepted(acceptor, scoreDirector, stepScope2, 3L));
+        endStep(acceptor, scoreDirector, phaseScope, stepScope2, 3L);
+
+        // The states of the starting solution and step 0 are no longer tabu
+        LocalSearchStepScope<TestdataSolution> stepScope3 = new LocalSearchStepScope<>(phaseScope);
+        assertEquals(true, isAccepted(acceptor, scoreDirector, stepScope3, 0L));
+        assertEquals(true, isAccepted(acceptor, scoreDirector, stepScope3, 1L));
+        assertEquals(false, isAccepted(acceptor, scoreDirector, stepScope3, 2L));
+        assertEquals(false, isAccepted(acceptor, scoreDirector, stepScope3, 3L));
+        endStep(acceptor, scoreDirector, phaseScope, stepScope3, 1L);
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    private boolean isAccepted(SolutionTabuAcceptor acceptor, InnerScoreDirector<TestdataSolution> scoreDirector,
+            LocalSearchStepScope<TestdataSolution> stepScope, long solutionHashAfterMove) {
+        LocalSearchMoveScope<TestdataSolution> moveScope = new LocalSearchMoveScope<>(stepScope, 0, mock(Move.class));
+        moveScope.setScore(SimpleScore.valueOf(-1));
+        when(scoreDirector.getWorkingSolutionHash()).thenReturn(solutionHashAfterMove);
+        return acceptor.isAccepted(moveScope);
+    }
+
+    private void endStep(SolutionTabuAcceptor acceptor, InnerScoreDirector<TestdataSolution> scoreDirector,
+            LocalSearchPhaseScope<TestdataSolution> phaseScope, LocalSearchStepScope<TestdataSolution> stepScope,
+            long solutionHashAfterStep) {
+        when(scoreDirector.getWorkingSolutionHash()).thenReturn(solutionHashAfterStep);
+        acceptor.stepEnded(stepScope);
+        phaseScope.setLastCompletedStepScope(stepScope);
+    }
+
+}
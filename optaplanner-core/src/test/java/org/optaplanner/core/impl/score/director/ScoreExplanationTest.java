@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.config.SolverConfigContext;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+import static org.junit.Assert.*;
+
+public class ScoreExplanationTest {
+
+    @Test
+    public void build() {
+        ConstraintMatchTotal conflictTotal = new ConstraintMatchTotal("package", "conflict", SimpleScore.ZERO);
+        conflictTotal.addConstraintMatch(Arrays.asList("a", "b"), SimpleScore.valueOf(-10));
+        conflictTotal.addConstraintMatch(Arrays.asList("b", "c", "b"), SimpleScore.valueOf(-5));
+        ConstraintMatchTotal costTotal = new ConstraintMatchTotal("package", "cost", SimpleScore.ZERO);
+        costTotal.addConstraintMatch(Arrays.asList("a"), SimpleScore.valueOf(-1));
+        costTotal.addConstraintMatch(Arrays.asList("d"), SimpleScore.valueOf(-30));
+        ScoreExplanation scoreExplanation = ScoreExplanation.build(SimpleScore.valueOf(-46),
+                Arrays.asList(conflictTotal, costTotal), buildIndictmentMap(conflictTotal, costTotal));
+
+        assertEquals(SimpleScore.valueOf(-46), scoreExplanation.getScore());
+        assertEquals(Arrays.asList(costTotal, conflictTotal), scoreExplanation.getConstraintMatchTotalList());
+        assertEquals(4, scoreExplanation.getIndictmentMap().size());
+        assertIndictment(scoreExplanation.getIndictmentMap().get("a"), -11, 2);
+        assertIndictment(scoreExplanation.getIndictmentMap().get("b"), -15, 2);
+        assertIndictment(scoreExplanation.getIndictmentMap().get("c"), -5, 1);
+        assertIndictment(scoreExplanation.getIndictmentMap().get("d"), -30, 1);
+
+        List<Indictment> indictmentList = scoreExplanation.getIndictmentList();
+        assertEquals("d", indictmentList.get(0).getJustification());
+        assertEquals("b", indictmentList.get(1).getJustification());
+        assertEquals("a", indictmentList.get(2).getJustification());
+        assertEquals("c", indictmentList.get(3).getJustification());
+    }
+
+    @Test
+    public void page() {
+        ConstraintMatchTotal costTotal = new ConstraintMatchTotal("package", "cost", SimpleScore.ZERO);
+        for (int i = 0; i < 5; i++) {
+            costTotal.addConstraintMatch(Arrays.asList("e" + i), SimpleScore.valueOf(-i));
+        }
+        ScoreExplanation scoreExplanation = ScoreExplanation.build(SimpleScore.valueOf(-10),
+                Arrays.asList(costTotal), buildIndictmentMap(costTotal));
+        assertEquals(Arrays.asList(costTotal), scoreExplanation.getConstraintMatchTotalPage(0, 10));
+        assertEquals(Arrays.asList(), scoreExplanation.getConstraintMatchTotalPage(1, 10));
+        List<Indictment> firstPage = scoreExplanation.getIndictmentPage(0, 2);
+        assertEquals(2, firstPage.size());
+        assertEquals("e4", firstPage.get(0).getJustification());
+        assertEquals("e3", firstPage.get(1).getJustification());
+        List<Indictment> lastPage = scoreExplanation.getIndictmentPage(2, 2);
+        assertEquals(1, lastPage.size());
+        assertEquals("e0", lastPage.get(0).getJustification());
+        assertEquals(0, scoreExplanation.getIndictmentPage(3, 2).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void pageSizeZero() {
+        ScoreExplanation.build(SimpleScore.ZERO, Arrays.asList(), Collections.emptyMap()).getIndictmentPage(0, 0);
+    }
+
+    @Test
+    public void explainScoreWithDroolsScoreDirectorFactory() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig();
+        config.setScoreDrlList(Collections.singletonList(
+                "org/optaplanner/core/api/solver/testdataScoreRules.drl"));
+        InnerScoreDirectorFactory<TestdataSolution> scoreDirectorFactory = config.buildScoreDirectorFactory(
+                new SolverConfigContext(), EnvironmentMode.REPRODUCIBLE, TestdataSolution.buildSolutionDescriptor());
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        solution.setValueList(Arrays.asList(v1, v2));
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v2);
+        TestdataEntity e3 = new TestdataEntity("e3", v1);
+        solution.setEntityList(Arrays.asList(e1, e2, e3));
+
+        ScoreExplanation scoreExplanation = scoreDirectorFactory.explainScore(solution);
+        assertEquals(SimpleScore.valueOf(-5), scoreExplanation.getScore());
+        assertEquals(SimpleScore.valueOf(-5), solution.getScore());
+        assertEquals(1, scoreExplanation.getConstraintMatchTotalList().size());
+        assertEquals(5, scoreExplanation.getConstraintMatchTotalList().get(0).getConstraintMatchCount());
+        assertEquals(3, scoreExplanation.getIndictmentMap().size());
+        // A match of an entity with itself indicts it only once
+        assertIndictment(scoreExplanation.getIndictmentMap().get(e1), -3, 3);
+        assertIndictment(scoreExplanation.getIndictmentMap().get(e2), -1, 1);
+        assertIndictment(scoreExplanation.getIndictmentMap().get(e3), -3, 3);
+        List<Indictment> indictmentList = scoreExplanation.getIndictmentList();
+        assertEquals(3, indictmentList.size());
+        assertSame(e2, indictmentList.get(2).getJustification());
+        assertEquals(Collections.singletonList(e2), scoreExplanation.getIndictmentPage(1, 2).stream()
+                .map(Indictment::getJustification).collect(Collectors.toList()));
+    }
+
+    private static Map<Object, Indictment> buildIndictmentMap(ConstraintMatchTotal... constraintMatchTotals) {
+        Map<Object, Indictment> indictmentMap = new LinkedHashMap<>();
+        for (ConstraintMatchTotal constraintMatchTotal : constraintMatchTotals) {
+            for (ConstraintMatch constraintMatch : constraintMatchTotal.getConstraintMatchSet()) {
+                constraintMatch.getJustificationList().stream().distinct().forEach(justification -> indictmentMap
+                        .computeIfAbsent(justification, k -> new Indictment(justification, SimpleScore.ZERO))
+                        .addConstraintMatch(constraintMatch));
+            }
+        }
+        return indictmentMap;
+    }
+
+    private static void assertIndictment(Indictment indictment, int score, int constraintMatchCount) {
+        assertEquals(SimpleScore.valueOf(score), indictment.getScore());
+        assertEquals(constraintMatchCount, indictment.getConstraintMatchCount());
+    }
+
+}
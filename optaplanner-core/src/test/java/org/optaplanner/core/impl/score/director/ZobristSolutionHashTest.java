@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+import static org.junit.Assert.*;
+
+public class ZobristSolutionHashTest {
+
+    @Test
+    public void variableChanged() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = solutionDescriptor
+                .findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(a, b));
+
+        ZobristSolutionHash<TestdataSolution> solutionHash = new ZobristSolutionHash<>(solutionDescriptor);
+        solutionHash.resetWorkingSolution(solution);
+        long originalHash = solutionHash.getHash();
+
+        changeValue(solutionHash, variableDescriptor, a, v2);
+        long changedHash = solutionHash.getHash();
+        assertNotEquals(originalHash, changedHash);
+        changeValue(solutionHash, variableDescriptor, a, null);
+        assertNotEquals(originalHash, solutionHash.getHash());
+        assertNotEquals(changedHash, solutionHash.getHash());
+        changeValue(solutionHash, variableDescriptor, a, v1);
+        assertEquals(originalHash, solutionHash.getHash());
+
+        // Swapping the values of 2 entities is a different state
+        changeValue(solutionHash, variableDescriptor, a, v2);
+        changeValue(solutionHash, variableDescriptor, b, v1);
+        long swappedHash = solutionHash.getHash();
+        assertNotEquals(originalHash, swappedHash);
+        // The incremental hash matches the hash from scratch
+        solutionHash.resetWorkingSolution(solution);
+        assertEquals(swappedHash, solutionHash.getHash());
+    }
+
+    @Test
+    public void entityAddedAndRemoved() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        EntityDescriptor<TestdataSolution> entityDescriptor = solutionDescriptor
+                .findEntityDescriptorOrFail(TestdataEntity.class);
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1));
+        solution.setEntityList(Arrays.asList(a));
+
+        ZobristSolutionHash<TestdataSolution> solutionHash = new ZobristSolutionHash<>(solutionDescriptor);
+        solutionHash.resetWorkingSolution(solution);
+        long originalHash = solutionHash.getHash();
+        solutionHash.afterEntityAdded(entityDescriptor, b);
+        assertNotEquals(originalHash, solutionHash.getHash());
+        solutionHash.beforeEntityRemoved(entityDescriptor, b);
+        assertEquals(originalHash, solutionHash.getHash());
+    }
+
+    private void changeValue(ZobristSolutionHash<TestdataSolution> solutionHash,
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor, TestdataEntity entity,
+            TestdataValue value) {
+        solutionHash.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(value);
+        solutionHash.afterVariableChanged(variableDescriptor, entity);
+    }
+
+}
@@ -59,7 +59,7 @@ public class DroolsScoreDirectorTest {
         DroolsScoreDirectorFactory<Object> factory = mock(DroolsScoreDirectorFactory.class);
         when(factory.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
         when(factory.getSolutionDescriptor()).thenReturn(mock(SolutionDescriptor.class));
-        when(factory.newKieSession()).thenReturn(
+        when(factory.borrowKieSession()).thenReturn(
                 mock(KieSession.class, withSettings().extraInterfaces(RuleEventManager.class)));
         return factory;
     }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.drools;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.drools.core.impl.StatefulKnowledgeSessionImpl;
+import org.junit.Test;
+import org.kie.api.runtime.KieSession;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.SolverConfigContext;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class KieSessionPoolTest {
+
+    @Test
+    public void reuseReturnedKieSession() {
+        Supplier<KieSession> kieSessionSupplier = () -> mock(StatefulKnowledgeSessionImpl.class);
+        KieSessionPool pool = new KieSessionPool(kieSessionSupplier, 2);
+        KieSession a = pool.borrowKieSession();
+        KieSession b = pool.borrowKieSession();
+        KieSession c = pool.borrowKieSession();
+        assertEquals(3, pool.getCreatedCount());
+        pool.returnKieSession(a);
+        pool.returnKieSession(b);
+        pool.returnKieSession(c);
+        verify((StatefulKnowledgeSessionImpl) a).reset();
+        verify(a, never()).dispose();
+        verify(b, never()).dispose();
+        // The pool is full
+        verify(c).dispose();
+        assertEquals(2, pool.getIdleSize());
+
+        assertSame(b, pool.borrowKieSession());
+        assertSame(a, pool.borrowKieSession());
+        assertEquals(3, pool.getCreatedCount());
+        assertEquals(2, pool.getReusedCount());
+        assertEquals(0, pool.getIdleSize());
+    }
+
+    @Test
+    public void disposeKieSessionThatCannotBeReset() {
+        KieSessionPool pool = new KieSessionPool(() -> mock(KieSession.class), 2);
+        KieSession a = pool.borrowKieSession();
+        pool.returnKieSession(a);
+        verify(a).dispose();
+        assertEquals(0, pool.getIdleSize());
+    }
+
+    @Test
+    public void warmUp() {
+        KieSessionPool pool = new KieSessionPool(() -> mock(StatefulKnowledgeSessionImpl.class), 3);
+        pool.borrowKieSession();
+        pool.warmUp();
+        assertEquals(3, pool.getCreatedCount());
+        assertEquals(2, pool.getIdleSize());
+        pool.borrowKieSession();
+        assertEquals(1, pool.getReusedCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sizeZero() {
+        new KieSessionPool(() -> mock(KieSession.class), 0);
+    }
+
+    @Test
+    public void disposeIdleKieSessions() {
+        KieSessionPool pool = new KieSessionPool(() -> mock(StatefulKnowledgeSessionImpl.class), 2);
+        KieSession a = pool.borrowKieSession();
+        KieSession b = pool.borrowKieSession();
+        pool.returnKieSession(a);
+        pool.disposeIdleKieSessions();
+        verify(a).dispose();
+        assertEquals(0, pool.getIdleSize());
+        // A borrowed KieSession is still kept when it is returned
+        pool.returnKieSession(b);
+        verify(b, never()).dispose();
+        assertEquals(1, pool.getIdleSize());
+    }
+
+    @Test
+    public void reusedKieSessionCalculatesSameScoreAsNewKieSession() {
+        DroolsScoreDirectorFactory<TestdataSolution> pooledScoreDirectorFactory = buildDroolsScoreDirectorFactory(1);
+        DroolsScoreDirectorFactory<TestdataSolution> scoreDirectorFactory = buildDroolsScoreDirectorFactory(null);
+        try (InnerScoreDirector<TestdataSolution> scoreDirector = pooledScoreDirectorFactory.buildScoreDirector()) {
+            scoreDirector.setWorkingSolution(buildSolution(4, 1));
+            assertEquals(SimpleScore.valueOf(-16), scoreDirector.calculateScore());
+        }
+        assertEquals(1, pooledScoreDirectorFactory.getKieSessionPool().getIdleSize());
+
+        TestdataSolution solution = buildSolution(3, 3);
+        TestdataSolution otherSolution = buildSolution(3, 3);
+        try (InnerScoreDirector<TestdataSolution> reusedScoreDirector = pooledScoreDirectorFactory.buildScoreDirector();
+                InnerScoreDirector<TestdataSolution> newScoreDirector = scoreDirectorFactory.buildScoreDirector()) {
+            reusedScoreDirector.setWorkingSolution(solution);
+            assertEquals(1, pooledScoreDirectorFactory.getKieSessionPool().getReusedCount());
+            newScoreDirector.setWorkingSolution(otherSolution);
+            // No facts, matches or score holder of the previous working solution are left behind
+            assertEquals(SimpleScore.valueOf(-3), reusedScoreDirector.calculateScore());
+            assertEquals(newScoreDirector.calculateScore(), reusedScoreDirector.calculateScore());
+
+            changeValue(reusedScoreDirector, solution.getEntityList().get(0), solution.getValueList().get(1));
+            changeValue(newScoreDirector, otherSolution.getEntityList().get(0), otherSolution.getValueList().get(1));
+            assertEquals(SimpleScore.valueOf(-5), reusedScoreDirector.calculateScore());
+            assertEquals(newScoreDirector.calculateScore(), reusedScoreDirector.calculateScore());
+        }
+    }
+
+    @Test
+    public void solverDisposesIdleKieSessions() {
+        SolverFactory<TestdataSolution> solverFactory = PlannerTestUtils.buildSolverFactoryWithDroolsScoreDirector(
+                TestdataSolution.class, TestdataEntity.class);
+        solverFactory.getSolverConfig().getScoreDirectorFactoryConfig().setKieSessionPoolSize(2);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        KieSessionPool pool = ((DroolsScoreDirectorFactory<TestdataSolution>)
+                ((DefaultSolver<TestdataSolution>) solver).getScoreDirectorFactory()).getKieSessionPool();
+        TestdataSolution solution = buildSolution(3, 2);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+        solver.solve(solution);
+        assertTrue(pool.getCreatedCount() > 0);
+        assertEquals(0, pool.getIdleSize());
+    }
+
+    private static DroolsScoreDirectorFactory<TestdataSolution> buildDroolsScoreDirectorFactory(
+            Integer kieSessionPoolSize) {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig();
+        config.setScoreDrlList(Collections.singletonList(
+                "org/optaplanner/core/api/solver/testdataScoreRules.drl"));
+        config.setKieSessionPoolSize(kieSessionPoolSize);
+        return (DroolsScoreDirectorFactory<TestdataSolution>) config.<TestdataSolution>buildScoreDirectorFactory(
+                new SolverConfigContext(), EnvironmentMode.REPRODUCIBLE, TestdataSolution.buildSolutionDescriptor());
+    }
+
+    /**
+     * @return entity i has value (i % valueCount)
+     */
+    private static TestdataSolution buildSolution(int entityCount, int valueCount) {
+        TestdataSolution solution = new TestdataSolution("s1");
+        List<TestdataValue> valueList = new ArrayList<>(valueCount);
+        for (int i = 0; i < valueCount; i++) {
+            valueList.add(new TestdataValue("v" + i));
+        }
+        solution.setValueList(valueList);
+        List<TestdataEntity> entityList = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            entityList.add(new TestdataEntity("e" + i, valueList.get(i % valueCount)));
+        }
+        solution.setEntityList(entityList);
+        return solution;
+    }
+
+    private static void changeValue(InnerScoreDirector<TestdataSolution> scoreDirector, TestdataEntity entity,
+            TestdataValue value) {
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.triggerVariableListeners();
+    }
+
+}
@@ -15,10 +15,18 @@
  */
 package org.optaplanner.core.impl.score.director.easy;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -38,6 +46,137 @@ public class EasyScoreDirectorTest {
         director.getConstraintMatchTotals();
     }
 
+    @Test
+    public void deltaEasyScoreCalculator() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataEntity e3 = new TestdataEntity("e3", v2);
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2, e3));
+
+        CountV1DeltaEasyScoreCalculator calculator = new CountV1DeltaEasyScoreCalculator(v1);
+        EasyScoreDirectorFactory<TestdataSolution> factory = new EasyScoreDirectorFactory<>(calculator);
+        factory.setSolutionDescriptor(TestdataSolution.buildSolutionDescriptor());
+        EasyScoreDirector<TestdataSolution> director = factory.buildScoreDirector(false, false);
+        director.setWorkingSolution(solution);
+        assertEquals(SimpleScore.valueOf(-2), director.calculateScore());
+        assertEquals(1, calculator.fullCount);
+        assertEquals(0, calculator.deltaCount);
+
+        director.beforeVariableChanged(e3, "value");
+        e3.setValue(v1);
+        director.afterVariableChanged(e3, "value");
+        director.triggerVariableListeners();
+        assertEquals(SimpleScore.valueOf(-3), director.calculateScore());
+        assertEquals(1, calculator.fullCount);
+        assertEquals(1, calculator.deltaCount);
+
+        // Changed twice before the calculation: the old value is the one of the last calculation
+        director.beforeVariableChanged(e1, "value");
+        e1.setValue(v2);
+        director.afterVariableChanged(e1, "value");
+        director.triggerVariableListeners();
+        director.beforeVariableChanged(e1, "value");
+        e1.setValue(null);
+        director.afterVariableChanged(e1, "value");
+        director.triggerVariableListeners();
+        assertEquals(SimpleScore.valueOfUninitialized(-1, -2), director.calculateScore());
+        assertEquals(2, calculator.deltaCount);
+        // Nothing changed
+        assertEquals(SimpleScore.valueOfUninitialized(-1, -2), director.calculateScore());
+        assertEquals(2, calculator.deltaCount);
+
+        director.beforeEntityRemoved(e2);
+        solution.setEntityList(Arrays.asList(e1, e3));
+        director.afterEntityRemoved(e2);
+        director.triggerVariableListeners();
+        assertEquals(SimpleScore.valueOfUninitialized(-1, -1), director.calculateScore());
+        assertEquals(2, calculator.fullCount);
+        assertEquals(2, calculator.deltaCount);
+
+        director.beforeVariableChanged(e1, "value");
+        e1.setValue(v1);
+        director.afterVariableChanged(e1, "value");
+        director.triggerVariableListeners();
+        assertEquals(SimpleScore.valueOf(-2), director.calculateScore());
+        assertEquals(2, calculator.fullCount);
+        assertEquals(3, calculator.deltaCount);
+    }
+
+    @Test
+    public void problemFactChangesMakeWorkingEntityListDirty() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1", v1)));
+        EasyScoreDirectorFactory<TestdataSolution> factory = new EasyScoreDirectorFactory<>(
+                new CountV1DeltaEasyScoreCalculator(v1));
+        factory.setSolutionDescriptor(TestdataSolution.buildSolutionDescriptor());
+        EasyScoreDirector<TestdataSolution> director = factory.buildScoreDirector(false, false);
+        director.setWorkingSolution(solution);
+
+        long revision = director.getWorkingEntityListRevision();
+        TestdataValue v2 = new TestdataValue("v2");
+        director.beforeProblemFactAdded(v2);
+        solution.setValueList(Arrays.asList(v1, v2));
+        director.afterProblemFactAdded(v2);
+        assertTrue(director.isWorkingEntityListDirty(revision));
+
+        revision = director.getWorkingEntityListRevision();
+        director.beforeProblemFactRemoved(v2);
+        solution.setValueList(Arrays.asList(v1));
+        director.afterProblemFactRemoved(v2);
+        assertTrue(director.isWorkingEntityListDirty(revision));
+
+        revision = director.getWorkingEntityListRevision();
+        director.beforeProblemPropertyChanged(v1);
+        director.afterProblemPropertyChanged(v1);
+        assertTrue(director.isWorkingEntityListDirty(revision));
+    }
+
+    private static class CountV1DeltaEasyScoreCalculator implements DeltaEasyScoreCalculator<TestdataSolution> {
+
+        private final TestdataValue v1;
+        private int fullCount = 0;
+        private int deltaCount = 0;
+
+        public CountV1DeltaEasyScoreCalculator(TestdataValue v1) {
+            this.v1 = v1;
+        }
+
+        @Override
+        public Score calculateScore(TestdataSolution solution) {
+            fullCount++;
+            int score = 0;
+            for (TestdataEntity entity : solution.getEntityList()) {
+                if (entity.getValue() == v1) {
+                    score--;
+                }
+            }
+            return SimpleScore.valueOf(score);
+        }
+
+        @Override
+        public Score calculateScore(TestdataSolution solution, Score lastScore, Collection<EntityDelta> entityDeltas) {
+            deltaCount++;
+            int score = ((SimpleScore) lastScore).getScore();
+            for (EntityDelta entityDelta : entityDeltas) {
+                TestdataEntity entity = (TestdataEntity) entityDelta.getEntity();
+                if (entityDelta.getOldValue("value") == v1) {
+                    score++;
+                }
+                if (entity.getValue() == v1) {
+                    score--;
+                }
+            }
+            return SimpleScore.valueOf(score);
+        }
+
+    }
+
     @SuppressWarnings("unchecked")
     private EasyScoreDirectorFactory<Object> mockEasyScoreDirectorFactory() {
         EasyScoreDirectorFactory<Object> factory = mock(EasyScoreDirectorFactory.class);
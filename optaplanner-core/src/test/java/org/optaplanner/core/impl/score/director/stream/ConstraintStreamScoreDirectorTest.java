@@ -0,0 +1,271 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.stream;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.extended.abstractsolution.TestdataExtendedAbstractSolution;
+
+import static org.junit.Assert.*;
+
+public class ConstraintStreamScoreDirectorTest {
+
+    @Test
+    public void incrementalScore() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataEntity e3 = new TestdataEntity("e3", v2);
+        TestdataEntity e4 = new TestdataEntity("e4", null);
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2, e3, e4));
+
+        ConstraintStreamScoreDirector<TestdataSolution> scoreDirector = buildScoreDirector(false);
+        scoreDirector.setWorkingSolution(solution);
+        // Conflict: e1-e2 (-10), Used value: v1 and v2 (+2), e4 is uninitialized
+        assertEquals(SimpleScore.valueOfUninitialized(-1, -8), scoreDirector.calculateScore());
+
+        scoreDirector.beforeVariableChanged(e4, "value");
+        e4.setValue(v1);
+        scoreDirector.afterVariableChanged(e4, "value");
+        scoreDirector.triggerVariableListeners();
+        // Conflict: e1-e2, e1-e4, e2-e4 (-30), Used value: v1 and v2 (+2)
+        assertEquals(SimpleScore.valueOf(-28), scoreDirector.calculateScore());
+
+        scoreDirector.beforeVariableChanged(e1, "value");
+        e1.setValue(v2);
+        scoreDirector.afterVariableChanged(e1, "value");
+        scoreDirector.triggerVariableListeners();
+        // Conflict: e2-e4, e1-e3 (-20), Used value: v1 and v2 (+2)
+        assertEquals(SimpleScore.valueOf(-18), scoreDirector.calculateScore());
+
+        scoreDirector.beforeEntityRemoved(e3);
+        scoreDirector.afterEntityRemoved(e3);
+        scoreDirector.triggerVariableListeners();
+        // Conflict: e2-e4 (-10), Used value: v1 and v2 (+2)
+        assertEquals(SimpleScore.valueOf(-8), scoreDirector.calculateScore());
+
+        scoreDirector.beforeVariableChanged(e1, "value");
+        e1.setValue(v1);
+        scoreDirector.afterVariableChanged(e1, "value");
+        scoreDirector.triggerVariableListeners();
+        // Conflict: e1-e2, e1-e4, e2-e4 (-30), Used value: v1 (+1)
+        assertEquals(SimpleScore.valueOf(-29), scoreDirector.calculateScore());
+    }
+
+    @Test
+    public void constraintMatches() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataEntity e3 = new TestdataEntity("e3", v2);
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2, e3));
+
+        ConstraintStreamScoreDirector<TestdataSolution> scoreDirector = buildScoreDirector(true);
+        scoreDirector.setWorkingSolution(solution);
+        assertEquals(SimpleScore.valueOf(-8), scoreDirector.calculateScore());
+        assertTrue(scoreDirector.isConstraintMatchEnabled());
+        Collection<ConstraintMatchTotal> constraintMatchTotals = scoreDirector.getConstraintMatchTotals();
+        assertEquals(2, constraintMatchTotals.size());
+        for (ConstraintMatchTotal constraintMatchTotal : constraintMatchTotals) {
+            assertEquals(getClass().getPackage().getName(), constraintMatchTotal.getConstraintPackage());
+            switch (constraintMatchTotal.getConstraintName()) {
+                case "Conflict":
+                    assertEquals(1, constraintMatchTotal.getConstraintMatchCount());
+                    assertEquals(SimpleScore.valueOf(-10), constraintMatchTotal.getScore());
+                    break;
+                case "Used value":
+                    assertEquals(2, constraintMatchTotal.getConstraintMatchCount());
+                    assertEquals(SimpleScore.valueOf(2), constraintMatchTotal.getScore());
+                    break;
+                default:
+                    fail("Unexpected constraintMatchTotal (" + constraintMatchTotal + ").");
+            }
+        }
+        Map<Object, Indictment> indictmentMap = scoreDirector.getIndictmentMap();
+        assertEquals(SimpleScore.valueOf(-10), indictmentMap.get(e1).getScore());
+        assertEquals(SimpleScore.valueOf(1), indictmentMap.get(v2).getScore());
+        assertNull(indictmentMap.get(e3));
+
+        scoreDirector.beforeVariableChanged(e2, "value");
+        e2.setValue(v2);
+        scoreDirector.afterVariableChanged(e2, "value");
+        scoreDirector.triggerVariableListeners();
+        assertEquals(SimpleScore.valueOf(-8), scoreDirector.calculateScore());
+        assertNull(indictmentMap.get(e1));
+        assertEquals(SimpleScore.valueOf(-10), indictmentMap.get(e3).getScore());
+    }
+
+    @Test
+    public void problemFactPropertyChanged() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataEntity e3 = new TestdataEntity("e3", v2);
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2, e3));
+
+        ConstraintStreamScoreDirectorFactory<TestdataSolution> scoreDirectorFactory
+                = new ConstraintStreamScoreDirectorFactory<>(constraintFactory -> new Constraint[] {
+                        constraintFactory.from(TestdataEntity.class)
+                                .join(TestdataValue.class, Joiners.equal(TestdataEntity::getValue, Function.identity()))
+                                .filter((entity, value) -> value.getCode().startsWith("expensive"))
+                                .penalize("Expensive value", SimpleScore.valueOf(1))
+                });
+        scoreDirectorFactory.setSolutionDescriptor(TestdataSolution.buildSolutionDescriptor());
+        ConstraintStreamScoreDirector<TestdataSolution> scoreDirector
+                = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertEquals(SimpleScore.valueOf(0), scoreDirector.calculateScore());
+
+        scoreDirector.beforeProblemPropertyChanged(v1);
+        v1.setCode("expensive v1");
+        scoreDirector.afterProblemPropertyChanged(v1);
+        // e1 and e2
+        assertEquals(SimpleScore.valueOf(-2), scoreDirector.calculateScore());
+
+        scoreDirector.beforeProblemPropertyChanged(v2);
+        v2.setCode("expensive v2");
+        scoreDirector.afterProblemPropertyChanged(v2);
+        scoreDirector.beforeProblemPropertyChanged(v1);
+        v1.setCode("v1");
+        scoreDirector.afterProblemPropertyChanged(v1);
+        // e3
+        assertEquals(SimpleScore.valueOf(-1), scoreDirector.calculateScore());
+        scoreDirector.assertWorkingScoreFromScratch(SimpleScore.valueOf(-1), "problemFactPropertyChanged");
+    }
+
+    @Test
+    public void multiLevelScoreWithGroupByAndFilter() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataEntity e3 = new TestdataEntity("e3", v1);
+        TestdataEntity e4 = new TestdataEntity("e4", v2);
+        TestdataExtendedAbstractSolution solution = new TestdataExtendedAbstractSolution();
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2, e3, e4));
+
+        ConstraintStreamScoreDirectorFactory<TestdataExtendedAbstractSolution> scoreDirectorFactory
+                = new ConstraintStreamScoreDirectorFactory<>(constraintFactory -> new Constraint[] {
+                        constraintFactory.from(TestdataEntity.class)
+                                .groupBy(TestdataEntity::getValue, ConstraintCollectors.count())
+                                .filter((value, count) -> count > 2)
+                                .penalize("Overcrowded value", HardSoftScore.valueOf(1, 0),
+                                        (value, count) -> count - 2),
+                        constraintFactory.from(TestdataEntity.class)
+                                .groupBy(TestdataEntity::getValue, ConstraintCollectors.count())
+                                .penalize("Used value", HardSoftScore.valueOf(0, 10))
+                });
+        scoreDirectorFactory.setSolutionDescriptor(TestdataExtendedAbstractSolution.buildSolutionDescriptor());
+        ConstraintStreamScoreDirector<TestdataExtendedAbstractSolution> scoreDirector
+                = scoreDirectorFactory.buildScoreDirector(false, true);
+        scoreDirector.setWorkingSolution(solution);
+        // Overcrowded value: v1 (-1hard), Used value: v1 and v2 (-20soft)
+        assertEquals(HardSoftScore.valueOf(-1, -20), scoreDirector.calculateScore());
+
+        scoreDirector.beforeVariableChanged(e4, "value");
+        e4.setValue(v1);
+        scoreDirector.afterVariableChanged(e4, "value");
+        scoreDirector.triggerVariableListeners();
+        // Overcrowded value: v1 (-2hard), Used value: v1 (-10soft)
+        assertEquals(HardSoftScore.valueOf(-2, -10), scoreDirector.calculateScore());
+
+        scoreDirector.beforeVariableChanged(e1, "value");
+        e1.setValue(v2);
+        scoreDirector.afterVariableChanged(e1, "value");
+        scoreDirector.triggerVariableListeners();
+        scoreDirector.beforeVariableChanged(e2, "value");
+        e2.setValue(v2);
+        scoreDirector.afterVariableChanged(e2, "value");
+        scoreDirector.triggerVariableListeners();
+        // No overcrowded value, Used value: v1 and v2 (-20soft)
+        assertEquals(HardSoftScore.valueOf(0, -20), scoreDirector.calculateScore());
+        for (ConstraintMatchTotal constraintMatchTotal : scoreDirector.getConstraintMatchTotals()) {
+            switch (constraintMatchTotal.getConstraintName()) {
+                case "Overcrowded value":
+                    assertEquals(0, constraintMatchTotal.getConstraintMatchCount());
+                    assertEquals(HardSoftScore.ZERO, constraintMatchTotal.getScore());
+                    break;
+                case "Used value":
+                    assertEquals(2, constraintMatchTotal.getConstraintMatchCount());
+                    assertEquals(HardSoftScore.valueOf(0, -20), constraintMatchTotal.getScore());
+                    break;
+                default:
+                    fail("Unexpected constraintMatchTotal (" + constraintMatchTotal + ").");
+            }
+        }
+        scoreDirector.assertWorkingScoreFromScratch(HardSoftScore.valueOf(0, -20), "multiLevelScore");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void duplicateConstraintName() {
+        new ConstraintStreamScoreDirectorFactory<TestdataSolution>(constraintFactory -> new Constraint[] {
+                constraintFactory.from(TestdataEntity.class).penalize("Same", SimpleScore.valueOf(1)),
+                constraintFactory.from(TestdataValue.class).penalize("Same", SimpleScore.valueOf(1))
+        });
+    }
+
+    private ConstraintStreamScoreDirector<TestdataSolution> buildScoreDirector(boolean constraintMatchEnabled) {
+        ConstraintStreamScoreDirectorFactory<TestdataSolution> scoreDirectorFactory
+                = new ConstraintStreamScoreDirectorFactory<>(new TestdataConstraintProvider());
+        scoreDirectorFactory.setSolutionDescriptor(TestdataSolution.buildSolutionDescriptor());
+        return scoreDirectorFactory.buildScoreDirector(false, constraintMatchEnabled);
+    }
+
+    public static class TestdataConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.from(TestdataEntity.class)
+                            .join(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                            .filter((a, b) -> a.getCode().compareTo(b.getCode()) < 0)
+                            .penalize("Conflict", SimpleScore.valueOf(10)),
+                    constraintFactory.from(TestdataEntity.class)
+                            .groupBy(TestdataEntity::getValue, ConstraintCollectors.count())
+                            .reward("Used value", SimpleScore.valueOf(1))
+            };
+        }
+
+    }
+
+}
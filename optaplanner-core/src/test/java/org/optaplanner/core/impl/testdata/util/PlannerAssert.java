@@ -37,6 +37,10 @@ import org.optaplanner.core.impl.heuristic.selector.entity.pillar.PillarSelector
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
 import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.ListSwapMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.SubListReversingMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.list.TailListSwapMove;
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.chained.SubChain;
@@ -261,6 +265,32 @@ public class PlannerAssert extends Assert {
             final String code = convertToCodeAssertable(swapMove.getLeftEntity()).getCode()
                     + "<->" + convertToCodeAssertable(swapMove.getRightEntity()).getCode();
             return () -> code;
+        } else if (o instanceof ListChangeMove) {
+            ListChangeMove<?> listChangeMove = (ListChangeMove) o;
+            final String code = convertToCodeAssertable(listChangeMove.getSourceEntity()).getCode()
+                    + "[" + listChangeMove.getSourceIndex() + "]->"
+                    + convertToCodeAssertable(listChangeMove.getDestinationEntity()).getCode()
+                    + "[" + listChangeMove.getDestinationIndex() + "]";
+            return () -> code;
+        } else if (o instanceof ListSwapMove) {
+            ListSwapMove<?> listSwapMove = (ListSwapMove) o;
+            final String code = convertToCodeAssertable(listSwapMove.getLeftEntity()).getCode()
+                    + "[" + listSwapMove.getLeftIndex() + "]<->"
+                    + convertToCodeAssertable(listSwapMove.getRightEntity()).getCode()
+                    + "[" + listSwapMove.getRightIndex() + "]";
+            return () -> code;
+        } else if (o instanceof SubListReversingMove) {
+            SubListReversingMove<?> subListReversingMove = (SubListReversingMove) o;
+            final String code = convertToCodeAssertable(subListReversingMove.getEntity()).getCode()
+                    + "[" + subListReversingMove.getFromIndex() + ".." + subListReversingMove.getToIndex() + ")";
+            return () -> code;
+        } else if (o instanceof TailListSwapMove) {
+            TailListSwapMove<?> tailListSwapMove = (TailListSwapMove) o;
+            final String code = convertToCodeAssertable(tailListSwapMove.getLeftEntity()).getCode()
+                    + "[" + tailListSwapMove.getLeftIndex() + "..]<->"
+                    + convertToCodeAssertable(tailListSwapMove.getRightEntity()).getCode()
+                    + "[" + tailListSwapMove.getRightIndex() + "..]";
+            return () -> code;
         } else if (o instanceof CompositeMove) {
             CompositeMove<?> compositeMove = (CompositeMove) o;
             StringBuilder codeBuilder = new StringBuilder(compositeMove.getMoves().length * 80);
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.cloudbalancing.optional.score;
+
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
+
+public class CloudBalancingConstraintProvider implements ConstraintProvider {
+
+    @Override
+    public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+        return new Constraint[] {
+                requiredCpuPowerTotal(constraintFactory),
+                requiredMemoryTotal(constraintFactory),
+                requiredNetworkBandwidthTotal(constraintFactory),
+                computerCost(constraintFactory)
+        };
+    }
+
+    // ************************************************************************
+    // Hard constraints
+    // ************************************************************************
+
+    protected Constraint requiredCpuPowerTotal(ConstraintFactory constraintFactory) {
+        return constraintFactory.from(CloudProcess.class)
+                .groupBy(CloudProcess::getComputer, ConstraintCollectors.sum(CloudProcess::getRequiredCpuPower))
+                .filter((computer, requiredCpuPower) -> requiredCpuPower > computer.getCpuPower())
+                .penalize("requiredCpuPowerTotal", HardSoftScore.valueOf(1, 0),
+                        (computer, requiredCpuPower) -> requiredCpuPower - computer.getCpuPower());
+    }
+
+    protected Constraint requiredMemoryTotal(ConstraintFactory constraintFactory) {
+        return constraintFactory.from(CloudProcess.class)
+                .groupBy(CloudProcess::getComputer, ConstraintCollectors.sum(CloudProcess::getRequiredMemory))
+                .filter((computer, requiredMemory) -> requiredMemory > computer.getMemory())
+                .penalize("requiredMemoryTotal", HardSoftScore.valueOf(1, 0),
+                        (computer, requiredMemory) -> requiredMemory - computer.getMemory());
+    }
+
+    protected Constraint requiredNetworkBandwidthTotal(ConstraintFactory constraintFactory) {
+        return constraintFactory.from(CloudProcess.class)
+                .groupBy(CloudProcess::getComputer, ConstraintCollectors.sum(CloudProcess::getRequiredNetworkBandwidth))
+                .filter((computer, requiredNetworkBandwidth) -> requiredNetworkBandwidth > computer.getNetworkBandwidth())
+                .penalize("requiredNetworkBandwidthTotal", HardSoftScore.valueOf(1, 0),
+                        (computer, requiredNetworkBandwidth) -> requiredNetworkBandwidth - computer.getNetworkBandwidth());
+    }
+
+    // ************************************************************************
+    // Soft constraints
+    // ************************************************************************
+
+    protected Constraint computerCost(ConstraintFactory constraintFactory) {
+        return constraintFactory.from(CloudProcess.class)
+                .groupBy(CloudProcess::getComputer, ConstraintCollectors.count())
+                .penalize("computerCost", HardSoftScore.valueOf(0, 1),
+                        (computer, processCount) -> computer.getCost());
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.common.domain.location;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+
+/**
+ * A {@link DistanceMatrix} on the heap, backed by a single {@code long[]}.
+ * Limited to {@value #MAXIMUM_SIZE} locations, use a {@link MappedDistanceMatrix} for more.
+ */
+@XStreamAlias("ArrayDistanceMatrix")
+public class ArrayDistanceMatrix extends DistanceMatrix {
+
+    public static final int MAXIMUM_SIZE = 46340; // floor(sqrt(Integer.MAX_VALUE))
+
+    protected long[] distances;
+
+    public ArrayDistanceMatrix() {
+    }
+
+    public ArrayDistanceMatrix(int size) {
+        super(size);
+        if (size > MAXIMUM_SIZE) {
+            throw new IllegalArgumentException("The size (" + size + ") is larger than the maximumSize ("
+                    + MAXIMUM_SIZE + ") of an array.\n"
+                    + "Maybe use a " + MappedDistanceMatrix.class.getSimpleName() + " instead.");
+        }
+        distances = new long[size * size];
+    }
+
+    @Override
+    public long getDistance(int fromIndex, int toIndex) {
+        return distances[fromIndex * size + toIndex];
+    }
+
+    @Override
+    public void setDistance(int fromIndex, int toIndex, long distance) {
+        checkIndex(fromIndex);
+        checkIndex(toIndex);
+        distances[fromIndex * size + toIndex] = distance;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.common.domain.location;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamInclude;
+
+/**
+ * A dense, square matrix of precalculated distances (or travel times, ...) between locations,
+ * indexed by the ordinal of each location (from {@code 0} to {@code size - 1}).
+ * <p>
+ * Unlike a {@code Map<Location, Double>} per location, it needs no boxing and no hash lookups:
+ * {@link #getDistance(int, int)} is an array access, because it's on the hottest path of the score calculation.
+ * The distances are stored as a {@code long} to avoid floating point arithmetic rounding errors,
+ * so multiply a fractional distance (for example by 1000) before storing it.
+ * <p>
+ * The size is fixed: adding a location in real-time planning requires a new matrix.
+ * @see ArrayDistanceMatrix
+ * @see MappedDistanceMatrix
+ */
+@XStreamAlias("DistanceMatrix")
+@XStreamInclude({
+        ArrayDistanceMatrix.class,
+        MappedDistanceMatrix.class
+})
+public abstract class DistanceMatrix implements Serializable {
+
+    // The size as a long, so the distances are 8-byte aligned
+    protected static final int FILE_HEADER_BYTES = Long.BYTES;
+
+    protected int size;
+
+    protected DistanceMatrix() {
+    }
+
+    protected DistanceMatrix(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size (" + size + ") cannot be negative.");
+        }
+        this.size = size;
+    }
+
+    /**
+     * @return {@code >= 0}, the number of locations
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @param fromIndex {@code 0 <= fromIndex < size}
+     * @param toIndex {@code 0 <= toIndex < size}
+     * @return the distance from the location with ordinal fromIndex to the location with ordinal toIndex
+     */
+    public abstract long getDistance(int fromIndex, int toIndex);
+
+    /**
+     * @param fromIndex {@code 0 <= fromIndex < size}
+     * @param toIndex {@code 0 <= toIndex < size}
+     * @param distance the distance from the location with ordinal fromIndex to the location with ordinal toIndex
+     */
+    public abstract void setDistance(int fromIndex, int toIndex, long distance);
+
+    /**
+     * Writes this matrix in the file format read by {@link MappedDistanceMatrix}:
+     * the size (as a long) followed by every distance, row by row, all big-endian.
+     * @param file never null
+     */
+    public void write(File file) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeLong(size);
+            for (int fromIndex = 0; fromIndex < size; fromIndex++) {
+                for (int toIndex = 0; toIndex < size; toIndex++) {
+                    out.writeLong(getDistance(fromIndex, toIndex));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing the distance matrix file (" + file + ").", e);
+        }
+    }
+
+    protected void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The index (" + index + ") is not between 0 and size ("
+                    + size + ").");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + size + "x" + size + ")";
+    }
+
+}
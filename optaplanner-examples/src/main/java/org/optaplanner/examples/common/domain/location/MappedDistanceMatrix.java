@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.common.domain.location;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+
+import com.thoughtworks.xstream.annotations.XStreamAlias;
+
+/**
+ * A {@link DistanceMatrix} backed by a memory-mapped file (in the format of {@link DistanceMatrix#write(File)}),
+ * so it doesn't take heap memory and the operating system pages it in on demand.
+ * Use it for datasets with so many locations that an {@link ArrayDistanceMatrix} doesn't fit in the heap.
+ * <p>
+ * Serializing it (for example with XStream) only serializes the file path, not the distances.
+ */
+@XStreamAlias("MappedDistanceMatrix")
+public class MappedDistanceMatrix extends DistanceMatrix {
+
+    // Each chunk is a separate mapping, because a single mapping is limited to 2 GB
+    private static final long MAXIMUM_CHUNK_BYTES = 1L << 30;
+
+    protected File file;
+
+    private transient LongBuffer[] chunks;
+    private transient int rowsPerChunkShift;
+    private transient int rowsPerChunkMask;
+
+    /**
+     * Maps an existing file, read-only.
+     * @param file never null, written by {@link DistanceMatrix#write(File)}
+     */
+    public MappedDistanceMatrix(File file) {
+        this.file = file;
+        map(false);
+    }
+
+    /**
+     * Creates (or overwrites) the file and maps it read-write, so the distances can be set without using heap memory.
+     * @param file never null
+     * @param size {@code >= 0}, the number of locations
+     * @return never null
+     */
+    public static MappedDistanceMatrix create(File file, int size) {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(FILE_HEADER_BYTES + (long) size * size * Long.BYTES);
+            randomAccessFile.writeLong(size);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed creating the distance matrix file (" + file + ").", e);
+        }
+        MappedDistanceMatrix matrix = new MappedDistanceMatrix();
+        matrix.file = file;
+        matrix.map(true);
+        return matrix;
+    }
+
+    private MappedDistanceMatrix() {
+    }
+
+    private void map(boolean writable) {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, writable ? "rw" : "r");
+                FileChannel channel = randomAccessFile.getChannel()) {
+            long fileSize = channel.size();
+            long sizeLong = randomAccessFile.readLong();
+            if (sizeLong < 0L || sizeLong > Integer.MAX_VALUE
+                    || fileSize != FILE_HEADER_BYTES + sizeLong * sizeLong * Long.BYTES) {
+                throw new IllegalArgumentException("The distance matrix file (" + file + ") with size (" + fileSize
+                        + ") is not a valid distance matrix of size (" + sizeLong + ").");
+            }
+            size = (int) sizeLong;
+            long rowBytes = Math.max(1L, (long) size * Long.BYTES);
+            // A power of 2, so the chunk of a row is a shift instead of a division
+            rowsPerChunkShift = 63 - Long.numberOfLeadingZeros(Math.max(1L, MAXIMUM_CHUNK_BYTES / rowBytes));
+            rowsPerChunkMask = (1 << rowsPerChunkShift) - 1;
+            int chunkCount = (size + rowsPerChunkMask) >>> rowsPerChunkShift;
+            chunks = new LongBuffer[chunkCount];
+            FileChannel.MapMode mapMode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+            for (int i = 0; i < chunkCount; i++) {
+                long firstRow = (long) i << rowsPerChunkShift;
+                long rowCount = Math.min(1L << rowsPerChunkShift, size - firstRow);
+                ByteBuffer buffer = channel.map(mapMode, FILE_HEADER_BYTES + firstRow * rowBytes, rowCount * rowBytes);
+                chunks[i] = buffer.asLongBuffer();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed mapping the distance matrix file (" + file + ").", e);
+        }
+    }
+
+    /**
+     * Called by XStream and java serialization after deserialization.
+     * @return this
+     */
+    private Object readResolve() {
+        map(false);
+        return this;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public long getDistance(int fromIndex, int toIndex) {
+        return chunks[fromIndex >>> rowsPerChunkShift].get((fromIndex & rowsPerChunkMask) * size + toIndex);
+    }
+
+    @Override
+    public void setDistance(int fromIndex, int toIndex, long distance) {
+        checkIndex(fromIndex);
+        checkIndex(toIndex);
+        chunks[fromIndex >>> rowsPerChunkShift].put((fromIndex & rowsPerChunkMask) * size + toIndex, distance);
+    }
+
+}
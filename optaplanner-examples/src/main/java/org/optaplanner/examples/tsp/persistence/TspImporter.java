@@ -16,15 +16,18 @@
 
 package org.optaplanner.examples.tsp.persistence;
 
+import java.io.File;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.io.FilenameUtils;
+import org.optaplanner.examples.common.domain.location.ArrayDistanceMatrix;
+import org.optaplanner.examples.common.domain.location.DistanceMatrix;
+import org.optaplanner.examples.common.domain.location.MappedDistanceMatrix;
 import org.optaplanner.examples.common.persistence.AbstractTxtSolutionImporter;
 import org.optaplanner.examples.common.persistence.SolutionConverter;
 import org.optaplanner.examples.tsp.app.TspApp;
@@ -147,9 +150,9 @@ public class TspImporter extends AbstractTxtSolutionImporter<TspSolution> {
             tspSolution.setLocationList(locationList);
             if (distanceType == DistanceType.ROAD_DISTANCE) {
                 readConstantLine("EDGE_WEIGHT_SECTION");
+                DistanceMatrix distanceMatrix = createDistanceMatrix(locationListSize);
                 for (int i = 0; i < locationListSize; i++) {
                     RoadLocation location = (RoadLocation) locationList.get(i);
-                    Map<RoadLocation, Double> travelDistanceMap = new LinkedHashMap<>(locationListSize);
                     String line = bufferedReader.readLine();
                     String[] lineTokens = splitBySpacesOrTabs(line.trim(), locationListSize);
                     for (int j = 0; j < locationListSize; j++) {
@@ -160,15 +163,26 @@ public class TspImporter extends AbstractTxtSolutionImporter<TspSolution> {
                                         + ") should be zero.");
                             }
                         } else {
-                            RoadLocation otherLocation = (RoadLocation) locationList.get(j);
-                            travelDistanceMap.put(otherLocation, travelDistance);
+                            // Multiplied by 1000 to avoid floating point arithmetic rounding errors
+                            distanceMatrix.setDistance(i, j, (long) (travelDistance * 1000.0 + 0.5));
                         }
                     }
-                    location.setTravelDistanceMap(travelDistanceMap);
+                    location.setDistanceMatrix(distanceMatrix);
+                    location.setDistanceMatrixIndex(i);
                 }
             }
         }
 
+        private DistanceMatrix createDistanceMatrix(int size) {
+            if (size <= ArrayDistanceMatrix.MAXIMUM_SIZE || inputFile == null) {
+                return new ArrayDistanceMatrix(size);
+            }
+            // Too large for the heap: map it from a file next to the input file
+            File distanceMatrixFile = new File(inputFile.getParentFile(), getInputId() + ".distancematrix");
+            logger.info("Mapping the distance matrix of {} locations to file ({}).", size, distanceMatrixFile);
+            return MappedDistanceMatrix.create(distanceMatrixFile, size);
+        }
+
         private void createVisitList() {
             List<Location> locationList = tspSolution.getLocationList();
             List<Visit> visitList = new ArrayList<>(locationList.size() - 1);
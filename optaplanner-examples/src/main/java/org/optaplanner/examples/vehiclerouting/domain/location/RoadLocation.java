@@ -19,6 +19,7 @@ package org.optaplanner.examples.vehiclerouting.domain.location;
 import java.util.Map;
 
 import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.optaplanner.examples.common.domain.location.DistanceMatrix;
 
 /**
  * The cost between 2 locations was precalculated on a real road network route.
@@ -30,6 +31,9 @@ public class RoadLocation extends Location {
 
     // Prefer Map over array or List because customers might be added and removed in real-time planning.
     protected Map<RoadLocation, Double> travelDistanceMap;
+    // Large datasets prefer a DistanceMatrix shared by all locations, which has precedence over the travelDistanceMap.
+    protected DistanceMatrix distanceMatrix;
+    protected int distanceMatrixIndex;
 
     public RoadLocation() {
     }
@@ -46,11 +50,33 @@ public class RoadLocation extends Location {
         this.travelDistanceMap = travelDistanceMap;
     }
 
+    public DistanceMatrix getDistanceMatrix() {
+        return distanceMatrix;
+    }
+
+    /**
+     * @param distanceMatrix sometimes null, shared by all locations, in milli units (the distance multiplied by 1000)
+     */
+    public void setDistanceMatrix(DistanceMatrix distanceMatrix) {
+        this.distanceMatrix = distanceMatrix;
+    }
+
+    public int getDistanceMatrixIndex() {
+        return distanceMatrixIndex;
+    }
+
+    public void setDistanceMatrixIndex(int distanceMatrixIndex) {
+        this.distanceMatrixIndex = distanceMatrixIndex;
+    }
+
     @Override
     public long getDistanceTo(Location location) {
         if (this == location) {
             return 0L;
         }
+        if (distanceMatrix != null) {
+            return distanceMatrix.getDistance(distanceMatrixIndex, ((RoadLocation) location).distanceMatrixIndex);
+        }
         double distance = travelDistanceMap.get((RoadLocation) location);
         // Multiplied by 1000 to avoid floating point arithmetic rounding errors
         return (long) (distance * 1000.0 + 0.5);
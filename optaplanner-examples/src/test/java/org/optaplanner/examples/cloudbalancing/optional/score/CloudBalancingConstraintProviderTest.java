@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.examples.cloudbalancing.optional.score;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.SolverConfigContext;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.examples.cloudbalancing.app.CloudBalancingApp;
+import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
+import org.optaplanner.examples.cloudbalancing.domain.CloudComputer;
+import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
+import org.optaplanner.examples.cloudbalancing.persistence.CloudBalancingGenerator;
+
+import static org.junit.Assert.*;
+
+public class CloudBalancingConstraintProviderTest {
+
+    @Test
+    public void sameScoreAsScoreDrlAndEasyScoreCalculator() {
+        CloudBalance cloudBalance = new CloudBalancingGenerator(true).createCloudBalance(10, 40);
+        Random random = new Random(37);
+        List<CloudComputer> computerList = cloudBalance.getComputerList();
+        for (CloudProcess process : cloudBalance.getProcessList()) {
+            // Leave some processes unassigned
+            process.setComputer(random.nextInt(5) == 0 ? null
+                    : computerList.get(random.nextInt(computerList.size())));
+        }
+        HardSoftScore easyScore = calculateScore(buildEasyScoreDirectorFactoryConfig(), cloudBalance);
+        assertTrue(easyScore.getSoftScore() < 0);
+
+        ScoreDirectorFactoryConfig drlConfig = new ScoreDirectorFactoryConfig();
+        drlConfig.setScoreDrlList(Collections.singletonList(
+                "org/optaplanner/examples/cloudbalancing/solver/cloudBalancingScoreRules.drl"));
+        assertEquals(easyScore, calculateScore(drlConfig, cloudBalance));
+        ScoreDirectorFactoryConfig constraintProviderConfig = new ScoreDirectorFactoryConfig();
+        constraintProviderConfig.setConstraintProviderClass(CloudBalancingConstraintProvider.class);
+        assertEquals(easyScore, calculateScore(constraintProviderConfig, cloudBalance));
+    }
+
+    @Test
+    public void solveFullAssert() {
+        SolverFactory<CloudBalance> solverFactory = SolverFactory.createFromXmlResource(
+                CloudBalancingApp.SOLVER_CONFIG);
+        SolverConfig solverConfig = solverFactory.getSolverConfig();
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        ScoreDirectorFactoryConfig scoreDirectorFactoryConfig = new ScoreDirectorFactoryConfig();
+        scoreDirectorFactoryConfig.setConstraintProviderClass(CloudBalancingConstraintProvider.class);
+        // Every incrementally calculated score is compared with the easy score calculator
+        scoreDirectorFactoryConfig.setAssertionScoreDirectorFactory(buildEasyScoreDirectorFactoryConfig());
+        solverConfig.setScoreDirectorFactoryConfig(scoreDirectorFactoryConfig);
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig();
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(100));
+        solverConfig.setPhaseConfigList(Arrays.asList(new ConstructionHeuristicPhaseConfig(), localSearchPhaseConfig));
+        Solver<CloudBalance> solver = solverFactory.buildSolver();
+
+        CloudBalance bestSolution = solver.solve(new CloudBalancingGenerator(true).createCloudBalance(4, 12));
+        assertNotNull(bestSolution.getScore());
+        assertTrue(bestSolution.getScore().isSolutionInitialized());
+    }
+
+    private static ScoreDirectorFactoryConfig buildEasyScoreDirectorFactoryConfig() {
+        ScoreDirectorFactoryConfig easyConfig = new ScoreDirectorFactoryConfig();
+        easyConfig.setEasyScoreCalculatorClass(CloudBalancingEasyScoreCalculator.class);
+        return easyConfig;
+    }
+
+    private static HardSoftScore calculateScore(ScoreDirectorFactoryConfig config, CloudBalance cloudBalance) {
+        SolutionDescriptor<CloudBalance> solutionDescriptor = SolutionDescriptor.buildSolutionDescriptor(
+                CloudBalance.class, CloudProcess.class);
+        InnerScoreDirectorFactory<CloudBalance> scoreDirectorFactory = config.buildScoreDirectorFactory(
+                new SolverConfigContext(), EnvironmentMode.REPRODUCIBLE, solutionDescriptor);
+        try (InnerScoreDirector<CloudBalance> scoreDirector = scoreDirectorFactory.buildScoreDirector()) {
+            scoreDirector.setWorkingSolution(cloudBalance);
+            return (HardSoftScore) scoreDirector.calculateScore();
+        }
+    }
+
+}
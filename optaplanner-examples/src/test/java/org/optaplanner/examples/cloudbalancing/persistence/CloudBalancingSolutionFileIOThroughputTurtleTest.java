@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.cloudbalancing.persistence;
+
+import java.io.File;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.optaplanner.examples.cloudbalancing.domain.CloudBalance;
+import org.optaplanner.examples.cloudbalancing.domain.CloudComputer;
+import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
+import org.optaplanner.examples.common.app.AbstractTurtleTest;
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+import org.optaplanner.persistence.jackson.impl.domain.solution.JacksonSolutionFileIO;
+import org.optaplanner.persistence.xstream.impl.domain.solution.XStreamSolutionFileIO;
+
+import static org.junit.Assert.*;
+
+/**
+ * Compares the read and write throughput of the {@link XStreamSolutionFileIO}
+ * and the {@link JacksonSolutionFileIO} on a big cloud balancing dataset.
+ */
+public class CloudBalancingSolutionFileIOThroughputTurtleTest extends AbstractTurtleTest {
+
+    private static final int COMPUTER_LIST_SIZE = 10000;
+    private static final int PROCESS_LIST_SIZE = 30000;
+    private static final int MEASURED_ROUND_COUNT = 10;
+
+    @Test
+    public void compareXStreamAndJackson() {
+        checkRunTurtleTests();
+        CloudBalance cloudBalance = new CloudBalancingGenerator(true)
+                .createCloudBalance(COMPUTER_LIST_SIZE, PROCESS_LIST_SIZE);
+        // Assign every process, so the references to the computers are written and read too
+        List<CloudComputer> computerList = cloudBalance.getComputerList();
+        List<CloudProcess> processList = cloudBalance.getProcessList();
+        for (int i = 0; i < processList.size(); i++) {
+            processList.get(i).setComputer(computerList.get(i % computerList.size()));
+        }
+        File outputDir = new File("target/solutionFileIOThroughput");
+        outputDir.mkdirs();
+
+        measureThroughput("XStream", new XStreamSolutionFileIO<>(CloudBalance.class),
+                cloudBalance, new File(outputDir, "cloudBalance.xml"));
+        ObjectMapper objectMapper = new ObjectMapper();
+        // Ignore the read-only properties, such as CloudComputer.getLabel()
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        measureThroughput("Jackson", new JacksonSolutionFileIO<>(CloudBalance.class, objectMapper),
+                cloudBalance, new File(outputDir, "cloudBalance.json"));
+    }
+
+    private void measureThroughput(String name, SolutionFileIO<CloudBalance> solutionFileIO,
+            CloudBalance cloudBalance, File file) {
+        long writeNanos = 0L;
+        long readNanos = 0L;
+        // The first round is a warm up
+        for (int round = 0; round <= MEASURED_ROUND_COUNT; round++) {
+            long startNanos = System.nanoTime();
+            solutionFileIO.write(cloudBalance, file);
+            long writtenNanos = System.nanoTime();
+            CloudBalance copy = solutionFileIO.read(file);
+            long readDoneNanos = System.nanoTime();
+            if (round > 0) {
+                writeNanos += writtenNanos - startNanos;
+                readNanos += readDoneNanos - writtenNanos;
+            }
+            assertEquals(COMPUTER_LIST_SIZE, copy.getComputerList().size());
+            assertEquals(PROCESS_LIST_SIZE, copy.getProcessList().size());
+            CloudProcess lastProcess = copy.getProcessList().get(PROCESS_LIST_SIZE - 1);
+            assertSame(copy.getComputerList().get((PROCESS_LIST_SIZE - 1) % COMPUTER_LIST_SIZE),
+                    lastProcess.getComputer());
+        }
+        double fileMegabytes = file.length() / 1_000_000.0;
+        double writeMillis = writeNanos / 1_000_000.0 / MEASURED_ROUND_COUNT;
+        double readMillis = readNanos / 1_000_000.0 / MEASURED_ROUND_COUNT;
+        logger.info("{}: file size ({} MB), write ({} ms, {} MB/s), read ({} ms, {} MB/s).",
+                name, String.format("%.1f", fileMegabytes),
+                String.format("%.0f", writeMillis), String.format("%.1f", fileMegabytes * 1000.0 / writeMillis),
+                String.format("%.0f", readMillis), String.format("%.1f", fileMegabytes * 1000.0 / readMillis));
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.examples.common.domain.location;
+
+import java.io.File;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.optaplanner.examples.vehiclerouting.domain.location.RoadLocation;
+
+import static org.junit.Assert.*;
+
+public class DistanceMatrixTest {
+
+    private static File distanceMatrixTestDir;
+
+    @BeforeClass
+    public static void setup() {
+        distanceMatrixTestDir = new File("target/distanceMatrixTest/");
+        distanceMatrixTestDir.mkdirs();
+    }
+
+    @Test
+    public void arrayDistanceMatrix() {
+        DistanceMatrix distanceMatrix = createDistanceMatrix();
+        assertEquals(3, distanceMatrix.getSize());
+        assertEquals(0L, distanceMatrix.getDistance(0, 0));
+        assertEquals(1L, distanceMatrix.getDistance(0, 1));
+        assertEquals(10L, distanceMatrix.getDistance(1, 0));
+        assertEquals(21L, distanceMatrix.getDistance(2, 1));
+    }
+
+    @Test
+    public void writeAndMap() {
+        File file = new File(distanceMatrixTestDir, "writeAndMap.distancematrix");
+        createDistanceMatrix().write(file);
+        MappedDistanceMatrix distanceMatrix = new MappedDistanceMatrix(file);
+        assertEquals(3, distanceMatrix.getSize());
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                assertEquals(i * 10L + j, distanceMatrix.getDistance(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void createMapped() {
+        File file = new File(distanceMatrixTestDir, "createMapped.distancematrix");
+        MappedDistanceMatrix distanceMatrix = MappedDistanceMatrix.create(file, 1000);
+        distanceMatrix.setDistance(999, 998, 7L);
+        distanceMatrix.setDistance(0, 1, 3L);
+        MappedDistanceMatrix reopenedDistanceMatrix = new MappedDistanceMatrix(file);
+        assertEquals(1000, reopenedDistanceMatrix.getSize());
+        assertEquals(7L, reopenedDistanceMatrix.getDistance(999, 998));
+        assertEquals(3L, reopenedDistanceMatrix.getDistance(0, 1));
+        assertEquals(0L, reopenedDistanceMatrix.getDistance(1, 0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void setDistanceOutOfBounds() {
+        new ArrayDistanceMatrix(3).setDistance(0, 3, 1L);
+    }
+
+    @Test
+    public void roadLocation() {
+        DistanceMatrix distanceMatrix = createDistanceMatrix();
+        RoadLocation a = new RoadLocation(0L, 0.0, 0.0);
+        RoadLocation b = new RoadLocation(1L, 0.0, 0.0);
+        RoadLocation c = new RoadLocation(2L, 0.0, 0.0);
+        RoadLocation[] locations = {a, b, c};
+        for (int i = 0; i < locations.length; i++) {
+            locations[i].setDistanceMatrix(distanceMatrix);
+            locations[i].setDistanceMatrixIndex(i);
+        }
+        assertEquals(0L, a.getDistanceTo(a));
+        assertEquals(2L, a.getDistanceTo(c));
+        assertEquals(20L, c.getDistanceTo(a));
+        assertEquals(12L, b.getDistanceTo(c));
+    }
+
+    private static DistanceMatrix createDistanceMatrix() {
+        DistanceMatrix distanceMatrix = new ArrayDistanceMatrix(3);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                distanceMatrix.setDistance(i, j, i * 10L + j);
+            }
+        }
+        return distanceMatrix;
+    }
+
+}
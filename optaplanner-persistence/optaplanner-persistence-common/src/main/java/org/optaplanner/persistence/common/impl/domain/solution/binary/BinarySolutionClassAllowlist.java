@@ -0,0 +1,228 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.common.impl.domain.solution.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Determines which classes a binary solution file may name, so a file can't instantiate arbitrary classes.
+ * <p>
+ * A bean class is allowed if it is (a subclass of) the solution class or a planning entity class,
+ * an explicitly allowed class, or a class reachable from those through the declared types of their fields.
+ * Other subclasses of a reachable class are not allowed,
+ * because a shared superclass (such as a common base class of the whole domain) would allow any of its subclasses.
+ * JDK classes are only allowed as collection, map, enum or array component type
+ * and as immutable value types in the java serialization fallback.
+ * This class is thread-safe.
+ */
+final class BinarySolutionClassAllowlist {
+
+    private static final Set<String> SERIALIZED_JAVA_UTIL_CLASS_NAME_SET = new HashSet<>(Arrays.asList(
+            Date.class.getName(), UUID.class.getName(), Locale.class.getName(), Currency.class.getName()));
+
+    private final BinarySolutionFormat format;
+    private final Class<?> solutionClass;
+    private final Set<Class<?>> rootClassSet = new HashSet<>();
+    private final Set<Class<?>> domainClassSet = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<Class<?>, Boolean> rootSubclassDecisionMap = new ConcurrentHashMap<>();
+
+    BinarySolutionClassAllowlist(SolutionDescriptor<?> solutionDescriptor, BinarySolutionFormat format) {
+        this.format = format;
+        this.solutionClass = solutionDescriptor.getSolutionClass();
+        rootClassSet.add(solutionClass);
+        rootClassSet.addAll(solutionDescriptor.getEntityClassSet());
+        for (Class<?> rootClass : rootClassSet) {
+            addReachableClass(rootClass);
+        }
+    }
+
+    void addAllowedClass(Class<?> allowedClass) {
+        if (isJdkClass(allowedClass)) {
+            throw new IllegalArgumentException("The allowedClass (" + allowedClass
+                    + ") is a JDK class, which can't be allowed as a domain class.");
+        }
+        addReachableClass(allowedClass);
+    }
+
+    private void addReachableClass(Class<?> clazz) {
+        if (clazz == null || clazz.isPrimitive() || isJdkClass(clazz)) {
+            return;
+        }
+        if (clazz.isArray()) {
+            addReachableClass(clazz.getComponentType());
+            return;
+        }
+        if (!domainClassSet.add(clazz)) {
+            return;
+        }
+        addReachableClass(clazz.getSuperclass());
+        for (Field field : format.getFieldList(clazz)) {
+            addReachableType(field.getGenericType());
+        }
+    }
+
+    private void addReachableType(Type type) {
+        if (type instanceof Class) {
+            addReachableClass((Class<?>) type);
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            addReachableType(parameterizedType.getRawType());
+            for (Type typeArgument : parameterizedType.getActualTypeArguments()) {
+                addReachableType(typeArgument);
+            }
+        } else if (type instanceof GenericArrayType) {
+            addReachableType(((GenericArrayType) type).getGenericComponentType());
+        } else if (type instanceof WildcardType) {
+            for (Type upperBound : ((WildcardType) type).getUpperBounds()) {
+                addReachableType(upperBound);
+            }
+        } else if (type instanceof TypeVariable) {
+            for (Type bound : ((TypeVariable<?>) type).getBounds()) {
+                addReachableType(bound);
+            }
+        }
+    }
+
+    /**
+     * @param clazz never null
+     * @return true if the class is a domain class or a subclass of the solution class or a planning entity class
+     */
+    boolean isDomainClass(Class<?> clazz) {
+        if (isJdkClass(clazz)) {
+            return false;
+        }
+        if (domainClassSet.contains(clazz)) {
+            return true;
+        }
+        return rootSubclassDecisionMap.computeIfAbsent(clazz, key -> {
+            for (Class<?> rootClass : rootClassSet) {
+                if (rootClass.isAssignableFrom(key)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Loads the class without initializing it, so no static initializer of a rejected class runs.
+     * @param className never null
+     * @return never null
+     */
+    Class<?> loadClass(String className) {
+        Class<?> clazz;
+        try {
+            clazz = Class.forName(className, false, solutionClass.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("The class (" + className + ") does not exist.", e);
+        }
+        if (!isJdkClass(clazz) && !acceptDomainClass(clazz)) {
+            throw new IllegalArgumentException("The class (" + className
+                    + ") is not a domain class of the solutionClass (" + solutionClass + ").\n"
+                    + "Maybe add it with " + BinarySolutionFileIO.class.getSimpleName() + ".addAllowedClasses().");
+        }
+        return clazz;
+    }
+
+    /**
+     * Like {@link #isDomainClass(Class)}, but also allows the declared field types of an accepted subclass,
+     * because a subclass of the solution class or a planning entity class can declare fields of other classes.
+     * @param clazz never null
+     * @return true if the class is a domain class or a subclass of the solution class or a planning entity class
+     */
+    boolean acceptDomainClass(Class<?> clazz) {
+        if (!isDomainClass(clazz)) {
+            return false;
+        }
+        if (!domainClassSet.contains(clazz)) {
+            addReachableClass(clazz);
+        }
+        return true;
+    }
+
+    /**
+     * @param clazz never null
+     * @return true if a value of the class can use the java serialization fallback
+     */
+    boolean isSerializedClassAllowed(Class<?> clazz) {
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+        if (clazz.isPrimitive()) {
+            return true;
+        }
+        String className = clazz.getName();
+        if (className.startsWith("java.lang.")) {
+            // Exclude subpackages, such as java.lang.reflect and java.lang.invoke
+            return className.indexOf('.', "java.lang.".length()) < 0;
+        }
+        return className.startsWith("java.math.") || className.startsWith("java.time.")
+                || SERIALIZED_JAVA_UTIL_CLASS_NAME_SET.contains(className);
+    }
+
+    /**
+     * @param bytes never null
+     * @return never null
+     * @throws IOException if the bytes can't be read or contain a class that isn't allowed
+     */
+    ObjectInputStream createObjectInputStream(byte[] bytes) throws IOException {
+        return new ObjectInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass streamClass) throws IOException, ClassNotFoundException {
+                Class<?> clazz = super.resolveClass(streamClass);
+                if (!isSerializedClassAllowed(clazz)) {
+                    throw new InvalidClassException(streamClass.getName(),
+                            "Not allowed in the java serialization fallback of a binary solution.");
+                }
+                return clazz;
+            }
+
+            @Override
+            protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+                throw new InvalidClassException(Arrays.toString(interfaces),
+                        "Proxies are not allowed in a binary solution.");
+            }
+        };
+    }
+
+    static boolean isJdkClass(Class<?> clazz) {
+        String className = clazz.getName();
+        return className.startsWith("java.") || className.startsWith("javax.");
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.common.impl.domain.solution.binary;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+
+/**
+ * Reads and writes a compact binary format, driven by the {@link SolutionDescriptor}:
+ * every problem fact and planning entity class is a dense table (one row per instance),
+ * primitive fields are primitive columns and references are written as table ordinals.
+ * Reading memory-maps the file and does no text parsing, so it's far faster than an XML or JSON format
+ * for large datasets, benchmark input files and solver checkpoints.
+ * <p>
+ * The format is not meant for long term storage or exchange:
+ * it relies on the field names and the no-arg constructors of the domain classes,
+ * so it breaks if the domain changes.
+ * Collections and maps are written by value, so a collection shared by 2 beans becomes 2 copies.
+ * JDK types that aren't a primitive, a {@link String}, an {@link Enum}, a collection, a map
+ * or a {@link java.math.BigDecimal} fall back to java serialization,
+ * which is limited to immutable value types (such as the java.time classes).
+ * <p>
+ * A file can only instantiate domain classes: (subclasses of) the solution class and the planning entity classes,
+ * the classes reachable through the declared types of their fields
+ * and the classes added with {@link #addAllowedClasses(Class[])}.
+ * Still, only use this class with files from a trusted source.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class BinarySolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
+
+    private static final int WRITE_BUFFER_SIZE = 65536;
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final BinarySolutionFormat format = new BinarySolutionFormat();
+    private final BinarySolutionClassAllowlist classAllowlist;
+
+    /**
+     * @param solutionClass never null
+     * @param entityClasses never null, the classes with the {@link PlanningEntity} annotation
+     */
+    public BinarySolutionFileIO(Class<Solution_> solutionClass, Class<?>... entityClasses) {
+        this(SolutionDescriptor.buildSolutionDescriptor(solutionClass, entityClasses));
+    }
+
+    public BinarySolutionFileIO(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+        classAllowlist = new BinarySolutionClassAllowlist(solutionDescriptor, format);
+    }
+
+    /**
+     * Allows beans of classes that aren't reachable through the declared field types of the domain classes,
+     * for example the implementation of a field declared as an {@link Object}, a JDK interface
+     * or an abstract class that isn't the solution class or a planning entity class.
+     * @param allowedClasses never null, no JDK classes
+     */
+    public void addAllowedClasses(Class<?>... allowedClasses) {
+        for (Class<?> allowedClass : allowedClasses) {
+            classAllowlist.addAllowedClass(allowedClass);
+        }
+    }
+
+    @Override
+    public String getInputFileExtension() {
+        return "dat";
+    }
+
+    @Override
+    public Solution_ read(File inputSolutionFile) {
+        try (FileChannel channel = FileChannel.open(inputSolutionFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The inputSolutionFile (" + inputSolutionFile
+                        + ") has a size (" + size + ") that is too large to memory-map.");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            return new BinarySolutionReader<>(solutionDescriptor, format, classAllowlist).read(buffer);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
+        }
+    }
+
+    @Override
+    public void write(Solution_ solution, File outputSolutionFile) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(outputSolutionFile), WRITE_BUFFER_SIZE))) {
+            new BinarySolutionWriter<>(solutionDescriptor, format, classAllowlist).write(solution, out);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+        }
+    }
+
+}
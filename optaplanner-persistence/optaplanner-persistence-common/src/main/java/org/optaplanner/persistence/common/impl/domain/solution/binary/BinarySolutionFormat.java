@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.common.impl.domain.solution.binary;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.optaplanner.core.api.score.Score;
+
+/**
+ * The constants and the reflection metadata shared by {@link BinarySolutionWriter} and {@link BinarySolutionReader}.
+ * <p>
+ * The layout of a file is:
+ * <ol>
+ *     <li>{@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}</li>
+ *     <li>the class names, referenced by their index from everywhere else</li>
+ *     <li>per table (one per concrete bean class): the class index, the row count
+ *     and per column (one per field) the declaring class index, the field name and the column type</li>
+ *     <li>per table, per column: the value of every row, so a primitive field is a dense primitive column</li>
+ * </ol>
+ * The first row of the first table is the solution.
+ * A bean (including every problem fact and planning entity) is written once
+ * and referenced everywhere else by its table index and its ordinal in that table.
+ * This class is thread-safe.
+ */
+final class BinarySolutionFormat {
+
+    static final int MAGIC_NUMBER = 0x4F505342; // "OPSB"
+    static final int FORMAT_VERSION = 1;
+
+    // Column types: a primitive field uses its primitive value type, any other field uses OBJECT_COLUMN
+    static final byte OBJECT_COLUMN = 0;
+
+    // Value types: primitive column types and tags of a value in an OBJECT_COLUMN
+    static final byte NULL = 1;
+    static final byte REFERENCE = 2;
+    static final byte BOOLEAN = 3;
+    static final byte BYTE = 4;
+    static final byte SHORT = 5;
+    static final byte CHAR = 6;
+    static final byte INT = 7;
+    static final byte LONG = 8;
+    static final byte FLOAT = 9;
+    static final byte DOUBLE = 10;
+    static final byte STRING = 11;
+    static final byte ENUM = 12;
+    static final byte SCORE = 13;
+    static final byte BIG_INTEGER = 14;
+    static final byte BIG_DECIMAL = 15;
+    static final byte COLLECTION = 16;
+    static final byte MAP = 17;
+    static final byte ARRAY = 18;
+    static final byte SERIALIZED = 19;
+
+    private final ConcurrentMap<Class<?>, List<Field>> fieldListMap = new ConcurrentHashMap<>();
+
+    /**
+     * @param beanClass never null
+     * @return never null, all non static, non transient fields, superclass fields first
+     */
+    List<Field> getFieldList(Class<?> beanClass) {
+        return fieldListMap.computeIfAbsent(beanClass, key -> {
+            List<Class<?>> lineageClassList = new ArrayList<>();
+            for (Class<?> lineageClass = key; lineageClass != null && lineageClass != Object.class;
+                    lineageClass = lineageClass.getSuperclass()) {
+                lineageClassList.add(lineageClass);
+            }
+            Collections.reverse(lineageClassList);
+            List<Field> fieldList = new ArrayList<>();
+            for (Class<?> lineageClass : lineageClassList) {
+                for (Field field : lineageClass.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fieldList.add(field);
+                }
+            }
+            return fieldList;
+        });
+    }
+
+    /**
+     * A bean gets a row in the table of its class, all other values are written inline.
+     * @param valueClass never null
+     * @return true if instances of the class are written as a row in a table
+     */
+    static boolean isBeanClass(Class<?> valueClass) {
+        if (valueClass.isPrimitive() || valueClass.isArray() || valueClass.isEnum()
+                || Enum.class.isAssignableFrom(valueClass)
+                || Collection.class.isAssignableFrom(valueClass) || Map.class.isAssignableFrom(valueClass)
+                || Score.class.isAssignableFrom(valueClass)) {
+            return false;
+        }
+        String className = valueClass.getName();
+        return !className.startsWith("java.") && !className.startsWith("javax.");
+    }
+
+    static byte determineColumnType(Class<?> fieldType) {
+        if (!fieldType.isPrimitive()) {
+            return OBJECT_COLUMN;
+        } else if (fieldType == boolean.class) {
+            return BOOLEAN;
+        } else if (fieldType == byte.class) {
+            return BYTE;
+        } else if (fieldType == short.class) {
+            return SHORT;
+        } else if (fieldType == char.class) {
+            return CHAR;
+        } else if (fieldType == int.class) {
+            return INT;
+        } else if (fieldType == long.class) {
+            return LONG;
+        } else if (fieldType == float.class) {
+            return FLOAT;
+        } else if (fieldType == double.class) {
+            return DOUBLE;
+        } else {
+            throw new IllegalStateException("The primitive fieldType (" + fieldType + ") is not implemented.");
+        }
+    }
+
+}
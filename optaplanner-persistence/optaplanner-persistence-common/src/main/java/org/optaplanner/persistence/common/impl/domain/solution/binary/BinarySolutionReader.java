@@ -0,0 +1,404 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.common.impl.domain.solution.binary;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+import static org.optaplanner.persistence.common.impl.domain.solution.binary.BinarySolutionFormat.*;
+
+/**
+ * Reads one solution from a (typically memory-mapped) {@link ByteBuffer}.
+ * Not thread-safe: create a new instance per read.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+class BinarySolutionReader<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final BinarySolutionFormat format;
+    private final BinarySolutionClassAllowlist classAllowlist;
+
+    private Class<?>[] classes;
+    private Object[][] tableRows;
+    /**
+     * Hash based containers are only filled after all columns have been read,
+     * because the hashCode() of a bean key can depend on a column that hasn't been read yet.
+     */
+    private final List<Runnable> hashedContainerFillerList = new ArrayList<>();
+
+    BinarySolutionReader(SolutionDescriptor<Solution_> solutionDescriptor, BinarySolutionFormat format,
+            BinarySolutionClassAllowlist classAllowlist) {
+        this.solutionDescriptor = solutionDescriptor;
+        this.format = format;
+        this.classAllowlist = classAllowlist;
+    }
+
+    Solution_ read(ByteBuffer buffer) {
+        int magicNumber = buffer.getInt();
+        if (magicNumber != MAGIC_NUMBER) {
+            throw new IllegalArgumentException("The magicNumber (" + Integer.toHexString(magicNumber)
+                    + ") is not the binary solution format's magicNumber (" + Integer.toHexString(MAGIC_NUMBER) + ").");
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("The formatVersion (" + formatVersion
+                    + ") is not supported, only formatVersion (" + FORMAT_VERSION + ") is.");
+        }
+        readClasses(buffer);
+        int tableCount = buffer.getInt();
+        tableRows = new Object[tableCount][];
+        Field[][] tableFields = new Field[tableCount][];
+        byte[][] tableColumnTypes = new byte[tableCount][];
+        for (int tableIndex = 0; tableIndex < tableCount; tableIndex++) {
+            Class<?> beanClass = classes[buffer.getInt()];
+            if (!isBeanClass(beanClass) || !classAllowlist.isDomainClass(beanClass)) {
+                throw new IllegalArgumentException("The table class (" + beanClass
+                        + ") is not a domain bean class of the solutionClass ("
+                        + solutionDescriptor.getSolutionClass() + ").");
+            }
+            int rowCount = buffer.getInt();
+            int columnCount = buffer.getInt();
+            Field[] fields = new Field[columnCount];
+            byte[] columnTypes = new byte[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                Class<?> declaringClass = classes[buffer.getInt()];
+                String fieldName = readString(buffer);
+                columnTypes[i] = buffer.get();
+                fields[i] = findField(beanClass, declaringClass, fieldName);
+                if (determineColumnType(fields[i].getType()) != columnTypes[i]) {
+                    throw new IllegalArgumentException("The field (" + fields[i]
+                            + ") has a different type than the column written for it.");
+                }
+            }
+            tableFields[tableIndex] = fields;
+            tableColumnTypes[tableIndex] = columnTypes;
+            tableRows[tableIndex] = instantiateRows(beanClass, rowCount);
+        }
+        // All beans exist before any column is read, so every reference resolves immediately
+        for (int tableIndex = 0; tableIndex < tableCount; tableIndex++) {
+            Field[] fields = tableFields[tableIndex];
+            for (int i = 0; i < fields.length; i++) {
+                readColumn(tableRows[tableIndex], fields[i], tableColumnTypes[tableIndex][i], buffer);
+            }
+        }
+        hashedContainerFillerList.forEach(Runnable::run);
+        if (tableCount == 0 || tableRows[0].length == 0) {
+            throw new IllegalArgumentException("The binary solution contains no solution.");
+        }
+        Object solution = tableRows[0][0];
+        Class<Solution_> solutionClass = solutionDescriptor.getSolutionClass();
+        if (!solutionClass.isInstance(solution)) {
+            throw new IllegalArgumentException("The binary solution's class (" + solution.getClass()
+                    + ") is not the solutionClass (" + solutionClass + ").");
+        }
+        return solutionClass.cast(solution);
+    }
+
+    private void readClasses(ByteBuffer buffer) {
+        int classCount = buffer.getInt();
+        classes = new Class<?>[classCount];
+        for (int i = 0; i < classCount; i++) {
+            classes[i] = classAllowlist.loadClass(readString(buffer));
+        }
+    }
+
+    private Field findField(Class<?> beanClass, Class<?> declaringClass, String fieldName) {
+        for (Field field : format.getFieldList(beanClass)) {
+            if (field.getDeclaringClass() == declaringClass && field.getName().equals(fieldName)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("The class (" + beanClass + ") has no field (" + fieldName
+                + ") declared in class (" + declaringClass + ").\n"
+                + "Maybe the domain changed after the binary solution was written.");
+    }
+
+    private static Object[] instantiateRows(Class<?> beanClass, int rowCount) {
+        Constructor<?> constructor;
+        try {
+            constructor = beanClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("The class (" + beanClass + ") does not have a no-arg constructor.", e);
+        }
+        constructor.setAccessible(true);
+        Object[] rows = new Object[rowCount];
+        try {
+            for (int i = 0; i < rowCount; i++) {
+                rows[i] = constructor.newInstance();
+            }
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("The class (" + beanClass + ") cannot be instantiated.", e);
+        }
+        return rows;
+    }
+
+    private void readColumn(Object[] rows, Field field, byte columnType, ByteBuffer buffer) {
+        try {
+            switch (columnType) {
+                case OBJECT_COLUMN:
+                    for (Object bean : rows) {
+                        field.set(bean, readValue(buffer));
+                    }
+                    break;
+                case BOOLEAN:
+                    for (Object bean : rows) {
+                        field.setBoolean(bean, buffer.get() != 0);
+                    }
+                    break;
+                case BYTE:
+                    for (Object bean : rows) {
+                        field.setByte(bean, buffer.get());
+                    }
+                    break;
+                case SHORT:
+                    for (Object bean : rows) {
+                        field.setShort(bean, buffer.getShort());
+                    }
+                    break;
+                case CHAR:
+                    for (Object bean : rows) {
+                        field.setChar(bean, buffer.getChar());
+                    }
+                    break;
+                case INT:
+                    for (Object bean : rows) {
+                        field.setInt(bean, buffer.getInt());
+                    }
+                    break;
+                case LONG:
+                    for (Object bean : rows) {
+                        field.setLong(bean, buffer.getLong());
+                    }
+                    break;
+                case FLOAT:
+                    for (Object bean : rows) {
+                        field.setFloat(bean, buffer.getFloat());
+                    }
+                    break;
+                case DOUBLE:
+                    for (Object bean : rows) {
+                        field.setDouble(bean, buffer.getDouble());
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("The columnType (" + columnType
+                            + ") of field (" + field + ") is not supported.");
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot write the field (" + field + ").", e);
+        }
+    }
+
+    private Object readValue(ByteBuffer buffer) {
+        byte valueType = buffer.get();
+        switch (valueType) {
+            case NULL:
+                return null;
+            case REFERENCE:
+                return tableRows[buffer.getInt()][buffer.getInt()];
+            case STRING:
+                return readString(buffer);
+            case INT:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                return buffer.getDouble();
+            case BOOLEAN:
+                return buffer.get() != 0;
+            case ENUM: {
+                Class<?> enumClass = classes[buffer.getInt()];
+                if (!enumClass.isEnum()) {
+                    throw new IllegalArgumentException("The class (" + enumClass + ") is not an enum.");
+                }
+                return enumClass.getEnumConstants()[buffer.getInt()];
+            }
+            case BYTE:
+                return buffer.get();
+            case SHORT:
+                return buffer.getShort();
+            case CHAR:
+                return buffer.getChar();
+            case FLOAT:
+                return buffer.getFloat();
+            case SCORE:
+                return solutionDescriptor.getScoreDefinition().parseScore(readString(buffer));
+            case BIG_INTEGER:
+                return new BigInteger(readString(buffer));
+            case BIG_DECIMAL:
+                return new BigDecimal(readString(buffer));
+            case COLLECTION:
+                return readCollection(buffer);
+            case MAP:
+                return readMap(buffer);
+            case ARRAY: {
+                Class<?> componentType = classes[buffer.getInt()];
+                int length = buffer.getInt();
+                Object[] array = (Object[]) Array.newInstance(componentType, length);
+                for (int i = 0; i < length; i++) {
+                    array[i] = readValue(buffer);
+                }
+                return array;
+            }
+            case SERIALIZED:
+                return readSerialized(buffer);
+            default:
+                throw new IllegalArgumentException("The valueType (" + valueType + ") is not supported.");
+        }
+    }
+
+    private Collection<Object> readCollection(ByteBuffer buffer) {
+        Class<?> collectionClass = classes[buffer.getInt()];
+        if (!Collection.class.isAssignableFrom(collectionClass)) {
+            throw new IllegalArgumentException("The class (" + collectionClass + ") is not a collection.");
+        }
+        int size = buffer.getInt();
+        Collection<Object> collection = newCollection(collectionClass, size);
+        if (collection instanceof List) {
+            for (int i = 0; i < size; i++) {
+                collection.add(readValue(buffer));
+            }
+        } else {
+            Object[] elements = new Object[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = readValue(buffer);
+            }
+            hashedContainerFillerList.add(() -> {
+                for (Object element : elements) {
+                    collection.add(element);
+                }
+            });
+        }
+        return collection;
+    }
+
+    private Map<Object, Object> readMap(ByteBuffer buffer) {
+        Class<?> mapClass = classes[buffer.getInt()];
+        if (!Map.class.isAssignableFrom(mapClass)) {
+            throw new IllegalArgumentException("The class (" + mapClass + ") is not a map.");
+        }
+        int size = buffer.getInt();
+        Map<Object, Object> map = newMap(mapClass, size);
+        Object[] keysAndValues = new Object[size * 2];
+        for (int i = 0; i < keysAndValues.length; i++) {
+            keysAndValues[i] = readValue(buffer);
+        }
+        hashedContainerFillerList.add(() -> {
+            for (int i = 0; i < keysAndValues.length; i += 2) {
+                map.put(keysAndValues[i], keysAndValues[i + 1]);
+            }
+        });
+        return map;
+    }
+
+    private static Collection<Object> newCollection(Class<?> collectionClass, int size) {
+        if (collectionClass == ArrayList.class) {
+            return new ArrayList<>(size);
+        } else if (collectionClass == HashSet.class) {
+            return new HashSet<>(capacity(size));
+        } else if (collectionClass == LinkedHashSet.class) {
+            return new LinkedHashSet<>(capacity(size));
+        }
+        Collection<Object> collection = newInstanceIfPublic(collectionClass);
+        if (collection != null) {
+            return collection;
+        }
+        // For example Arrays.asList() or Collections.unmodifiableList()
+        if (SortedSet.class.isAssignableFrom(collectionClass)) {
+            return new TreeSet<>();
+        } else if (Set.class.isAssignableFrom(collectionClass)) {
+            return new LinkedHashSet<>(capacity(size));
+        } else {
+            return new ArrayList<>(size);
+        }
+    }
+
+    private static Map<Object, Object> newMap(Class<?> mapClass, int size) {
+        if (mapClass == HashMap.class) {
+            return new HashMap<>(capacity(size));
+        } else if (mapClass == LinkedHashMap.class) {
+            return new LinkedHashMap<>(capacity(size));
+        }
+        Map<Object, Object> map = newInstanceIfPublic(mapClass);
+        if (map != null) {
+            return map;
+        }
+        if (SortedMap.class.isAssignableFrom(mapClass)) {
+            return new TreeMap<>();
+        } else {
+            return new LinkedHashMap<>(capacity(size));
+        }
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private static <T> T newInstanceIfPublic(Class<?> clazz) {
+        if (!Modifier.isPublic(clazz.getModifiers())) {
+            return null;
+        }
+        try {
+            return (T) clazz.getConstructor().newInstance();
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException
+                | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    private Object readSerialized(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        try (ObjectInputStream objectIn = classAllowlist.createObjectInputStream(bytes)) {
+            return objectIn.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalArgumentException("Failed deserializing a value.", e);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.common.impl.domain.solution.binary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+import static org.optaplanner.persistence.common.impl.domain.solution.binary.BinarySolutionFormat.*;
+
+/**
+ * Writes one solution. Not thread-safe: create a new instance per write.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+class BinarySolutionWriter<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final BinarySolutionFormat format;
+    private final BinarySolutionClassAllowlist classAllowlist;
+
+    private final List<Class<?>> classList = new ArrayList<>();
+    private final Map<Class<?>, Integer> classIndexMap = new HashMap<>();
+    private final List<Table> tableList = new ArrayList<>();
+    private final Map<Class<?>, Table> tableMap = new HashMap<>();
+    private final Map<Object, Integer> ordinalMap = new IdentityHashMap<>();
+    private final Deque<Object> undiscoveredBeanQueue = new ArrayDeque<>();
+
+    BinarySolutionWriter(SolutionDescriptor<Solution_> solutionDescriptor, BinarySolutionFormat format,
+            BinarySolutionClassAllowlist classAllowlist) {
+        this.solutionDescriptor = solutionDescriptor;
+        this.format = format;
+        this.classAllowlist = classAllowlist;
+    }
+
+    void write(Solution_ solution, DataOutputStream out) throws IOException {
+        discover(solution);
+        writeHeader(out);
+        for (Table table : tableList) {
+            for (Field field : table.fieldList) {
+                writeColumn(table, field, out);
+            }
+        }
+    }
+
+    // ************************************************************************
+    // Discovery
+    // ************************************************************************
+
+    private void discover(Solution_ solution) {
+        // The solution is the first row of the first table
+        registerBean(solution);
+        // Group the problem facts and planning entities in the tables of their SolutionDescriptor order
+        for (Object fact : solutionDescriptor.getAllFacts(solution)) {
+            discoverValue(fact);
+        }
+        while (!undiscoveredBeanQueue.isEmpty()) {
+            Object bean = undiscoveredBeanQueue.poll();
+            for (Field field : tableMap.get(bean.getClass()).fieldList) {
+                if (!field.getType().isPrimitive()) {
+                    discoverValue(readField(field, bean));
+                }
+            }
+        }
+    }
+
+    private void discoverValue(Object value) {
+        if (value == null) {
+            return;
+        }
+        Class<?> valueClass = value.getClass();
+        if (value instanceof Enum) {
+            registerClass(((Enum<?>) value).getDeclaringClass());
+        } else if (value instanceof Collection) {
+            registerClass(valueClass);
+            for (Object element : (Collection<?>) value) {
+                discoverValue(element);
+            }
+        } else if (value instanceof Map) {
+            registerClass(valueClass);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                discoverValue(entry.getKey());
+                discoverValue(entry.getValue());
+            }
+        } else if (value instanceof Object[]) {
+            registerClass(valueClass.getComponentType());
+            for (Object element : (Object[]) value) {
+                discoverValue(element);
+            }
+        } else if (isBeanClass(valueClass)) {
+            registerBean(value);
+        }
+    }
+
+    private void registerBean(Object bean) {
+        if (ordinalMap.containsKey(bean)) {
+            return;
+        }
+        Class<?> beanClass = bean.getClass();
+        Table table = tableMap.get(beanClass);
+        if (table == null) {
+            // Fail fast instead of writing a file that can't be read
+            if (!classAllowlist.acceptDomainClass(beanClass)) {
+                throw new IllegalArgumentException("The bean (" + bean + ") has a class (" + beanClass
+                        + ") that is not a domain class of the solutionClass ("
+                        + solutionDescriptor.getSolutionClass() + ").\n"
+                        + "Maybe add it with " + BinarySolutionFileIO.class.getSimpleName()
+                        + ".addAllowedClasses().");
+            }
+            List<Field> fieldList = format.getFieldList(beanClass);
+            table = new Table(tableList.size(), registerClass(beanClass), fieldList);
+            tableList.add(table);
+            tableMap.put(beanClass, table);
+            for (Field field : fieldList) {
+                registerClass(field.getDeclaringClass());
+            }
+        }
+        ordinalMap.put(bean, table.rowList.size());
+        table.rowList.add(bean);
+        undiscoveredBeanQueue.add(bean);
+    }
+
+    private int registerClass(Class<?> clazz) {
+        return classIndexMap.computeIfAbsent(clazz, key -> {
+            classList.add(key);
+            return classList.size() - 1;
+        });
+    }
+
+    // ************************************************************************
+    // Writing
+    // ************************************************************************
+
+    private void writeHeader(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(classList.size());
+        for (Class<?> clazz : classList) {
+            writeString(clazz.getName(), out);
+        }
+        out.writeInt(tableList.size());
+        for (Table table : tableList) {
+            out.writeInt(table.classIndex);
+            out.writeInt(table.rowList.size());
+            out.writeInt(table.fieldList.size());
+            for (Field field : table.fieldList) {
+                out.writeInt(classIndexMap.get(field.getDeclaringClass()));
+                writeString(field.getName(), out);
+                out.writeByte(determineColumnType(field.getType()));
+            }
+        }
+    }
+
+    private void writeColumn(Table table, Field field, DataOutputStream out) throws IOException {
+        try {
+            switch (determineColumnType(field.getType())) {
+                case OBJECT_COLUMN:
+                    for (Object bean : table.rowList) {
+                        writeValue(field.get(bean), out);
+                    }
+                    break;
+                case BOOLEAN:
+                    for (Object bean : table.rowList) {
+                        out.writeBoolean(field.getBoolean(bean));
+                    }
+                    break;
+                case BYTE:
+                    for (Object bean : table.rowList) {
+                        out.writeByte(field.getByte(bean));
+                    }
+                    break;
+                case SHORT:
+                    for (Object bean : table.rowList) {
+                        out.writeShort(field.getShort(bean));
+                    }
+                    break;
+                case CHAR:
+                    for (Object bean : table.rowList) {
+                        out.writeChar(field.getChar(bean));
+                    }
+                    break;
+                case INT:
+                    for (Object bean : table.rowList) {
+                        out.writeInt(field.getInt(bean));
+                    }
+                    break;
+                case LONG:
+                    for (Object bean : table.rowList) {
+                        out.writeLong(field.getLong(bean));
+                    }
+                    break;
+                case FLOAT:
+                    for (Object bean : table.rowList) {
+                        out.writeFloat(field.getFloat(bean));
+                    }
+                    break;
+                case DOUBLE:
+                    for (Object bean : table.rowList) {
+                        out.writeDouble(field.getDouble(bean));
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("The field (" + field + ") has an unsupported column type.");
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read the field (" + field + ").", e);
+        }
+    }
+
+    private void writeValue(Object value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        Integer ordinal = ordinalMap.get(value);
+        if (ordinal != null) {
+            out.writeByte(REFERENCE);
+            out.writeInt(tableMap.get(value.getClass()).tableIndex);
+            out.writeInt(ordinal);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString((String) value, out);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Enum) {
+            Enum<?> enumValue = (Enum<?>) value;
+            out.writeByte(ENUM);
+            out.writeInt(classIndexMap.get(enumValue.getDeclaringClass()));
+            out.writeInt(enumValue.ordinal());
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHAR);
+            out.writeChar((Character) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (solutionDescriptor.getScoreDefinition().getScoreClass().isInstance(value)) {
+            out.writeByte(SCORE);
+            writeString(value.toString(), out);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeString(value.toString(), out);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(BIG_DECIMAL);
+            writeString(value.toString(), out);
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            out.writeByte(COLLECTION);
+            out.writeInt(classIndexMap.get(value.getClass()));
+            out.writeInt(collection.size());
+            for (Object element : collection) {
+                writeValue(element, out);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(classIndexMap.get(value.getClass()));
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(entry.getKey(), out);
+                writeValue(entry.getValue(), out);
+            }
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            out.writeByte(ARRAY);
+            out.writeInt(classIndexMap.get(value.getClass().getComponentType()));
+            out.writeInt(array.length);
+            for (Object element : array) {
+                writeValue(element, out);
+            }
+        } else if (value instanceof Serializable && classAllowlist.isSerializedClassAllowed(value.getClass())) {
+            // Fallback for JDK types (such as LocalDate or int[]), slow but correct
+            ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
+                objectOut.writeObject(value);
+            }
+            byte[] bytes = bytesOut.toByteArray();
+            out.writeByte(SERIALIZED);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else {
+            throw new IllegalArgumentException("The value (" + value + ") of class (" + value.getClass()
+                    + ") is not supported by the binary format.\n"
+                    + "Maybe use an immutable JDK value type (such as a java.time class) instead.");
+        }
+    }
+
+    private static void writeString(String string, DataOutputStream out) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static Object readField(Field field, Object bean) {
+        try {
+            return field.get(bean);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read the field (" + field + ").", e);
+        }
+    }
+
+    private static class Table {
+
+        private final int tableIndex;
+        private final int classIndex;
+        private final List<Field> fieldList;
+        private final List<Object> rowList = new ArrayList<>();
+
+        private Table(int tableIndex, int classIndex, List<Field> fieldList) {
+            this.tableIndex = tableIndex;
+            this.classIndex = classIndex;
+            this.fieldList = fieldList;
+        }
+
+    }
+
+}
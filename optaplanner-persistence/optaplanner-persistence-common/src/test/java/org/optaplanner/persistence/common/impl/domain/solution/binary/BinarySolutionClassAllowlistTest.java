@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.common.impl.domain.solution.binary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.util.BitSet;
+
+import org.junit.Test;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.extended.TestdataUnannotatedExtendedEntity;
+
+import static org.junit.Assert.*;
+
+public class BinarySolutionClassAllowlistTest {
+
+    @Test
+    public void isDomainClass() {
+        BinarySolutionClassAllowlist classAllowlist = new BinarySolutionClassAllowlist(
+                TestdataSolution.buildSolutionDescriptor(), new BinarySolutionFormat());
+        assertTrue(classAllowlist.isDomainClass(TestdataSolution.class));
+        assertTrue(classAllowlist.isDomainClass(TestdataEntity.class));
+        // Reachable through TestdataEntity.value
+        assertTrue(classAllowlist.isDomainClass(TestdataValue.class));
+        // Declares the code field
+        assertTrue(classAllowlist.isDomainClass(TestdataObject.class));
+        // Subclass of a planning entity class
+        assertTrue(classAllowlist.isDomainClass(TestdataUnannotatedExtendedEntity.class));
+        // Only a subclass of TestdataObject, which is a domain class but not the solution or a planning entity class
+        assertFalse(classAllowlist.isDomainClass(TestdataChainedEntity.class));
+        assertFalse(classAllowlist.isDomainClass(ProcessBuilder.class));
+
+        classAllowlist.addAllowedClass(TestdataChainedEntity.class);
+        assertTrue(classAllowlist.isDomainClass(TestdataChainedEntity.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void loadNonDomainClass() {
+        BinarySolutionClassAllowlist classAllowlist = new BinarySolutionClassAllowlist(
+                TestdataSolution.buildSolutionDescriptor(), new BinarySolutionFormat());
+        classAllowlist.loadClass(TestdataChainedEntity.class.getName());
+    }
+
+    @Test
+    public void readSerializedValueType() throws IOException, ClassNotFoundException {
+        BinarySolutionClassAllowlist classAllowlist = new BinarySolutionClassAllowlist(
+                TestdataSolution.buildSolutionDescriptor(), new BinarySolutionFormat());
+        LocalDate date = LocalDate.of(2018, 5, 1);
+        assertTrue(classAllowlist.isSerializedClassAllowed(LocalDate.class));
+        try (ObjectInputStream objectIn = classAllowlist.createObjectInputStream(serialize(date))) {
+            assertEquals(date, objectIn.readObject());
+        }
+        assertTrue(classAllowlist.isSerializedClassAllowed(int[].class));
+    }
+
+    @Test(expected = InvalidClassException.class)
+    public void readSerializedNonValueType() throws IOException, ClassNotFoundException {
+        BinarySolutionClassAllowlist classAllowlist = new BinarySolutionClassAllowlist(
+                TestdataSolution.buildSolutionDescriptor(), new BinarySolutionFormat());
+        assertFalse(classAllowlist.isSerializedClassAllowed(BitSet.class));
+        try (ObjectInputStream objectIn = classAllowlist.createObjectInputStream(serialize(new BitSet()))) {
+            objectIn.readObject();
+        }
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
+            objectOut.writeObject(value);
+        }
+        return bytesOut.toByteArray();
+    }
+
+}
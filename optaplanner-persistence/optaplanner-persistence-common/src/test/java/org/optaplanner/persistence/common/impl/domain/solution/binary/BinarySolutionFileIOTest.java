@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.common.impl.domain.solution.binary;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
+
+public class BinarySolutionFileIOTest {
+
+    private static File solutionTestDir;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        solutionTestDir = new File("target/solutionTest/");
+        solutionTestDir.mkdirs();
+    }
+
+    @Test
+    public void readAndWrite() {
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO = new BinarySolutionFileIO<>(
+                TestdataSolution.class, TestdataEntity.class);
+        File file = new File(solutionTestDir, "testdataSolution.dat");
+
+        TestdataSolution original = new TestdataSolution("s1");
+        TestdataValue originalV1 = new TestdataValue("v1");
+        TestdataValue originalV2 = new TestdataValue("v2");
+        original.setValueList(Arrays.asList(originalV1, originalV2));
+        original.setEntityList(Arrays.asList(
+                new TestdataEntity("e1"), new TestdataEntity("e2", originalV1),
+                new TestdataEntity("e3", originalV1), new TestdataEntity("e4", originalV2)));
+        original.setScore(SimpleScore.valueOf(-123));
+        solutionFileIO.write(original, file);
+        TestdataSolution copy = solutionFileIO.read(file);
+
+        assertNotSame(original, copy);
+        assertCode("s1", copy);
+        assertAllCodesOfIterator(copy.getValueList().iterator(), "v1", "v2");
+        assertAllCodesOfIterator(copy.getEntityList().iterator(), "e1", "e2", "e3", "e4");
+        TestdataValue copyV1 = copy.getValueList().get(0);
+        TestdataValue copyV2 = copy.getValueList().get(1);
+        assertNull(copy.getEntityList().get(0).getValue());
+        assertSame(copyV1, copy.getEntityList().get(1).getValue());
+        assertSame(copyV1, copy.getEntityList().get(2).getValue());
+        assertSame(copyV2, copy.getEntityList().get(3).getValue());
+        assertEquals(SimpleScore.valueOf(-123), copy.getScore());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void readNonBinaryFile() throws IOException {
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO = new BinarySolutionFileIO<>(
+                TestdataSolution.class, TestdataEntity.class);
+        File file = new File(solutionTestDir, "nonBinarySolution.dat");
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write("<solution/>".getBytes("UTF-8"));
+        }
+        solutionFileIO.read(file);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void readNonDomainClass() throws IOException {
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO = new BinarySolutionFileIO<>(
+                TestdataSolution.class, TestdataEntity.class);
+        File file = new File(solutionTestDir, "nonDomainClassSolution.dat");
+        try (DataOutputStream out = writeClassTable(file, TestdataChainedEntity.class.getName())) {
+            out.writeInt(0);
+        }
+        solutionFileIO.read(file);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void readJdkTableClass() throws IOException {
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO = new BinarySolutionFileIO<>(
+                TestdataSolution.class, TestdataEntity.class);
+        File file = new File(solutionTestDir, "jdkTableClassSolution.dat");
+        try (DataOutputStream out = writeClassTable(file, ProcessBuilder.class.getName())) {
+            // 1 table of the class ProcessBuilder with 1 row and no columns
+            out.writeInt(1);
+            out.writeInt(0);
+            out.writeInt(1);
+            out.writeInt(0);
+        }
+        solutionFileIO.read(file);
+    }
+
+    private static DataOutputStream writeClassTable(File file, String... classNames) throws IOException {
+        DataOutputStream out = new DataOutputStream(new FileOutputStream(file));
+        out.writeInt(BinarySolutionFormat.MAGIC_NUMBER);
+        out.writeInt(BinarySolutionFormat.FORMAT_VERSION);
+        out.writeInt(classNames.length);
+        for (String className : classNames) {
+            byte[] bytes = className.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        out.flush();
+        return out;
+    }
+
+}
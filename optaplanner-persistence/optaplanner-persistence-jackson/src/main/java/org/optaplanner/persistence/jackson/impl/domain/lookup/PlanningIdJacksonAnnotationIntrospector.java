@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jackson.impl.domain.lookup;
+
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.ObjectIdInfo;
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+
+/**
+ * Serializes every class with a {@link PlanningId} member as a full object the first time it occurs
+ * and as a reference to that {@link PlanningId} value every next time,
+ * so a problem fact or planning entity is shared by all of its referrers after deserialization.
+ * The {@link PlanningIdObjectIdResolver} resolves those references.
+ * <p>
+ * Pair it as a secondary introspector, so an explicit {@code @JsonIdentityInfo} annotation still wins.
+ * The {@link PlanningId} member must be a visible Jackson property too.
+ */
+public class PlanningIdJacksonAnnotationIntrospector extends NopAnnotationIntrospector {
+
+    @Override
+    public ObjectIdInfo findObjectIdInfo(Annotated annotated) {
+        if (!(annotated instanceof AnnotatedClass)) {
+            return null;
+        }
+        Class<?> clazz = annotated.getRawType();
+        if (clazz.isPrimitive() || clazz.isArray() || clazz.getName().startsWith("java.")) {
+            return null;
+        }
+        MemberAccessor planningIdMemberAccessor = ConfigUtils.findPlanningIdMemberAccessor(clazz);
+        if (planningIdMemberAccessor == null) {
+            return null;
+        }
+        return new ObjectIdInfo(PropertyName.construct(planningIdMemberAccessor.getName()), clazz,
+                ObjectIdGenerators.PropertyGenerator.class, PlanningIdObjectIdResolver.class);
+    }
+
+}
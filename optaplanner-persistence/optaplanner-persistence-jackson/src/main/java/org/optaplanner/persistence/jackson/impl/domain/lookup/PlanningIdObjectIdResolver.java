@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jackson.impl.domain.lookup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.ObjectIdGenerator.IdKey;
+import com.fasterxml.jackson.annotation.ObjectIdResolver;
+import com.fasterxml.jackson.annotation.SimpleObjectIdResolver;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+
+/**
+ * Resolves the {@link PlanningId} based object ids of the {@link PlanningIdJacksonAnnotationIntrospector}.
+ * <p>
+ * Without a {@link ReferenceTable}, it behaves like a {@link SimpleObjectIdResolver}:
+ * an id only resolves within the same {@link ObjectReader#readValue} call.
+ * If the {@link DeserializationContext} has a {@link ReferenceTable} attribute
+ * (see {@link ObjectReader#withAttribute(Object, Object)}),
+ * ids resolve across all the calls that share that table,
+ * so a big collection can be read one element at a time.
+ */
+public class PlanningIdObjectIdResolver implements ObjectIdResolver {
+
+    public static final String REFERENCE_TABLE_ATTRIBUTE_KEY
+            = PlanningIdObjectIdResolver.class.getName() + ".referenceTable";
+
+    private final ReferenceTable referenceTable;
+
+    public PlanningIdObjectIdResolver() {
+        this(new ReferenceTable());
+    }
+
+    protected PlanningIdObjectIdResolver(ReferenceTable referenceTable) {
+        this.referenceTable = referenceTable;
+    }
+
+    @Override
+    public void bindItem(IdKey id, Object pojo) {
+        Object oldPojo = referenceTable.pojoMap.putIfAbsent(id, pojo);
+        if (oldPojo != null && oldPojo != pojo) {
+            throw new IllegalStateException("Already had POJO for id (" + id.key.getClass().getName() + ") ["
+                    + id + "]");
+        }
+        // A forward reference within the same readValue() call is resolved by Jackson itself
+        referenceTable.unresolvedIdMap.remove(id, this);
+    }
+
+    @Override
+    public Object resolveId(IdKey id) {
+        Object pojo = referenceTable.pojoMap.get(id);
+        if (pojo == null) {
+            referenceTable.unresolvedIdMap.putIfAbsent(id, this);
+        }
+        return pojo;
+    }
+
+    @Override
+    public ObjectIdResolver newForDeserialization(Object context) {
+        ReferenceTable sharedReferenceTable = (ReferenceTable) ((DeserializationContext) context)
+                .getAttribute(REFERENCE_TABLE_ATTRIBUTE_KEY);
+        return new PlanningIdObjectIdResolver(
+                sharedReferenceTable == null ? new ReferenceTable() : sharedReferenceTable);
+    }
+
+    @Override
+    public boolean canUseFor(ObjectIdResolver resolverType) {
+        return resolverType.getClass() == getClass();
+    }
+
+    /**
+     * The objects bound by their id, shared by multiple {@link ObjectReader#readValue} calls.
+     * Not thread-safe.
+     */
+    public static class ReferenceTable {
+
+        protected final Map<IdKey, Object> pojoMap = new HashMap<>();
+        protected final Map<IdKey, ObjectIdResolver> unresolvedIdMap = new HashMap<>();
+
+        /**
+         * @return never null, the ids that were referenced by a {@link ObjectReader#readValue} call
+         * before they were bound, but not bound later in that same call
+         */
+        public Set<IdKey> getUnresolvedIdSet() {
+            return unresolvedIdMap.keySet();
+        }
+
+    }
+
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jackson.impl.domain.solution;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.solution.PlanningEntityCollectionProperty;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.drools.ProblemFactCollectionProperty;
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+import org.optaplanner.persistence.jackson.api.OptaPlannerJacksonModule;
+import org.optaplanner.persistence.jackson.impl.domain.lookup.PlanningIdJacksonAnnotationIntrospector;
+import org.optaplanner.persistence.jackson.impl.domain.lookup.PlanningIdObjectIdResolver;
+
+/**
+ * Reads and writes the solution as UTF-8 JSON.
+ * Problem facts and planning entities with a {@link PlanningId} become Jackson object ids:
+ * they are written in full only once and referenced by their {@link PlanningId} value afterwards.
+ * <p>
+ * Reading iterates the tokens of the solution with a {@link JsonParser}.
+ * The {@link ProblemFactCollectionProperty} and {@link PlanningEntityCollectionProperty} lists
+ * are bound one element at a time, so no data binding state is kept for the entire document:
+ * the {@link PlanningIdObjectIdResolver} only remembers each {@link PlanningId} and its object.
+ * The other properties of the solution are buffered and bound in between, to keep the document order.
+ * A reference must come after the full object, which is always the case in a file written by this class,
+ * because Jackson writes the first occurrence in full.
+ * Writing doesn't need such special treatment:
+ * Jackson's serializers already write every element directly to the JSON generator.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class JacksonSolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
+
+    private final Class<Solution_> solutionClass;
+    private final ObjectMapper objectMapper;
+
+    public JacksonSolutionFileIO(Class<Solution_> solutionClass) {
+        this(solutionClass, new ObjectMapper());
+    }
+
+    /**
+     * @param solutionClass never null
+     * @param objectMapper never null, registers the {@link OptaPlannerJacksonModule}
+     * and the {@link PlanningId} reference resolution on it
+     */
+    public JacksonSolutionFileIO(Class<Solution_> solutionClass, ObjectMapper objectMapper) {
+        this.solutionClass = solutionClass;
+        this.objectMapper = objectMapper;
+        objectMapper.registerModule(OptaPlannerJacksonModule.createModule());
+        AnnotationIntrospector annotationIntrospector = objectMapper.getSerializationConfig().getAnnotationIntrospector();
+        objectMapper.setAnnotationIntrospector(AnnotationIntrospector.pair(annotationIntrospector,
+                new PlanningIdJacksonAnnotationIntrospector()));
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    @Override
+    public String getInputFileExtension() {
+        return "json";
+    }
+
+    @Override
+    public Solution_ read(File inputSolutionFile) {
+        PlanningIdObjectIdResolver.ReferenceTable referenceTable = new PlanningIdObjectIdResolver.ReferenceTable();
+        ObjectReader reader = objectMapper.reader()
+                .withAttribute(PlanningIdObjectIdResolver.REFERENCE_TABLE_ATTRIBUTE_KEY, referenceTable);
+        BeanDescription solutionDescription = objectMapper.getDeserializationConfig()
+                .introspect(objectMapper.constructType(solutionClass));
+        Map<String, StreamedCollectionProperty> streamedPropertyMap
+                = buildStreamedPropertyMap(solutionDescription, reader);
+        Solution_ solution;
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputSolutionFile)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("The inputSolutionFile (" + inputSolutionFile
+                        + ") does not start with a JSON object, but with the token (" + parser.getCurrentToken()
+                        + ").");
+            }
+            solution = null;
+            TokenBuffer buffer = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String propertyName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                StreamedCollectionProperty streamedProperty = streamedPropertyMap.get(propertyName);
+                if (streamedProperty != null && valueToken == JsonToken.START_ARRAY) {
+                    // Bind the buffered properties first, because the elements can reference their objects
+                    solution = bindBuffer(solutionDescription, reader, solution, buffer);
+                    buffer = null;
+                    List<Object> elementList = new ArrayList<>();
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        elementList.add(streamedProperty.elementReader.readValue(parser));
+                    }
+                    streamedProperty.mutator.setValue(solution, elementList);
+                } else {
+                    if (buffer == null) {
+                        buffer = new TokenBuffer(objectMapper, false);
+                        buffer.writeStartObject();
+                    }
+                    buffer.writeFieldName(propertyName);
+                    buffer.copyCurrentStructure(parser);
+                }
+            }
+            solution = bindBuffer(solutionDescription, reader, solution, buffer);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
+        }
+        if (!referenceTable.getUnresolvedIdSet().isEmpty()) {
+            throw new IllegalArgumentException("The inputSolutionFile (" + inputSolutionFile
+                    + ") references the ids (" + referenceTable.getUnresolvedIdSet()
+                    + ") before the objects they identify.\n"
+                    + "Maybe move the full objects before their references.");
+        }
+        return solution;
+    }
+
+    private Solution_ bindBuffer(BeanDescription solutionDescription, ObjectReader reader, Solution_ solution,
+            TokenBuffer buffer) throws IOException {
+        if (buffer == null) {
+            if (solution != null) {
+                return solution;
+            }
+            // Don't bind an empty JSON object, because it lacks the object id of a solution with a @PlanningId
+            Solution_ newSolution = (Solution_) solutionDescription.instantiateBean(true);
+            if (newSolution == null) {
+                throw new IllegalArgumentException("The solutionClass (" + solutionClass
+                        + ") must have a no-arg constructor, because its JSON starts with a streamed collection.");
+            }
+            return newSolution;
+        }
+        buffer.writeEndObject();
+        try (JsonParser bufferParser = buffer.asParser()) {
+            if (solution == null) {
+                return reader.forType(solutionClass).readValue(bufferParser);
+            }
+            return reader.withValueToUpdate(solution).readValue(bufferParser);
+        }
+    }
+
+    /**
+     * Only a {@link List} (or a supertype of it) with a known element type is streamed.
+     * Other collection types, such as a {@link java.util.Set} or an array, are bound like any other property.
+     * @param solutionDescription never null
+     * @param reader never null
+     * @return never null, keyed by the JSON property name
+     */
+    private Map<String, StreamedCollectionProperty> buildStreamedPropertyMap(BeanDescription solutionDescription,
+            ObjectReader reader) {
+        Map<String, StreamedCollectionProperty> streamedPropertyMap = new HashMap<>();
+        for (BeanPropertyDefinition propertyDefinition : solutionDescription.findProperties()) {
+            if (!hasAnnotation(propertyDefinition, ProblemFactCollectionProperty.class)
+                    && !hasAnnotation(propertyDefinition, PlanningEntityCollectionProperty.class)) {
+                continue;
+            }
+            AnnotatedMember mutator = propertyDefinition.getMutator();
+            JavaType propertyType = propertyDefinition.getPrimaryType();
+            if (mutator == null || propertyType == null || !propertyType.isCollectionLikeType()
+                    || !propertyType.getRawClass().isAssignableFrom(ArrayList.class)) {
+                continue;
+            }
+            JavaType elementType = propertyType.getContentType();
+            if (elementType == null || elementType.getRawClass() == Object.class) {
+                continue;
+            }
+            mutator.fixAccess(true);
+            streamedPropertyMap.put(propertyDefinition.getName(),
+                    new StreamedCollectionProperty(mutator, reader.forType(elementType)));
+        }
+        return streamedPropertyMap;
+    }
+
+    private static boolean hasAnnotation(BeanPropertyDefinition propertyDefinition,
+            Class<? extends Annotation> annotationClass) {
+        return (propertyDefinition.hasGetter()
+                && propertyDefinition.getGetter().getAnnotated().isAnnotationPresent(annotationClass))
+                || (propertyDefinition.hasField()
+                && propertyDefinition.getField().getAnnotated().isAnnotationPresent(annotationClass));
+    }
+
+    @Override
+    public void write(Solution_ solution, File outputSolutionFile) {
+        try {
+            objectMapper.writeValue(outputSolutionFile, solution);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+        }
+    }
+
+    private static class StreamedCollectionProperty {
+
+        private final AnnotatedMember mutator;
+        private final ObjectReader elementReader;
+
+        public StreamedCollectionProperty(AnnotatedMember mutator, ObjectReader elementReader) {
+            this.mutator = mutator;
+            this.elementReader = elementReader;
+        }
+
+    }
+
+}
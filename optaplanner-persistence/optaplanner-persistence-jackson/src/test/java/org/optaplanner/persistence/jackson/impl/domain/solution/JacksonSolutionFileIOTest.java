@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jackson.impl.domain.solution;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataEntity;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataSolution;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataValue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.*;
+
+public class JacksonSolutionFileIOTest {
+
+    private static File solutionTestDir;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        solutionTestDir = new File("target/solutionTest/");
+        solutionTestDir.mkdirs();
+    }
+
+    @Test
+    public void readAndWrite() {
+        JacksonSolutionFileIO<JacksonTestdataSolution> solutionFileIO
+                = new JacksonSolutionFileIO<>(JacksonTestdataSolution.class);
+        File file = new File(solutionTestDir, "testdataSolution.json");
+
+        JacksonTestdataSolution original = new JacksonTestdataSolution("s1");
+        JacksonTestdataValue originalV1 = new JacksonTestdataValue("v1");
+        JacksonTestdataValue originalV2 = new JacksonTestdataValue("v2");
+        original.setValueList(Arrays.asList(originalV1, originalV2));
+        original.setEntityList(Arrays.asList(
+                new JacksonTestdataEntity("e1"), new JacksonTestdataEntity("e2", originalV1),
+                new JacksonTestdataEntity("e3", originalV1), new JacksonTestdataEntity("e4", originalV2)));
+        original.setScore(SimpleScore.valueOf(-123));
+        solutionFileIO.write(original, file);
+        JacksonTestdataSolution copy = solutionFileIO.read(file);
+
+        assertNotSame(original, copy);
+        assertCode("s1", copy);
+        assertAllCodesOfIterator(copy.getValueList().iterator(), "v1", "v2");
+        assertAllCodesOfIterator(copy.getEntityList().iterator(), "e1", "e2", "e3", "e4");
+        JacksonTestdataValue copyV1 = copy.getValueList().get(0);
+        JacksonTestdataValue copyV2 = copy.getValueList().get(1);
+        assertNull(copy.getEntityList().get(0).getValue());
+        assertSame(copyV1, copy.getEntityList().get(1).getValue());
+        assertSame(copyV1, copy.getEntityList().get(2).getValue());
+        assertSame(copyV2, copy.getEntityList().get(3).getValue());
+        assertEquals(SimpleScore.valueOf(-123), copy.getScore());
+    }
+
+    @Test
+    public void readReferenceAcrossCollections() throws IOException {
+        JacksonSolutionFileIO<JacksonTestdataSolution> solutionFileIO
+                = new JacksonSolutionFileIO<>(JacksonTestdataSolution.class);
+        File file = new File(solutionTestDir, "testdataSolutionReferenceAcrossCollections.json");
+        // The entities come first, so v1 is written in full in the entityList and referenced in the valueList
+        Files.write(file.toPath(), ("{\"entityList\":[{\"code\":\"e1\",\"value\":{\"code\":\"v1\"}},"
+                + "{\"code\":\"e2\",\"value\":\"v1\"}],"
+                + "\"score\":\"-7\","
+                + "\"valueList\":[\"v1\",{\"code\":\"v2\"}],"
+                + "\"code\":\"s1\"}").getBytes(StandardCharsets.UTF_8));
+        JacksonTestdataSolution solution = solutionFileIO.read(file);
+
+        assertCode("s1", solution);
+        assertAllCodesOfIterator(solution.getValueList().iterator(), "v1", "v2");
+        assertAllCodesOfIterator(solution.getEntityList().iterator(), "e1", "e2");
+        JacksonTestdataValue v1 = solution.getValueList().get(0);
+        assertSame(v1, solution.getEntityList().get(0).getValue());
+        assertSame(v1, solution.getEntityList().get(1).getValue());
+        assertEquals(SimpleScore.valueOf(-7), solution.getScore());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void readForwardReferenceAcrossCollections() throws IOException {
+        JacksonSolutionFileIO<JacksonTestdataSolution> solutionFileIO
+                = new JacksonSolutionFileIO<>(JacksonTestdataSolution.class);
+        File file = new File(solutionTestDir, "testdataSolutionForwardReference.json");
+        Files.write(file.toPath(), ("{\"code\":\"s1\","
+                + "\"entityList\":[{\"code\":\"e1\",\"value\":\"v1\"}],"
+                + "\"valueList\":[{\"code\":\"v1\"}]}").getBytes(StandardCharsets.UTF_8));
+        solutionFileIO.read(file);
+    }
+
+}
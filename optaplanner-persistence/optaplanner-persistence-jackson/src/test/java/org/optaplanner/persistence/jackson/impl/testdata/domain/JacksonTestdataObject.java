@@ -16,6 +16,7 @@
 
 package org.optaplanner.persistence.jackson.impl.testdata.domain;
 
+import org.optaplanner.core.api.domain.lookup.PlanningId;
 import org.optaplanner.core.impl.testdata.util.CodeAssertable;
 
 public abstract class JacksonTestdataObject implements CodeAssertable {
@@ -29,6 +30,7 @@ public abstract class JacksonTestdataObject implements CodeAssertable {
         this.code = code;
     }
 
+    @PlanningId
     @Override
     public String getCode() {
         return code;